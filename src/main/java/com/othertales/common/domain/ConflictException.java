@@ -0,0 +1,20 @@
+package com.othertales.common.domain;
+
+/**
+ * Base exception for requests that conflict with the current state of a resource,
+ * such as a stale optimistic-locking version.
+ * Allows GlobalExceptionHandler to handle all modules without direct imports.
+ */
+public abstract class ConflictException extends RuntimeException {
+
+    private final String errorCode;
+
+    protected ConflictException(String message, String errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -29,6 +29,39 @@ public final class ErrorCodes {
     // Chapter errors
     public static final String CHAPTER_NOT_FOUND = "CHAPTER_NOT_FOUND";
     public static final String CHAPTER_ACCESS_DENIED = "CHAPTER_ACCESS_DENIED";
+    public static final String CHAPTER_VERSION_CONFLICT = "CHAPTER_VERSION_CONFLICT";
+    public static final String CHAPTER_INVALID_EDIT = "CHAPTER_INVALID_EDIT";
+    public static final String CHAPTER_INVALID_ORDER = "CHAPTER_INVALID_ORDER";
+    public static final String CHAPTER_REVISION_NOT_FOUND = "CHAPTER_REVISION_NOT_FOUND";
+    public static final String CHAPTER_AUTOSAVE_LOST = "CHAPTER_AUTOSAVE_LOST";
+
+    // Character errors
+    public static final String CHARACTER_NOT_FOUND = "CHARACTER_NOT_FOUND";
+
+    // Idea errors
+    public static final String IDEA_NOT_FOUND = "IDEA_NOT_FOUND";
+
+    // Story errors
+    public static final String STORY_NOT_FOUND = "STORY_NOT_FOUND";
+
+    // Export errors
+    public static final String EXPORT_UNSUPPORTED_FORMAT = "EXPORT_UNSUPPORTED_FORMAT";
+
+    // Import errors
+    public static final String IMPORT_INVALID_FILE = "IMPORT_INVALID_FILE";
+    public static final String IMPORT_FILE_TOO_LARGE = "IMPORT_FILE_TOO_LARGE";
+
+    // Search errors
+    public static final String SEARCH_INVALID_QUERY = "SEARCH_INVALID_QUERY";
+
+    // Writing statistics errors
+    public static final String STATS_INVALID_QUERY = "STATS_INVALID_QUERY";
+
+    // Sync errors
+    public static final String SYNC_INVALID_CURSOR = "SYNC_INVALID_CURSOR";
+
+    // Batch upload errors
+    public static final String BATCH_INVALID_OPERATION = "BATCH_INVALID_OPERATION";
 
     // Validation errors
     public static final String VALIDATION_FAILED = "VALIDATION_FAILED";
@@ -37,5 +70,6 @@ public final class ErrorCodes {
 
     // Generic errors
     public static final String DATA_CONFLICT = "DATA_CONFLICT";
+    public static final String VERSION_PRECONDITION_FAILED = "VERSION_PRECONDITION_FAILED";
     public static final String INTERNAL_ERROR = "INTERNAL_ERROR";
 }
@@ -0,0 +1,20 @@
+package com.othertales.common.domain;
+
+/**
+ * Base exception for conditional requests whose precondition does not hold, such as an
+ * If-Match version that is no longer current.
+ * Allows GlobalExceptionHandler to handle all modules without direct imports.
+ */
+public abstract class PreconditionFailedException extends RuntimeException {
+
+    private final String errorCode;
+
+    protected PreconditionFailedException(String message, String errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -13,6 +13,11 @@ public abstract class ValidationException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
+    protected ValidationException(String message, String errorCode, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+    }
+
     public String getErrorCode() {
         return errorCode;
     }
@@ -0,0 +1,13 @@
+package com.othertales.common.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Jobs run on Boot's scheduler, sized by {@code spring.task.scheduling.pool.size} so that
+ * each fixed-delay job has a thread of its own and none can delay the autosave flush.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
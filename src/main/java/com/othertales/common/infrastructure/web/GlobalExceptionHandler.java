@@ -2,18 +2,23 @@ package com.othertales.common.infrastructure.web;
 
 import com.othertales.common.domain.AccessDeniedException;
 import com.othertales.common.domain.BusinessException;
+import com.othertales.common.domain.ConflictException;
 import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.PreconditionFailedException;
 import com.othertales.common.domain.ResourceNotFoundException;
 import com.othertales.common.domain.ValidationException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -48,6 +53,32 @@ public class GlobalExceptionHandler {
         return buildProblem(HttpStatus.BAD_REQUEST, "Validation Error", ex.getErrorCode(), request);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ProblemDetail handleConflict(ConflictException ex, HttpServletRequest request) {
+        log.debug("Conflict: {}", ex.getMessage());
+        return buildProblem(HttpStatus.CONFLICT, "Conflict", ex.getErrorCode(), request);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ProblemDetail handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        log.debug("Precondition failed: {}", ex.getMessage());
+        return buildProblem(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getErrorCode(), request);
+    }
+
+    /**
+     * A save that lost the race on the {@code version} column after passing the service's
+     * check. With If-Match it is the same stale precondition, only detected by the UPDATE.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLocking(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.debug("Concurrent modification: {}", ex.getMessage());
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            return buildProblem(HttpStatus.PRECONDITION_FAILED, "Precondition Failed",
+                    ErrorCodes.VERSION_PRECONDITION_FAILED, request);
+        }
+        return buildProblem(HttpStatus.CONFLICT, "Conflict", ErrorCodes.DATA_CONFLICT, request);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ProblemDetail handleBusinessException(BusinessException ex, HttpServletRequest request) {
         log.warn("Business error: {}", ex.getErrorCode());
@@ -73,6 +104,12 @@ public class GlobalExceptionHandler {
         return buildProblem(HttpStatus.BAD_REQUEST, "Invalid Argument Type", ErrorCodes.VALIDATION_FAILED, request);
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ProblemDetail handleUploadTooLarge(MaxUploadSizeExceededException ex, HttpServletRequest request) {
+        log.warn("Upload too large: {}", ex.getMessage());
+        return buildProblem(HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large", ErrorCodes.IMPORT_FILE_TOO_LARGE, request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
         var fieldErrors = ex.getBindingResult().getFieldErrors().stream()
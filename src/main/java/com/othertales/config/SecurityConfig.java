@@ -1,5 +1,6 @@
 package com.othertales.config;
 
+import jakarta.servlet.DispatcherType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -80,6 +81,9 @@ public class SecurityConfig {
 
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // ASYNC: completion of streamed responses, already authorized on the original dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // PUBLIC: Health checks for Cloud Run (CRITICAL: 401 = container killed)
                         .requestMatchers("/", "/actuator/health", "/actuator/health/**", "/api/health").permitAll()
 
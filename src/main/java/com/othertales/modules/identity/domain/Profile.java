@@ -20,6 +20,7 @@ public class Profile {
     private Instant createdAt;
     private Instant updatedAt;
     private Long version;
+    private boolean persisted;
 
     private Profile() {}
 
@@ -70,6 +71,7 @@ public class Profile {
         profile.createdAt = createdAt;
         profile.updatedAt = updatedAt;
         profile.version = version;
+        profile.persisted = true;
         return profile;
     }
 
@@ -129,6 +131,10 @@ public class Profile {
         return version;
     }
 
+    public boolean isPersisted() {
+        return persisted;
+    }
+
     public void upgradeToPro() {
         this.planType = PlanType.PRO;
         this.updatedAt = Instant.now();
@@ -8,8 +8,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 /**
- * AUDIT FIX #3 (FASE 1.3): save() now checks if entity exists and
- * reuses it to preserve isNew=false for updates.
+ * AUDIT FIX #3 (FASE 1.3): save() relies on the domain object's persisted flag to choose
+ * between insert and versioned update, without reading the row first.
  */
 @Repository
 public class ProfileJpaAdapter implements ProfileRepository {
@@ -24,10 +24,7 @@ public class ProfileJpaAdapter implements ProfileRepository {
 
     @Override
     public Profile save(Profile profile) {
-        var existingEntity = jpaRepository.findById(profile.getId()).orElse(null);
-        var entity = existingEntity != null
-                ? mapper.toEntity(profile, existingEntity)
-                : mapper.toEntity(profile);
+        var entity = mapper.toEntity(profile);
         var savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
@@ -5,8 +5,7 @@ import com.othertales.modules.identity.domain.Profile;
 import org.springframework.stereotype.Component;
 
 /**
- * AUDIT FIX #3 (FASE 1.3): toEntity now accepts existingEntity parameter
- * to preserve isNew=false state for updates.
+ * AUDIT FIX #3 (FASE 1.3): toEntity marks loaded objects isNew=false so saving them updates, not inserts.
  * AUDIT FIX #12 (FASE 3.3): Removed OffsetDateTime conversions - all Instant now.
  */
 @Component
@@ -15,14 +14,13 @@ public class ProfileMapper {
     public ProfileEntity toEntity(Profile profile) {
         var entity = new ProfileEntity();
         applyToEntity(entity, profile);
+        if (profile.isPersisted()) {
+            entity.setVersion(profile.getVersion());
+            entity.markNotNew();
+        }
         return entity;
     }
 
-    public ProfileEntity toEntity(Profile profile, ProfileEntity existingEntity) {
-        applyToEntity(existingEntity, profile);
-        return existingEntity;
-    }
-
     private void applyToEntity(ProfileEntity entity, Profile profile) {
         entity.setId(profile.getId());
         entity.setEmail(profile.getEmail());
@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Acknowledgement of a coalesced autosave. {@code pendingVersion} is the version the
+ * chapter will have once the buffered save is written, unless another write lands first.
+ */
+public record AutosaveAcceptedResponse(
+        UUID chapterId,
+        Long pendingVersion,
+        int coalescedSaves,
+        Instant flushBy
+) {}
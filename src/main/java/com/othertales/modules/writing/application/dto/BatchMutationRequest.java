@@ -0,0 +1,19 @@
+package com.othertales.modules.writing.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Changes queued by an offline client, uploaded together.
+ *
+ * @param operations applied in order; at most 500
+ */
+public record BatchMutationRequest(
+        @NotEmpty(message = "{batch.operations.required}")
+        @Size(max = 500, message = "{batch.operations.size}")
+        List<@Valid @NotNull BatchOperationRequest> operations
+) {}
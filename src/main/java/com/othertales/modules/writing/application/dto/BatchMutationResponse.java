@@ -0,0 +1,9 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+
+public record BatchMutationResponse(
+        int applied,
+        int failed,
+        List<BatchOperationResultResponse> results
+) {}
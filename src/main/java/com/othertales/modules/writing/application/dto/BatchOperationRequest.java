@@ -0,0 +1,46 @@
+package com.othertales.modules.writing.application.dto;
+
+import com.othertales.modules.writing.domain.BatchAction;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+/**
+ * One change of a batch upload. Only the fields of the entity type are read, with the
+ * meaning they have in that type's create and update requests.
+ *
+ * @param id        entity changed by an update or delete
+ * @param projectId project an entity is created in
+ * @param version   optional precondition, as the If-Match of a single update or delete
+ */
+public record BatchOperationRequest(
+        @NotNull(message = "{batch.operation.op.required}")
+        BatchAction op,
+
+        @NotNull(message = "{batch.operation.type.required}")
+        SyncEntityType type,
+
+        UUID id,
+        UUID projectId,
+        Long version,
+
+        @Size(max = 255, message = "{batch.operation.title.size}")
+        String title,
+
+        String content,
+        String status,
+
+        @Size(max = 255, message = "{batch.operation.name.size}")
+        String name,
+
+        String role,
+        String description,
+        String physicalDescription,
+        String synopsis,
+        String theme,
+        String secondaryPlots,
+        String others,
+        String imageUrl
+) {}
@@ -0,0 +1,17 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one operation of a batch upload. {@code version} is the entity's version
+ * after the batch, absent for deletes and failures; {@code code} is set on failures only.
+ */
+public record BatchOperationResultResponse(
+        int index,
+        String op,
+        String type,
+        UUID id,
+        String status,
+        Long version,
+        String code
+) {}
@@ -0,0 +1,19 @@
+package com.othertales.modules.writing.application.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Single splice on the chapter content. Offsets are UTF-16 code units, as JavaScript
+ * and Dart strings index them, and refer to the text produced by the previous edit.
+ */
+public record ChapterEditRequest(
+        @NotNull(message = "{chapter.edit.offset.required}")
+        @Min(value = 0, message = "{chapter.edit.offset.min}")
+        Integer offset,
+
+        @Min(value = 0, message = "{chapter.edit.deleteCount.min}")
+        int deleteCount,
+
+        String insert
+) {}
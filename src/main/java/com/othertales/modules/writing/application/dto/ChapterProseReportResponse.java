@@ -0,0 +1,10 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record ChapterProseReportResponse(
+        UUID chapterId,
+        String title,
+        int sortOrder,
+        ProseReportResponse report
+) {}
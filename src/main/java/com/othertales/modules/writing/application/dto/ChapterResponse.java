@@ -12,5 +12,6 @@ public record ChapterResponse(
         int wordCount,
         String status,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
 ) {}
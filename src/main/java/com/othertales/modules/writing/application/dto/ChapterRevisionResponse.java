@@ -0,0 +1,14 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ChapterRevisionResponse(
+        UUID id,
+        UUID chapterId,
+        Long chapterVersion,
+        String title,
+        int wordCount,
+        int characterCount,
+        Instant createdAt
+) {}
@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record ChapterStatisticsResponse(
+        UUID projectId,
+        long totalChapters,
+        long totalWordCount,
+        long totalCharacterCount,
+        long totalParagraphCount
+) {}
@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record CharacterAppearanceResponse(
+        UUID chapterId,
+        String title,
+        int sortOrder,
+        int mentions,
+        int firstOffset
+) {}
@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CharacterAppearancesResponse(
+        UUID characterId,
+        String name,
+        long totalMentions,
+        List<CharacterAppearanceResponse> chapters
+) {}
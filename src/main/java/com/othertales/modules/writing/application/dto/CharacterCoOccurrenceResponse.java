@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record CharacterCoOccurrenceResponse(
+        UUID characterId,
+        String characterName,
+        UUID otherCharacterId,
+        String otherCharacterName,
+        int sharedChapters
+) {}
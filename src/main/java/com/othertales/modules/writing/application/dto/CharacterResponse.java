@@ -12,5 +12,6 @@ public record CharacterResponse(
         String physicalDescription,
         String imageUrl,
         Instant createdAt,
-        Instant updatedAt) {
+        Instant updatedAt,
+        Long version) {
 }
@@ -0,0 +1,14 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Text produced piece by piece into a caller-supplied {@link Writer}, so large
+ * bodies reach the client without being materialized as a single String.
+ */
+@FunctionalInterface
+public interface ContentStream {
+
+    void writeTo(Writer writer) throws IOException;
+}
@@ -1,5 +1,6 @@
 package com.othertales.modules.writing.application.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -10,6 +11,7 @@ public record CreateChapterRequest(
 
         String content,
 
+        @Min(value = 0, message = "{chapter.sortOrder.min}")
         Integer sortOrder
 ) {
     public CreateChapterRequest {
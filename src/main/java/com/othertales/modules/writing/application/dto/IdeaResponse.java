@@ -9,5 +9,6 @@ public record IdeaResponse(
         String title,
         String content,
         Instant createdAt,
-        Instant updatedAt) {
+        Instant updatedAt,
+        Long version) {
 }
@@ -0,0 +1,23 @@
+package com.othertales.modules.writing.application.dto;
+
+import com.othertales.modules.writing.domain.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An export whose access checks have passed and whose file is produced only when
+ * {@link #writeTo} is called.
+ */
+public record ManuscriptExport(String fileName, ExportFormat format, Body body) {
+
+    public void writeTo(OutputStream output) throws IOException {
+        body.writeTo(output);
+    }
+
+    @FunctionalInterface
+    public interface Body {
+
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
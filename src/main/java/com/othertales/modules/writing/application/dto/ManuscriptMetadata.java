@@ -0,0 +1,18 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Book-level data a {@code ManuscriptRenderer} needs before the first chapter.
+ *
+ * @param language BCP 47 tag of the requesting locale
+ */
+public record ManuscriptMetadata(
+        UUID projectId,
+        String title,
+        String synopsis,
+        String language,
+        Instant modifiedAt
+) {
+}
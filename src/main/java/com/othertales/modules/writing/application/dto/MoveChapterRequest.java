@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.application.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for moving one chapter within its project.
+ *
+ * @param sortOrder 0-based target position; past the end moves the chapter last
+ */
+public record MoveChapterRequest(
+        @NotNull(message = "{chapter.sortOrder.required}")
+        @Min(value = 0, message = "{chapter.sortOrder.min}")
+        Integer sortOrder) {
+}
@@ -0,0 +1,21 @@
+package com.othertales.modules.writing.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Incremental content update for autosave.
+ *
+ * @param version version of the chapter the edits were computed against
+ * @param edits   splices applied in order
+ */
+public record PatchChapterContentRequest(
+        @NotNull(message = "{chapter.version.required}")
+        Long version,
+
+        @NotEmpty(message = "{chapter.edits.required}")
+        List<@Valid @NotNull ChapterEditRequest> edits
+) {}
@@ -13,5 +13,6 @@ public record ProjectResponse(
         String coverUrl,
         String status,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
 ) {}
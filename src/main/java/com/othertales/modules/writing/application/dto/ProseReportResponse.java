@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+
+public record ProseReportResponse(
+        long wordCount,
+        long sentenceCount,
+        double averageSentenceLength,
+        long longestSentence,
+        List<SentenceLengthBucketResponse> sentenceLengths,
+        long adverbCount,
+        double adverbsPerThousandWords,
+        double dialogueRatio,
+        List<WordUsageResponse> overusedWords
+) {}
@@ -0,0 +1,9 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record QuickSearchHitResponse(
+        String type,
+        UUID id,
+        String title
+) {}
@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.application.dto;
+
+public record RepeatedPhraseResponse(
+        String phrase,
+        int words,
+        int occurrences
+) {}
@@ -0,0 +1,10 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record RepeatedPhrasesResponse(
+        UUID projectId,
+        String language,
+        List<RepeatedPhraseResponse> phrases
+) {}
@@ -0,0 +1,12 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record SearchHitResponse(
+        String type,
+        UUID id,
+        UUID projectId,
+        String title,
+        String snippet,
+        float rank
+) {}
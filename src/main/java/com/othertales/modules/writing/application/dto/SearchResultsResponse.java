@@ -0,0 +1,8 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+
+public record SearchResultsResponse(
+        List<SearchHitResponse> hits,
+        String nextCursor
+) {}
@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.application.dto;
+
+public record SentenceLengthBucketResponse(
+        int minWords,
+        Integer maxWords,
+        long sentences
+) {}
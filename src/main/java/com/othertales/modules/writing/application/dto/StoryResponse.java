@@ -13,5 +13,6 @@ public record StoryResponse(
         String others,
         String imageUrl,
         Instant createdAt,
-        Instant updatedAt) {
+        Instant updatedAt,
+        Long version) {
 }
@@ -0,0 +1,21 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A chapter as synced: its place is the order key, compared byte by byte, since the
+ * positions of the other chapters move without them being sent again.
+ */
+public record SyncChapterResponse(
+        UUID id,
+        UUID projectId,
+        String title,
+        String content,
+        String orderKey,
+        int wordCount,
+        String status,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version
+) {}
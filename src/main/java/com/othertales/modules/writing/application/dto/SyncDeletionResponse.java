@@ -0,0 +1,9 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.UUID;
+
+public record SyncDeletionResponse(
+        String type,
+        UUID id,
+        UUID projectId
+) {}
@@ -0,0 +1,14 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+
+public record SyncResponse(
+        String cursor,
+        boolean hasMore,
+        List<ProjectResponse> projects,
+        List<SyncChapterResponse> chapters,
+        List<StoryResponse> stories,
+        List<CharacterResponse> characters,
+        List<IdeaResponse> ideas,
+        List<SyncDeletionResponse> deleted
+) {}
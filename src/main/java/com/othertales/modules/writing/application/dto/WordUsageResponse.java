@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.application.dto;
+
+public record WordUsageResponse(
+        String word,
+        long count,
+        double perThousandWords
+) {}
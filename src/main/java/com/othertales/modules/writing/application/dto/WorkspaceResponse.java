@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.util.List;
+
+/**
+ * Everything the app shows when a project is opened. Chapters come as the content-free
+ * outline; the text of each is loaded when opened.
+ */
+public record WorkspaceResponse(
+        ProjectResponse project,
+        ChapterIndexResponse chapters,
+        List<StoryResponse> stories,
+        List<CharacterResponse> characters,
+        List<IdeaResponse> ideas
+) {}
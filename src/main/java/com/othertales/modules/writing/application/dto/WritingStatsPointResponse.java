@@ -0,0 +1,10 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.time.LocalDate;
+
+public record WritingStatsPointResponse(
+        LocalDate periodStart,
+        long wordsAdded,
+        long wordsRemoved,
+        long netWords
+) {}
@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record WritingStatsResponse(
+        UUID projectId,
+        String granularity,
+        LocalDate from,
+        LocalDate to,
+        List<WritingStatsPointResponse> points,
+        long totalWordsAdded,
+        long totalWordsRemoved
+) {}
@@ -1,7 +1,11 @@
 package com.othertales.modules.writing.application.port;
 
 import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ManuscriptStatistics;
+import com.othertales.modules.writing.domain.OrderSlot;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,15 +14,75 @@ public interface ChapterRepository {
 
     Chapter save(Chapter chapter);
 
+    /**
+     * Saves all chapters with a single flush, so new chapters go out as batched inserts.
+     */
+    List<Chapter> saveAll(List<Chapter> chapters);
+
     Optional<Chapter> findById(UUID id);
 
+    /**
+     * The chapters of {@code ids} that exist, in any order. Their order index is not
+     * computed and reads 0.
+     */
+    List<Chapter> findAllById(Collection<UUID> ids);
+
     Optional<Chapter> findByIdAndProjectId(UUID id, UUID projectId);
 
+    Optional<ChapterOutline> findOutlineById(UUID id);
+
+    /**
+     * Reads {@code length} code points of the content starting at {@code offset}, provided
+     * the chapter is still at {@code version}. Empty when the chapter changed or is gone;
+     * an empty string past the end of the content.
+     */
+    Optional<String> findContentSlice(UUID id, long version, int offset, int length);
+
     List<Chapter> findByProjectIdOrderByOrderIndex(UUID projectId);
 
-    int findNextOrderIndex(UUID projectId);
+    List<ChapterOutline> findOutlineByProjectId(UUID projectId);
+
+    /**
+     * The neighbours' order keys for a chapter placed at {@code position}, ignoring
+     * {@code movingChapterId} (null for a new chapter). A null or out of range position
+     * places it last. Callers hold {@link #lockOrder} so the slot stays free.
+     */
+    OrderSlot findOrderSlot(UUID projectId, Integer position, UUID movingChapterId);
+
+    /**
+     * Serializes order key changes within the project until the transaction ends.
+     */
+    void lockOrder(UUID projectId);
+
+    /**
+     * Sets each chapter's order key in a single statement, without bumping versions.
+     * Chapters of other projects are ignored.
+     *
+     * @return number of chapters whose key changed
+     */
+    int updateOrderKeys(UUID projectId, List<UUID> chapterIds, List<String> orderKeys);
+
+    /**
+     * Projects holding keys longer than {@link com.othertales.modules.writing.domain.OrderKeys#MAX_LENGTH}.
+     */
+    List<UUID> findProjectIdsWithLongOrderKeys(int limit);
+
+    /**
+     * Rebuilds the full-text vectors of up to {@code limit} chapters whose title or content
+     * changed since they were last built, skipping rows another refresh holds.
+     *
+     * @return number of chapters refreshed
+     */
+    int refreshStaleSearchVectors(int limit);
 
     long countByProjectId(UUID projectId);
 
+    ManuscriptStatistics sumStatisticsByProjectId(UUID projectId);
+
     void deleteById(UUID id);
+
+    /**
+     * Deletes the chapters with a single flush, so they go out as batched statements.
+     */
+    void deleteAllById(Collection<UUID> ids);
 }
@@ -0,0 +1,24 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.ChapterRevision;
+import com.othertales.modules.writing.domain.ContentChunk;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ChapterRevisionRepository {
+
+    void save(ChapterRevision revision, List<ContentChunk> chunks);
+
+    List<ChapterRevision> findByChapterId(UUID chapterId, int limit);
+
+    Optional<ChapterRevision> findByIdAndChapterId(UUID id, UUID chapterId);
+
+    /**
+     * @return chunk text keyed by hash, for the given hashes only
+     */
+    Map<String, String> findChunkContents(Collection<String> hashes);
+}
@@ -0,0 +1,45 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.CharacterAppearance;
+import com.othertales.modules.writing.domain.CharacterCoOccurrence;
+import com.othertales.modules.writing.domain.CharacterMention;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public interface CharacterMentionRepository {
+
+    /**
+     * Names of the project's characters that are not deleted, by id.
+     */
+    Map<UUID, String> findCharacterNames(UUID projectId);
+
+    /**
+     * Makes {@code mentions} the chapter's only rows.
+     */
+    void replaceForChapter(UUID projectId, UUID chapterId, List<CharacterMention> mentions);
+
+    /**
+     * Records that the project's character names changed, leaving its index out of date.
+     */
+    void markCharactersChanged(UUID projectId);
+
+    /**
+     * The project's current characters version if its index was built for an older one.
+     */
+    OptionalLong findOutdatedCharactersVersion(UUID projectId);
+
+    void markIndexed(UUID projectId, long charactersVersion);
+
+    /**
+     * Chapters mentioning the character, in chapter order.
+     */
+    List<CharacterAppearance> findAppearances(UUID projectId, UUID characterId);
+
+    /**
+     * Pairs of characters mentioned in the same chapters, most shared chapters first.
+     */
+    List<CharacterCoOccurrence> findCoOccurrences(UUID projectId, int limit);
+}
@@ -4,6 +4,8 @@ import com.othertales.modules.writing.domain.Character;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,9 +13,25 @@ public interface CharacterRepository {
 
     Character save(Character character);
 
+    /**
+     * Saves all characters with a single flush, so they go out as batched statements.
+     */
+    List<Character> saveAll(List<Character> characters);
+
     Optional<Character> findById(UUID id);
 
+    /**
+     * The characters of {@code ids} that exist and are not deleted, in any order.
+     */
+    List<Character> findAllById(Collection<UUID> ids);
+
     Optional<Character> findByIdAndProjectId(UUID id, UUID projectId);
 
+    /**
+     * Soft-deletes the project's character in one conditional UPDATE, only while it is still at
+     * {@code expectedVersion} when one is given. False when no row matched.
+     */
+    boolean markDeleted(UUID id, UUID projectId, Long expectedVersion);
+
     Page<Character> findAllByProjectId(UUID projectId, Pageable pageable);
 }
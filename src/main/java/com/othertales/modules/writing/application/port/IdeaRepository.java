@@ -4,6 +4,8 @@ import com.othertales.modules.writing.domain.Idea;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,9 +13,25 @@ public interface IdeaRepository {
 
     Idea save(Idea idea);
 
+    /**
+     * Saves all ideas with a single flush, so they go out as batched statements.
+     */
+    List<Idea> saveAll(List<Idea> ideas);
+
     Optional<Idea> findById(UUID id);
 
+    /**
+     * The ideas of {@code ids} that exist and are not deleted, in any order.
+     */
+    List<Idea> findAllById(Collection<UUID> ids);
+
     Optional<Idea> findByIdAndProjectId(UUID id, UUID projectId);
 
+    /**
+     * Soft-deletes the project's idea in one conditional UPDATE, only while it is still at
+     * {@code expectedVersion} when one is given. False when no row matched.
+     */
+    boolean markDeleted(UUID id, UUID projectId, Long expectedVersion);
+
     Page<Idea> findAllByProjectId(UUID projectId, Pageable pageable);
 }
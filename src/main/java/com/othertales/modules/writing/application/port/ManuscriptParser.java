@@ -0,0 +1,27 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Splits an uploaded manuscript in one {@link ImportFormat} into chapters at its headings.
+ */
+public interface ManuscriptParser {
+
+    ImportFormat format();
+
+    /**
+     * Reads {@code input} sequentially and hands each chapter to {@code handler} as soon as
+     * the next heading (or the end of the file) closes it. Text before the first heading is
+     * passed with a {@code null} title. Does not close {@code input}.
+     */
+    void parse(InputStream input, ChapterHandler handler) throws IOException;
+
+    @FunctionalInterface
+    interface ChapterHandler {
+
+        void accept(String title, String content);
+    }
+}
@@ -0,0 +1,22 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import com.othertales.modules.writing.domain.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Produces a manuscript file in one {@link ExportFormat}.
+ */
+public interface ManuscriptRenderer {
+
+    ExportFormat format();
+
+    /**
+     * Starts a manuscript on {@code output}. The returned writer receives the book in reading
+     * order and must write each part through as it arrives; closing it completes the file but
+     * leaves {@code output} open.
+     */
+    ManuscriptWriter open(OutputStream output, ManuscriptMetadata metadata) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Story;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * One manuscript being written by a {@link ManuscriptRenderer}. Callers write all stories
+ * (front matter), then all chapters, then all characters (back matter), then close.
+ */
+public interface ManuscriptWriter extends Closeable {
+
+    void writeStory(Story story) throws IOException;
+
+    void writeChapter(String title, String content) throws IOException;
+
+    void writeCharacter(Character character) throws IOException;
+}
@@ -2,8 +2,10 @@ package com.othertales.modules.writing.application.port;
 
 import com.othertales.modules.writing.domain.Project;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ProjectRepository {
@@ -19,4 +21,27 @@ public interface ProjectRepository {
     long countByUserId(UUID userId);
 
     boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Soft-deletes the user's project in one conditional UPDATE, only while it is still at
+     * {@code expectedVersion} when one is given. False when no row matched.
+     */
+    boolean markDeleted(UUID id, UUID userId, Long expectedVersion);
+
+    /**
+     * The projects among {@code ids} that are the user's and not deleted, in one query.
+     */
+    Set<UUID> findOwnedIds(Collection<UUID> ids, UUID userId);
+
+    /**
+     * Applies a chapter change to the project row: adds {@code wordCountDelta} to the
+     * word count and bumps the chapters version, in one statement.
+     */
+    void recordChapterChange(UUID id, int wordCountDelta);
+
+    /**
+     * Version of the project's chapter list, bumped by {@link #recordChapterChange}.
+     * Empty when the project does not exist or is not the user's.
+     */
+    Optional<Long> findChaptersVersion(UUID id, UUID userId);
 }
@@ -0,0 +1,25 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.ChapterFingerprint;
+import com.othertales.modules.writing.domain.ChapterText;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProseAnalyticsRepository {
+
+    /**
+     * The project's chapters in order, without their content.
+     */
+    List<ChapterFingerprint> findFingerprintsByProjectId(UUID projectId);
+
+    Optional<ChapterFingerprint> findFingerprintById(UUID chapterId);
+
+    /**
+     * Content of the given chapters of the project, in no particular order. Chapters
+     * deleted or moved to another project are left out.
+     */
+    List<ChapterText> findTexts(UUID projectId, Collection<UUID> chapterIds);
+}
@@ -0,0 +1,21 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.SearchCursor;
+import com.othertales.modules.writing.domain.SearchHit;
+import com.othertales.modules.writing.domain.SearchLanguage;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SearchRepository {
+
+    /**
+     * Full-text search over the chapters, ideas, characters and stories of the user's
+     * non-deleted projects, best match first.
+     *
+     * @param projectId restricts the search to one project when not null
+     * @param after     returns only hits ranked after this one, or from the top when null
+     */
+    List<SearchHit> search(UUID userId, UUID projectId, String query, SearchLanguage language,
+                           SearchCursor after, int limit);
+}
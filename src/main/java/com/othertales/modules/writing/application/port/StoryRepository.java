@@ -4,6 +4,8 @@ import com.othertales.modules.writing.domain.Story;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,9 +13,25 @@ public interface StoryRepository {
 
     Story save(Story story);
 
+    /**
+     * Saves all stories with a single flush, so they go out as batched statements.
+     */
+    List<Story> saveAll(List<Story> stories);
+
     Optional<Story> findById(UUID id);
 
+    /**
+     * The stories of {@code ids} that exist and are not deleted, in any order.
+     */
+    List<Story> findAllById(Collection<UUID> ids);
+
     Optional<Story> findByIdAndProjectId(UUID id, UUID projectId);
 
+    /**
+     * Soft-deletes the project's story in one conditional UPDATE, only while it is still at
+     * {@code expectedVersion} when one is given. False when no row matched.
+     */
+    boolean markDeleted(UUID id, UUID projectId, Long expectedVersion);
+
     Page<Story> findAllByProjectId(UUID projectId, Pageable pageable);
 }
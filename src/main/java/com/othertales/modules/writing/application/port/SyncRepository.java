@@ -0,0 +1,53 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.SyncTombstone;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A user's changes by {@code change_seq}. The find methods read the range
+ * {@code (after, upTo]} and must run in one transaction with a single snapshot, together
+ * with {@link #findHorizon()}.
+ */
+public interface SyncRepository {
+
+    /**
+     * The lowest {@code change_seq} a still running transaction may write: changes below
+     * it are final in the current snapshot, those from it on may still be joined by others.
+     */
+    long findHorizon();
+
+    /**
+     * The {@code change_seq} of the user's first {@code limit} changes after {@code after}
+     * and below {@code horizon}, ascending, repeated once per changed row.
+     */
+    List<Long> findChangeSeqs(UUID userId, long after, long horizon, int limit);
+
+    /**
+     * Projects written in the range, soft-deleted ones included.
+     */
+    List<Project> findProjects(UUID userId, long after, long upTo);
+
+    /**
+     * Chapters written in the range, of projects not deleted. Their {@code orderIndex} is
+     * not computed; the order key gives their place.
+     */
+    List<Chapter> findChapters(UUID userId, long after, long upTo);
+
+    List<Story> findStories(UUID userId, long after, long upTo);
+
+    List<Character> findCharacters(UUID userId, long after, long upTo);
+
+    List<Idea> findIdeas(UUID userId, long after, long upTo);
+
+    /**
+     * Hard-deleted chapters in the range.
+     */
+    List<SyncTombstone> findTombstones(UUID userId, long after, long upTo);
+}
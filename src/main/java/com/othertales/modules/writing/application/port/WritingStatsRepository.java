@@ -0,0 +1,24 @@
+package com.othertales.modules.writing.application.port;
+
+import com.othertales.modules.writing.domain.WritingActivity;
+import com.othertales.modules.writing.domain.WritingStatsGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface WritingStatsRepository {
+
+    /**
+     * Adds the words to the day's row and to the week and month rollups containing it,
+     * as atomic in-database increments.
+     */
+    void record(UUID userId, UUID projectId, LocalDate day, int wordsAdded, int wordsRemoved);
+
+    /**
+     * Periods with activity whose start lies in {@code [from, to]}, oldest first. Periods
+     * without saves have no row and are not returned.
+     */
+    List<WritingActivity> findByProject(UUID userId, UUID projectId, WritingStatsGranularity granularity,
+                                        LocalDate from, LocalDate to);
+}
@@ -0,0 +1,503 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.PreconditionFailedException;
+import com.othertales.common.domain.ResourceNotFoundException;
+import com.othertales.common.domain.ValidationException;
+import com.othertales.modules.writing.application.dto.BatchMutationRequest;
+import com.othertales.modules.writing.application.dto.BatchMutationResponse;
+import com.othertales.modules.writing.application.dto.BatchOperationRequest;
+import com.othertales.modules.writing.application.dto.BatchOperationResultResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.IdeaRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.StoryRepository;
+import com.othertales.modules.writing.domain.BatchAction;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.CharacterNotFoundException;
+import com.othertales.modules.writing.domain.ContentChunker;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.IdeaNotFoundException;
+import com.othertales.modules.writing.domain.InvalidBatchOperationException;
+import com.othertales.modules.writing.domain.OrderKeys;
+import com.othertales.modules.writing.domain.OrderSlot;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.StoryNotFoundException;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Applies the changes an offline client queued while away, uploaded in one request.
+ *
+ * <p>Operations run in order, in one transaction, against entities loaded up front: one
+ * query per entity type and one ownership query for all the projects involved. Each
+ * operation applies or fails on its own, and a failed one changes nothing; its result
+ * carries the error code the single request would have answered with. Writes are then
+ * flushed per entity type as JDBC batches, and the bookkeeping of single saves (project
+ * word count, writing stats, revisions, mention index, quick search) runs once per
+ * project at the end.
+ *
+ * <p>Version preconditions are compared to the version stored before the batch, so a
+ * client may send several changes to the entity version it last saw. Chapters created
+ * in a batch are appended to their project in order. An entity saved concurrently by
+ * another request fails the whole batch when it is flushed, as it would fail a single
+ * save.
+ */
+@Service
+public class BatchMutationService {
+
+    public static final String APPLIED = "APPLIED";
+    static final String FAILED = "FAILED";
+
+    private final ChapterRepository chapterRepository;
+    private final IdeaRepository ideaRepository;
+    private final CharacterRepository characterRepository;
+    private final StoryRepository storyRepository;
+    private final ProjectRepository projectRepository;
+    private final ChapterRevisionRepository revisionRepository;
+    private final QuickSearchService quickSearch;
+    private final WritingStatsService writingStats;
+    private final CharacterMentionService characterMentions;
+
+    public BatchMutationService(
+            ChapterRepository chapterRepository,
+            IdeaRepository ideaRepository,
+            CharacterRepository characterRepository,
+            StoryRepository storyRepository,
+            ProjectRepository projectRepository,
+            ChapterRevisionRepository revisionRepository,
+            QuickSearchService quickSearch,
+            WritingStatsService writingStats,
+            CharacterMentionService characterMentions
+    ) {
+        this.chapterRepository = chapterRepository;
+        this.ideaRepository = ideaRepository;
+        this.characterRepository = characterRepository;
+        this.storyRepository = storyRepository;
+        this.projectRepository = projectRepository;
+        this.revisionRepository = revisionRepository;
+        this.quickSearch = quickSearch;
+        this.writingStats = writingStats;
+        this.characterMentions = characterMentions;
+    }
+
+    @Transactional
+    public BatchMutationResponse apply(BatchMutationRequest request, UUID userId) {
+        var operations = request.operations();
+        var batch = new Batch(userId, operations);
+        var ids = new ArrayList<UUID>(operations.size());
+        var codes = new ArrayList<String>(operations.size());
+        for (var operation : operations) {
+            try {
+                ids.add(batch.apply(operation));
+                codes.add(null);
+            } catch (ResourceNotFoundException | ValidationException | PreconditionFailedException
+                     | IllegalArgumentException e) {
+                ids.add(operation.id());
+                codes.add(errorCode(e));
+            }
+        }
+        batch.flush();
+
+        var results = new ArrayList<BatchOperationResultResponse>(operations.size());
+        int failed = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            var operation = operations.get(i);
+            var code = codes.get(i);
+            if (code != null) {
+                failed++;
+            }
+            var version = code == null && operation.op() != BatchAction.DELETE ? batch.versions.get(ids.get(i)) : null;
+            results.add(new BatchOperationResultResponse(
+                    i,
+                    operation.op().name(),
+                    operation.type().name(),
+                    ids.get(i),
+                    code == null ? APPLIED : FAILED,
+                    version,
+                    code));
+        }
+        return new BatchMutationResponse(operations.size() - failed, failed, results);
+    }
+
+    private static String errorCode(RuntimeException e) {
+        return switch (e) {
+            case ResourceNotFoundException notFound -> notFound.getErrorCode();
+            case ValidationException invalid -> invalid.getErrorCode();
+            case PreconditionFailedException stale -> stale.getErrorCode();
+            // Rejected by a domain check, as a single request would be with a 400
+            default -> ErrorCodes.VALIDATION_FAILED;
+        };
+    }
+
+    private static void verifyVersion(String resource, UUID id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new StaleVersionException(resource, id, expectedVersion, currentVersion);
+        }
+    }
+
+    private static String required(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidBatchOperationException(field + " is required");
+        }
+        return value;
+    }
+
+    /**
+     * Changes of one batch, applied to the loaded entities and written by {@link #flush}.
+     */
+    private final class Batch {
+
+        private final UUID userId;
+        private final Map<UUID, Chapter> chapters;
+        private final Map<UUID, Idea> ideas;
+        private final Map<UUID, Character> characters;
+        private final Map<UUID, Story> stories;
+        private final Set<UUID> ownedProjectIds;
+        private final Map<UUID, Integer> chapterCreates = new HashMap<>();
+        private final Map<UUID, ChapterTail> tails = new HashMap<>();
+
+        private final Map<UUID, Chapter> changedChapters = new LinkedHashMap<>();
+        private final Set<UUID> rewrittenChapterIds = new HashSet<>();
+        private final Set<UUID> deletedChapterIds = new LinkedHashSet<>();
+        private final Map<UUID, Idea> changedIdeas = new LinkedHashMap<>();
+        private final Map<UUID, Character> changedCharacters = new LinkedHashMap<>();
+        private final Map<UUID, Story> changedStories = new LinkedHashMap<>();
+        private final Map<UUID, ProjectChanges> projects = new LinkedHashMap<>();
+        private final Map<UUID, Long> versions = new HashMap<>();
+
+        private Batch(UUID userId, List<BatchOperationRequest> operations) {
+            this.userId = userId;
+            var ids = new EnumMap<SyncEntityType, Set<UUID>>(SyncEntityType.class);
+            var projectIds = new HashSet<UUID>();
+            for (var operation : operations) {
+                if (operation.op() == BatchAction.CREATE) {
+                    if (operation.projectId() != null) {
+                        projectIds.add(operation.projectId());
+                        if (operation.type() == SyncEntityType.CHAPTER) {
+                            chapterCreates.merge(operation.projectId(), 1, Integer::sum);
+                        }
+                    }
+                } else if (operation.id() != null) {
+                    ids.computeIfAbsent(operation.type(), type -> new HashSet<>()).add(operation.id());
+                }
+            }
+
+            chapters = load(ids.get(SyncEntityType.CHAPTER), chapterRepository::findAllById, Chapter::getId);
+            ideas = load(ids.get(SyncEntityType.IDEA), ideaRepository::findAllById, Idea::getId);
+            characters = load(ids.get(SyncEntityType.CHARACTER), characterRepository::findAllById,
+                    Character::getId);
+            stories = load(ids.get(SyncEntityType.STORY), storyRepository::findAllById, Story::getId);
+
+            chapters.values().forEach(chapter -> projectIds.add(chapter.getProjectId()));
+            ideas.values().forEach(idea -> projectIds.add(idea.getProjectId()));
+            characters.values().forEach(character -> projectIds.add(character.getProjectId()));
+            stories.values().forEach(story -> projectIds.add(story.getProjectId()));
+            ownedProjectIds = projectRepository.findOwnedIds(projectIds, userId);
+        }
+
+        UUID apply(BatchOperationRequest operation) {
+            return switch (operation.type()) {
+                case CHAPTER -> applyToChapter(operation);
+                case IDEA -> applyToIdea(operation);
+                case CHARACTER -> applyToCharacter(operation);
+                case STORY -> applyToStory(operation);
+                case PROJECT -> throw new InvalidBatchOperationException("Projects cannot be changed in a batch");
+            };
+        }
+
+        private UUID applyToChapter(BatchOperationRequest operation) {
+            if (operation.op() == BatchAction.CREATE) {
+                var projectId = ownedProject(operation);
+                var chapter = tails.computeIfAbsent(projectId, this::tailOf)
+                        .append(projectId, operation.title(), operation.content());
+                changedChapters.put(chapter.getId(), chapter);
+                rewrittenChapterIds.add(chapter.getId());
+                project(projectId).chapterSaved(chapter.getWordCount());
+                return chapter.getId();
+            }
+            var chapter = find(chapters, operation, Chapter::getProjectId, ChapterNotFoundException::new);
+            verifyVersion("Chapter", chapter.getId(), operation.version(), chapter.getVersion());
+            if (operation.op() == BatchAction.DELETE) {
+                chapters.remove(chapter.getId());
+                changedChapters.remove(chapter.getId());
+                rewrittenChapterIds.remove(chapter.getId());
+                deletedChapterIds.add(chapter.getId());
+                project(chapter.getProjectId()).chapterDeleted(chapter.getWordCount());
+                return chapter.getId();
+            }
+
+            // Parsed first, so that an invalid status leaves the chapter untouched
+            var status = operation.status() != null ? ChapterStatus.valueOf(operation.status().toUpperCase()) : null;
+            var previousWordCount = chapter.getWordCount();
+            if (operation.content() != null && !operation.content().equals(chapter.getContent())) {
+                rewrittenChapterIds.add(chapter.getId());
+            }
+            if (operation.title() != null) {
+                chapter.updateTitle(operation.title());
+            }
+            if (operation.content() != null) {
+                chapter.updateContent(operation.content());
+            }
+            if (status != null) {
+                chapter.updateStatus(status);
+            }
+            changedChapters.put(chapter.getId(), chapter);
+            project(chapter.getProjectId()).chapterSaved(chapter.getWordCount() - previousWordCount);
+            return chapter.getId();
+        }
+
+        private UUID applyToIdea(BatchOperationRequest operation) {
+            Idea idea;
+            if (operation.op() == BatchAction.CREATE) {
+                idea = Idea.create(ownedProject(operation), required(operation.title(), "title"), operation.content());
+            } else {
+                idea = find(ideas, operation, Idea::getProjectId, IdeaNotFoundException::new);
+                verifyVersion("Idea", idea.getId(), operation.version(), idea.getVersion());
+                if (operation.op() == BatchAction.DELETE) {
+                    idea.markAsDeleted();
+                    ideas.remove(idea.getId());
+                } else {
+                    idea.update(operation.title(), operation.content());
+                }
+            }
+            changedIdeas.put(idea.getId(), idea);
+            project(idea.getProjectId()).searchChanged = true;
+            return idea.getId();
+        }
+
+        private UUID applyToCharacter(BatchOperationRequest operation) {
+            Character character;
+            boolean namesChanged;
+            if (operation.op() == BatchAction.CREATE) {
+                character = Character.create(
+                        ownedProject(operation),
+                        required(operation.name(), "name"),
+                        operation.role(),
+                        operation.description(),
+                        operation.physicalDescription(),
+                        operation.imageUrl());
+                namesChanged = true;
+            } else {
+                character = find(characters, operation, Character::getProjectId, CharacterNotFoundException::new);
+                verifyVersion("Character", character.getId(), operation.version(), character.getVersion());
+                if (operation.op() == BatchAction.DELETE) {
+                    character.markAsDeleted();
+                    characters.remove(character.getId());
+                    namesChanged = true;
+                } else {
+                    namesChanged = operation.name() != null && !operation.name().trim().equals(character.getName());
+                    character.update(
+                            operation.name(),
+                            operation.role(),
+                            operation.description(),
+                            operation.physicalDescription(),
+                            operation.imageUrl());
+                }
+            }
+            changedCharacters.put(character.getId(), character);
+            var changes = project(character.getProjectId());
+            changes.searchChanged = true;
+            changes.charactersChanged |= namesChanged;
+            return character.getId();
+        }
+
+        private UUID applyToStory(BatchOperationRequest operation) {
+            Story story;
+            if (operation.op() == BatchAction.CREATE) {
+                story = Story.create(
+                        ownedProject(operation),
+                        required(operation.title(), "title"),
+                        operation.synopsis(),
+                        operation.theme(),
+                        operation.secondaryPlots(),
+                        operation.others(),
+                        operation.imageUrl());
+            } else {
+                story = find(stories, operation, Story::getProjectId, StoryNotFoundException::new);
+                verifyVersion("Story", story.getId(), operation.version(), story.getVersion());
+                if (operation.op() == BatchAction.DELETE) {
+                    story.markAsDeleted();
+                    stories.remove(story.getId());
+                } else {
+                    story.update(
+                            operation.title(),
+                            operation.synopsis(),
+                            operation.theme(),
+                            operation.secondaryPlots(),
+                            operation.others(),
+                            operation.imageUrl());
+                }
+            }
+            changedStories.put(story.getId(), story);
+            return story.getId();
+        }
+
+        /**
+         * Writes everything in one flush per entity type, then updates each project once.
+         */
+        void flush() {
+            if (!deletedChapterIds.isEmpty()) {
+                chapterRepository.deleteAllById(deletedChapterIds);
+            }
+            var savedChapters = save(changedChapters.values(), chapterRepository::saveAll, Chapter::getId,
+                    Chapter::getVersion);
+            save(changedIdeas.values(), ideaRepository::saveAll, Idea::getId, Idea::getVersion);
+            save(changedCharacters.values(), characterRepository::saveAll, Character::getId, Character::getVersion);
+            save(changedStories.values(), storyRepository::saveAll, Story::getId, Story::getVersion);
+
+            var rewritten = new HashMap<UUID, List<Chapter>>();
+            for (var chapter : savedChapters) {
+                if (rewrittenChapterIds.contains(chapter.getId())) {
+                    var chunks = ContentChunker.split(chapter.getContent());
+                    revisionRepository.save(ChapterRevision.of(chapter, chunks), chunks);
+                    rewritten.computeIfAbsent(chapter.getProjectId(), id -> new ArrayList<>()).add(chapter);
+                }
+            }
+
+            projects.forEach((projectId, changes) -> {
+                if (changes.chaptersChanged) {
+                    projectRepository.recordChapterChange(projectId, changes.wordCountDelta);
+                    writingStats.recordWords(userId, projectId, changes.wordsAdded, changes.wordsRemoved);
+                }
+                if (rewritten.containsKey(projectId)) {
+                    characterMentions.chaptersSaved(projectId, rewritten.get(projectId));
+                }
+                if (changes.charactersChanged) {
+                    characterMentions.charactersChanged(projectId);
+                }
+                if (changes.searchChanged) {
+                    quickSearch.evict(projectId);
+                }
+            });
+        }
+
+        private <T> List<T> save(Collection<T> changed, Function<List<T>, List<T>> saveAll, Function<T, UUID> id,
+                                 Function<T, Long> version) {
+            if (changed.isEmpty()) {
+                return List.of();
+            }
+            var saved = saveAll.apply(List.copyOf(changed));
+            saved.forEach(entity -> versions.put(id.apply(entity), version.apply(entity)));
+            return saved;
+        }
+
+        private <T> Map<UUID, T> load(Set<UUID> ids, Function<Collection<UUID>, List<T>> findAll,
+                                      Function<T, UUID> id) {
+            var loaded = new HashMap<UUID, T>();
+            if (ids != null) {
+                findAll.apply(ids).forEach(entity -> loaded.put(id.apply(entity), entity));
+            }
+            return loaded;
+        }
+
+        /**
+         * The entity an update or delete targets. Entities of other users' projects are
+         * reported as not found, so their existence is not disclosed.
+         */
+        private <T> T find(Map<UUID, T> loaded, BatchOperationRequest operation, Function<T, UUID> projectId,
+                           Function<UUID, ResourceNotFoundException> notFound) {
+            if (operation.id() == null) {
+                throw new InvalidBatchOperationException(operation.op() + " of a " + operation.type() + " needs an id");
+            }
+            var entity = loaded.get(operation.id());
+            if (entity == null || !ownedProjectIds.contains(projectId.apply(entity))) {
+                throw notFound.apply(operation.id());
+            }
+            return entity;
+        }
+
+        private UUID ownedProject(BatchOperationRequest operation) {
+            if (operation.projectId() == null) {
+                throw new InvalidBatchOperationException("CREATE of a " + operation.type() + " needs a projectId");
+            }
+            if (!ownedProjectIds.contains(operation.projectId())) {
+                throw new ProjectNotFoundException(operation.projectId());
+            }
+            return operation.projectId();
+        }
+
+        private ProjectChanges project(UUID projectId) {
+            return projects.computeIfAbsent(projectId, id -> new ProjectChanges());
+        }
+
+        private ChapterTail tailOf(UUID projectId) {
+            chapterRepository.lockOrder(projectId);
+            var slot = chapterRepository.findOrderSlot(projectId, null, null);
+            // Evenly spaced after the last chapter, as in an import
+            return new ChapterTail(slot, OrderKeys.between(slot.before(), null, chapterCreates.get(projectId)));
+        }
+    }
+
+    /**
+     * Where the chapters a batch creates in one project go: after its last chapter.
+     */
+    private static final class ChapterTail {
+
+        private final OrderSlot slot;
+        private final List<String> orderKeys;
+        private int appended;
+
+        private ChapterTail(OrderSlot slot, List<String> orderKeys) {
+            this.slot = slot;
+            this.orderKeys = orderKeys;
+        }
+
+        Chapter append(UUID projectId, String title, String content) {
+            int index = appended++;
+            return Chapter.create(projectId, title, content, orderKeys.get(index), slot.position() + index);
+        }
+    }
+
+    /**
+     * What a batch changed in one project, applied once when it is flushed.
+     */
+    private static final class ProjectChanges {
+
+        private boolean chaptersChanged;
+        private int wordCountDelta;
+        private int wordsAdded;
+        private int wordsRemoved;
+        private boolean charactersChanged;
+        private boolean searchChanged;
+
+        void chapterSaved(int wordCountDelta) {
+            chaptersChanged = true;
+            searchChanged = true;
+            this.wordCountDelta += wordCountDelta;
+            wordsAdded += Math.max(wordCountDelta, 0);
+            wordsRemoved += Math.max(-wordCountDelta, 0);
+        }
+
+        /**
+         * As a single delete, counted in the project's word count but not as words removed.
+         */
+        void chapterDeleted(int wordCount) {
+            chaptersChanged = true;
+            searchChanged = true;
+            wordCountDelta -= wordCount;
+        }
+    }
+}
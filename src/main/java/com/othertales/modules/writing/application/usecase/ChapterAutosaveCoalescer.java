@@ -0,0 +1,302 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.common.domain.AccessDeniedException;
+import com.othertales.common.domain.ConflictException;
+import com.othertales.common.domain.PreconditionFailedException;
+import com.othertales.common.domain.ResourceNotFoundException;
+import com.othertales.common.domain.ValidationException;
+import com.othertales.modules.writing.application.dto.AutosaveAcceptedResponse;
+import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.AutosaveLostException;
+import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.StaleVersionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Opt-in write coalescing for editor autosaves.
+ *
+ * <p>Saves to the same chapter are merged in memory (later non-null fields win) and
+ * written as a single {@link ChapterService#updateChapter} once the chapter has been
+ * quiet for {@code quietPeriod}, or at the latest {@code maxDelay} after the first
+ * buffered save. Ownership is checked on submit, so the deferred write never surprises
+ * the client with a 403.
+ *
+ * <p>The write expects the chapter version seen when the first of its saves was
+ * buffered. The buffer lives in this instance only, so writes that bypass it (another
+ * instance, a batch upload) leave the version behind: the buffered saves are then
+ * dropped rather than written over the newer text, and the next autosave to the chapter
+ * is refused with {@link AutosaveLostException} so the client reloads. Failed writes are
+ * retried with backoff and reported the same way once {@value #MAX_WRITE_ATTEMPTS}
+ * attempts have failed; writes the service refuses are reported at once.
+ *
+ * <p>Callers must flush the buffer before reading or writing the chapter through the
+ * regular endpoints; {@code ChapterController} does so.
+ */
+@Service
+public class ChapterAutosaveCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(ChapterAutosaveCoalescer.class);
+
+    static final int MAX_WRITE_ATTEMPTS = 5;
+    /** How long a lost save waits for the client's next autosave to be reported. */
+    private static final Duration LOST_SAVES_TTL = Duration.ofMinutes(10);
+
+    private final ChapterRepository chapterRepository;
+    private final ProjectRepository projectRepository;
+    private final ChapterService chapterService;
+    private final Duration quietPeriod;
+    private final Duration maxDelay;
+
+    private final Map<UUID, PendingSave> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, LostSaves> lost = new ConcurrentHashMap<>();
+    /**
+     * Serializes writes so an older merge can never commit after a newer one, and orders
+     * submits against them, so a buffer never starts from a version this instance is
+     * about to replace.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ChapterAutosaveCoalescer(
+            ChapterRepository chapterRepository,
+            ProjectRepository projectRepository,
+            ChapterService chapterService,
+            @Value("${app.autosave.quiet-period:PT2S}") Duration quietPeriod,
+            @Value("${app.autosave.max-delay:PT10S}") Duration maxDelay
+    ) {
+        this.chapterRepository = chapterRepository;
+        this.projectRepository = projectRepository;
+        this.chapterService = chapterService;
+        this.quietPeriod = quietPeriod;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Buffers a save. An If-Match version is checked against the stored chapter now, since
+     * the write happens later; saves buffered since are not written yet and do not count.
+     * Earlier saves that could not be written are reported here, and this one is refused.
+     */
+    public AutosaveAcceptedResponse submit(UUID chapterId, UpdateChapterRequest request, Long expectedVersion,
+                                           UUID userId) {
+        flushLock.lock();
+        try {
+            var chapter = chapterRepository.findOutlineById(chapterId)
+                    .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+            if (!projectRepository.existsByIdAndUserId(chapter.projectId(), userId)) {
+                throw new ChapterAccessDeniedException(chapter.projectId(), userId);
+            }
+            var lostSaves = lost.remove(chapterId);
+            if (lostSaves != null) {
+                throw new AutosaveLostException(chapterId, lostSaves.saves());
+            }
+            var buffered = pending.get(chapterId);
+            if (buffered != null && !Objects.equals(buffered.baseVersion(), chapter.version())) {
+                // Written elsewhere since the buffer started: its saves would overwrite newer text
+                pending.remove(chapterId);
+                log.warn("Dropping {} autosave(s) for chapter {}: it is at version {}, not {}",
+                        buffered.saves(), chapterId, chapter.version(), buffered.baseVersion());
+                throw new AutosaveLostException(chapterId, buffered.saves());
+            }
+            if (expectedVersion != null && !expectedVersion.equals(chapter.version())) {
+                throw new StaleVersionException("Chapter", chapterId, expectedVersion, chapter.version());
+            }
+            if (request.status() != null) {
+                ChapterStatus.valueOf(request.status().toUpperCase());
+            }
+
+            var now = Instant.now();
+            var save = new PendingSave(userId, chapter.version(), request.title(), request.content(),
+                    request.status(), 1, now, now, 0, null);
+            var merged = pending.merge(chapterId, save, PendingSave::mergedWith);
+
+            var currentVersion = Objects.requireNonNullElse(chapter.version(), 0L);
+            return new AutosaveAcceptedResponse(chapterId, currentVersion + 1, merged.saves(), flushBy(merged));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every buffered save that is due at {@code now}. Called periodically.
+     */
+    public void flushDue(Instant now) {
+        pending.forEach((chapterId, save) -> {
+            if (!now.isBefore(flushBy(save))) {
+                flushIfUnchanged(chapterId, save);
+            }
+        });
+        var expired = now.minus(LOST_SAVES_TTL);
+        lost.values().removeIf(saves -> saves.lostAt().isBefore(expired));
+    }
+
+    /**
+     * Writes the buffered save for one chapter, if it is the caller's, before the caller
+     * touches the chapter. Anyone else's request is left to be refused by the service
+     * without writing on the owner's behalf.
+     */
+    public void flush(UUID chapterId, UUID userId) {
+        var save = pending.get(chapterId);
+        if (save != null && save.userId().equals(userId)) {
+            flush(chapterId);
+        }
+    }
+
+    /**
+     * Writes the buffered save for one chapter, if any. For callers that have already
+     * checked the chapter belongs to the user.
+     */
+    public void flush(UUID chapterId) {
+        if (!pending.containsKey(chapterId)) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            var save = pending.remove(chapterId);
+            if (save != null) {
+                write(chapterId, save);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes everything still buffered. Used on shutdown.
+     */
+    public void flushAll() {
+        pending.forEach(this::flushIfUnchanged);
+    }
+
+    /**
+     * Drops the caller's buffered save for a chapter that is about to be deleted.
+     */
+    public void discard(UUID chapterId, UUID userId) {
+        var save = pending.get(chapterId);
+        if (save != null && save.userId().equals(userId)) {
+            discard(chapterId);
+        }
+    }
+
+    /**
+     * Drops the buffered save for a chapter that is about to be deleted.
+     */
+    public void discard(UUID chapterId) {
+        pending.remove(chapterId);
+        lost.remove(chapterId);
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    int lostCount() {
+        return lost.size();
+    }
+
+    private void flushIfUnchanged(UUID chapterId, PendingSave expected) {
+        flushLock.lock();
+        try {
+            // A save merged in meanwhile replaced the entry; it is picked up on the next pass.
+            if (pending.remove(chapterId, expected)) {
+                write(chapterId, expected);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(UUID chapterId, PendingSave save) {
+        try {
+            chapterService.updateChapter(chapterId, save.toRequest(), save.baseVersion(), save.userId());
+        } catch (RuntimeException e) {
+            var attempts = save.attempts() + 1;
+            if (isPermanent(e) || attempts >= MAX_WRITE_ATTEMPTS) {
+                log.warn("Dropping {} autosave(s) for chapter {} after {} attempt(s)", save.saves(), chapterId,
+                        attempts, e);
+                lost.put(chapterId, new LostSaves(save.saves(), Instant.now()));
+                return;
+            }
+            log.warn("Autosave for chapter {} failed, retrying", chapterId, e);
+            var retry = save.retried(attempts, Instant.now().plus(quietPeriod.multipliedBy(1L << attempts)));
+            pending.merge(chapterId, retry, (newer, failed) -> failed.mergedWith(newer));
+        }
+    }
+
+    /**
+     * Failures a retry cannot fix: the chapter changed, is gone or is no longer the
+     * user's, or the save is invalid. Anything else, like a lost connection, is retried.
+     */
+    private static boolean isPermanent(RuntimeException e) {
+        return e instanceof OptimisticLockingFailureException
+                || e instanceof PreconditionFailedException
+                || e instanceof ConflictException
+                || e instanceof ResourceNotFoundException
+                || e instanceof AccessDeniedException
+                || e instanceof ValidationException
+                || e instanceof IllegalArgumentException;
+    }
+
+    private Instant flushBy(PendingSave save) {
+        var afterQuiet = save.lastSubmittedAt().plus(quietPeriod);
+        var deadline = save.firstSubmittedAt().plus(maxDelay);
+        var due = afterQuiet.isBefore(deadline) ? afterQuiet : deadline;
+        return save.retryAt() != null && save.retryAt().isAfter(due) ? save.retryAt() : due;
+    }
+
+    private record LostSaves(int saves, Instant lostAt) {
+    }
+
+    private record PendingSave(
+            UUID userId,
+            Long baseVersion,
+            String title,
+            String content,
+            String status,
+            int saves,
+            Instant firstSubmittedAt,
+            Instant lastSubmittedAt,
+            int attempts,
+            Instant retryAt
+    ) {
+
+        /** Keeps this save's base version: the newer one was checked against the same. */
+        PendingSave mergedWith(PendingSave newer) {
+            return new PendingSave(
+                    newer.userId,
+                    baseVersion,
+                    newer.title != null ? newer.title : title,
+                    newer.content != null ? newer.content : content,
+                    newer.status != null ? newer.status : status,
+                    saves + newer.saves,
+                    firstSubmittedAt.isBefore(newer.firstSubmittedAt) ? firstSubmittedAt : newer.firstSubmittedAt,
+                    lastSubmittedAt.isAfter(newer.lastSubmittedAt) ? lastSubmittedAt : newer.lastSubmittedAt,
+                    Math.max(attempts, newer.attempts),
+                    retryAt != null ? retryAt : newer.retryAt
+            );
+        }
+
+        PendingSave retried(int attempts, Instant retryAt) {
+            return new PendingSave(userId, baseVersion, title, content, status, saves, firstSubmittedAt,
+                    lastSubmittedAt, attempts, retryAt);
+        }
+
+        UpdateChapterRequest toRequest() {
+            return new UpdateChapterRequest(title, content, status);
+        }
+    }
+}
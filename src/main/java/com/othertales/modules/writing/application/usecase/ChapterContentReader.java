@@ -0,0 +1,82 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Reads a chapter's content in bounded pieces, so neither the content streaming endpoint
+ * nor an analysis pass ever holds a whole chapter in memory.
+ *
+ * <p>The revision recorded by the save that produced a version is the preferred source:
+ * its chunks are immutable, at most 8192 characters each, and fetched
+ * {@value #CHUNK_FETCH_BATCH} at a time. Versions without one (chapters written before
+ * revisions were recorded, or by a path that records none) are read in slices of
+ * {@value #CONTENT_SLICE_LENGTH} code points, each pinned to the version.
+ */
+@Service
+public class ChapterContentReader {
+
+    static final int CHUNK_FETCH_BATCH = 32;
+    static final int CONTENT_SLICE_LENGTH = 32 * 1024;
+
+    private final ChapterRepository chapterRepository;
+    private final ChapterRevisionRepository revisionRepository;
+
+    public ChapterContentReader(ChapterRepository chapterRepository, ChapterRevisionRepository revisionRepository) {
+        this.chapterRepository = chapterRepository;
+        this.revisionRepository = revisionRepository;
+    }
+
+    @FunctionalInterface
+    public interface PieceConsumer<E extends Exception> {
+        void accept(String piece) throws E;
+    }
+
+    /**
+     * Passes the content of the chapter at {@code version} to {@code consumer}, in order.
+     *
+     * @return false when the chapter was saved or deleted since {@code version}: the
+     * pieces passed so far are a prefix of that version, the rest is not read
+     */
+    public <E extends Exception> boolean read(UUID chapterId, long version, PieceConsumer<E> consumer) throws E {
+        var latest = revisionRepository.findByChapterId(chapterId, 1);
+        if (!latest.isEmpty() && Objects.equals(latest.getFirst().chapterVersion(), version)) {
+            readRevision(latest.getFirst(), consumer);
+            return true;
+        }
+
+        for (int offset = 0; ; offset += CONTENT_SLICE_LENGTH) {
+            var slice = chapterRepository.findContentSlice(chapterId, version, offset, CONTENT_SLICE_LENGTH);
+            if (slice.isEmpty()) {
+                return false;
+            }
+            var text = slice.get();
+            if (!text.isEmpty()) {
+                consumer.accept(text);
+            }
+            if (text.codePointCount(0, text.length()) < CONTENT_SLICE_LENGTH) {
+                return true;
+            }
+        }
+    }
+
+    public <E extends Exception> void readRevision(ChapterRevision revision, PieceConsumer<E> consumer) throws E {
+        var hashes = revision.chunkHashes();
+        for (int from = 0; from < hashes.size(); from += CHUNK_FETCH_BATCH) {
+            var batch = hashes.subList(from, Math.min(from + CHUNK_FETCH_BATCH, hashes.size()));
+            var contents = revisionRepository.findChunkContents(batch);
+            for (var hash : batch) {
+                var text = contents.get(hash);
+                if (text == null) {
+                    throw new IllegalStateException("Missing content chunk " + hash + " of revision " + revision.id());
+                }
+                consumer.accept(text);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterImportResponse;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ManuscriptParser;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ImportFormat;
+import com.othertales.modules.writing.domain.InvalidManuscriptImportException;
+import com.othertales.modules.writing.domain.OrderKeys;
+import com.othertales.modules.writing.domain.OrderSlot;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates chapters in bulk from an uploaded manuscript, split at its headings.
+ */
+@Service
+public class ChapterImportService {
+
+    static final int INSERT_BATCH_SIZE = 50;
+    static final int MAX_IMPORTED_CHAPTERS = 1_000;
+    static final int MAX_TITLE_LENGTH = 255;
+
+    private final ChapterRepository chapterRepository;
+    private final ProjectRepository projectRepository;
+    private final QuickSearchService quickSearch;
+    private final CharacterMentionService characterMentions;
+    private final Map<ImportFormat, ManuscriptParser> parsers = new EnumMap<>(ImportFormat.class);
+
+    public ChapterImportService(
+            ChapterRepository chapterRepository,
+            ProjectRepository projectRepository,
+            QuickSearchService quickSearch,
+            CharacterMentionService characterMentions,
+            List<ManuscriptParser> parsers
+    ) {
+        this.chapterRepository = chapterRepository;
+        this.projectRepository = projectRepository;
+        this.quickSearch = quickSearch;
+        this.characterMentions = characterMentions;
+        parsers.forEach(parser -> this.parsers.put(parser.format(), parser));
+    }
+
+    /**
+     * Appends the chapters found in the file after the project's last chapter, in one
+     * transaction. Chapters are inserted {@value #INSERT_BATCH_SIZE} at a time as the file is
+     * parsed, order keys for the whole import are derived once from the last chapter's key,
+     * and the project word count is incremented once at the end. No revision is recorded: the uploaded file is the baseline, and the
+     * first edit of each chapter starts its history.
+     */
+    @Transactional
+    public ChapterImportResponse importChapters(UUID projectId, String fileName, InputStream content, UUID userId) {
+        var format = ImportFormat.fromFileName(fileName);
+        var parser = parsers.get(format);
+        if (parser == null) {
+            throw new InvalidManuscriptImportException("Unsupported file type: " + fileName);
+        }
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        chapterRepository.lockOrder(projectId);
+        var batch = new ImportBatch(projectId, chapterRepository.findOrderSlot(projectId, null, null),
+                baseName(fileName));
+        try {
+            parser.parse(content, batch::add);
+        } catch (IOException e) {
+            throw new InvalidManuscriptImportException("Could not read " + fileName, e);
+        }
+        batch.flush();
+        if (batch.imported.isEmpty()) {
+            throw new InvalidManuscriptImportException("No text found in " + fileName);
+        }
+
+        projectRepository.recordChapterChange(projectId, Math.toIntExact(batch.wordCount));
+        quickSearch.evict(projectId);
+        return new ChapterImportResponse(projectId, batch.imported.size(), batch.wordCount, batch.imported);
+    }
+
+    private final class ImportBatch {
+
+        private final UUID projectId;
+        private final String defaultTitle;
+        private final List<Chapter> pending = new ArrayList<>(INSERT_BATCH_SIZE);
+        private final List<ChapterSummaryResponse> imported = new ArrayList<>();
+        private final OrderSlot slot;
+        private List<String> orderKeys;
+        private long wordCount;
+
+        private ImportBatch(UUID projectId, OrderSlot slot, String defaultTitle) {
+            this.projectId = projectId;
+            this.slot = slot;
+            this.defaultTitle = defaultTitle;
+        }
+
+        void add(String title, String content) {
+            if (title == null && content.isBlank()) {
+                return;
+            }
+            if (imported.size() + pending.size() >= MAX_IMPORTED_CHAPTERS) {
+                throw new InvalidManuscriptImportException("More than " + MAX_IMPORTED_CHAPTERS + " chapters");
+            }
+            if (orderKeys == null) {
+                // Evenly spaced after the last chapter, so every key of the import stays short
+                orderKeys = OrderKeys.between(slot.before(), null, MAX_IMPORTED_CHAPTERS);
+            }
+            int index = imported.size() + pending.size();
+            pending.add(Chapter.create(projectId, truncate(title != null ? title : defaultTitle), content,
+                    orderKeys.get(index), slot.position() + index));
+            if (pending.size() == INSERT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            var saved = chapterRepository.saveAll(pending);
+            for (var chapter : saved) {
+                wordCount += chapter.getWordCount();
+                imported.add(toSummaryResponse(chapter));
+            }
+            characterMentions.chaptersSaved(projectId, saved);
+            pending.clear();
+        }
+    }
+
+    private static String baseName(String fileName) {
+        var name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+        var dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static String truncate(String title) {
+        var trimmed = title.strip();
+        if (trimmed.codePointCount(0, trimmed.length()) <= MAX_TITLE_LENGTH) {
+            return trimmed;
+        }
+        return trimmed.substring(0, trimmed.offsetByCodePoints(0, MAX_TITLE_LENGTH)).strip();
+    }
+
+    private ChapterSummaryResponse toSummaryResponse(Chapter chapter) {
+        return new ChapterSummaryResponse(
+                chapter.getId(),
+                chapter.getTitle(),
+                chapter.getOrderIndex(),
+                chapter.getWordCount(),
+                chapter.getStatus().name(),
+                chapter.getVersion(),
+                chapter.getUpdatedAt()
+        );
+    }
+}
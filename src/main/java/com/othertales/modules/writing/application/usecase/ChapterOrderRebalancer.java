@@ -0,0 +1,53 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.domain.OrderKeys;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rewrites a project's chapter order keys as short, evenly spaced ones once repeated
+ * inserts at the same spot made some of them longer than {@link OrderKeys#MAX_LENGTH}.
+ * The order itself does not change, so neither versions nor list ETags are bumped.
+ */
+@Service
+public class ChapterOrderRebalancer {
+
+    static final int PROJECTS_PER_RUN = 100;
+
+    private final ChapterRepository chapterRepository;
+
+    public ChapterOrderRebalancer(ChapterRepository chapterRepository) {
+        this.chapterRepository = chapterRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findProjectsToRebalance() {
+        return chapterRepository.findProjectIdsWithLongOrderKeys(PROJECTS_PER_RUN);
+    }
+
+    /**
+     * @return number of chapters given a new key
+     */
+    @Transactional
+    public int rebalance(UUID projectId) {
+        chapterRepository.lockOrder(projectId);
+
+        var chapters = chapterRepository.findOutlineByProjectId(projectId);
+        var keys = OrderKeys.spread(chapters.size());
+        var changedIds = new ArrayList<UUID>();
+        var changedKeys = new ArrayList<String>();
+        for (int i = 0; i < chapters.size(); i++) {
+            var chapter = chapters.get(i);
+            if (!keys.get(i).equals(chapter.orderKey())) {
+                changedIds.add(chapter.id());
+                changedKeys.add(keys.get(i));
+            }
+        }
+        return changedIds.isEmpty() ? 0 : chapterRepository.updateOrderKeys(projectId, changedIds, changedKeys);
+    }
+}
@@ -0,0 +1,125 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterRevisionResponse;
+import com.othertales.modules.writing.application.dto.ContentStream;
+import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import com.othertales.modules.writing.domain.ChapterRevisionNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read and restore access to the revisions recorded by {@link ChapterService} on save.
+ */
+@Service
+public class ChapterRevisionService {
+
+    static final int MAX_LISTED_REVISIONS = 100;
+
+    private final ChapterRepository chapterRepository;
+    private final ChapterRevisionRepository revisionRepository;
+    private final ProjectRepository projectRepository;
+    private final ChapterService chapterService;
+    private final ChapterContentReader contentReader;
+
+    public ChapterRevisionService(
+            ChapterRepository chapterRepository,
+            ChapterRevisionRepository revisionRepository,
+            ProjectRepository projectRepository,
+            ChapterService chapterService,
+            ChapterContentReader contentReader
+    ) {
+        this.chapterRepository = chapterRepository;
+        this.revisionRepository = revisionRepository;
+        this.projectRepository = projectRepository;
+        this.chapterService = chapterService;
+        this.contentReader = contentReader;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChapterRevisionResponse> listRevisions(UUID chapterId, int limit, UUID userId) {
+        verifyChapterOwnership(chapterId, userId);
+
+        var pageSize = Math.clamp(limit, 1, MAX_LISTED_REVISIONS);
+        return revisionRepository.findByChapterId(chapterId, pageSize)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ChapterRevisionResponse getRevision(UUID chapterId, UUID revisionId, UUID userId) {
+        return toResponse(loadRevision(chapterId, revisionId, userId));
+    }
+
+    /**
+     * Checks access eagerly and returns a stream that assembles the revision from its
+     * chunks, {@value #CHUNK_FETCH_BATCH} at a time. Each batch is a short read of its own,
+     * so no connection is held while the client consumes the body.
+     */
+    @Transactional(readOnly = true)
+    public ContentStream streamRevisionContent(UUID chapterId, UUID revisionId, UUID userId) {
+        var revision = loadRevision(chapterId, revisionId, userId);
+        return writer -> writeContent(revision, writer);
+    }
+
+    /**
+     * Restoring is an ordinary content update: it adjusts the project word count and
+     * records a new revision, so the restore itself can be undone.
+     */
+    @Transactional
+    public ChapterResponse restoreRevision(UUID chapterId, UUID revisionId, UUID userId) {
+        var revision = loadRevision(chapterId, revisionId, userId);
+
+        var content = new StringWriter(revision.characterCount());
+        try {
+            writeContent(revision, content);
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory write failed", e);
+        }
+        return chapterService.updateChapter(chapterId, new UpdateChapterRequest(null, content.toString(), null), userId);
+    }
+
+    private void writeContent(ChapterRevision revision, Writer writer) throws IOException {
+        contentReader.readRevision(revision, writer::write);
+        writer.flush();
+    }
+
+    private ChapterRevision loadRevision(UUID chapterId, UUID revisionId, UUID userId) {
+        verifyChapterOwnership(chapterId, userId);
+        return revisionRepository.findByIdAndChapterId(revisionId, chapterId)
+                .orElseThrow(() -> new ChapterRevisionNotFoundException(revisionId));
+    }
+
+    private void verifyChapterOwnership(UUID chapterId, UUID userId) {
+        var chapter = chapterRepository.findOutlineById(chapterId)
+                .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        if (!projectRepository.existsByIdAndUserId(chapter.projectId(), userId)) {
+            throw new ChapterAccessDeniedException(chapter.projectId(), userId);
+        }
+    }
+
+    private ChapterRevisionResponse toResponse(ChapterRevision revision) {
+        return new ChapterRevisionResponse(
+                revision.id(),
+                revision.chapterId(),
+                revision.chapterVersion(),
+                revision.title(),
+                revision.wordCount(),
+                revision.characterCount(),
+                revision.createdAt()
+        );
+    }
+}
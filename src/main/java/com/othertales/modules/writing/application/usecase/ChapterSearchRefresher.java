@@ -0,0 +1,30 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rebuilds the full-text vectors of chapters whose title or content changed, outside the
+ * save that changed them. A chapter save only flags its search row stale, so autosave
+ * flushes and reorders never run {@code to_tsvector} over the chapter text.
+ */
+@Service
+public class ChapterSearchRefresher {
+
+    static final int CHAPTERS_PER_BATCH = 20;
+
+    private final ChapterRepository chapterRepository;
+
+    public ChapterSearchRefresher(ChapterRepository chapterRepository) {
+        this.chapterRepository = chapterRepository;
+    }
+
+    /**
+     * @return whether the batch was full, so more stale chapters may be waiting
+     */
+    @Transactional
+    public boolean refreshBatch() {
+        return chapterRepository.refreshStaleSearchVectors(CHAPTERS_PER_BATCH) == CHAPTERS_PER_BATCH;
+    }
+}
@@ -1,21 +1,42 @@
 package com.othertales.modules.writing.application.usecase;
 
+import com.othertales.modules.writing.application.dto.ChapterIndexResponse;
 import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterStatisticsResponse;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
+import com.othertales.modules.writing.application.dto.ContentStream;
 import com.othertales.modules.writing.application.dto.CreateChapterRequest;
+import com.othertales.modules.writing.application.dto.MoveChapterRequest;
+import com.othertales.modules.writing.application.dto.PatchChapterContentRequest;
 import com.othertales.modules.writing.application.dto.ReorderChaptersRequest;
 import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
 import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
 import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.domain.Chapter;
 import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterRevision;
 import com.othertales.modules.writing.domain.ChapterStatus;
 import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import com.othertales.modules.writing.domain.ChapterVersionConflictException;
+import com.othertales.modules.writing.domain.ContentChunker;
+import com.othertales.modules.writing.domain.InvalidChapterOrderException;
+import com.othertales.modules.writing.domain.OrderKeys;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
+import com.othertales.modules.writing.domain.TextEdit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * AUDIT FIX #6 (FASE 2.1): Fully decoupled from infrastructure. Uses only domain
@@ -26,12 +47,32 @@ import java.util.UUID;
 @Service
 public class ChapterService {
 
+    static final int MAX_CONTENT_READ_ATTEMPTS = 3;
+
     private final ChapterRepository chapterRepository;
     private final ProjectRepository projectRepository;
+    private final ChapterRevisionRepository revisionRepository;
+    private final QuickSearchService quickSearch;
+    private final WritingStatsService writingStats;
+    private final CharacterMentionService characterMentions;
+    private final ChapterContentReader contentReader;
 
-    public ChapterService(ChapterRepository chapterRepository, ProjectRepository projectRepository) {
+    public ChapterService(
+            ChapterRepository chapterRepository,
+            ProjectRepository projectRepository,
+            ChapterRevisionRepository revisionRepository,
+            QuickSearchService quickSearch,
+            WritingStatsService writingStats,
+            CharacterMentionService characterMentions,
+            ChapterContentReader contentReader
+    ) {
         this.chapterRepository = chapterRepository;
         this.projectRepository = projectRepository;
+        this.revisionRepository = revisionRepository;
+        this.quickSearch = quickSearch;
+        this.writingStats = writingStats;
+        this.characterMentions = characterMentions;
+        this.contentReader = contentReader;
     }
 
     @Transactional(readOnly = true)
@@ -44,6 +85,57 @@ public class ChapterService {
                 .toList();
     }
 
+    /**
+     * Book index for the editor sidebar. Backed by a projection that never selects
+     * {@code content}, so its cost does not grow with the manuscript's length.
+     */
+    @Transactional(readOnly = true)
+    public ChapterIndexResponse getChapterOutline(UUID projectId, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
+
+        return toIndexResponse(projectId, chapterRepository.findOutlineByProjectId(projectId));
+    }
+
+    /**
+     * Served from the stored per-chapter counters; chapter content is never read.
+     */
+    @Transactional(readOnly = true)
+    public ChapterStatisticsResponse getChapterStatistics(UUID projectId, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
+
+        var totals = chapterRepository.sumStatisticsByProjectId(projectId);
+        return new ChapterStatisticsResponse(
+                projectId,
+                totals.chapterCount(),
+                totals.wordCount(),
+                totals.characterCount(),
+                totals.paragraphCount());
+    }
+
+    /**
+     * Validator for conditional GETs of the chapter list and outline, read from the project
+     * row in the same query that checks ownership. Bumped by every chapter change, so it is
+     * cheap to compare before the list itself is loaded.
+     */
+    @Transactional(readOnly = true)
+    public long getChaptersVersion(UUID projectId, UUID userId) {
+        return projectRepository.findChaptersVersion(projectId, userId)
+                .orElseThrow(() -> new ChapterAccessDeniedException(projectId, userId));
+    }
+
+    /**
+     * Content-free view of one chapter, enough to validate a conditional GET of the chapter
+     * or its content without reading the text.
+     */
+    @Transactional(readOnly = true)
+    public ChapterSummaryResponse getChapterSummary(UUID chapterId, UUID userId) {
+        var chapter = chapterRepository.findOutlineById(chapterId)
+                .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        verifyProjectOwnership(chapter.projectId(), userId);
+
+        return toSummaryResponse(chapter);
+    }
+
     @Transactional(readOnly = true)
     public ChapterResponse getChapterById(UUID chapterId, UUID userId) {
         var chapter = chapterRepository.findById(chapterId)
@@ -53,28 +145,75 @@ public class ChapterService {
         return toResponse(chapter);
     }
 
+    /**
+     * Raw content for large chapters. Access is checked eagerly; the returned stream reads
+     * the content through {@link ChapterContentReader} in bounded pieces, each one a short
+     * query of its own, so neither the whole text nor a connection is held while the client
+     * consumes the body. Pieces are pinned to the version seen here. If the chapter is saved
+     * before anything was written, the newer version is served; once the body has started,
+     * a save fails the stream instead of mixing two versions.
+     */
+    @Transactional(readOnly = true)
+    public ContentStream streamChapterContent(UUID chapterId, UUID userId) {
+        var chapter = chapterRepository.findOutlineById(chapterId)
+                .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        verifyProjectOwnership(chapter.projectId(), userId);
+
+        var version = Objects.requireNonNullElse(chapter.version(), 0L);
+        return writer -> {
+            var started = new boolean[1];
+            var readVersion = version;
+            for (int attempt = 1; ; attempt++) {
+                if (contentReader.read(chapterId, readVersion, piece -> {
+                    started[0] = true;
+                    writer.write(piece);
+                })) {
+                    break;
+                }
+                // Saved since the lookup: serve the newer text if nothing was sent yet
+                var current = chapterRepository.findOutlineById(chapterId);
+                if (started[0] || current.isEmpty() || attempt == MAX_CONTENT_READ_ATTEMPTS) {
+                    throw new IOException("Chapter " + chapterId + " changed while streaming");
+                }
+                readVersion = Objects.requireNonNullElse(current.get().version(), 0L);
+            }
+            writer.flush();
+        };
+    }
+
     @Transactional
     public ChapterResponse createChapter(UUID projectId, CreateChapterRequest request, UUID userId) {
         if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
             throw new ProjectNotFoundException(projectId);
         }
 
-        var orderIndex = request.sortOrder() != null
-                ? request.sortOrder()
-                : chapterRepository.findNextOrderIndex(projectId);
+        chapterRepository.lockOrder(projectId);
+        var slot = chapterRepository.findOrderSlot(projectId, request.sortOrder(), null);
 
-        var chapter = Chapter.create(projectId, request.title(), request.content(), orderIndex);
+        var chapter = Chapter.create(projectId, request.title(), request.content(), slot.newKey(), slot.position());
         var saved = chapterRepository.save(chapter);
-        syncProjectWordCount(projectId, userId);
+        recordChapterChange(projectId, saved.getWordCount());
+        writingStats.recordWordDelta(userId, projectId, saved.getWordCount());
+        recordRevision(saved);
+        quickSearch.chapterSaved(saved);
+        characterMentions.chapterSaved(saved);
         return toResponse(saved);
     }
 
+    /**
+     * Unconditional save: last write wins. Used by the autosave flush and revision restore.
+     */
     @Transactional
     public ChapterResponse updateChapter(UUID chapterId, UpdateChapterRequest request, UUID userId) {
-        var chapter = chapterRepository.findById(chapterId)
-                .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        return updateChapter(chapterId, request, null, userId);
+    }
 
-        verifyProjectOwnership(chapter.getProjectId(), userId);
+    @Transactional
+    public ChapterResponse updateChapter(UUID chapterId, UpdateChapterRequest request, Long expectedVersion,
+                                         UUID userId) {
+        var chapter = loadForWrite(chapterId, expectedVersion, userId);
+        var previousWordCount = chapter.getWordCount();
+        var contentChanged = request.content() != null && !request.content().equals(chapter.getContent());
 
         if (request.title() != null) {
             chapter.updateTitle(request.title());
@@ -88,52 +227,187 @@ public class ChapterService {
         }
 
         var saved = chapterRepository.save(chapter);
-        syncProjectWordCount(chapter.getProjectId(), userId);
+        recordChapterChange(chapter.getProjectId(), saved.getWordCount() - previousWordCount);
+        writingStats.recordWordDelta(userId, chapter.getProjectId(), saved.getWordCount() - previousWordCount);
+        if (contentChanged) {
+            recordRevision(saved);
+            characterMentions.chapterSaved(saved);
+        }
+        if (contentChanged || request.title() != null) {
+            quickSearch.chapterSaved(saved);
+        }
         return toResponse(saved);
     }
 
+    /**
+     * Autosave path: applies offset-based splices to the stored content instead of
+     * receiving the whole chapter. The client must send the version its offsets were
+     * computed against; the response carries the new version but not the content.
+     */
     @Transactional
-    public List<ChapterResponse> reorderChapters(UUID projectId, ReorderChaptersRequest request, UUID userId) {
-        verifyProjectOwnership(projectId, userId);
+    public ChapterSummaryResponse patchChapterContent(UUID chapterId, PatchChapterContentRequest request,
+                                                      Long expectedVersion, UUID userId) {
+        var chapter = loadForWrite(chapterId, expectedVersion, userId);
+        if (!Objects.equals(chapter.getVersion(), request.version())) {
+            throw new ChapterVersionConflictException(chapterId, request.version(), chapter.getVersion());
+        }
+        var previousWordCount = chapter.getWordCount();
+
+        chapter.applyEdits(request.edits().stream()
+                .map(edit -> new TextEdit(edit.offset(), edit.deleteCount(), edit.insert()))
+                .toList());
+
+        var saved = chapterRepository.save(chapter);
+        recordChapterChange(chapter.getProjectId(), saved.getWordCount() - previousWordCount);
+        writingStats.recordWordDelta(userId, chapter.getProjectId(), saved.getWordCount() - previousWordCount);
+        recordRevision(saved);
+        quickSearch.chapterSaved(saved);
+        characterMentions.chapterSaved(saved);
+        return toSummaryResponse(saved);
+    }
 
-        var chapters = chapterRepository.findByProjectIdOrderByOrderIndex(projectId);
-        var chapterMap = chapters.stream()
-                .collect(java.util.stream.Collectors.toMap(Chapter::getId, c -> c));
+    /**
+     * Puts the listed chapters first, in the given order, followed by any unlisted ones in
+     * their current order. Only chapters outside the longest run already in order get a
+     * new key, all in one bulk {@code UPDATE}; the response is built from the outline read
+     * for validation, so the text is never loaded.
+     */
+    @Transactional
+    public ChapterIndexResponse reorderChapters(UUID projectId, ReorderChaptersRequest request, Long expectedVersion,
+                                                UUID userId) {
+        verifyChaptersVersion(projectId, expectedVersion, userId);
+        chapterRepository.lockOrder(projectId);
 
-        for (var i = 0; i < request.orderedChapterIds().size(); i++) {
-            var chapterId = request.orderedChapterIds().get(i);
-            var chapter = chapterMap.get(chapterId);
+        var current = chapterRepository.findOutlineByProjectId(projectId);
+        var byId = current.stream().collect(Collectors.toMap(ChapterOutline::id, Function.identity()));
+        var reordered = new ArrayList<ChapterOutline>(current.size());
+        var seen = new HashSet<UUID>();
+        for (var chapterId : request.orderedChapterIds()) {
+            if (!seen.add(chapterId)) {
+                throw new InvalidChapterOrderException("Chapter " + chapterId + " is listed more than once");
+            }
+            var chapter = byId.remove(chapterId);
             if (chapter == null) {
                 throw new ChapterNotFoundException(chapterId);
             }
-            chapter.reorder(i);
-            chapterRepository.save(chapter);
+            reordered.add(chapter);
         }
+        current.stream().filter(chapter -> byId.containsKey(chapter.id())).forEach(reordered::add);
 
-        return chapterRepository.findByProjectIdOrderByOrderIndex(projectId)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        var keys = OrderKeys.reorder(reordered.stream().map(ChapterOutline::orderKey).toList());
+        var changedIds = new ArrayList<UUID>();
+        var changedKeys = new ArrayList<String>();
+        var result = new ArrayList<ChapterOutline>(reordered.size());
+        for (int i = 0; i < reordered.size(); i++) {
+            var chapter = reordered.get(i);
+            if (!keys.get(i).equals(chapter.orderKey())) {
+                changedIds.add(chapter.id());
+                changedKeys.add(keys.get(i));
+            }
+            result.add(chapter.movedTo(keys.get(i), i));
+        }
+
+        if (!changedIds.isEmpty() && chapterRepository.updateOrderKeys(projectId, changedIds, changedKeys) > 0) {
+            recordChapterChange(projectId, 0);
+        }
+        return toIndexResponse(projectId, result);
     }
 
+    /**
+     * Moves one chapter to {@code sortOrder} (0-based, clamped to the end) by giving it a
+     * key between its new neighbours' keys: one row is written whatever the book size.
+     * If-Match carries the chapter list ETag, since the move changes the list.
+     */
     @Transactional
-    public void deleteChapter(UUID chapterId, UUID userId) {
-        var chapter = chapterRepository.findById(chapterId)
+    public ChapterSummaryResponse moveChapter(UUID chapterId, MoveChapterRequest request, Long expectedVersion,
+                                              UUID userId) {
+        var chapter = chapterRepository.findOutlineById(chapterId)
                 .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        var projectId = chapter.projectId();
+        verifyChaptersVersion(projectId, expectedVersion, userId);
+        chapterRepository.lockOrder(projectId);
 
-        verifyProjectOwnership(chapter.getProjectId(), userId);
+        var slot = chapterRepository.findOrderSlot(projectId, request.sortOrder(), chapterId);
+        if (slot.position() == chapter.orderIndex()) {
+            return toSummaryResponse(chapter);
+        }
+        var orderKey = slot.newKey();
+        if (chapterRepository.updateOrderKeys(projectId, List.of(chapterId), List.of(orderKey)) > 0) {
+            recordChapterChange(projectId, 0);
+        }
+        return toSummaryResponse(chapter.movedTo(orderKey, slot.position()));
+    }
+
+    @Transactional
+    public void deleteChapter(UUID chapterId, Long expectedVersion, UUID userId) {
+        var chapter = loadForWrite(chapterId, expectedVersion, userId);
         var projectId = chapter.getProjectId();
         chapterRepository.deleteById(chapterId);
-        syncProjectWordCount(projectId, userId);
+        recordChapterChange(projectId, -chapter.getWordCount());
+        quickSearch.chapterDeleted(projectId, chapterId);
     }
 
-    private void syncProjectWordCount(UUID projectId, UUID userId) {
-        var chapters = chapterRepository.findByProjectIdOrderByOrderIndex(projectId);
-        var totalWords = chapters.stream().mapToInt(Chapter::getWordCount).sum();
-        var project = projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        project.updateCurrentWordCount(totalWords);
-        projectRepository.save(project);
+    /**
+     * Ownership check for list-level writes. With an If-Match version it is compared to
+     * the chapter list version, read in the ownership query itself.
+     */
+    private void verifyChaptersVersion(UUID projectId, Long expectedVersion, UUID userId) {
+        if (expectedVersion == null) {
+            verifyProjectOwnership(projectId, userId);
+            return;
+        }
+        var chaptersVersion = getChaptersVersion(projectId, userId);
+        if (expectedVersion != chaptersVersion) {
+            throw new StaleVersionException("Chapter list of project", projectId, expectedVersion, chaptersVersion);
+        }
+    }
+
+    /**
+     * Loads a chapter to change it. With an If-Match version the precondition is checked
+     * on the content-free outline first, so a stale save is refused without reading the
+     * text. The loaded chapter keeps that version, which Hibernate puts in the UPDATE's
+     * (or DELETE's) WHERE clause, so a save slipping in afterwards fails there instead.
+     */
+    private Chapter loadForWrite(UUID chapterId, Long expectedVersion, UUID userId) {
+        if (expectedVersion != null) {
+            var outline = chapterRepository.findOutlineById(chapterId)
+                    .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+            verifyProjectOwnership(outline.projectId(), userId);
+            verifyVersion(chapterId, expectedVersion, outline.version());
+        }
+        var chapter = chapterRepository.findById(chapterId)
+                .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        if (expectedVersion == null) {
+            verifyProjectOwnership(chapter.getProjectId(), userId);
+        } else {
+            verifyVersion(chapterId, expectedVersion, chapter.getVersion());
+        }
+        return chapter;
+    }
+
+    private static void verifyVersion(UUID chapterId, Long expectedVersion, Long currentVersion) {
+        if (!expectedVersion.equals(currentVersion)) {
+            throw new StaleVersionException("Chapter", chapterId, expectedVersion, currentVersion);
+        }
+    }
+
+    /**
+     * Applies only the difference produced by the edited chapter as an atomic
+     * in-database increment, and bumps the chapters version behind the list ETags.
+     * The project row is never loaded nor saved, so concurrent chapter saves do not
+     * race on {@code projects.version}.
+     */
+    private void recordChapterChange(UUID projectId, int wordCountDelta) {
+        projectRepository.recordChapterChange(projectId, wordCountDelta);
+    }
+
+    /**
+     * Snapshots the saved content as a revision. Chunks already stored by earlier
+     * revisions are referenced, not written again.
+     */
+    private void recordRevision(Chapter chapter) {
+        var chunks = ContentChunker.split(chapter.getContent());
+        revisionRepository.save(ChapterRevision.of(chapter, chunks), chunks);
     }
 
     private void verifyProjectOwnership(UUID projectId, UUID userId) {
@@ -142,6 +416,38 @@ public class ChapterService {
         }
     }
 
+    private ChapterIndexResponse toIndexResponse(UUID projectId, List<ChapterOutline> outline) {
+        var chapters = outline.stream()
+                .map(this::toSummaryResponse)
+                .toList();
+        var totalWordCount = chapters.stream().mapToLong(ChapterSummaryResponse::wordCount).sum();
+        return new ChapterIndexResponse(projectId, chapters, chapters.size(), totalWordCount);
+    }
+
+    private ChapterSummaryResponse toSummaryResponse(ChapterOutline outline) {
+        return new ChapterSummaryResponse(
+                outline.id(),
+                outline.title(),
+                outline.orderIndex(),
+                outline.wordCount(),
+                outline.status().name(),
+                outline.version(),
+                outline.updatedAt()
+        );
+    }
+
+    private ChapterSummaryResponse toSummaryResponse(Chapter chapter) {
+        return new ChapterSummaryResponse(
+                chapter.getId(),
+                chapter.getTitle(),
+                chapter.getOrderIndex(),
+                chapter.getWordCount(),
+                chapter.getStatus().name(),
+                chapter.getVersion(),
+                chapter.getUpdatedAt()
+        );
+    }
+
     private ChapterResponse toResponse(Chapter chapter) {
         return new ChapterResponse(
                 chapter.getId(),
@@ -152,7 +458,8 @@ public class ChapterService {
                 chapter.getWordCount(),
                 chapter.getStatus().name(),
                 chapter.getCreatedAt(),
-                chapter.getUpdatedAt()
+                chapter.getUpdatedAt(),
+                chapter.getVersion()
         );
     }
 }
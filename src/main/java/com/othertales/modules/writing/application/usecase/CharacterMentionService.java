@@ -0,0 +1,152 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.CharacterAppearanceResponse;
+import com.othertales.modules.writing.application.dto.CharacterAppearancesResponse;
+import com.othertales.modules.writing.application.dto.CharacterCoOccurrenceResponse;
+import com.othertales.modules.writing.application.port.CharacterMentionRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.ProseAnalyticsRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterFingerprint;
+import com.othertales.modules.writing.domain.CharacterMentionMatcher;
+import com.othertales.modules.writing.domain.CharacterNotFoundException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Index of which chapters mention each character, kept in {@code character_mentions}.
+ *
+ * <p>Chapter writes report each saved chapter here, in their transaction; its text is
+ * matched against all the project's character names at once by a
+ * {@link CharacterMentionMatcher} and the chapter's rows are replaced, so a save costs
+ * one pass over the one chapter that changed. Character writes only mark the index out
+ * of date, since a new or renamed character could be mentioned anywhere; the next query
+ * then rescans the project, {@value #LOAD_BATCH_SIZE} chapters at a time, before
+ * answering. Queries otherwise read the index alone and never chapter content.
+ *
+ * <p>A chapter saved while a rescan is running may keep the counts of its previous text
+ * until it is saved again.
+ */
+@Service
+public class CharacterMentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CharacterMentionService.class);
+
+    static final int LOAD_BATCH_SIZE = 25;
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+
+    private final CharacterMentionRepository mentionRepository;
+    private final CharacterRepository characterRepository;
+    private final ProjectRepository projectRepository;
+    private final ProseAnalyticsRepository proseAnalyticsRepository;
+
+    public CharacterMentionService(
+            CharacterMentionRepository mentionRepository,
+            CharacterRepository characterRepository,
+            ProjectRepository projectRepository,
+            ProseAnalyticsRepository proseAnalyticsRepository
+    ) {
+        this.mentionRepository = mentionRepository;
+        this.characterRepository = characterRepository;
+        this.projectRepository = projectRepository;
+        this.proseAnalyticsRepository = proseAnalyticsRepository;
+    }
+
+    /**
+     * Re-indexes a chapter whose text was just saved.
+     */
+    public void chapterSaved(Chapter chapter) {
+        chaptersSaved(chapter.getProjectId(), List.of(chapter));
+    }
+
+    /**
+     * Re-indexes chapters of one project saved together, matching the names loaded once.
+     */
+    public void chaptersSaved(UUID projectId, List<Chapter> chapters) {
+        var matcher = CharacterMentionMatcher.forNames(mentionRepository.findCharacterNames(projectId));
+        for (var chapter : chapters) {
+            mentionRepository.replaceForChapter(projectId, chapter.getId(),
+                    matcher.scan(chapter.getId(), chapter.getContent()));
+        }
+    }
+
+    /**
+     * Called when a character is created, renamed or deleted.
+     */
+    public void charactersChanged(UUID projectId) {
+        mentionRepository.markCharactersChanged(projectId);
+    }
+
+    @Transactional
+    public CharacterAppearancesResponse findAppearances(UUID projectId, UUID characterId, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
+        var character = characterRepository.findByIdAndProjectId(characterId, projectId)
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+        ensureIndexed(projectId);
+
+        var chapters = mentionRepository.findAppearances(projectId, characterId).stream()
+                .map(appearance -> new CharacterAppearanceResponse(
+                        appearance.chapterId(),
+                        appearance.title(),
+                        appearance.orderIndex(),
+                        appearance.mentions(),
+                        appearance.firstOffset()))
+                .toList();
+        long mentions = chapters.stream().mapToLong(CharacterAppearanceResponse::mentions).sum();
+        return new CharacterAppearancesResponse(characterId, character.getName(), mentions, chapters);
+    }
+
+    @Transactional
+    public List<CharacterCoOccurrenceResponse> findCoOccurrences(UUID projectId, Integer limit, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
+        ensureIndexed(projectId);
+
+        var max = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        return mentionRepository.findCoOccurrences(projectId, max).stream()
+                .map(pair -> new CharacterCoOccurrenceResponse(
+                        pair.characterId(),
+                        pair.characterName(),
+                        pair.otherCharacterId(),
+                        pair.otherCharacterName(),
+                        pair.sharedChapters()))
+                .toList();
+    }
+
+    /**
+     * Rescans every chapter if characters changed since the index was last built.
+     */
+    private void ensureIndexed(UUID projectId) {
+        var outdated = mentionRepository.findOutdatedCharactersVersion(projectId);
+        if (outdated.isEmpty()) {
+            return;
+        }
+        // Names are read after the version: a change in between leaves the index outdated
+        var matcher = CharacterMentionMatcher.forNames(mentionRepository.findCharacterNames(projectId));
+        var chapterIds = proseAnalyticsRepository.findFingerprintsByProjectId(projectId).stream()
+                .map(ChapterFingerprint::id)
+                .toList();
+        for (int from = 0; from < chapterIds.size(); from += LOAD_BATCH_SIZE) {
+            var texts = proseAnalyticsRepository.findTexts(projectId,
+                    chapterIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, chapterIds.size())));
+            for (var text : texts) {
+                mentionRepository.replaceForChapter(projectId, text.id(), matcher.scan(text.id(), text.content()));
+            }
+        }
+        mentionRepository.markIndexed(projectId, outdated.getAsLong());
+        log.debug("Indexed character mentions in {} chapters of project {}", chapterIds.size(), projectId);
+    }
+
+    private void verifyProjectOwnership(UUID projectId, UUID userId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+    }
+}
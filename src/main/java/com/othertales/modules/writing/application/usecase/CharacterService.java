@@ -8,6 +8,7 @@ import com.othertales.modules.writing.application.port.CharacterRepository;
 import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.domain.Character;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,13 +22,19 @@ public class CharacterService {
     private final CharacterRepository characterRepository;
     private final ProjectRepository projectRepository;
     private final StoragePort storagePort;
+    private final QuickSearchService quickSearch;
+    private final CharacterMentionService characterMentions;
 
     public CharacterService(CharacterRepository characterRepository,
             ProjectRepository projectRepository,
-            StoragePort storagePort) {
+            StoragePort storagePort,
+            QuickSearchService quickSearch,
+            CharacterMentionService characterMentions) {
         this.characterRepository = characterRepository;
         this.projectRepository = projectRepository;
         this.storagePort = storagePort;
+        this.quickSearch = quickSearch;
+        this.characterMentions = characterMentions;
     }
 
     @Transactional(readOnly = true)
@@ -61,6 +68,8 @@ public class CharacterService {
                 request.imageUrl() // Fallback if no file is provided but URL string is
         );
         var saved = characterRepository.save(character);
+        quickSearch.characterSaved(saved);
+        characterMentions.charactersChanged(projectId);
 
         // 2. Upload Image (if present)
         if (imageDetails != null && imageDetails.length > 0) {
@@ -75,7 +84,7 @@ public class CharacterService {
                         saved.getDescription(),
                         saved.getPhysicalDescription(),
                         publicUrl);
-                characterRepository.save(saved);
+                saved = characterRepository.save(saved);
             } catch (Exception e) {
                 throw new RuntimeException("Failed to upload image, rolling back character creation", e);
             }
@@ -86,11 +95,12 @@ public class CharacterService {
 
     @Transactional
     public CharacterResponse updateCharacter(UUID characterId, UpdateCharacterRequest request, byte[] imageDetails,
-            String imageContentType, UUID userId) {
+            String imageContentType, Long expectedVersion, UUID userId) {
         var character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new RuntimeException("Character not found with id: " + characterId));
 
         verifyProjectOwnership(character.getProjectId(), userId);
+        verifyVersion(character, expectedVersion);
 
         String imageUrl = character.getImageUrl();
         // If new file provided, upload and update URL
@@ -109,6 +119,7 @@ public class CharacterService {
             imageUrl = request.imageUrl();
         }
 
+        var renamed = request.name() != null && !request.name().trim().equals(character.getName());
         character.update(
                 request.name(),
                 request.role(),
@@ -117,18 +128,25 @@ public class CharacterService {
                 imageUrl);
 
         var saved = characterRepository.save(character);
+        quickSearch.characterSaved(saved);
+        if (renamed) {
+            characterMentions.charactersChanged(saved.getProjectId());
+        }
         return toResponse(saved);
     }
 
     @Transactional
-    public void deleteCharacter(UUID characterId, UUID userId) {
-        var character = characterRepository.findById(characterId)
-                .orElseThrow(() -> new RuntimeException("Character not found with id: " + characterId));
-
-        verifyProjectOwnership(character.getProjectId(), userId);
+    public void deleteCharacter(UUID projectId, UUID characterId, Long expectedVersion, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
 
-        character.markAsDeleted();
-        characterRepository.save(character);
+        // One conditional UPDATE; the row is only read to tell a missing character from a stale one
+        if (!characterRepository.markDeleted(characterId, projectId, expectedVersion)) {
+            var character = characterRepository.findByIdAndProjectId(characterId, projectId)
+                    .orElseThrow(() -> new RuntimeException("Character not found with id: " + characterId));
+            throw new StaleVersionException("Character", characterId, expectedVersion, character.getVersion());
+        }
+        quickSearch.characterDeleted(projectId, characterId);
+        characterMentions.charactersChanged(projectId);
     }
 
     private void verifyProjectOwnership(UUID projectId, UUID userId) {
@@ -137,6 +155,16 @@ public class CharacterService {
         }
     }
 
+    /**
+     * If-Match check, made before any upload or write. The save then carries the same
+     * version, so a concurrent save in between still fails on the UPDATE's WHERE clause.
+     */
+    private void verifyVersion(Character character, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(character.getVersion())) {
+            throw new StaleVersionException("Character", character.getId(), expectedVersion, character.getVersion());
+        }
+    }
+
     private CharacterResponse toResponse(Character character) {
         return new CharacterResponse(
                 character.getId(),
@@ -147,6 +175,7 @@ public class CharacterService {
                 character.getPhysicalDescription(),
                 character.getImageUrl(),
                 character.getCreatedAt(),
-                character.getUpdatedAt());
+                character.getUpdatedAt(),
+                character.getVersion());
     }
 }
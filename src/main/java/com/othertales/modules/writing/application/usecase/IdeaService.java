@@ -7,6 +7,7 @@ import com.othertales.modules.writing.application.port.IdeaRepository;
 import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.domain.Idea;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,10 +20,13 @@ public class IdeaService {
 
     private final IdeaRepository ideaRepository;
     private final ProjectRepository projectRepository;
+    private final QuickSearchService quickSearch;
 
-    public IdeaService(IdeaRepository ideaRepository, ProjectRepository projectRepository) {
+    public IdeaService(IdeaRepository ideaRepository, ProjectRepository projectRepository,
+                       QuickSearchService quickSearch) {
         this.ideaRepository = ideaRepository;
         this.projectRepository = projectRepository;
+        this.quickSearch = quickSearch;
     }
 
     @Transactional(readOnly = true)
@@ -51,33 +55,38 @@ public class IdeaService {
                 request.content());
 
         var saved = ideaRepository.save(idea);
+        quickSearch.ideaSaved(saved);
         return toResponse(saved);
     }
 
     @Transactional
-    public IdeaResponse updateIdea(UUID ideaId, UpdateIdeaRequest request, UUID userId) {
+    public IdeaResponse updateIdea(UUID ideaId, UpdateIdeaRequest request, Long expectedVersion, UUID userId) {
         var idea = ideaRepository.findById(ideaId)
                 .orElseThrow(() -> new RuntimeException("Idea not found with id: " + ideaId));
 
         verifyProjectOwnership(idea.getProjectId(), userId);
+        verifyVersion(idea, expectedVersion);
 
         idea.update(
                 request.title(),
                 request.content());
 
         var saved = ideaRepository.save(idea);
+        quickSearch.ideaSaved(saved);
         return toResponse(saved);
     }
 
     @Transactional
-    public void deleteIdea(UUID ideaId, UUID userId) {
-        var idea = ideaRepository.findById(ideaId)
-                .orElseThrow(() -> new RuntimeException("Idea not found with id: " + ideaId));
-
-        verifyProjectOwnership(idea.getProjectId(), userId);
+    public void deleteIdea(UUID projectId, UUID ideaId, Long expectedVersion, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
 
-        idea.markAsDeleted();
-        ideaRepository.save(idea);
+        // One conditional UPDATE; the row is only read to tell a missing idea from a stale one
+        if (!ideaRepository.markDeleted(ideaId, projectId, expectedVersion)) {
+            var idea = ideaRepository.findByIdAndProjectId(ideaId, projectId)
+                    .orElseThrow(() -> new RuntimeException("Idea not found with id: " + ideaId));
+            throw new StaleVersionException("Idea", ideaId, expectedVersion, idea.getVersion());
+        }
+        quickSearch.ideaDeleted(projectId, ideaId);
     }
 
     private void verifyProjectOwnership(UUID projectId, UUID userId) {
@@ -86,6 +95,16 @@ public class IdeaService {
         }
     }
 
+    /**
+     * If-Match check; the save carries the same version, so a concurrent save in between
+     * still fails on the UPDATE's WHERE clause.
+     */
+    private void verifyVersion(Idea idea, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(idea.getVersion())) {
+            throw new StaleVersionException("Idea", idea.getId(), expectedVersion, idea.getVersion());
+        }
+    }
+
     private IdeaResponse toResponse(Idea idea) {
         return new IdeaResponse(
                 idea.getId(),
@@ -93,6 +112,7 @@ public class IdeaService {
                 idea.getTitle(),
                 idea.getContent(),
                 idea.getCreatedAt(),
-                idea.getUpdatedAt());
+                idea.getUpdatedAt(),
+                idea.getVersion());
     }
 }
@@ -0,0 +1,135 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ManuscriptExport;
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.ManuscriptRenderer;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.StoryRepository;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ExportFormat;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.UnsupportedExportFormatException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Exports a whole project as a single file: stories as front matter, chapters in
+ * outline order, characters as back matter.
+ */
+@Service
+public class ManuscriptExportService {
+
+    static final int MAX_MATTER_ITEMS = 500;
+    private static final int MAX_FILE_NAME_LENGTH = 80;
+
+    private final ProjectRepository projectRepository;
+    private final ChapterRepository chapterRepository;
+    private final StoryRepository storyRepository;
+    private final CharacterRepository characterRepository;
+    private final ChapterAutosaveCoalescer autosaveCoalescer;
+    private final Map<ExportFormat, ManuscriptRenderer> renderers = new EnumMap<>(ExportFormat.class);
+
+    public ManuscriptExportService(
+            ProjectRepository projectRepository,
+            ChapterRepository chapterRepository,
+            StoryRepository storyRepository,
+            CharacterRepository characterRepository,
+            ChapterAutosaveCoalescer autosaveCoalescer,
+            List<ManuscriptRenderer> renderers
+    ) {
+        this.projectRepository = projectRepository;
+        this.chapterRepository = chapterRepository;
+        this.storyRepository = storyRepository;
+        this.characterRepository = characterRepository;
+        this.autosaveCoalescer = autosaveCoalescer;
+        renderers.forEach(renderer -> this.renderers.put(renderer.format(), renderer));
+    }
+
+    /**
+     * Checks access and loads the outline, stories and characters eagerly. Chapter text is
+     * loaded one chapter at a time while the file is written, each in a short read of its
+     * own, so memory is bounded by the largest chapter rather than the whole book.
+     */
+    @Transactional(readOnly = true)
+    public ManuscriptExport exportProject(UUID projectId, String format, Locale locale, UUID userId) {
+        var exportFormat = ExportFormat.fromValue(format);
+        var renderer = renderers.get(exportFormat);
+        if (renderer == null) {
+            throw new UnsupportedExportFormatException(format);
+        }
+
+        var project = projectRepository.findByIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+        var outline = chapterRepository.findOutlineByProjectId(projectId);
+        var firstPage = PageRequest.of(0, MAX_MATTER_ITEMS, Sort.by("createdAt"));
+        var stories = storyRepository.findAllByProjectId(projectId, firstPage).getContent();
+        var characters = characterRepository.findAllByProjectId(projectId, firstPage).getContent();
+
+        var metadata = new ManuscriptMetadata(
+                project.getId(),
+                project.getTitle(),
+                project.getSynopsis(),
+                locale.toLanguageTag(),
+                project.getUpdatedAt()
+        );
+        return new ManuscriptExport(
+                fileName(project.getTitle(), exportFormat),
+                exportFormat,
+                output -> write(renderer, metadata, stories, outline, characters, output)
+        );
+    }
+
+    private void write(
+            ManuscriptRenderer renderer,
+            ManuscriptMetadata metadata,
+            List<Story> stories,
+            List<ChapterOutline> outline,
+            List<Character> characters,
+            OutputStream output
+    ) throws IOException {
+        try (var writer = renderer.open(output, metadata)) {
+            for (var story : stories) {
+                writer.writeStory(story);
+            }
+            for (var entry : outline) {
+                autosaveCoalescer.flush(entry.id());
+                var chapter = chapterRepository.findById(entry.id());
+                // Deleted since the outline was read
+                if (chapter.isPresent()) {
+                    writer.writeChapter(chapter.get().getTitle(), chapter.get().getContent());
+                }
+            }
+            for (var character : characters) {
+                writer.writeCharacter(character);
+            }
+        }
+        output.flush();
+    }
+
+    static String fileName(String title, ExportFormat format) {
+        var slug = Normalizer.normalize(title, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-|-$", "");
+        if (slug.length() > MAX_FILE_NAME_LENGTH) {
+            slug = slug.substring(0, MAX_FILE_NAME_LENGTH).replaceAll("-$", "");
+        }
+        return (slug.isEmpty() ? "manuscript" : slug) + "." + format.fileExtension();
+    }
+}
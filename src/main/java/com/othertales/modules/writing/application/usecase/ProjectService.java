@@ -9,6 +9,7 @@ import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.domain.Project;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
 import com.othertales.modules.writing.domain.ProjectStatus;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +27,11 @@ public class ProjectService {
     private static final int DEFAULT_TARGET_WORD_COUNT = 50000;
 
     private final ProjectRepository projectRepository;
+    private final QuickSearchService quickSearch;
 
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, QuickSearchService quickSearch) {
         this.projectRepository = projectRepository;
+        this.quickSearch = quickSearch;
     }
 
     @Transactional
@@ -73,9 +76,10 @@ public class ProjectService {
     }
 
     @Transactional
-    public ProjectResponse update(UUID projectId, UUID userId, UpdateProjectRequest request) {
+    public ProjectResponse update(UUID projectId, UUID userId, UpdateProjectRequest request, Long expectedVersion) {
         var project = projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
+        verifyVersion(project, expectedVersion);
 
         if (request.title() != null) {
             project.updateTitle(request.title());
@@ -102,12 +106,24 @@ public class ProjectService {
     }
 
     @Transactional
-    public void delete(UUID projectId, UUID userId) {
-        var project = projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+    public void delete(UUID projectId, UUID userId, Long expectedVersion) {
+        // One conditional UPDATE; the row is only read to tell a missing project from a stale one
+        if (!projectRepository.markDeleted(projectId, userId, expectedVersion)) {
+            var project = projectRepository.findByIdAndUserId(projectId, userId)
+                    .orElseThrow(() -> new ProjectNotFoundException(projectId));
+            throw new StaleVersionException("Project", projectId, expectedVersion, project.getVersion());
+        }
+        quickSearch.evict(projectId);
+    }
 
-        project.markAsDeleted();
-        projectRepository.save(project);
+    /**
+     * If-Match check; the save carries the same version, so a concurrent edit in between
+     * still fails on the UPDATE's WHERE clause. Chapter saves never bump this version.
+     */
+    private void verifyVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new StaleVersionException("Project", project.getId(), expectedVersion, project.getVersion());
+        }
     }
 
     private ProjectResponse toResponse(Project project) {
@@ -121,7 +137,8 @@ public class ProjectService {
                 project.getCoverUrl(),
                 project.getStatus().name(),
                 project.getCreatedAt(),
-                project.getUpdatedAt()
+                project.getUpdatedAt(),
+                project.getVersion()
         );
     }
 
@@ -0,0 +1,45 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.domain.ProseAnalyzer;
+import com.othertales.modules.writing.domain.ProseMetrics;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Analyzes a range of text, splitting it in two at a line break while it is longer than
+ * {@value #SPLIT_THRESHOLD} characters, so one long chapter also spreads over the pool.
+ */
+final class ProseAnalysisTask extends RecursiveTask<ProseMetrics> {
+
+    static final int SPLIT_THRESHOLD = 32 * 1024;
+
+    private final ProseAnalyzer analyzer;
+    private final String text;
+    private final int start;
+    private final int end;
+
+    ProseAnalysisTask(ProseAnalyzer analyzer, String text) {
+        this(analyzer, text, 0, text.length());
+    }
+
+    private ProseAnalysisTask(ProseAnalyzer analyzer, String text, int start, int end) {
+        this.analyzer = analyzer;
+        this.text = text;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected ProseMetrics compute() {
+        if (end - start > SPLIT_THRESHOLD) {
+            int middle = ProseAnalyzer.lineBoundary(text, start + (end - start) / 2, end);
+            if (middle < end) {
+                var left = new ProseAnalysisTask(analyzer, text, start, middle);
+                left.fork();
+                var right = new ProseAnalysisTask(analyzer, text, middle, end).compute();
+                return left.join().merge(right);
+            }
+        }
+        return analyzer.analyze(text, start, end);
+    }
+}
@@ -0,0 +1,219 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterProseReportResponse;
+import com.othertales.modules.writing.application.dto.ProjectProseReportResponse;
+import com.othertales.modules.writing.application.dto.ProseReportResponse;
+import com.othertales.modules.writing.application.dto.SentenceLengthBucketResponse;
+import com.othertales.modules.writing.application.dto.WordUsageResponse;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.ProseAnalyticsRepository;
+import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterFingerprint;
+import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.ProseAnalyzer;
+import com.othertales.modules.writing.domain.ProseMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Readability reports (sentence lengths, adverbs, dialogue, overused words) per chapter
+ * and per project.
+ *
+ * <p>Results are cached per chapter, keyed by the database's hash of its content and the
+ * analysis language, in an LRU cache bounded by estimated heap weight
+ * ({@code app.prose-analytics.cache-max-weight}). A report reads only the chapters'
+ * hashes first and loads, {@value #LOAD_BATCH_SIZE} at a time, the text of those not in
+ * the cache; unchanged chapters are never read nor analyzed again, and edits need no
+ * invalidation since they change the hash. Missing chapters are analyzed in parallel on a
+ * dedicated fork-join pool ({@code app.prose-analytics.parallelism}, default one thread
+ * per CPU), with long chapters split further by {@link ProseAnalysisTask}.
+ *
+ * <p>No transaction spans the analysis, so no connection is held while it runs. The cache
+ * lives in this instance only and, like {@link QuickSearchService}, does not see autosaves
+ * still waiting in {@link ChapterAutosaveCoalescer}.
+ */
+@Service
+public class ProseAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProseAnalyticsService.class);
+
+    static final int LOAD_BATCH_SIZE = 25;
+    static final int OVERUSED_WORDS = 10;
+    /** Words kept per cached chapter; project totals rank words by these counts. */
+    static final int TRACKED_WORDS_PER_CHAPTER = 200;
+
+    private final ProjectRepository projectRepository;
+    private final ProseAnalyticsRepository proseAnalyticsRepository;
+    private final ForkJoinPool pool;
+    private final long maxWeight;
+
+    /** Guards {@link #cache} and {@link #totalWeight}. */
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, ProseMetrics> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalWeight;
+
+    public ProseAnalyticsService(
+            ProjectRepository projectRepository,
+            ProseAnalyticsRepository proseAnalyticsRepository,
+            @Value("${app.prose-analytics.parallelism:0}") int parallelism,
+            @Value("${app.prose-analytics.cache-max-weight:32MB}") DataSize maxWeight
+    ) {
+        this.projectRepository = projectRepository;
+        this.proseAnalyticsRepository = proseAnalyticsRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxWeight = maxWeight.toBytes();
+    }
+
+    public ProjectProseReportResponse analyzeProject(UUID projectId, Locale locale, UUID userId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        var analyzer = ProseAnalyzer.forLocale(locale);
+        var chapters = proseAnalyticsRepository.findFingerprintsByProjectId(projectId);
+        var metrics = metrics(projectId, chapters, analyzer);
+
+        var totals = ProseMetrics.EMPTY;
+        var reports = new ArrayList<ChapterProseReportResponse>(chapters.size());
+        for (var chapter : chapters) {
+            var chapterMetrics = metrics.get(chapter.id());
+            if (chapterMetrics == null) {
+                // Deleted after its fingerprint was read
+                continue;
+            }
+            totals = totals.merge(chapterMetrics);
+            reports.add(toChapterReport(chapter, chapterMetrics));
+        }
+        return new ProjectProseReportResponse(projectId, analyzer.language(), toReport(totals), reports);
+    }
+
+    public ChapterProseReportResponse analyzeChapter(UUID chapterId, Locale locale, UUID userId) {
+        var chapter = proseAnalyticsRepository.findFingerprintById(chapterId)
+                .orElseThrow(() -> new ChapterNotFoundException(chapterId));
+        if (!projectRepository.existsByIdAndUserId(chapter.projectId(), userId)) {
+            throw new ChapterAccessDeniedException(chapter.projectId(), userId);
+        }
+        var metrics = metrics(chapter.projectId(), List.of(chapter), ProseAnalyzer.forLocale(locale))
+                .get(chapterId);
+        if (metrics == null) {
+            throw new ChapterNotFoundException(chapterId);
+        }
+        return toChapterReport(chapter, metrics);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Metrics by chapter id, from the cache or from analyzing the chapters missing in it.
+     */
+    private Map<UUID, ProseMetrics> metrics(UUID projectId, List<ChapterFingerprint> chapters, ProseAnalyzer analyzer) {
+        var result = new HashMap<UUID, ProseMetrics>(chapters.size() * 2);
+        var missing = new ArrayList<UUID>();
+        synchronized (lock) {
+            for (var chapter : chapters) {
+                var cached = cache.get(cacheKey(analyzer, chapter.contentHash()));
+                if (cached != null) {
+                    result.put(chapter.id(), cached);
+                } else {
+                    missing.add(chapter.id());
+                }
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += LOAD_BATCH_SIZE) {
+            var texts = proseAnalyticsRepository.findTexts(projectId,
+                    missing.subList(from, Math.min(from + LOAD_BATCH_SIZE, missing.size())));
+            var tasks = texts.stream()
+                    .map(text -> new ProseAnalysisTask(analyzer, text.content() == null ? "" : text.content()))
+                    .toList();
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+            synchronized (lock) {
+                for (int i = 0; i < texts.size(); i++) {
+                    var metrics = tasks.get(i).join().withTopWords(TRACKED_WORDS_PER_CHAPTER);
+                    // Keyed by the hash read with the text, which is newer than the
+                    // fingerprint if the chapter was saved in between
+                    put(cacheKey(analyzer, texts.get(i).contentHash()), metrics);
+                    result.put(texts.get(i).id(), metrics);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.debug("Analyzed {} of {} chapters of project {}", missing.size(), chapters.size(), projectId);
+        }
+        return result;
+    }
+
+    private void put(String key, ProseMetrics metrics) {
+        var previous = cache.put(key, metrics);
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += metrics.weight();
+        var iterator = cache.values().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            totalWeight -= iterator.next().weight();
+            iterator.remove();
+        }
+    }
+
+    private static String cacheKey(ProseAnalyzer analyzer, String contentHash) {
+        return analyzer.language() + ':' + contentHash;
+    }
+
+    private static ChapterProseReportResponse toChapterReport(ChapterFingerprint chapter, ProseMetrics metrics) {
+        return new ChapterProseReportResponse(chapter.id(), chapter.title(), chapter.orderIndex(), toReport(metrics));
+    }
+
+    private static ProseReportResponse toReport(ProseMetrics metrics) {
+        var lengths = metrics.sentenceLengths();
+        var limits = ProseMetrics.SENTENCE_BUCKET_LIMITS;
+        var buckets = new ArrayList<SentenceLengthBucketResponse>(lengths.length);
+        for (int i = 0; i < lengths.length; i++) {
+            buckets.add(new SentenceLengthBucketResponse(
+                    i == 0 ? 1 : limits[i - 1] + 1,
+                    i < limits.length ? limits[i] : null,
+                    lengths[i]));
+        }
+        var words = metrics.words();
+        var overused = metrics.topWords(OVERUSED_WORDS).stream()
+                .map(entry -> new WordUsageResponse(entry.getKey(), entry.getValue(),
+                        perThousand(entry.getValue(), words)))
+                .toList();
+        return new ProseReportResponse(
+                words,
+                metrics.sentences(),
+                round(metrics.averageSentenceLength()),
+                metrics.longestSentence(),
+                buckets,
+                metrics.adverbs(),
+                perThousand(metrics.adverbs(), words),
+                words == 0 ? 0 : round((double) metrics.dialogueWords() / words),
+                overused);
+    }
+
+    private static double perThousand(long count, long words) {
+        return words == 0 ? 0 : round(count * 1000.0 / words);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,380 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.QuickSearchHitResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.IdeaRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.InvalidSearchQueryException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.ProjectTermIndex;
+import com.othertales.modules.writing.domain.SearchDocumentType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Search-as-you-type for the editor's "jump to" box, answered from an in-memory
+ * {@link ProjectTermIndex} per project instead of the database.
+ *
+ * <p>An index is built on the first lookup of a project and kept in an LRU cache bounded
+ * by the indexes' estimated heap weight ({@code app.quick-search.max-weight}). The owning
+ * services report each committed save or delete, which is applied to the cached index
+ * in place; projects that are not cached are ignored and read fresh on their next build.
+ * A build that overlaps a save to its project is used once but not cached, so the cache
+ * never keeps text older than the database.
+ *
+ * <p>Commits can report out of order, so each cached document keeps the version it was
+ * indexed at and a report that is not newer is ignored. Deletes are kept as tombstones,
+ * since ids are never reused and a late save must not bring the document back.
+ *
+ * <p>The cache lives in this instance only, like {@link ChapterAutosaveCoalescer}, and
+ * does not see autosaves still waiting in that buffer.
+ */
+@Service
+public class QuickSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(QuickSearchService.class);
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+    static final int MAX_QUERY_LENGTH = 256;
+    private static final int LOAD_PAGE_SIZE = 500;
+    /** Tombstone version: newer than any save. */
+    private static final long DELETED = Long.MAX_VALUE;
+    // Rough heap cost of one versions entry: map node, boxed UUID key and Long value
+    private static final long VERSION_ENTRY_BYTES = 96;
+
+    private final ProjectRepository projectRepository;
+    private final ChapterRepository chapterRepository;
+    private final CharacterRepository characterRepository;
+    private final IdeaRepository ideaRepository;
+    private final long maxWeight;
+
+    /** Guards {@link #cache}, {@link #builds} and the weight accounting. */
+    private final Object lock = new Object();
+    private final LinkedHashMap<UUID, CachedIndex> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, Build> builds = new HashMap<>();
+    private long totalWeight;
+
+    public QuickSearchService(
+            ProjectRepository projectRepository,
+            ChapterRepository chapterRepository,
+            CharacterRepository characterRepository,
+            IdeaRepository ideaRepository,
+            @Value("${app.quick-search.max-weight:64MB}") DataSize maxWeight
+    ) {
+        this.projectRepository = projectRepository;
+        this.chapterRepository = chapterRepository;
+        this.characterRepository = characterRepository;
+        this.ideaRepository = ideaRepository;
+        this.maxWeight = maxWeight.toBytes();
+    }
+
+    public List<QuickSearchHitResponse> search(UUID projectId, String query, Integer limit, UUID userId) {
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        CachedIndex cached;
+        synchronized (lock) {
+            cached = cache.get(projectId);
+        }
+        if (cached == null) {
+            cached = load(projectId, userId);
+        } else if (!cached.ownerId.equals(userId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        var max = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        List<ProjectTermIndex.Document> documents;
+        cached.rw.readLock().lock();
+        try {
+            documents = cached.index.search(query, max);
+        } finally {
+            cached.rw.readLock().unlock();
+        }
+        return documents.stream()
+                .map(document -> new QuickSearchHitResponse(document.type().name(), document.id(), document.title()))
+                .toList();
+    }
+
+    public void chapterSaved(Chapter chapter) {
+        update(chapter.getProjectId(), chapter.getId(), chapter.getVersion(), index -> index.put(
+                new ProjectTermIndex.Document(SearchDocumentType.CHAPTER, chapter.getId(), chapter.getTitle()),
+                chapter.getContent()));
+    }
+
+    public void chapterDeleted(UUID projectId, UUID chapterId) {
+        update(projectId, chapterId, DELETED, index -> index.remove(chapterId));
+    }
+
+    /**
+     * Indexes the character, or drops it once soft-deleted.
+     */
+    public void characterSaved(Character character) {
+        if (character.isDeleted()) {
+            characterDeleted(character.getProjectId(), character.getId());
+            return;
+        }
+        update(character.getProjectId(), character.getId(), character.getVersion(),
+                index -> index.put(document(character), characterBody(character)));
+    }
+
+    public void characterDeleted(UUID projectId, UUID characterId) {
+        update(projectId, characterId, DELETED, index -> index.remove(characterId));
+    }
+
+    /**
+     * Indexes the idea, or drops it once soft-deleted.
+     */
+    public void ideaSaved(Idea idea) {
+        if (idea.isDeleted()) {
+            ideaDeleted(idea.getProjectId(), idea.getId());
+            return;
+        }
+        update(idea.getProjectId(), idea.getId(), idea.getVersion(), index -> index.put(
+                new ProjectTermIndex.Document(SearchDocumentType.IDEA, idea.getId(), idea.getTitle()),
+                idea.getContent()));
+    }
+
+    public void ideaDeleted(UUID projectId, UUID ideaId) {
+        update(projectId, ideaId, DELETED, index -> index.remove(ideaId));
+    }
+
+    /**
+     * Drops the project's index, for deletes and bulk changes that are cheaper to rebuild
+     * on the next lookup than to apply one by one.
+     */
+    public void evict(UUID projectId) {
+        afterCommit(() -> {
+            synchronized (lock) {
+                invalidateBuild(projectId);
+                var removed = cache.remove(projectId);
+                if (removed != null) {
+                    totalWeight -= removed.accountedWeight;
+                }
+            }
+        });
+    }
+
+    private CachedIndex load(UUID projectId, UUID userId) {
+        var project = projectRepository.findByIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+
+        Build build;
+        synchronized (lock) {
+            build = builds.computeIfAbsent(projectId, id -> new Build());
+            build.builders++;
+        }
+
+        var index = new ProjectTermIndex();
+        var versions = new HashMap<UUID, Long>();
+        try {
+            buildIndex(projectId, index, versions);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                release(projectId, build);
+            }
+            throw e;
+        }
+
+        var built = new CachedIndex(project.getUserId(), index, versions);
+        synchronized (lock) {
+            // Released together with caching, so no save can slip in between unnoticed
+            release(projectId, build);
+            var existing = cache.get(projectId);
+            if (existing != null) {
+                return existing;
+            }
+            if (!build.invalidated) {
+                built.accountedWeight = built.weight;
+                cache.put(projectId, built);
+                totalWeight += built.weight;
+                evictOverweight(projectId);
+            }
+        }
+        log.debug("Built quick search index for project {}: {} documents, ~{} bytes",
+                projectId, index.size(), built.weight);
+        return built;
+    }
+
+    private void buildIndex(UUID projectId, ProjectTermIndex index, Map<UUID, Long> versions) {
+        for (var chapter : chapterRepository.findByProjectIdOrderByOrderIndex(projectId)) {
+            index.put(new ProjectTermIndex.Document(SearchDocumentType.CHAPTER, chapter.getId(), chapter.getTitle()),
+                    chapter.getContent());
+            putVersion(versions, chapter.getId(), chapter.getVersion());
+        }
+        for (var page = PageRequest.ofSize(LOAD_PAGE_SIZE); ; page = page.next()) {
+            var characters = characterRepository.findAllByProjectId(projectId, page);
+            characters.filter(character -> !character.isDeleted())
+                    .forEach(character -> {
+                        index.put(document(character), characterBody(character));
+                        putVersion(versions, character.getId(), character.getVersion());
+                    });
+            if (!characters.hasNext()) {
+                break;
+            }
+        }
+        for (var page = PageRequest.ofSize(LOAD_PAGE_SIZE); ; page = page.next()) {
+            var ideas = ideaRepository.findAllByProjectId(projectId, page);
+            ideas.filter(idea -> !idea.isDeleted())
+                    .forEach(idea -> {
+                        index.put(new ProjectTermIndex.Document(SearchDocumentType.IDEA, idea.getId(), idea.getTitle()),
+                                idea.getContent());
+                        putVersion(versions, idea.getId(), idea.getVersion());
+                    });
+            if (!ideas.hasNext()) {
+                break;
+            }
+        }
+    }
+
+    private static void putVersion(Map<UUID, Long> versions, UUID documentId, Long version) {
+        if (version != null) {
+            versions.put(documentId, version);
+        }
+    }
+
+    /**
+     * Applies {@code change} after commit unless the cached document is already at
+     * {@code version} or newer. A null version (never saved) is always applied.
+     */
+    private void update(UUID projectId, UUID documentId, Long version, Consumer<ProjectTermIndex> change) {
+        afterCommit(() -> {
+            CachedIndex cached;
+            synchronized (lock) {
+                invalidateBuild(projectId);
+                cached = cache.get(projectId);
+            }
+            if (cached == null) {
+                return;
+            }
+            cached.rw.writeLock().lock();
+            try {
+                var indexed = cached.versions.get(documentId);
+                if (version != null && indexed != null && indexed >= version) {
+                    return;
+                }
+                change.accept(cached.index);
+                putVersion(cached.versions, documentId, version);
+                cached.weight = cached.weight();
+            } finally {
+                cached.rw.writeLock().unlock();
+            }
+            synchronized (lock) {
+                if (cache.get(projectId) == cached) {
+                    totalWeight += cached.weight - cached.accountedWeight;
+                    cached.accountedWeight = cached.weight;
+                    evictOverweight(projectId);
+                }
+            }
+        });
+    }
+
+    private void release(UUID projectId, Build build) {
+        if (--build.builders == 0) {
+            builds.remove(projectId);
+        }
+    }
+
+    private void invalidateBuild(UUID projectId) {
+        var build = builds.get(projectId);
+        if (build != null) {
+            build.invalidated = true;
+        }
+    }
+
+    /**
+     * Drops least recently used indexes until the cache fits, keeping the one just used
+     * unless it alone is over the limit.
+     */
+    private void evictOverweight(UUID current) {
+        var iterator = cache.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().equals(current) && cache.size() > 1) {
+                continue;
+            }
+            totalWeight -= entry.getValue().accountedWeight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Defers index changes until the surrounding transaction commits, so a rollback
+     * never leaves text in the index that is not in the database.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static ProjectTermIndex.Document document(Character character) {
+        return new ProjectTermIndex.Document(SearchDocumentType.CHARACTER, character.getId(), character.getName());
+    }
+
+    private static String characterBody(Character character) {
+        return String.join("\n",
+                nullToEmpty(character.getRole()),
+                nullToEmpty(character.getDescription()),
+                nullToEmpty(character.getPhysicalDescription()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static final class CachedIndex {
+
+        private final UUID ownerId;
+        private final ProjectTermIndex index;
+        /** Version each document was indexed at, or {@link #DELETED}; guarded by {@code rw}. */
+        private final Map<UUID, Long> versions;
+        private final ReadWriteLock rw = new ReentrantReadWriteLock();
+        private volatile long weight;
+        /** Weight currently counted in {@code totalWeight}; guarded by {@code lock}. */
+        private long accountedWeight;
+
+        private CachedIndex(UUID ownerId, ProjectTermIndex index, Map<UUID, Long> versions) {
+            this.ownerId = ownerId;
+            this.index = index;
+            this.versions = versions;
+            this.weight = weight();
+        }
+
+        private long weight() {
+            return index.weight() + versions.size() * VERSION_ENTRY_BYTES;
+        }
+    }
+
+    private static final class Build {
+
+        private int builders;
+        private boolean invalidated;
+    }
+}
@@ -0,0 +1,132 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.RepeatedPhraseResponse;
+import com.othertales.modules.writing.application.dto.RepeatedPhrasesResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.ProseAnalyzer;
+import com.othertales.modules.writing.domain.RepeatedPhrase;
+import com.othertales.modules.writing.domain.RepeatedPhraseDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Phrases of three to six words repeated across a manuscript ("a cold shiver ran down").
+ *
+ * <p>A pass streams every chapter's content through a {@link RepeatedPhraseDetector} in the
+ * bounded pieces of {@link ChapterContentReader}, so neither a whole chapter nor the
+ * manuscript is ever held in memory. The detector's tables are sized from
+ * {@code app.repeated-phrases.max-memory}: three quarters for n-gram counts and the rest
+ * for the text of repeated phrases. At most {@value #MAX_CONCURRENT_PASSES} passes run at
+ * once, which bounds the total to that many budgets; further requests wait.
+ *
+ * <p>The {@value #MAX_LIMIT} top phrases of a pass are cached per project and language
+ * along with the project's chapters version, which every chapter save, move, import or
+ * delete bumps; a cached result is served only while that version is unchanged, so no
+ * explicit invalidation is needed. A pass is cached under the version read before it
+ * started, so a save made meanwhile forces a new pass on the next request.
+ */
+@Service
+public class RepeatedPhraseService {
+
+    private static final Logger log = LoggerFactory.getLogger(RepeatedPhraseService.class);
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+    static final int DEFAULT_MIN_OCCURRENCES = 2;
+    static final int MAX_CONCURRENT_PASSES = 2;
+    static final int MAX_CACHED_PROJECTS = 256;
+    // Text table slots plus a short phrase String, per repeated phrase kept
+    private static final int PHRASE_BYTES = 128;
+
+    private final ProjectRepository projectRepository;
+    private final ChapterRepository chapterRepository;
+    private final ChapterContentReader contentReader;
+    private final int countSlots;
+    private final int maxPhrases;
+    private final Semaphore passes = new Semaphore(MAX_CONCURRENT_PASSES, true);
+
+    /** Guards {@link #cache}. */
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, CachedPhrases> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    public RepeatedPhraseService(
+            ProjectRepository projectRepository,
+            ChapterRepository chapterRepository,
+            ChapterContentReader contentReader,
+            @Value("${app.repeated-phrases.max-memory:16MB}") DataSize maxMemory
+    ) {
+        this.projectRepository = projectRepository;
+        this.chapterRepository = chapterRepository;
+        this.contentReader = contentReader;
+        long budget = maxMemory.toBytes();
+        this.countSlots = Integer.highestOneBit((int) Math.clamp(budget * 3 / 4 / RepeatedPhraseDetector.SLOT_BYTES,
+                1024, 1 << 30));
+        this.maxPhrases = (int) Math.clamp(budget / 4 / PHRASE_BYTES, MAX_LIMIT, 1 << 20);
+    }
+
+    public RepeatedPhrasesResponse findRepeatedPhrases(UUID projectId, Integer minOccurrences, Integer limit,
+                                                       Locale locale, UUID userId) {
+        var chaptersVersion = projectRepository.findChaptersVersion(projectId, userId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+        var analyzer = ProseAnalyzer.forLocale(locale);
+        var key = projectId + ":" + analyzer.language();
+
+        List<RepeatedPhrase> phrases;
+        synchronized (lock) {
+            var cached = cache.get(key);
+            phrases = cached != null && cached.chaptersVersion() == chaptersVersion ? cached.phrases() : null;
+        }
+        if (phrases == null) {
+            phrases = detect(projectId, analyzer);
+            synchronized (lock) {
+                cache.put(key, new CachedPhrases(chaptersVersion, phrases));
+                var iterator = cache.values().iterator();
+                while (cache.size() > MAX_CACHED_PROJECTS) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+
+        int min = minOccurrences == null ? DEFAULT_MIN_OCCURRENCES : Math.max(minOccurrences, DEFAULT_MIN_OCCURRENCES);
+        int max = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        var response = phrases.stream()
+                .filter(phrase -> phrase.occurrences() >= min)
+                .limit(max)
+                .map(phrase -> new RepeatedPhraseResponse(phrase.phrase(), phrase.words(), phrase.occurrences()))
+                .toList();
+        return new RepeatedPhrasesResponse(projectId, analyzer.language(), response);
+    }
+
+    private List<RepeatedPhrase> detect(UUID projectId, ProseAnalyzer analyzer) {
+        passes.acquireUninterruptibly();
+        try {
+            var detector = new RepeatedPhraseDetector(analyzer, countSlots, maxPhrases);
+            var chapters = chapterRepository.findOutlineByProjectId(projectId);
+            for (var chapter : chapters) {
+                // Stops early if the chapter was saved or deleted since the outline was
+                // read; the rest of it is skipped and the result is not served again
+                contentReader.read(chapter.id(), chapter.version(), detector::accept);
+                detector.endDocument();
+            }
+            log.debug("Scanned {} chapters of project {} for repeated phrases", chapters.size(), projectId);
+            return detector.result(DEFAULT_MIN_OCCURRENCES, MAX_LIMIT);
+        } finally {
+            passes.release();
+        }
+    }
+
+    private record CachedPhrases(long chaptersVersion, List<RepeatedPhrase> phrases) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.SearchHitResponse;
+import com.othertales.modules.writing.application.dto.SearchResultsResponse;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.SearchRepository;
+import com.othertales.modules.writing.domain.InvalidSearchQueryException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.SearchCursor;
+import com.othertales.modules.writing.domain.SearchHit;
+import com.othertales.modules.writing.domain.SearchLanguage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+public class SearchService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 50;
+    static final int MAX_QUERY_LENGTH = 256;
+
+    private final SearchRepository searchRepository;
+    private final ProjectRepository projectRepository;
+
+    public SearchService(SearchRepository searchRepository, ProjectRepository projectRepository) {
+        this.searchRepository = searchRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Ranked hits across the caller's projects, or one project when {@code projectId} is given.
+     * Pages are keyset-based: {@code nextCursor} is null on the last page.
+     * Chapter text still waiting in the autosave buffer is not searchable until it is flushed.
+     */
+    @Transactional(readOnly = true)
+    public SearchResultsResponse search(String query, UUID projectId, String cursor, Integer size,
+                                        Locale locale, UUID userId) {
+        var terms = query == null ? "" : query.strip();
+        if (terms.isEmpty() || terms.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("Search query must be 1-" + MAX_QUERY_LENGTH + " characters");
+        }
+        var after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+        var limit = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        if (projectId != null && !projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        // One extra row tells whether another page follows
+        var hits = searchRepository.search(userId, projectId, terms, SearchLanguage.fromLocale(locale), after, limit + 1);
+        var page = hits.size() > limit ? hits.subList(0, limit) : hits;
+        var nextCursor = hits.size() > limit ? page.getLast().cursor().encode() : null;
+
+        return new SearchResultsResponse(page.stream().map(SearchService::toResponse).toList(), nextCursor);
+    }
+
+    private static SearchHitResponse toResponse(SearchHit hit) {
+        return new SearchHitResponse(
+                hit.type().name(),
+                hit.id(),
+                hit.projectId(),
+                hit.title(),
+                highlight(hit.snippet()),
+                hit.rank());
+    }
+
+    /**
+     * Escapes the user text and turns the highlight markers into {@code <mark>} tags,
+     * so clients can render the snippet as HTML.
+     */
+    static String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(String.valueOf(SearchHit.HIGHLIGHT_START), "<mark>")
+                .replace(String.valueOf(SearchHit.HIGHLIGHT_END), "</mark>");
+    }
+}
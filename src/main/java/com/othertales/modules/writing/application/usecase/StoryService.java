@@ -7,6 +7,7 @@ import com.othertales.modules.writing.application.dto.UpdateStoryRequest;
 import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.application.port.StoryRepository;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import com.othertales.modules.writing.domain.Story;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -73,7 +74,7 @@ public class StoryService {
                         saved.getSecondaryPlots(),
                         saved.getOthers(),
                         publicUrl);
-                storyRepository.save(saved);
+                saved = storyRepository.save(saved);
             } catch (Exception e) {
                 throw new RuntimeException("Failed to upload image, rolling back story creation", e);
             }
@@ -84,11 +85,12 @@ public class StoryService {
 
     @Transactional
     public StoryResponse updateStory(UUID storyId, UpdateStoryRequest request, byte[] imageDetails,
-            String imageContentType, UUID userId) {
+            String imageContentType, Long expectedVersion, UUID userId) {
         var story = storyRepository.findById(storyId)
                 .orElseThrow(() -> new RuntimeException("Story not found with id: " + storyId));
 
         verifyProjectOwnership(story.getProjectId(), userId);
+        verifyVersion(story, expectedVersion);
 
         String imageUrl = story.getImageUrl();
         if (imageDetails != null && imageDetails.length > 0) {
@@ -116,14 +118,15 @@ public class StoryService {
     }
 
     @Transactional
-    public void deleteStory(UUID storyId, UUID userId) {
-        var story = storyRepository.findById(storyId)
-                .orElseThrow(() -> new RuntimeException("Story not found with id: " + storyId));
-
-        verifyProjectOwnership(story.getProjectId(), userId);
+    public void deleteStory(UUID projectId, UUID storyId, Long expectedVersion, UUID userId) {
+        verifyProjectOwnership(projectId, userId);
 
-        story.markAsDeleted();
-        storyRepository.save(story);
+        // One conditional UPDATE; the row is only read to tell a missing story from a stale one
+        if (!storyRepository.markDeleted(storyId, projectId, expectedVersion)) {
+            var story = storyRepository.findByIdAndProjectId(storyId, projectId)
+                    .orElseThrow(() -> new RuntimeException("Story not found with id: " + storyId));
+            throw new StaleVersionException("Story", storyId, expectedVersion, story.getVersion());
+        }
     }
 
     private void verifyProjectOwnership(UUID projectId, UUID userId) {
@@ -132,6 +135,16 @@ public class StoryService {
         }
     }
 
+    /**
+     * If-Match check, made before any upload or write. The save then carries the same
+     * version, so a concurrent save in between still fails on the UPDATE's WHERE clause.
+     */
+    private void verifyVersion(Story story, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(story.getVersion())) {
+            throw new StaleVersionException("Story", story.getId(), expectedVersion, story.getVersion());
+        }
+    }
+
     private StoryResponse toResponse(Story story) {
         return new StoryResponse(
                 story.getId(),
@@ -143,6 +156,7 @@ public class StoryService {
                 story.getOthers(),
                 story.getImageUrl(),
                 story.getCreatedAt(),
-                story.getUpdatedAt());
+                story.getUpdatedAt(),
+                story.getVersion());
     }
 }
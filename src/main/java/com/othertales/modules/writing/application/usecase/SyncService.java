@@ -0,0 +1,192 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.CharacterResponse;
+import com.othertales.modules.writing.application.dto.IdeaResponse;
+import com.othertales.modules.writing.application.dto.ProjectResponse;
+import com.othertales.modules.writing.application.dto.StoryResponse;
+import com.othertales.modules.writing.application.dto.SyncChapterResponse;
+import com.othertales.modules.writing.application.dto.SyncDeletionResponse;
+import com.othertales.modules.writing.application.dto.SyncResponse;
+import com.othertales.modules.writing.application.port.SyncRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.SyncCursor;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta sync for offline clients: everything of the caller's that was created, updated
+ * or deleted after a cursor.
+ *
+ * <p>Rows carry the id of the transaction that last wrote them as {@code change_seq}.
+ * A page covers the changes after the cursor up to a bound, read in one snapshot, and
+ * the bound becomes the next cursor. Only changes below the snapshot's horizon, the
+ * oldest transaction still running, are served, so a transaction committing after the
+ * page cannot have written below its bound. A page holds about {@code limit} changes
+ * but never splits one transaction, whose changes a client can then apply together.
+ */
+@Service
+public class SyncService {
+
+    static final int DEFAULT_LIMIT = 200;
+    static final int MAX_LIMIT = 1000;
+
+    private final SyncRepository syncRepository;
+
+    public SyncService(SyncRepository syncRepository) {
+        this.syncRepository = syncRepository;
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponse changesSince(String cursor, Integer limit, UUID userId) {
+        var after = SyncCursor.decode(cursor).changeSeq();
+        var max = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+
+        long horizon = syncRepository.findHorizon();
+        var seqs = syncRepository.findChangeSeqs(userId, after, horizon, max + 1);
+        boolean hasMore = seqs.size() > max;
+        long upTo;
+        if (!hasMore) {
+            // Everything below the horizon is final, so the next sync can start there
+            upTo = Math.max(after, horizon - 1);
+        } else {
+            long next = seqs.get(max);
+            // End before the transaction the limit falls in, unless it is the first one
+            upTo = next > seqs.getFirst() ? next - 1 : next;
+        }
+        if (seqs.isEmpty()) {
+            return emptyPage(new SyncCursor(upTo).encode());
+        }
+
+        var deleted = new ArrayList<SyncDeletionResponse>();
+        var projects = new ArrayList<ProjectResponse>();
+        for (var project : syncRepository.findProjects(userId, after, upTo)) {
+            if (project.isDeleted()) {
+                deleted.add(deletion(SyncEntityType.PROJECT, project.getId(), project.getId()));
+            } else {
+                projects.add(toResponse(project));
+            }
+        }
+        var chapters = syncRepository.findChapters(userId, after, upTo).stream()
+                .map(this::toResponse)
+                .toList();
+        var stories = new ArrayList<StoryResponse>();
+        for (var story : syncRepository.findStories(userId, after, upTo)) {
+            if (story.isDeleted()) {
+                deleted.add(deletion(SyncEntityType.STORY, story.getId(), story.getProjectId()));
+            } else {
+                stories.add(toResponse(story));
+            }
+        }
+        var characters = new ArrayList<CharacterResponse>();
+        for (var character : syncRepository.findCharacters(userId, after, upTo)) {
+            if (character.isDeleted()) {
+                deleted.add(deletion(SyncEntityType.CHARACTER, character.getId(), character.getProjectId()));
+            } else {
+                characters.add(toResponse(character));
+            }
+        }
+        var ideas = new ArrayList<IdeaResponse>();
+        for (var idea : syncRepository.findIdeas(userId, after, upTo)) {
+            if (idea.isDeleted()) {
+                deleted.add(deletion(SyncEntityType.IDEA, idea.getId(), idea.getProjectId()));
+            } else {
+                ideas.add(toResponse(idea));
+            }
+        }
+        for (var tombstone : syncRepository.findTombstones(userId, after, upTo)) {
+            deleted.add(deletion(tombstone.type(), tombstone.id(), tombstone.projectId()));
+        }
+
+        return new SyncResponse(new SyncCursor(upTo).encode(), hasMore, projects, chapters, stories, characters,
+                ideas, deleted);
+    }
+
+    private static SyncResponse emptyPage(String cursor) {
+        return new SyncResponse(cursor, false, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    private static SyncDeletionResponse deletion(SyncEntityType type, UUID id, UUID projectId) {
+        return new SyncDeletionResponse(type.name(), id, projectId);
+    }
+
+    private ProjectResponse toResponse(Project project) {
+        return new ProjectResponse(
+                project.getId(),
+                project.getTitle(),
+                project.getSynopsis(),
+                project.getGenre(),
+                project.getCurrentWordCount(),
+                project.getTargetWordCount(),
+                project.getCoverUrl(),
+                project.getStatus().name(),
+                project.getCreatedAt(),
+                project.getUpdatedAt(),
+                project.getVersion()
+        );
+    }
+
+    private SyncChapterResponse toResponse(Chapter chapter) {
+        return new SyncChapterResponse(
+                chapter.getId(),
+                chapter.getProjectId(),
+                chapter.getTitle(),
+                chapter.getContent(),
+                chapter.getOrderKey(),
+                chapter.getWordCount(),
+                chapter.getStatus().name(),
+                chapter.getCreatedAt(),
+                chapter.getUpdatedAt(),
+                chapter.getVersion()
+        );
+    }
+
+    private StoryResponse toResponse(Story story) {
+        return new StoryResponse(
+                story.getId(),
+                story.getProjectId(),
+                story.getTitle(),
+                story.getSynopsis(),
+                story.getTheme(),
+                story.getSecondaryPlots(),
+                story.getOthers(),
+                story.getImageUrl(),
+                story.getCreatedAt(),
+                story.getUpdatedAt(),
+                story.getVersion());
+    }
+
+    private CharacterResponse toResponse(Character character) {
+        return new CharacterResponse(
+                character.getId(),
+                character.getProjectId(),
+                character.getName(),
+                character.getRole(),
+                character.getDescription(),
+                character.getPhysicalDescription(),
+                character.getImageUrl(),
+                character.getCreatedAt(),
+                character.getUpdatedAt(),
+                character.getVersion());
+    }
+
+    private IdeaResponse toResponse(Idea idea) {
+        return new IdeaResponse(
+                idea.getId(),
+                idea.getProjectId(),
+                idea.getTitle(),
+                idea.getContent(),
+                idea.getCreatedAt(),
+                idea.getUpdatedAt(),
+                idea.getVersion());
+    }
+}
@@ -0,0 +1,208 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterIndexResponse;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
+import com.othertales.modules.writing.application.dto.CharacterResponse;
+import com.othertales.modules.writing.application.dto.IdeaResponse;
+import com.othertales.modules.writing.application.dto.ProjectResponse;
+import com.othertales.modules.writing.application.dto.StoryResponse;
+import com.othertales.modules.writing.application.dto.WorkspaceResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.IdeaRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.StoryRepository;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.Story;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The whole project in one request, for opening it in the app.
+ *
+ * <p>Ownership is checked once, by loading the project itself. The chapter outline,
+ * stories, characters and ideas are then read at the same time, each on a virtual thread
+ * of its own. A query holds a pool connection while it runs, so at most
+ * {@code app.workspace.max-concurrent-queries} of them run at once across all requests,
+ * leaving the rest of the small pool to other traffic; further queries wait for a permit.
+ *
+ * <p>Not transactional on purpose: the request thread would hold a connection while it
+ * waits for the queries, which could then starve on a full pool. Each query reads its
+ * own snapshot, so a save landing between them may show in some lists only, as it would
+ * across separate requests.
+ */
+@Service
+public class WorkspaceService {
+
+    private static final Pageable ALL = Pageable.unpaged(Sort.by("createdAt"));
+
+    private final ProjectRepository projectRepository;
+    private final ChapterRepository chapterRepository;
+    private final StoryRepository storyRepository;
+    private final CharacterRepository characterRepository;
+    private final IdeaRepository ideaRepository;
+    private final Semaphore connections;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public WorkspaceService(
+            ProjectRepository projectRepository,
+            ChapterRepository chapterRepository,
+            StoryRepository storyRepository,
+            CharacterRepository characterRepository,
+            IdeaRepository ideaRepository,
+            @Value("${app.workspace.max-concurrent-queries:3}") int maxConcurrentQueries
+    ) {
+        this.projectRepository = projectRepository;
+        this.chapterRepository = chapterRepository;
+        this.storyRepository = storyRepository;
+        this.characterRepository = characterRepository;
+        this.ideaRepository = ideaRepository;
+        this.connections = new Semaphore(Math.max(maxConcurrentQueries, 1), true);
+    }
+
+    public WorkspaceResponse getWorkspace(UUID projectId, UUID userId) {
+        var project = projectRepository.findByIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+
+        var outline = fetch(() -> chapterRepository.findOutlineByProjectId(projectId));
+        var stories = fetch(() -> storyRepository.findAllByProjectId(projectId, ALL).getContent());
+        var characters = fetch(() -> characterRepository.findAllByProjectId(projectId, ALL).getContent());
+        var ideas = fetch(() -> ideaRepository.findAllByProjectId(projectId, ALL).getContent());
+        try {
+            return new WorkspaceResponse(
+                    toResponse(project),
+                    toIndexResponse(projectId, join(outline)),
+                    join(stories).stream().map(this::toResponse).toList(),
+                    join(characters).stream().map(this::toResponse).toList(),
+                    join(ideas).stream().map(this::toResponse).toList());
+        } catch (RuntimeException e) {
+            // Nobody will read the others: free their permits for other requests
+            for (var pending : List.of(outline, stories, characters, ideas)) {
+                pending.cancel(true);
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> fetch(Callable<T> query) {
+        return executor.submit(() -> {
+            connections.acquire();
+            try {
+                return query.call();
+            } finally {
+                connections.release();
+            }
+        });
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the workspace", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not load the workspace", e.getCause());
+        }
+    }
+
+    private ChapterIndexResponse toIndexResponse(UUID projectId, List<ChapterOutline> outline) {
+        var chapters = outline.stream()
+                .map(this::toSummaryResponse)
+                .toList();
+        var totalWordCount = chapters.stream().mapToLong(ChapterSummaryResponse::wordCount).sum();
+        return new ChapterIndexResponse(projectId, chapters, chapters.size(), totalWordCount);
+    }
+
+    private ChapterSummaryResponse toSummaryResponse(ChapterOutline outline) {
+        return new ChapterSummaryResponse(
+                outline.id(),
+                outline.title(),
+                outline.orderIndex(),
+                outline.wordCount(),
+                outline.status().name(),
+                outline.version(),
+                outline.updatedAt()
+        );
+    }
+
+    private ProjectResponse toResponse(Project project) {
+        return new ProjectResponse(
+                project.getId(),
+                project.getTitle(),
+                project.getSynopsis(),
+                project.getGenre(),
+                project.getCurrentWordCount(),
+                project.getTargetWordCount(),
+                project.getCoverUrl(),
+                project.getStatus().name(),
+                project.getCreatedAt(),
+                project.getUpdatedAt(),
+                project.getVersion()
+        );
+    }
+
+    private StoryResponse toResponse(Story story) {
+        return new StoryResponse(
+                story.getId(),
+                story.getProjectId(),
+                story.getTitle(),
+                story.getSynopsis(),
+                story.getTheme(),
+                story.getSecondaryPlots(),
+                story.getOthers(),
+                story.getImageUrl(),
+                story.getCreatedAt(),
+                story.getUpdatedAt(),
+                story.getVersion());
+    }
+
+    private CharacterResponse toResponse(Character character) {
+        return new CharacterResponse(
+                character.getId(),
+                character.getProjectId(),
+                character.getName(),
+                character.getRole(),
+                character.getDescription(),
+                character.getPhysicalDescription(),
+                character.getImageUrl(),
+                character.getCreatedAt(),
+                character.getUpdatedAt(),
+                character.getVersion());
+    }
+
+    private IdeaResponse toResponse(Idea idea) {
+        return new IdeaResponse(
+                idea.getId(),
+                idea.getProjectId(),
+                idea.getTitle(),
+                idea.getContent(),
+                idea.getCreatedAt(),
+                idea.getUpdatedAt(),
+                idea.getVersion());
+    }
+}
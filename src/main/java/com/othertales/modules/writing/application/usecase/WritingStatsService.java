@@ -0,0 +1,112 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.WritingStatsPointResponse;
+import com.othertales.modules.writing.application.dto.WritingStatsResponse;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.WritingStatsRepository;
+import com.othertales.modules.writing.domain.InvalidWritingStatsQueryException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.WritingActivity;
+import com.othertales.modules.writing.domain.WritingStatsGranularity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Writing activity over time, for the statistics dashboard.
+ *
+ * <p>Chapter saves report their word-count delta, which is added to pre-aggregated daily,
+ * weekly and monthly rows in the same transaction as the save. Reads never aggregate:
+ * a year of daily points is one primary key range of at most 366 rows. Days are UTC.
+ */
+@Service
+public class WritingStatsService {
+
+    static final int DEFAULT_RANGE_DAYS = 365;
+    static final int MAX_RANGE_DAYS = 5 * 366;
+
+    private final WritingStatsRepository writingStatsRepository;
+    private final ProjectRepository projectRepository;
+
+    public WritingStatsService(WritingStatsRepository writingStatsRepository, ProjectRepository projectRepository) {
+        this.writingStatsRepository = writingStatsRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Counts a save that changed the chapter's word count by {@code wordCountDelta} as
+     * words added or removed today. Joins the caller's transaction.
+     */
+    @Transactional
+    public void recordWordDelta(UUID userId, UUID projectId, int wordCountDelta) {
+        if (wordCountDelta == 0) {
+            return;
+        }
+        writingStatsRepository.record(userId, projectId, today(),
+                Math.max(wordCountDelta, 0), Math.max(-wordCountDelta, 0));
+    }
+
+    /**
+     * Counts the words added and removed today by several saves of one project at once.
+     * Joins the caller's transaction.
+     */
+    @Transactional
+    public void recordWords(UUID userId, UUID projectId, int wordsAdded, int wordsRemoved) {
+        if (wordsAdded == 0 && wordsRemoved == 0) {
+            return;
+        }
+        writingStatsRepository.record(userId, projectId, today(), wordsAdded, wordsRemoved);
+    }
+
+    /**
+     * Activity between {@code from} and {@code to} inclusive, by default the last 365 days.
+     * Points are only returned for periods with activity; a week or month is included
+     * when the period containing {@code from} starts before it.
+     */
+    @Transactional(readOnly = true)
+    public WritingStatsResponse getStats(UUID projectId, String granularity, LocalDate from, LocalDate to,
+                                         UUID userId) {
+        var period = WritingStatsGranularity.parse(granularity);
+        var end = to != null ? to : today();
+        var start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new InvalidWritingStatsQueryException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new InvalidWritingStatsQueryException("Range must be at most " + MAX_RANGE_DAYS + " days");
+        }
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        var activity = writingStatsRepository.findByProject(userId, projectId, period,
+                period.periodStart(start), end);
+        var points = activity.stream()
+                .map(WritingStatsService::toPoint)
+                .toList();
+        return new WritingStatsResponse(
+                projectId,
+                period.name(),
+                start,
+                end,
+                points,
+                activity.stream().mapToLong(WritingActivity::wordsAdded).sum(),
+                activity.stream().mapToLong(WritingActivity::wordsRemoved).sum());
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    private static WritingStatsPointResponse toPoint(WritingActivity activity) {
+        return new WritingStatsPointResponse(
+                activity.periodStart(),
+                activity.wordsAdded(),
+                activity.wordsRemoved(),
+                activity.netWords());
+    }
+}
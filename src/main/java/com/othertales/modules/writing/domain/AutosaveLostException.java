@@ -0,0 +1,18 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ConflictException;
+import com.othertales.common.domain.ErrorCodes;
+
+import java.util.UUID;
+
+/**
+ * Autosaves already answered with 202 could not be written, because the chapter changed
+ * elsewhere or the write kept failing. The client must reload the chapter.
+ */
+public class AutosaveLostException extends ConflictException {
+
+    public AutosaveLostException(UUID chapterId, int saves) {
+        super(saves + " autosave(s) for chapter " + chapterId + " were not written",
+                ErrorCodes.CHAPTER_AUTOSAVE_LOST);
+    }
+}
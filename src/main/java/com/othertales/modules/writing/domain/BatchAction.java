@@ -0,0 +1,10 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * What one operation of a batch upload does to its entity.
+ */
+public enum BatchAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
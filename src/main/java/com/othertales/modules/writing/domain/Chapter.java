@@ -1,6 +1,7 @@
 package com.othertales.modules.writing.domain;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -10,23 +11,29 @@ public class Chapter {
     private UUID projectId;
     private String title;
     private String content;
+    private TextStatistics statistics;
+    private String orderKey;
+    /** Position among the project's chapters when loaded; derived from the order keys. */
     private int orderIndex;
     private ChapterStatus status;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant publishedAt;
     private Long version;
+    private boolean persisted;
 
     private Chapter() {
     }
 
-    public static Chapter create(UUID projectId, String title, String content, Integer orderIndex) {
+    public static Chapter create(UUID projectId, String title, String content, String orderKey, int orderIndex) {
         var chapter = new Chapter();
         chapter.id = UUID.randomUUID();
         chapter.projectId = Objects.requireNonNull(projectId, "Project ID is required");
         chapter.title = (title == null || title.isBlank()) ? "Untitled Chapter" : title.trim();
         chapter.content = content != null ? content : "";
-        chapter.orderIndex = orderIndex != null ? orderIndex : 0;
+        chapter.statistics = WordCounter.defaultCounter().analyze(chapter.content);
+        chapter.orderKey = Objects.requireNonNull(orderKey, "Order key is required");
+        chapter.orderIndex = orderIndex;
         chapter.status = ChapterStatus.DRAFT;
         chapter.createdAt = Instant.now();
         chapter.updatedAt = chapter.createdAt;
@@ -40,6 +47,8 @@ public class Chapter {
             UUID projectId,
             String title,
             String content,
+            TextStatistics statistics,
+            String orderKey,
             int orderIndex,
             ChapterStatus status,
             Instant createdAt,
@@ -51,12 +60,15 @@ public class Chapter {
         chapter.projectId = projectId;
         chapter.title = title;
         chapter.content = content;
+        chapter.statistics = statistics != null ? statistics : WordCounter.defaultCounter().analyze(content);
+        chapter.orderKey = orderKey;
         chapter.orderIndex = orderIndex;
         chapter.status = status;
         chapter.createdAt = createdAt;
         chapter.updatedAt = updatedAt;
         chapter.publishedAt = publishedAt;
         chapter.version = version;
+        chapter.persisted = true;
         return chapter;
     }
 
@@ -69,12 +81,36 @@ public class Chapter {
 
     public void updateContent(String newContent) {
         this.content = newContent != null ? newContent : "";
+        this.statistics = WordCounter.defaultCounter().analyze(this.content);
         this.updatedAt = Instant.now();
     }
 
-    public void reorder(int newOrderIndex) {
-        this.orderIndex = newOrderIndex;
-        this.updatedAt = Instant.now();
+    /**
+     * Applies the splices in order, each one against the text left by the previous.
+     * Nothing changes if any edit falls outside the content or splits a surrogate pair.
+     */
+    public void applyEdits(List<TextEdit> edits) {
+        var text = new StringBuilder(content != null ? content : "");
+        for (var edit : edits) {
+            int start = edit.offset();
+            // Compared before adding, which could overflow past the length check
+            if (start < 0 || edit.deleteCount() < 0 || edit.deleteCount() > text.length() - start) {
+                throw new InvalidChapterEditException("Edit [" + start + ", " + ((long) start + edit.deleteCount())
+                        + ") is outside content of length " + text.length());
+            }
+            int end = start + edit.deleteCount();
+            if (splitsSurrogatePair(text, start) || splitsSurrogatePair(text, end)) {
+                throw new InvalidChapterEditException("Edit at " + start + " splits a surrogate pair");
+            }
+            text.replace(start, end, edit.insert());
+        }
+        updateContent(text.toString());
+    }
+
+    private static boolean splitsSurrogatePair(CharSequence text, int index) {
+        return index > 0 && index < text.length()
+                && java.lang.Character.isHighSurrogate(text.charAt(index - 1))
+                && java.lang.Character.isLowSurrogate(text.charAt(index));
     }
 
     public void updateStatus(ChapterStatus newStatus) {
@@ -89,10 +125,19 @@ public class Chapter {
     }
 
     public int getWordCount() {
-        if (content == null || content.isBlank()) {
-            return 0;
-        }
-        return content.trim().split("\\s+").length;
+        return statistics.words();
+    }
+
+    public int getCharacterCount() {
+        return statistics.characters();
+    }
+
+    public int getParagraphCount() {
+        return statistics.paragraphs();
+    }
+
+    public TextStatistics getStatistics() {
+        return statistics;
     }
 
     public UUID getId() {
@@ -111,6 +156,10 @@ public class Chapter {
         return content;
     }
 
+    public String getOrderKey() {
+        return orderKey;
+    }
+
     public int getOrderIndex() {
         return orderIndex;
     }
@@ -135,6 +184,10 @@ public class Chapter {
         return version;
     }
 
+    public boolean isPersisted() {
+        return persisted;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,16 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * A chapter identified by what its text is, without the text: {@code contentHash} is
+ * computed by the database from the stored content and changes exactly when it does.
+ */
+public record ChapterFingerprint(
+        UUID id,
+        UUID projectId,
+        String title,
+        int orderIndex,
+        String contentHash
+) {
+}
@@ -0,0 +1,25 @@
+package com.othertales.modules.writing.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only view of a chapter without its content, used by the book index.
+ */
+public record ChapterOutline(
+        UUID id,
+        UUID projectId,
+        String title,
+        String orderKey,
+        int orderIndex,
+        ChapterStatus status,
+        int wordCount,
+        Long version,
+        Instant updatedAt
+) {
+
+    public ChapterOutline movedTo(String newOrderKey, int newOrderIndex) {
+        return new ChapterOutline(id, projectId, title, newOrderKey, newOrderIndex, status, wordCount, version,
+                updatedAt);
+    }
+}
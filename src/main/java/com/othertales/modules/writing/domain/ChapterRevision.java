@@ -0,0 +1,37 @@
+package com.othertales.modules.writing.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a chapter's content taken on save. The text itself is not held
+ * here: it is the concatenation of the content chunks listed in {@code chunkHashes}.
+ */
+public record ChapterRevision(
+        UUID id,
+        UUID chapterId,
+        Long chapterVersion,
+        String title,
+        int wordCount,
+        int characterCount,
+        List<String> chunkHashes,
+        Instant createdAt
+) {
+
+    public ChapterRevision {
+        chunkHashes = List.copyOf(chunkHashes);
+    }
+
+    public static ChapterRevision of(Chapter chapter, List<ContentChunk> chunks) {
+        return new ChapterRevision(
+                UUID.randomUUID(),
+                chapter.getId(),
+                chapter.getVersion(),
+                chapter.getTitle(),
+                chapter.getWordCount(),
+                chapter.getCharacterCount(),
+                chunks.stream().map(ContentChunk::hash).toList(),
+                chapter.getUpdatedAt());
+    }
+}
@@ -0,0 +1,13 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ResourceNotFoundException;
+
+import java.util.UUID;
+
+public class ChapterRevisionNotFoundException extends ResourceNotFoundException {
+
+    public ChapterRevisionNotFoundException(UUID revisionId) {
+        super("Chapter revision not found: " + revisionId, ErrorCodes.CHAPTER_REVISION_NOT_FOUND);
+    }
+}
@@ -0,0 +1,9 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * A chapter's content together with the hash of that same content, read in one row.
+ */
+public record ChapterText(UUID id, String contentHash, String content) {
+}
@@ -0,0 +1,14 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ConflictException;
+import com.othertales.common.domain.ErrorCodes;
+
+import java.util.UUID;
+
+public class ChapterVersionConflictException extends ConflictException {
+
+    public ChapterVersionConflictException(UUID chapterId, Long expectedVersion, Long currentVersion) {
+        super("Chapter " + chapterId + " is at version " + currentVersion + ", not " + expectedVersion,
+                ErrorCodes.CHAPTER_VERSION_CONFLICT);
+    }
+}
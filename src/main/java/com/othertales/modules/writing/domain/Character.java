@@ -16,6 +16,8 @@ public class Character {
     private Instant createdAt;
     private Instant updatedAt;
     private boolean deleted;
+    private Long version;
+    private boolean persisted;
 
     private Character() {
     }
@@ -36,6 +38,7 @@ public class Character {
         character.createdAt = Instant.now();
         character.updatedAt = character.createdAt;
         character.deleted = false;
+        character.version = 0L;
         return character;
     }
 
@@ -49,7 +52,8 @@ public class Character {
             String imageUrl,
             Instant createdAt,
             Instant updatedAt,
-            boolean deleted) {
+            boolean deleted,
+            Long version) {
         var character = new Character();
         character.id = id;
         character.projectId = projectId;
@@ -61,6 +65,8 @@ public class Character {
         character.createdAt = createdAt;
         character.updatedAt = updatedAt;
         character.deleted = deleted;
+        character.version = version;
+        character.persisted = true;
         return character;
     }
 
@@ -128,6 +134,14 @@ public class Character {
         return deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * A chapter in which a character is mentioned, read from the mention index.
+ */
+public record CharacterAppearance(
+        UUID chapterId,
+        String title,
+        int orderIndex,
+        int mentions,
+        int firstOffset
+) {
+}
@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * Two characters and the number of chapters in which both are mentioned.
+ */
+public record CharacterCoOccurrence(
+        UUID characterId,
+        String characterName,
+        UUID otherCharacterId,
+        String otherCharacterName,
+        int sharedChapters
+) {
+}
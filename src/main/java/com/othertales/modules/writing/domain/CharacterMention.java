@@ -0,0 +1,9 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * How often a character is named in a chapter, and where first (UTF-16 offset).
+ */
+public record CharacterMention(UUID characterId, UUID chapterId, int mentions, int firstOffset) {
+}
@@ -0,0 +1,274 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Finds the mentions of a project's characters in chapter text in one pass, whatever the
+ * number of characters, with an Aho-Corasick automaton over their names and aliases.
+ *
+ * <p>Each character is matched by its full name and, as aliases, by each word of it that
+ * identifies it alone: at least three letters, capitalized, not a title ({@code Mr},
+ * {@code Doña}) or a stop word, and not part of another character's name. So
+ * "Elizabeth Bennet" is also found as "Elizabeth" and, unless "Jane Bennet" exists, as
+ * "Bennet". Matching is case-sensitive, since names are proper nouns ("Rose" but not
+ * "a rose"), and only whole words count. Where names overlap in the text the leftmost,
+ * then longest, wins, so "Elizabeth Bennet" is one mention, not three.
+ *
+ * <p>Offsets are in UTF-16 code units, like {@link TextEdit}. Immutable and thread-safe.
+ */
+public final class CharacterMentionMatcher {
+
+    private static final int MIN_ALIAS_LENGTH = 3;
+
+    private static final Set<String> TITLES = Set.of("mr", "mrs", "ms", "miss", "dr", "sir", "lady", "lord", "prof",
+            "captain", "king", "queen", "prince", "princess", "aunt", "uncle", "don", "doña", "señor", "señora",
+            "señorita", "sr", "sra", "srta", "tío", "tía", "capitán", "rey", "reina", "príncipe", "princesa");
+
+    private static final ProseAnalyzer[] STOP_WORD_LANGUAGES = {
+            ProseAnalyzer.forLocale(Locale.ENGLISH), ProseAnalyzer.forLocale(Locale.forLanguageTag("es"))};
+
+    private final List<UUID> characterIds;
+    private final String[] patterns;
+    private final int[][] patternOwners;
+
+    // Trie edges keyed by mixed (state, char); states are numbered from the root, 0
+    private final LongIntHashMap edges;
+    private final int[] fail;
+    // Pattern ending at each state, or -1
+    private final int[] output;
+    // Nearest state on the fail chain with an output, or 0
+    private final int[] outputLink;
+
+    private CharacterMentionMatcher(List<UUID> characterIds, Map<String, List<Integer>> owners) {
+        this.characterIds = characterIds;
+        this.patterns = owners.keySet().toArray(String[]::new);
+        this.patternOwners = owners.values().stream()
+                .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+
+        int maxStates = 1;
+        for (var pattern : patterns) {
+            maxStates += pattern.length();
+        }
+        this.edges = new LongIntHashMap(Integer.highestOneBit(maxStates * 2) * 2);
+        this.fail = new int[maxStates];
+        this.output = new int[maxStates];
+        this.outputLink = new int[maxStates];
+        Arrays.fill(output, -1);
+        build(maxStates);
+    }
+
+    /**
+     * @param namesById names of the project's characters, by character id
+     */
+    public static CharacterMentionMatcher forNames(Map<UUID, String> namesById) {
+        var ids = new ArrayList<UUID>(namesById.size());
+        var names = new ArrayList<String>(namesById.size());
+        namesById.forEach((id, name) -> {
+            if (name != null && !name.isBlank()) {
+                ids.add(id);
+                names.add(name.trim());
+            }
+        });
+
+        // Words of names, with how many characters use them
+        var wordUsers = new HashMap<String, Integer>();
+        for (var name : names) {
+            for (var word : words(name)) {
+                wordUsers.merge(word, 1, Integer::sum);
+            }
+        }
+
+        var owners = new LinkedHashMap<String, List<Integer>>();
+        for (int i = 0; i < names.size(); i++) {
+            owners.computeIfAbsent(names.get(i), name -> new ArrayList<>(1)).add(i);
+        }
+        for (int i = 0; i < names.size(); i++) {
+            for (var word : words(names.get(i))) {
+                if (wordUsers.get(word) == 1 && !owners.containsKey(word) && isAlias(word)) {
+                    owners.put(word, new ArrayList<>(List.of(i)));
+                }
+            }
+        }
+        return new CharacterMentionMatcher(ids, owners);
+    }
+
+    /**
+     * Mentions per character in {@code text}, for those mentioned at least once, in the
+     * order the characters were given.
+     */
+    public List<CharacterMention> scan(UUID chapterId, CharSequence text) {
+        if (patterns.length == 0 || text == null || text.isEmpty()) {
+            return List.of();
+        }
+        var matches = new ArrayList<Match>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = child(state, c)) == 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next;
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s != 0; s = outputLink[s]) {
+                int pattern = output[s];
+                int start = i + 1 - patterns[pattern].length();
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    matches.add(new Match(start, i + 1, pattern));
+                }
+            }
+        }
+
+        var counts = new int[characterIds.size()];
+        var firstOffsets = new int[characterIds.size()];
+        matches.sort(Comparator.comparingInt(Match::start).thenComparing(Comparator.comparingInt(Match::end).reversed()));
+        int covered = 0;
+        for (var match : matches) {
+            if (match.start() < covered) {
+                continue;
+            }
+            covered = match.end();
+            for (int owner : patternOwners[match.pattern()]) {
+                if (counts[owner]++ == 0) {
+                    firstOffsets[owner] = match.start();
+                }
+            }
+        }
+
+        var mentions = new ArrayList<CharacterMention>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                mentions.add(new CharacterMention(characterIds.get(i), chapterId, counts[i], firstOffsets[i]));
+            }
+        }
+        return mentions;
+    }
+
+    /**
+     * Names and aliases matched, for diagnostics and tests.
+     */
+    public Set<String> patterns() {
+        return Set.of(patterns);
+    }
+
+    private void build(int maxStates) {
+        // Trie, remembering each state's parent and incoming char for the fail links
+        var parent = new int[maxStates];
+        var incoming = new char[maxStates];
+        var depth = new int[maxStates];
+        int states = 1;
+        int maxDepth = 0;
+        for (int p = 0; p < patterns.length; p++) {
+            int state = 0;
+            for (int i = 0; i < patterns[p].length(); i++) {
+                char c = patterns[p].charAt(i);
+                int next = child(state, c);
+                if (next == 0) {
+                    next = states++;
+                    edges.put(edgeKey(state, c), next);
+                    parent[next] = state;
+                    incoming[next] = c;
+                    depth[next] = depth[state] + 1;
+                    maxDepth = Math.max(maxDepth, depth[next]);
+                }
+                state = next;
+            }
+            output[state] = p;
+        }
+
+        // Fail links in breadth-first order: a state's link depends on shallower ones only
+        var byDepth = new int[states];
+        var depthStart = new int[maxDepth + 2];
+        for (int s = 0; s < states; s++) {
+            depthStart[depth[s] + 1]++;
+        }
+        for (int d = 1; d < depthStart.length; d++) {
+            depthStart[d] += depthStart[d - 1];
+        }
+        for (int s = 0; s < states; s++) {
+            byDepth[depthStart[depth[s]]++] = s;
+        }
+        for (int s : byDepth) {
+            if (depth[s] <= 1) {
+                continue;
+            }
+            int f = fail[parent[s]];
+            int target;
+            while ((target = child(f, incoming[s])) == 0 && f != 0) {
+                f = fail[f];
+            }
+            fail[s] = target;
+            outputLink[s] = output[target] >= 0 ? target : outputLink[target];
+        }
+    }
+
+    private int child(int state, char c) {
+        return edges.get(edgeKey(state, c));
+    }
+
+    private static long edgeKey(int state, char c) {
+        // Never 0, which marks empty slots: the state is offset by one
+        return LongIntHashMap.mix(((long) state + 1) << 16 | c);
+    }
+
+    private static boolean isAlias(String word) {
+        if (word.length() < MIN_ALIAS_LENGTH || !java.lang.Character.isUpperCase(word.charAt(0))) {
+            return false;
+        }
+        var lower = word.toLowerCase(Locale.ROOT);
+        if (TITLES.contains(lower)) {
+            return false;
+        }
+        for (var language : STOP_WORD_LANGUAGES) {
+            if (language.isStopWord(lower)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> words(String name) {
+        var words = new HashSet<String>();
+        for (var word : name.split("\\s+")) {
+            word = trimWord(word);
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String trimWord(String word) {
+        int start = 0;
+        int end = word.length();
+        while (start < end && !isWordChar(word.charAt(start))) {
+            start++;
+        }
+        while (end > start && !isWordChar(word.charAt(end - 1))) {
+            end--;
+        }
+        return word.substring(start, end);
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !isWordChar(text.charAt(index));
+    }
+
+    private static boolean isWordChar(char c) {
+        return java.lang.Character.isLetterOrDigit(c)
+                || java.lang.Character.getType(c) == java.lang.Character.NON_SPACING_MARK;
+    }
+
+    private record Match(int start, int end, int pattern) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ResourceNotFoundException;
+
+import java.util.UUID;
+
+public class CharacterNotFoundException extends ResourceNotFoundException {
+
+    public CharacterNotFoundException(UUID characterId) {
+        super("Character not found: " + characterId, ErrorCodes.CHARACTER_NOT_FOUND);
+    }
+}
@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Piece of chapter content addressed by the SHA-256 of its UTF-8 bytes (lowercase hex).
+ */
+public record ContentChunk(String hash, String text) {
+}
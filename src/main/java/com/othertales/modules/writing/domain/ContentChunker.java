@@ -0,0 +1,86 @@
+package com.othertales.modules.writing.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Content-defined chunking with a gear rolling hash.
+ *
+ * <p>Boundaries depend only on the last 64 characters before them, so an edit in one
+ * paragraph moves at most the chunks around it and every other chunk keeps its hash.
+ * Revisions of the same chapter therefore share almost all of their chunks. Chunks are
+ * between {@value #MIN_SIZE} and {@value #MAX_SIZE} characters long, about 2.5 K on
+ * average, and never split a surrogate pair.
+ *
+ * <p>The gear table comes from a fixed seed: changing it would re-chunk every chapter.
+ */
+public final class ContentChunker {
+
+    static final int MIN_SIZE = 512;
+    static final int MAX_SIZE = 8192;
+    private static final long BOUNDARY_MASK = -1L << 53; // top 11 bits: ~2048 chars past MIN_SIZE
+    private static final long[] GEAR = new long[256];
+
+    static {
+        var random = new SplittableRandom(0x6F74686572L);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private ContentChunker() {
+    }
+
+    public static List<ContentChunk> split(String content) {
+        var chunks = new ArrayList<ContentChunk>();
+        if (content == null || content.isEmpty()) {
+            return chunks;
+        }
+        var digest = sha256();
+        int start = 0;
+        while (start < content.length()) {
+            int end = nextBoundary(content, start);
+            var text = content.substring(start, end);
+            chunks.add(new ContentChunk(HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8))), text));
+            start = end;
+        }
+        return chunks;
+    }
+
+    static int nextBoundary(String content, int start) {
+        int length = content.length();
+        if (length - start <= MIN_SIZE) {
+            return length;
+        }
+        int limit = Math.min(length, start + MAX_SIZE);
+        int end = limit;
+        long hash = 0;
+        // Only the last 64 characters influence the hash, so there is no need to start earlier.
+        for (int i = start + MIN_SIZE - Long.SIZE; i < limit; i++) {
+            char c = content.charAt(i);
+            hash = (hash << 1) + GEAR[(c ^ (c >>> 8)) & 0xFF];
+            if (i + 1 - start >= MIN_SIZE && (hash & BOUNDARY_MASK) == 0) {
+                end = i + 1;
+                break;
+            }
+        }
+        if (end < length && java.lang.Character.isLowSurrogate(content.charAt(end))
+                && java.lang.Character.isHighSurrogate(content.charAt(end - 1))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+        }
+    }
+}
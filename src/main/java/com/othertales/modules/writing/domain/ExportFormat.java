@@ -0,0 +1,43 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.Locale;
+
+/**
+ * File formats a manuscript can be exported to.
+ */
+public enum ExportFormat {
+    MARKDOWN("md", "text/markdown;charset=UTF-8"),
+    EPUB("epub", "application/epub+zip"),
+    DOCX("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+
+    private final String fileExtension;
+    private final String mediaType;
+
+    ExportFormat(String fileExtension, String mediaType) {
+        this.fileExtension = fileExtension;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Resolves a format by name or file extension, ignoring case ({@code epub}, {@code md}).
+     */
+    public static ExportFormat fromValue(String value) {
+        if (value != null) {
+            var normalized = value.trim().toLowerCase(Locale.ROOT);
+            for (var format : values()) {
+                if (format.name().toLowerCase(Locale.ROOT).equals(normalized) || format.fileExtension.equals(normalized)) {
+                    return format;
+                }
+            }
+        }
+        throw new UnsupportedExportFormatException(value);
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+}
@@ -13,6 +13,8 @@ public class Idea {
     private Instant createdAt;
     private Instant updatedAt;
     private boolean deleted;
+    private Long version;
+    private boolean persisted;
 
     private Idea() {
     }
@@ -29,6 +31,7 @@ public class Idea {
         idea.createdAt = Instant.now();
         idea.updatedAt = idea.createdAt;
         idea.deleted = false;
+        idea.version = 0L;
         return idea;
     }
 
@@ -39,7 +42,8 @@ public class Idea {
             String content,
             Instant createdAt,
             Instant updatedAt,
-            boolean deleted) {
+            boolean deleted,
+            Long version) {
         var idea = new Idea();
         idea.id = id;
         idea.projectId = projectId;
@@ -48,6 +52,8 @@ public class Idea {
         idea.createdAt = createdAt;
         idea.updatedAt = updatedAt;
         idea.deleted = deleted;
+        idea.version = version;
+        idea.persisted = true;
         return idea;
     }
 
@@ -98,6 +104,14 @@ public class Idea {
         return deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
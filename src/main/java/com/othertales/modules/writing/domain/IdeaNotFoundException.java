@@ -0,0 +1,13 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ResourceNotFoundException;
+
+import java.util.UUID;
+
+public class IdeaNotFoundException extends ResourceNotFoundException {
+
+    public IdeaNotFoundException(UUID ideaId) {
+        super("Idea not found: " + ideaId, ErrorCodes.IDEA_NOT_FOUND);
+    }
+}
@@ -0,0 +1,32 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * File formats chapters can be imported from, recognized by file extension.
+ */
+public enum ImportFormat {
+    MARKDOWN(Set.of("md", "markdown")),
+    PLAIN_TEXT(Set.of("txt", "text")),
+    DOCX(Set.of("docx"));
+
+    private final Set<String> fileExtensions;
+
+    ImportFormat(Set<String> fileExtensions) {
+        this.fileExtensions = fileExtensions;
+    }
+
+    public static ImportFormat fromFileName(String fileName) {
+        if (fileName != null) {
+            var dot = fileName.lastIndexOf('.');
+            var extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+            for (var format : values()) {
+                if (dot >= 0 && format.fileExtensions.contains(extension)) {
+                    return format;
+                }
+            }
+        }
+        throw new InvalidManuscriptImportException("Unsupported file type: " + fileName);
+    }
+}
@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidBatchOperationException extends ValidationException {
+
+    public InvalidBatchOperationException(String message) {
+        super(message, ErrorCodes.BATCH_INVALID_OPERATION);
+    }
+}
@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidChapterEditException extends ValidationException {
+
+    public InvalidChapterEditException(String message) {
+        super(message, ErrorCodes.CHAPTER_INVALID_EDIT);
+    }
+}
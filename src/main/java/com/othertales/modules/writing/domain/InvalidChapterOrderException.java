@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidChapterOrderException extends ValidationException {
+
+    public InvalidChapterOrderException(String message) {
+        super(message, ErrorCodes.CHAPTER_INVALID_ORDER);
+    }
+}
@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidManuscriptImportException extends ValidationException {
+
+    public InvalidManuscriptImportException(String message) {
+        super(message, ErrorCodes.IMPORT_INVALID_FILE);
+    }
+
+    public InvalidManuscriptImportException(String message, Throwable cause) {
+        super(message, ErrorCodes.IMPORT_INVALID_FILE, cause);
+    }
+}
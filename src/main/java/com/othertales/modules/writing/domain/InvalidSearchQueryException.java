@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidSearchQueryException extends ValidationException {
+
+    public InvalidSearchQueryException(String message) {
+        super(message, ErrorCodes.SEARCH_INVALID_QUERY);
+    }
+}
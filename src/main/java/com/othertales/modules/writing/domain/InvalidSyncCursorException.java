@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidSyncCursorException extends ValidationException {
+
+    public InvalidSyncCursorException(String message) {
+        super(message, ErrorCodes.SYNC_INVALID_CURSOR);
+    }
+}
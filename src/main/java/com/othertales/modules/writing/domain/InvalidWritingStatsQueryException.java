@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class InvalidWritingStatsQueryException extends ValidationException {
+
+    public InvalidWritingStatsQueryException(String message) {
+        super(message, ErrorCodes.STATS_INVALID_QUERY);
+    }
+}
@@ -0,0 +1,171 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Fixed-capacity open-addressing map from non-zero {@code long} keys to {@code int}
+ * values, with linear probing. Two flat arrays and no boxing: 12 bytes per slot, all
+ * allocated up front, so its footprint never changes after construction.
+ *
+ * <p>Key {@code 0} marks an empty slot; callers must map hashes of zero elsewhere.
+ * Inserts fail instead of growing once {@link #isFull()}; {@link #removeValuesBelow}
+ * frees room in place, shifting entries back rather than leaving tombstones. Keys are
+ * expected to be well mixed; run structured ones through {@link #mix} first.
+ */
+final class LongIntHashMap {
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+    private final int maxSize;
+    private int size;
+
+    /**
+     * @param capacity number of slots, a power of two
+     */
+    LongIntHashMap(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = capacity - capacity / 4;
+    }
+
+    /**
+     * The value of {@code key}, or 0 when absent.
+     */
+    int get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            if (keys[slot] == 0) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Adds one to the value of {@code key}, inserting it with 1 if absent.
+     *
+     * @return the new value, or 0 if the key is absent and the map is full
+     */
+    int increment(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return ++values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size >= maxSize) {
+            return 0;
+        }
+        keys[slot] = key;
+        values[slot] = 1;
+        size++;
+        return 1;
+    }
+
+    /**
+     * Sets the value of {@code key}.
+     *
+     * @return false if the key is absent and the map is full
+     */
+    boolean put(long key, int value) {
+        int slot = slot(key);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            if (size >= maxSize) {
+                return false;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        return true;
+    }
+
+    /**
+     * Removes every entry whose value is below {@code minValue}.
+     */
+    void removeValuesBelow(int minValue) {
+        for (int slot = 0; slot < keys.length; ) {
+            if (keys[slot] != 0 && values[slot] < minValue) {
+                // The slot now holds an entry shifted back from further on, check it again
+                delete(slot);
+            } else {
+                slot++;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size >= maxSize;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Calls {@code action} for every entry, in slot order.
+     */
+    void forEach(Entries action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Entries {
+
+        void accept(long key, int value);
+    }
+
+    /**
+     * Backward-shift deletion: moves later entries of the probe run into the hole so
+     * lookups never stop early.
+     */
+    private void delete(int hole) {
+        size--;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            int home = slot(keys[slot]);
+            // Move the entry unless its home lies cyclically in (hole, slot]
+            boolean movable = hole <= slot ? home <= hole || home > slot : home <= hole && home > slot;
+            if (movable) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = 0;
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer. A bijection, so distinct keys stay distinct, and
+     * only 0 maps to 0.
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private int slot(long key) {
+        // Keys are already well mixed hashes; fold the high bits in for small tables
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
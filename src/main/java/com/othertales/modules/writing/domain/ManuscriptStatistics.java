@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Totals of the stored per-chapter {@link TextStatistics} of a project.
+ */
+public record ManuscriptStatistics(long chapterCount, long wordCount, long characterCount, long paragraphCount) {
+}
@@ -0,0 +1,211 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fractional ordering keys: base-62 strings ({@code 0-9A-Za-z}) that sort by plain byte
+ * comparison, so a chapter can be placed between two others by giving it a key between
+ * theirs, without touching any other row.
+ *
+ * <p>A key is read as the digits of a fraction in {@code (0, 1)}. Keys never end in
+ * {@code 0}, which guarantees there is always room for another key between any two.
+ * Inserting repeatedly at the same spot makes keys longer; past {@value #MAX_LENGTH}
+ * characters the project is rewritten with {@link #spread(int)}.
+ */
+public final class OrderKeys {
+
+    /**
+     * Length past which a project's keys are rebalanced. Also the predicate of the
+     * partial index in V19, which must be kept in sync.
+     */
+    public static final int MAX_LENGTH = 32;
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private OrderKeys() {
+    }
+
+    /**
+     * A key strictly between {@code before} and {@code after}; either may be null for the
+     * start or the end of the list. Appending and prepending step the neighbour's first
+     * free digit instead of halving the gap, so keys grow by one character only every
+     * ~60 chapters added at the same end.
+     */
+    public static String between(String before, String after) {
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Order key " + before + " is not before " + after);
+        }
+        if (after == null && before != null) {
+            return increment(before);
+        }
+        if (before == null && after != null) {
+            return decrement(after);
+        }
+        return midpoint(before == null ? "" : before, after);
+    }
+
+    /**
+     * {@code count} ascending keys between {@code before} and {@code after}, spaced so that
+     * later inserts among them stay short.
+     */
+    public static List<String> between(String before, String after, int count) {
+        var keys = new ArrayList<String>(count);
+        if (count == 1) {
+            keys.add(between(before, after));
+        } else if (before == null && after == null) {
+            keys.addAll(spread(count));
+        } else if (before == null || after == null) {
+            // The stepped key differs from the neighbour at a digit, so every extension of it
+            // stays on the same side of the neighbour
+            var prefix = between(before, after);
+            for (var suffix : spread(count)) {
+                keys.add(prefix + suffix);
+            }
+        } else {
+            bisect(before, after, count, keys);
+        }
+        return keys;
+    }
+
+    /**
+     * {@code count} evenly spaced keys of the shortest width that fits them. Mirrors the
+     * backfill function of V19.
+     */
+    public static List<String> spread(int count) {
+        int width = 1;
+        long span = BASE;
+        while (span <= count) {
+            width++;
+            span *= BASE;
+        }
+        var keys = new ArrayList<String>(count);
+        var digits = new char[width];
+        for (long n = 1; n <= count; n++) {
+            long value = Math.multiplyExact(n, span) / (count + 1L);
+            for (int i = width - 1; i >= 0; i--) {
+                digits[i] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int length = width;
+            while (digits[length - 1] == '0') {
+                length--;
+            }
+            keys.add(new String(digits, 0, length));
+        }
+        return keys;
+    }
+
+    /**
+     * New keys for a list whose chapters were rearranged: {@code keys} are the current keys
+     * in the new order. The longest run already in ascending order keeps its keys and only
+     * the chapters outside it get new ones, so moving one chapter changes one key.
+     */
+    public static List<String> reorder(List<String> keys) {
+        int size = keys.size();
+        // Longest strictly increasing subsequence, patience sorting with back links
+        var tails = new int[size];
+        var previous = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys.get(tails[mid]).compareTo(keys.get(i)) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        var kept = new boolean[size];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            kept[i] = true;
+        }
+
+        var result = new ArrayList<String>(size);
+        String lower = null;
+        int gapStart = 0;
+        for (int i = 0; i <= size; i++) {
+            if (i < size && !kept[i]) {
+                continue;
+            }
+            var upper = i < size ? keys.get(i) : null;
+            result.addAll(between(lower, upper, i - gapStart));
+            if (i < size) {
+                result.add(upper);
+            }
+            lower = upper;
+            gapStart = i + 1;
+        }
+        return result;
+    }
+
+    private static String midpoint(String before, String after) {
+        var key = new StringBuilder();
+        boolean bounded = after != null;
+        for (int i = 0; ; i++) {
+            int low = i < before.length() ? digit(before.charAt(i)) : 0;
+            int high = bounded ? digit(after.charAt(i)) : BASE;
+            if (low == high) {
+                key.append(DIGITS.charAt(low));
+            } else if (high - low > 1) {
+                return key.append(DIGITS.charAt((low + high) >>> 1)).toString();
+            } else if (bounded && i + 1 < after.length()) {
+                // A prefix of after is already below it
+                return key.append(DIGITS.charAt(high)).toString();
+            } else {
+                // Keep before's digit; anything longer is now below after
+                key.append(DIGITS.charAt(low));
+                bounded = false;
+            }
+        }
+    }
+
+    private static String increment(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            int digit = digit(key.charAt(i));
+            if (digit < BASE - 1) {
+                return key.substring(0, i) + DIGITS.charAt(digit + 1);
+            }
+        }
+        return key + DIGITS.charAt(1);
+    }
+
+    private static String decrement(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            int digit = digit(key.charAt(i));
+            if (digit > 1) {
+                return key.substring(0, i) + DIGITS.charAt(digit - 1);
+            }
+        }
+        // Only 0s and 1s: drop to the last digit's lower neighbour and go as high as possible
+        return key.substring(0, key.length() - 1) + DIGITS.charAt(0) + DIGITS.charAt(BASE - 1);
+    }
+
+    private static void bisect(String before, String after, int count, List<String> into) {
+        if (count == 0) {
+            return;
+        }
+        var mid = midpoint(before, after);
+        int left = (count - 1) / 2;
+        bisect(before, mid, left, into);
+        into.add(mid);
+        bisect(mid, after, count - 1 - left, into);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid order key character: " + c);
+        }
+        return digit;
+    }
+}
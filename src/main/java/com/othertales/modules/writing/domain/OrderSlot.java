@@ -0,0 +1,12 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Where a chapter lands when placed at a position: the order keys of its future
+ * neighbours (null at either end) and the position it will have.
+ */
+public record OrderSlot(String before, String after, int position) {
+
+    public String newKey() {
+        return OrderKeys.between(before, after);
+    }
+}
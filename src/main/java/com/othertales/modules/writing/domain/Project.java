@@ -19,6 +19,7 @@ public class Project {
     private Instant createdAt;
     private Instant updatedAt;
     private Long version;
+    private boolean persisted;
 
     private Project() {}
 
@@ -72,6 +73,7 @@ public class Project {
         project.createdAt = createdAt;
         project.updatedAt = updatedAt;
         project.version = version;
+        project.persisted = true;
         return project;
     }
 
@@ -189,6 +191,10 @@ public class Project {
         return version;
     }
 
+    public boolean isPersisted() {
+        return persisted;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,283 @@
+package com.othertales.modules.writing.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over one project's chapters, characters and ideas, for
+ * prefix ("search as you type") lookups.
+ *
+ * <p>Each document gets an int slot. The term dictionary is a sorted map from normalized
+ * term to a posting list of {@code slot << 1 | inTitle} ints kept in ascending order,
+ * so a prefix is one sub-map range and a document is counted once per term. Terms are
+ * lowercased with diacritics removed, so {@code capitulo} finds {@code Capítulo}.
+ *
+ * <p>Not thread-safe: callers guard reads and writes.
+ */
+public final class ProjectTermIndex {
+
+    public record Document(SearchDocumentType type, UUID id, String title) {
+
+        public Document {
+            title = title == null ? "" : title;
+        }
+    }
+
+    static final int MAX_TERM_LENGTH = 64;
+    private static final int TITLE_BONUS = 4;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // Rough heap cost used for cache weighing: map entry, String and posting list headers
+    // per term; record, map entry and term array headers per document.
+    private static final long TERM_OVERHEAD_BYTES = 120;
+    private static final long DOCUMENT_OVERHEAD_BYTES = 160;
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final List<String[]> documentTerms = new ArrayList<>();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private int[] freeSlots = new int[8];
+    private int freeSlotCount;
+
+    private long termChars;
+    private long postingCount;
+    private long titleChars;
+
+    /**
+     * Indexes a document, replacing any earlier version with the same id.
+     */
+    public void put(Document document, String body) {
+        remove(document.id());
+
+        var titleTerms = new LinkedHashSet<String>();
+        tokenize(document.title(), titleTerms);
+        var allTerms = new LinkedHashSet<>(titleTerms);
+        tokenize(body, allTerms);
+
+        int slot = allocateSlot(document);
+        var stored = new String[allTerms.size()];
+        int i = 0;
+        for (var term : allTerms) {
+            var existing = terms.ceilingEntry(term);
+            Postings postings;
+            if (existing != null && existing.getKey().equals(term)) {
+                // Share the dictionary's instance instead of keeping the document's copy
+                term = existing.getKey();
+                postings = existing.getValue();
+            } else {
+                postings = new Postings();
+                terms.put(term, postings);
+                termChars += term.length();
+            }
+            postings.add(slot << 1 | (titleTerms.contains(term) ? 1 : 0));
+            postingCount++;
+            stored[i++] = term;
+        }
+        documentTerms.set(slot, stored);
+    }
+
+    public void remove(UUID id) {
+        var slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (var term : documentTerms.get(slot)) {
+            var postings = terms.get(term);
+            postings.removeSlot(slot);
+            postingCount--;
+            if (postings.size == 0) {
+                terms.remove(term);
+                termChars -= term.length();
+            }
+        }
+        titleChars -= documents.get(slot).title().length();
+        documents.set(slot, null);
+        documentTerms.set(slot, null);
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Documents containing, for every word of the query, a term starting with it. Title
+     * matches rank first; ties keep indexing order.
+     */
+    public List<Document> search(String query, int limit) {
+        var tokens = new LinkedHashSet<String>();
+        tokenize(query, tokens);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int slotCount = documents.size();
+        // matched[slot] == k once the document matched the first k tokens
+        var matched = new int[slotCount];
+        var titled = new int[slotCount];
+        var scores = new int[slotCount];
+        int k = 0;
+        for (var token : tokens) {
+            for (var postings : prefixRange(token).values()) {
+                for (int p = 0; p < postings.size; p++) {
+                    int posting = postings.items[p];
+                    int slot = posting >>> 1;
+                    if (matched[slot] == k) {
+                        matched[slot] = k + 1;
+                        scores[slot]++;
+                    }
+                    if ((posting & 1) == 1 && matched[slot] == k + 1 && titled[slot] != k + 1) {
+                        titled[slot] = k + 1;
+                        scores[slot] += TITLE_BONUS;
+                    }
+                }
+            }
+            k++;
+        }
+
+        int hitCount = 0;
+        var hits = new int[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (matched[slot] == k) {
+                hits[hitCount++] = slot;
+            }
+        }
+        return Arrays.stream(hits, 0, hitCount)
+                .boxed()
+                .sorted((a, b) -> scores[b] != scores[a] ? Integer.compare(scores[b], scores[a]) : Integer.compare(a, b))
+                .limit(limit)
+                .map(documents::get)
+                .toList();
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Approximate heap footprint in bytes, kept up to date by {@link #put} and {@link #remove}.
+     */
+    public long weight() {
+        return terms.size() * TERM_OVERHEAD_BYTES
+                + termChars
+                + postingCount * Integer.BYTES * 2
+                + slots.size() * DOCUMENT_OVERHEAD_BYTES
+                + titleChars * 2;
+    }
+
+    private NavigableMap<String, Postings> prefixRange(String prefix) {
+        return terms.subMap(prefix, true, prefix + java.lang.Character.MAX_VALUE, false);
+    }
+
+    private int allocateSlot(Document document) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+            documents.set(slot, document);
+        } else {
+            slot = documents.size();
+            documents.add(document);
+            documentTerms.add(null);
+        }
+        slots.put(document.id(), slot);
+        titleChars += document.title().length();
+        return slot;
+    }
+
+    /**
+     * Splits on anything that is not a letter, digit or combining mark and adds each
+     * normalized word to {@code into}.
+     */
+    static void tokenize(String text, Set<String> into) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; ) {
+            int cp = i < length ? text.codePointAt(i) : ' ';
+            boolean wordChar = i < length && (java.lang.Character.isLetterOrDigit(cp)
+                    || java.lang.Character.getType(cp) == java.lang.Character.NON_SPACING_MARK);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                var term = normalize(text, start, i);
+                if (!term.isEmpty()) {
+                    into.add(term);
+                }
+                start = -1;
+            }
+            i += i < length ? java.lang.Character.charCount(cp) : 1;
+        }
+    }
+
+    private static String normalize(String text, int start, int end) {
+        var word = text.substring(start, Math.min(end, start + MAX_TERM_LENGTH));
+        boolean ascii = true;
+        for (int i = 0; i < word.length() && ascii; i++) {
+            ascii = word.charAt(i) < 0x80;
+        }
+        if (!ascii) {
+            word = Normalizer.normalize(word, Normalizer.Form.NFD);
+            word = COMBINING_MARKS.matcher(word).replaceAll("");
+        }
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Growable sorted int array.
+     */
+    private static final class Postings {
+
+        private int[] items = new int[2];
+        private int size;
+
+        void add(int posting) {
+            int at = insertionPoint(posting >>> 1);
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            System.arraycopy(items, at, items, at + 1, size - at);
+            items[at] = posting;
+            size++;
+        }
+
+        void removeSlot(int slot) {
+            int at = insertionPoint(slot);
+            if (at < size && items[at] >>> 1 == slot) {
+                System.arraycopy(items, at + 1, items, at, size - at - 1);
+                size--;
+                if (size > 0 && size < items.length / 4) {
+                    items = Arrays.copyOf(items, items.length / 2);
+                }
+            }
+        }
+
+        /**
+         * First index whose slot is {@code >= slot}.
+         */
+        private int insertionPoint(int slot) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (items[mid] >>> 1 < slot) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Single-pass readability analysis: sentence lengths, adverbs, dialogue and word usage.
+ *
+ * <p>Heuristics, tuned for fiction in the locales of {@code I18nConfig}:
+ * <ul>
+ *   <li>sentences end at {@code . ! ? …} and at line breaks; a period after a known
+ *       abbreviation ({@code Mr.}, {@code Sra.}) does not end one;</li>
+ *   <li>adverbs are words ending in {@code -ly} (English) or {@code -mente} (Spanish),
+ *       minus common words that only look like one ({@code family}, {@code clemente});</li>
+ *   <li>dialogue is text inside {@code “ ”}, {@code « »} or straight double quotes, and in
+ *       lines opened with an em dash, where each further dash switches between speech and
+ *       narration ({@code —Ven —dijo ella—. Ya.});</li>
+ *   <li>quotes, dialogue dashes and sentences never continue past a line break, so any
+ *       two ranges split at a line break can be analyzed independently and merged.</li>
+ * </ul>
+ *
+ * <p>{@code java.lang.Character} is spelled out because this package has its own {@link Character}.
+ */
+public final class ProseAnalyzer {
+
+    private static final int MIN_TRACKED_WORD_LENGTH = 3;
+
+    private static final ProseAnalyzer ENGLISH = new ProseAnalyzer("en", "ly", 5,
+            Set.of("family", "only", "early", "reply", "supply", "apply", "comply", "imply", "multiply", "holy",
+                    "ugly", "belly", "rally", "ally", "jelly", "bully", "lily", "july", "italy", "assembly",
+                    "friendly", "lovely", "lonely", "lively", "silly", "curly", "chilly", "costly", "elderly",
+                    "butterfly", "anomaly", "monopoly", "melancholy", "jolly", "folly", "holly", "hilly", "oily",
+                    "woolly", "surly", "burly", "wily", "homely", "kindly", "likely", "deadly", "orderly"),
+            Set.of("mr", "mrs", "ms", "dr", "st", "jr", "sr", "vs", "prof", "etc"),
+            Set.of("the", "and", "for", "are", "but", "not", "you", "all", "any", "can", "had", "her", "was",
+                    "one", "our", "out", "has", "him", "his", "how", "its", "let", "may", "she", "too", "who",
+                    "did", "get", "got", "off", "own", "say", "said", "that", "this", "with", "have", "from",
+                    "they", "them", "then", "than", "there", "their", "what", "when", "where", "which", "while",
+                    "will", "would", "could", "should", "were", "been", "into", "your", "just", "like", "over",
+                    "some", "only", "also", "very", "about", "after", "before", "because", "these", "those",
+                    "being", "does", "each", "more", "most", "much", "such", "here", "upon", "back", "down",
+                    "even", "ever", "again", "still", "know", "it's", "don't", "didn't", "i'm", "can't",
+                    "she's", "he's", "that's", "won't", "we're", "they're", "you're", "other", "through"));
+
+    private static final ProseAnalyzer SPANISH = new ProseAnalyzer("es", "mente", 8,
+            Set.of("clemente", "vehemente", "alimente", "atormente", "experimente", "complemente",
+                    "implemente", "documente", "incremente", "sedimente", "fermente", "argumente",
+                    "ornamente", "reglamente", "cimente", "comente", "demente"),
+            Set.of("sr", "sra", "srta", "dr", "dra", "ud", "uds", "etc", "pág", "núm"),
+            Set.of("los", "las", "del", "por", "con", "una", "uno", "unos", "unas", "para", "como", "más",
+                    "pero", "sus", "les", "este", "esta", "esto", "estos", "estas", "ese", "esa", "eso",
+                    "esos", "esas", "aquel", "aquella", "que", "qué", "sin", "sobre", "entre", "hasta",
+                    "desde", "cuando", "donde", "dónde", "muy", "también", "fue", "era", "eran", "ser",
+                    "son", "está", "estaba", "había", "hay", "tiene", "tenía", "todo", "toda", "todos",
+                    "todas", "nos", "ella", "ellas", "ellos", "él", "mis", "tus", "porque", "cómo", "algo",
+                    "nada", "otro", "otra", "otros", "otras", "mismo", "misma", "ahora", "solo", "sólo",
+                    "entonces", "dijo", "cada", "bien", "aunque", "tan", "tras", "ante", "hacia", "según",
+                    "yo", "ya", "así", "aún", "antes", "después", "siempre", "nunca", "mientras"));
+
+    private final String language;
+    private final String adverbSuffix;
+    private final int minAdverbLength;
+    private final Set<String> adverbExceptions;
+    private final Set<String> abbreviations;
+    private final Set<String> stopWords;
+
+    private ProseAnalyzer(String language, String adverbSuffix, int minAdverbLength, Set<String> adverbExceptions,
+                          Set<String> abbreviations, Set<String> stopWords) {
+        this.language = language;
+        this.adverbSuffix = adverbSuffix;
+        this.minAdverbLength = minAdverbLength;
+        this.adverbExceptions = adverbExceptions;
+        this.abbreviations = abbreviations;
+        this.stopWords = stopWords;
+    }
+
+    public static ProseAnalyzer forLocale(Locale locale) {
+        if (locale != null && "es".equals(locale.getLanguage())) {
+            return SPANISH;
+        }
+        return ENGLISH;
+    }
+
+    /**
+     * Language tag of the rules in use, part of any cache key for the results.
+     */
+    public String language() {
+        return language;
+    }
+
+    /**
+     * Whether a lowercased word is too common to say anything about style.
+     */
+    public boolean isStopWord(String word) {
+        return stopWords.contains(word);
+    }
+
+    public ProseMetrics analyze(CharSequence text) {
+        return text == null ? ProseMetrics.EMPTY : analyze(text, 0, text.length());
+    }
+
+    /**
+     * Analyzes {@code text[start, end)}. Both bounds must be at line starts (or the ends of
+     * the text) for the results of adjacent ranges to add up to those of the whole.
+     */
+    public ProseMetrics analyze(CharSequence text, int start, int end) {
+        return new Pass().run(text, start, end);
+    }
+
+    /**
+     * Index just after the first line break at or after {@code from}, or {@code end} if
+     * there is none: a position where the text can be split for {@link #analyze(CharSequence, int, int)}.
+     */
+    public static int lineBoundary(CharSequence text, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    private final class Pass {
+
+        private long words;
+        private long sentences;
+        private long longestSentence;
+        private long adverbs;
+        private long dialogueWords;
+        private final long[] sentenceLengths = new long[ProseMetrics.SENTENCE_BUCKET_LIMITS.length + 1];
+        private final HashMap<String, Integer> wordCounts = new HashMap<>();
+
+        private int sentenceWords;
+        private String lastWord;
+        private boolean quoted;
+        private boolean dashLine;
+        private boolean dashSpeech;
+        private boolean lineHasText;
+
+        ProseMetrics run(CharSequence text, int start, int end) {
+            int wordStart = -1;
+            for (int i = start; i < end; ) {
+                int cp = java.lang.Character.codePointAt(text, i);
+                int next = i + java.lang.Character.charCount(cp);
+                if (isWordChar(cp) || (wordStart >= 0 && isJoiner(cp) && next < end
+                        && isWordChar(java.lang.Character.codePointAt(text, next)))) {
+                    if (wordStart < 0) {
+                        wordStart = i;
+                    }
+                } else {
+                    if (wordStart >= 0) {
+                        word(text, wordStart, i);
+                        wordStart = -1;
+                    }
+                    punctuation(cp);
+                }
+                i = next;
+            }
+            if (wordStart >= 0) {
+                word(text, wordStart, end);
+            }
+            endSentence();
+            return new ProseMetrics(words, sentences, longestSentence, adverbs, dialogueWords, sentenceLengths,
+                    wordCounts);
+        }
+
+        private void word(CharSequence text, int start, int end) {
+            var word = text.subSequence(start, end).toString().toLowerCase(Locale.ROOT).replace('’', '\'');
+            words++;
+            sentenceWords++;
+            lineHasText = true;
+            lastWord = word;
+            if (quoted || dashSpeech) {
+                dialogueWords++;
+            }
+            if (word.length() >= minAdverbLength && word.endsWith(adverbSuffix) && !adverbExceptions.contains(word)) {
+                adverbs++;
+            }
+            if (word.length() >= MIN_TRACKED_WORD_LENGTH && !stopWords.contains(word)
+                    && java.lang.Character.isLetter(word.codePointAt(0))) {
+                wordCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        private void punctuation(int cp) {
+            switch (cp) {
+                case '.' -> {
+                    if (lastWord == null || !abbreviations.contains(lastWord)) {
+                        endSentence();
+                    }
+                }
+                case '!', '?', '…' -> endSentence();
+                case '\n' -> {
+                    endSentence();
+                    quoted = false;
+                    dashLine = false;
+                    dashSpeech = false;
+                    lineHasText = false;
+                }
+                case '“', '«' -> quoted = true;
+                case '”', '»' -> quoted = false;
+                case '"' -> quoted = !quoted;
+                case '—', '―' -> {
+                    if (!lineHasText && !dashLine) {
+                        dashLine = true;
+                        dashSpeech = true;
+                    } else if (dashLine) {
+                        dashSpeech = !dashSpeech;
+                    }
+                }
+                default -> {
+                }
+            }
+            if (!java.lang.Character.isWhitespace(cp)) {
+                lastWord = null;
+            }
+        }
+
+        private void endSentence() {
+            if (sentenceWords == 0) {
+                return;
+            }
+            sentences++;
+            longestSentence = Math.max(longestSentence, sentenceWords);
+            int bucket = 0;
+            while (bucket < ProseMetrics.SENTENCE_BUCKET_LIMITS.length
+                    && sentenceWords > ProseMetrics.SENTENCE_BUCKET_LIMITS[bucket]) {
+                bucket++;
+            }
+            sentenceLengths[bucket]++;
+            sentenceWords = 0;
+        }
+
+        private static boolean isWordChar(int cp) {
+            return java.lang.Character.isLetterOrDigit(cp)
+                    || java.lang.Character.getType(cp) == java.lang.Character.NON_SPACING_MARK;
+        }
+
+        private static boolean isJoiner(int cp) {
+            return cp == '\'' || cp == '’' || cp == '-';
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Readability counts for a piece of text, produced by {@link ProseAnalyzer}. Metrics of
+ * consecutive paragraphs, chapters or a whole project are combined with {@link #merge}.
+ *
+ * <p>{@code wordCounts} holds content words only (stop words and words shorter than three
+ * letters are left out). It may be capped with {@link #withTopWords}; counts merged from
+ * capped metrics then under-count the rarer words but keep the frequent ones.
+ */
+public final class ProseMetrics {
+
+    /**
+     * Upper bounds (inclusive) of the sentence length buckets, in words. The last bucket
+     * holds everything longer.
+     */
+    public static final int[] SENTENCE_BUCKET_LIMITS = {5, 10, 15, 20, 30, 40};
+
+    public static final ProseMetrics EMPTY = new ProseMetrics(0, 0, 0, 0, 0,
+            new long[SENTENCE_BUCKET_LIMITS.length + 1], Map.of());
+
+    // Rough heap cost used for cache weighing: object, array and map headers, plus a map
+    // entry, boxed count and String header per tracked word
+    private static final long OVERHEAD_BYTES = 256;
+    private static final long WORD_OVERHEAD_BYTES = 96;
+
+    private final long words;
+    private final long sentences;
+    private final long longestSentence;
+    private final long adverbs;
+    private final long dialogueWords;
+    private final long[] sentenceLengths;
+    private final Map<String, Integer> wordCounts;
+
+    ProseMetrics(long words, long sentences, long longestSentence, long adverbs, long dialogueWords,
+                 long[] sentenceLengths, Map<String, Integer> wordCounts) {
+        this.words = words;
+        this.sentences = sentences;
+        this.longestSentence = longestSentence;
+        this.adverbs = adverbs;
+        this.dialogueWords = dialogueWords;
+        this.sentenceLengths = sentenceLengths;
+        this.wordCounts = wordCounts;
+    }
+
+    public ProseMetrics merge(ProseMetrics other) {
+        var lengths = sentenceLengths.clone();
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] += other.sentenceLengths[i];
+        }
+        var counts = new HashMap<String, Integer>(wordCounts);
+        other.wordCounts.forEach((word, count) -> counts.merge(word, count, Integer::sum));
+        return new ProseMetrics(
+                words + other.words,
+                sentences + other.sentences,
+                Math.max(longestSentence, other.longestSentence),
+                adverbs + other.adverbs,
+                dialogueWords + other.dialogueWords,
+                lengths,
+                counts);
+    }
+
+    /**
+     * The same metrics keeping only the {@code limit} most frequent words.
+     */
+    public ProseMetrics withTopWords(int limit) {
+        if (wordCounts.size() <= limit) {
+            return this;
+        }
+        var top = new HashMap<String, Integer>(limit * 2);
+        for (var entry : topWords(limit)) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return new ProseMetrics(words, sentences, longestSentence, adverbs, dialogueWords, sentenceLengths, top);
+    }
+
+    /**
+     * The {@code limit} most frequent content words, most frequent first; ties in
+     * alphabetical order so reports are stable.
+     */
+    public List<Map.Entry<String, Integer>> topWords(int limit) {
+        return wordCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public long words() {
+        return words;
+    }
+
+    public long sentences() {
+        return sentences;
+    }
+
+    public long longestSentence() {
+        return longestSentence;
+    }
+
+    public long adverbs() {
+        return adverbs;
+    }
+
+    public long dialogueWords() {
+        return dialogueWords;
+    }
+
+    /**
+     * Number of sentences per bucket of {@link #SENTENCE_BUCKET_LIMITS}.
+     */
+    public long[] sentenceLengths() {
+        return sentenceLengths.clone();
+    }
+
+    public double averageSentenceLength() {
+        return sentences == 0 ? 0 : (double) words / sentences;
+    }
+
+    /**
+     * Approximate heap footprint in bytes.
+     */
+    public long weight() {
+        long chars = 0;
+        for (var word : wordCounts.keySet()) {
+            chars += word.length();
+        }
+        return OVERHEAD_BYTES + wordCounts.size() * WORD_OVERHEAD_BYTES + chars * 2;
+    }
+
+    @Override
+    public String toString() {
+        return "ProseMetrics[words=" + words + ", sentences=" + sentences + ", adverbs=" + adverbs
+                + ", dialogueWords=" + dialogueWords + ", sentenceLengths=" + Arrays.toString(sentenceLengths) + "]";
+    }
+}
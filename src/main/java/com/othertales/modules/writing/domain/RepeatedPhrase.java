@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * A lowercased run of {@code words} words found {@code occurrences} times in a manuscript.
+ */
+public record RepeatedPhrase(String phrase, int words, int occurrences) {
+}
@@ -0,0 +1,243 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming detector of phrases of {@value #MIN_WORDS} to {@value #MAX_WORDS} words that
+ * repeat across a manuscript.
+ *
+ * <p>Text is fed in chunks of any size, one document (chapter) after another. Each word is
+ * hashed once, and the hash of every n-gram ending at it is updated by a polynomial rolling
+ * hash over the word hashes, so no n-gram string is built while counting. Counts live in a
+ * {@link LongIntHashMap} keyed by the n-gram hash; the text of an n-gram is kept only once it
+ * is seen a second time, in a second, smaller table. Both are sized at construction, so a
+ * pass never uses more memory than its budget whatever the manuscript length.
+ *
+ * <p>Approximations, to stay within that budget:
+ * <ul>
+ *   <li>when the count table fills up, n-grams seen once are dropped; one that repeats later
+ *       is then under-counted by one;</li>
+ *   <li>if it is still full, new n-grams are no longer counted, and once the text table is
+ *       full new repeated phrases are not reported;</li>
+ *   <li>n-grams are 64-bit hashes, so two phrases may collide, with negligible odds.</li>
+ * </ul>
+ *
+ * <p>N-grams do not cross sentence ends, line breaks or documents, and n-grams made only of
+ * stop words ({@code "and then the"}) are ignored. Not thread-safe.
+ */
+public final class RepeatedPhraseDetector {
+
+    public static final int MIN_WORDS = 3;
+    public static final int MAX_WORDS = 6;
+
+    /** Bytes per slot of a {@link LongIntHashMap}. */
+    public static final int SLOT_BYTES = Long.BYTES + Integer.BYTES;
+
+    // Shorter words count as stop words, as in ProseMetrics word counts
+    private static final int MIN_CONTENT_WORD_LENGTH = 3;
+
+    private static final long BASE = 0x9E3779B97F4A7C15L;
+    private static final long[] BASE_POWERS = new long[MAX_WORDS + 1];
+    // Words kept for the current window, a power of two above MAX_WORDS
+    private static final int RING = 8;
+
+    static {
+        BASE_POWERS[0] = 1;
+        for (int i = 1; i <= MAX_WORDS; i++) {
+            BASE_POWERS[i] = BASE_POWERS[i - 1] * BASE;
+        }
+    }
+
+    private final ProseAnalyzer language;
+    private final LongIntHashMap counts;
+    private final LongIntHashMap phraseSlots;
+    private final String[] phrases;
+    private int phraseCount;
+
+    private final StringBuilder word = new StringBuilder();
+    private boolean pendingJoiner;
+    private char joiner;
+
+    private final String[] ringWords = new String[RING];
+    private final long[] ringHashes = new long[RING];
+    private final boolean[] ringStopWords = new boolean[RING];
+    private final long[] windowHashes = new long[MAX_WORDS + 1];
+    private int sentenceWords;
+
+    /**
+     * @param countSlots  slots of the n-gram count table, a power of two
+     * @param maxPhrases  repeated phrases whose text is kept
+     */
+    public RepeatedPhraseDetector(ProseAnalyzer language, int countSlots, int maxPhrases) {
+        this.language = language;
+        this.counts = new LongIntHashMap(countSlots);
+        this.phraseSlots = new LongIntHashMap(Integer.highestOneBit(Math.max(maxPhrases, 2)) * 2);
+        this.phrases = new String[maxPhrases];
+    }
+
+    /**
+     * Feeds the next chunk of the current document. Words may be split across chunks.
+     */
+    public void accept(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (isWordChar(c)) {
+                if (pendingJoiner) {
+                    word.append(joiner);
+                    pendingJoiner = false;
+                }
+                word.append(c);
+            } else if (!word.isEmpty() && !pendingJoiner && (c == '\'' || c == '’' || c == '-')) {
+                // Part of the word only if a letter follows, possibly in the next chunk
+                pendingJoiner = true;
+                joiner = c == '’' ? '\'' : c;
+            } else {
+                endWord();
+                if (c == '.' || c == '!' || c == '?' || c == '…' || c == '\n') {
+                    endSentence();
+                }
+            }
+        }
+    }
+
+    /**
+     * Ends the current document; no n-gram spans two documents.
+     */
+    public void endDocument() {
+        endWord();
+        endSentence();
+    }
+
+    /**
+     * Phrases seen at least {@code minOccurrences} times, most repeated first, longer first
+     * among equals. A phrase inside a longer reported one with as many occurrences is left
+     * out, so a repeated sentence is reported once rather than as each of its n-grams.
+     */
+    public List<RepeatedPhrase> result(int minOccurrences, int limit) {
+        var candidates = new ArrayList<RepeatedPhrase>();
+        phraseSlots.forEach((hash, slot) -> {
+            int occurrences = counts.get(hash);
+            if (occurrences >= minOccurrences) {
+                var phrase = phrases[slot];
+                candidates.add(new RepeatedPhrase(phrase, wordCount(phrase), occurrences));
+            }
+        });
+        candidates.sort(Comparator.comparingInt(RepeatedPhrase::occurrences).reversed()
+                .thenComparing(Comparator.comparingInt(RepeatedPhrase::words).reversed())
+                .thenComparing(RepeatedPhrase::phrase));
+
+        var reported = new ArrayList<RepeatedPhrase>(Math.min(limit, candidates.size()));
+        for (var candidate : candidates) {
+            if (reported.size() == limit) {
+                break;
+            }
+            var padded = " " + candidate.phrase() + " ";
+            boolean covered = reported.stream().anyMatch(longer -> longer.words() > candidate.words()
+                    && longer.occurrences() >= candidate.occurrences()
+                    && (" " + longer.phrase() + " ").contains(padded));
+            if (!covered) {
+                reported.add(candidate);
+            }
+        }
+        return reported;
+    }
+
+    private void endWord() {
+        pendingJoiner = false;
+        if (word.isEmpty()) {
+            return;
+        }
+        var text = word.toString().toLowerCase(Locale.ROOT);
+        word.setLength(0);
+
+        int position = sentenceWords++;
+        int at = position & (RING - 1);
+        long hash = hashWord(text);
+        ringWords[at] = text;
+        ringHashes[at] = hash;
+        ringStopWords[at] = text.length() < MIN_CONTENT_WORD_LENGTH || language.isStopWord(text);
+
+        for (int n = MIN_WORDS; n <= MAX_WORDS; n++) {
+            windowHashes[n] = windowHashes[n] * BASE + hash;
+            if (position >= n) {
+                // Drop the word that just left the n-word window
+                windowHashes[n] -= ringHashes[(position - n) & (RING - 1)] * BASE_POWERS[n];
+            }
+            if (position + 1 >= n && hasContentWord(position, n)) {
+                count(n, position);
+            }
+        }
+    }
+
+    private void count(int n, int position) {
+        long key = LongIntHashMap.mix(windowHashes[n] + n);
+        if (key == 0) {
+            key = 1;
+        }
+        int occurrences = counts.increment(key);
+        if (occurrences == 0 && counts.isFull()) {
+            counts.removeValuesBelow(2);
+            occurrences = counts.increment(key);
+        }
+        if (occurrences == 2 && phraseCount < phrases.length && phraseSlots.put(key, phraseCount)) {
+            phrases[phraseCount++] = phraseText(n, position);
+        }
+    }
+
+    private void endSentence() {
+        sentenceWords = 0;
+        Arrays.fill(windowHashes, 0);
+    }
+
+    private boolean hasContentWord(int position, int n) {
+        for (int i = 0; i < n; i++) {
+            if (!ringStopWords[(position - i) & (RING - 1)]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String phraseText(int n, int position) {
+        var text = new StringBuilder();
+        for (int i = n - 1; i >= 0; i--) {
+            text.append(ringWords[(position - i) & (RING - 1)]);
+            if (i > 0) {
+                text.append(' ');
+            }
+        }
+        return text.toString();
+    }
+
+    private static int wordCount(String phrase) {
+        int words = 1;
+        for (int i = 0; i < phrase.length(); i++) {
+            if (phrase.charAt(i) == ' ') {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    private static boolean isWordChar(char c) {
+        return java.lang.Character.isLetterOrDigit(c)
+                || java.lang.Character.getType(c) == java.lang.Character.NON_SPACING_MARK;
+    }
+
+    /**
+     * FNV-1a over the UTF-16 units, finished with {@link LongIntHashMap#mix} so that similar
+     * words spread over the whole range.
+     */
+    private static long hashWord(String word) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return LongIntHashMap.mix(hash);
+    }
+}
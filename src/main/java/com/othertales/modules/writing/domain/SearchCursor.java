@@ -0,0 +1,37 @@
+package com.othertales.modules.writing.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a result list ordered by {@code rank DESC, type DESC, id DESC}:
+ * the next page starts strictly after this hit.
+ */
+public record SearchCursor(float rank, SearchDocumentType type, UUID id) {
+
+    /**
+     * Opaque URL-safe token. {@link Float#toString} round-trips exactly, so the
+     * rank compares equal to the one Postgres computes again on the next request.
+     */
+    public String encode() {
+        var raw = rank + "|" + type.name() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new InvalidSearchQueryException("Malformed search cursor");
+            }
+            return new SearchCursor(
+                    Float.parseFloat(parts[0]),
+                    SearchDocumentType.valueOf(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchQueryException("Malformed search cursor");
+        }
+    }
+}
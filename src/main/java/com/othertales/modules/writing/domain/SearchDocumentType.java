@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Kinds of project material covered by full-text search.
+ */
+public enum SearchDocumentType {
+    CHAPTER,
+    IDEA,
+    CHARACTER,
+    STORY
+}
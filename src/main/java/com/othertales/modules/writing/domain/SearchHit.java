@@ -0,0 +1,24 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * One ranked full-text match. The snippet is plain text with each matched term
+ * wrapped in {@link #HIGHLIGHT_START} and {@link #HIGHLIGHT_END}.
+ */
+public record SearchHit(
+        SearchDocumentType type,
+        UUID id,
+        UUID projectId,
+        String title,
+        String snippet,
+        float rank
+) {
+
+    public static final char HIGHLIGHT_START = '\u0002';
+    public static final char HIGHLIGHT_END = '\u0003';
+
+    public SearchCursor cursor() {
+        return new SearchCursor(rank, type, id);
+    }
+}
@@ -0,0 +1,47 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.Locale;
+
+/**
+ * Text search configurations with a stored tsvector, one per supported locale.
+ */
+public enum SearchLanguage {
+    ENGLISH("english", "en"),
+    SPANISH("spanish", "es");
+
+    private final String configuration;
+    private final String columnSuffix;
+
+    SearchLanguage(String configuration, String columnSuffix) {
+        this.configuration = configuration;
+        this.columnSuffix = columnSuffix;
+    }
+
+    /**
+     * Matches the request locale's language, falling back to English like the locale resolver.
+     */
+    public static SearchLanguage fromLocale(Locale locale) {
+        if (locale != null) {
+            for (var language : values()) {
+                if (language.columnSuffix.equals(locale.getLanguage())) {
+                    return language;
+                }
+            }
+        }
+        return ENGLISH;
+    }
+
+    /**
+     * Postgres {@code regconfig} name.
+     */
+    public String configuration() {
+        return configuration;
+    }
+
+    /**
+     * Suffix of the {@code search_vector_*} column built with this configuration.
+     */
+    public String columnSuffix() {
+        return columnSuffix;
+    }
+}
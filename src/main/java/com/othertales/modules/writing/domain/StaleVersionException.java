@@ -0,0 +1,17 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.PreconditionFailedException;
+
+import java.util.UUID;
+
+/**
+ * The version a client sent in If-Match is not the current one: someone else saved first.
+ */
+public class StaleVersionException extends PreconditionFailedException {
+
+    public StaleVersionException(String resource, UUID id, Long expectedVersion, Long currentVersion) {
+        super(resource + " " + id + " is at version " + currentVersion + ", not " + expectedVersion,
+                ErrorCodes.VERSION_PRECONDITION_FAILED);
+    }
+}
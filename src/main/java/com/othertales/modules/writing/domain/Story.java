@@ -17,6 +17,8 @@ public class Story {
     private Instant createdAt;
     private Instant updatedAt;
     private boolean deleted;
+    private Long version;
+    private boolean persisted;
 
     private Story() {
     }
@@ -38,6 +40,7 @@ public class Story {
         story.createdAt = Instant.now();
         story.updatedAt = story.createdAt;
         story.deleted = false;
+        story.version = 0L;
         return story;
     }
 
@@ -52,7 +55,8 @@ public class Story {
             String imageUrl,
             Instant createdAt,
             Instant updatedAt,
-            boolean deleted) {
+            boolean deleted,
+            Long version) {
         var story = new Story();
         story.id = id;
         story.projectId = projectId;
@@ -65,6 +69,8 @@ public class Story {
         story.createdAt = createdAt;
         story.updatedAt = updatedAt;
         story.deleted = deleted;
+        story.version = version;
+        story.persisted = true;
         return story;
     }
 
@@ -139,6 +145,14 @@ public class Story {
         return deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,13 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ResourceNotFoundException;
+
+import java.util.UUID;
+
+public class StoryNotFoundException extends ResourceNotFoundException {
+
+    public StoryNotFoundException(UUID storyId) {
+        super("Story not found: " + storyId, ErrorCodes.STORY_NOT_FOUND);
+    }
+}
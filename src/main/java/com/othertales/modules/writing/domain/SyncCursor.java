@@ -0,0 +1,45 @@
+package com.othertales.modules.writing.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a user's change stream: every change with a {@code change_seq} up to
+ * {@code changeSeq} has been delivered. {@link #START} means nothing has been yet.
+ */
+public record SyncCursor(long changeSeq) {
+
+    public static final SyncCursor START = new SyncCursor(0);
+
+    public SyncCursor {
+        if (changeSeq < 0) {
+            throw new InvalidSyncCursorException("Sync cursor must not be negative");
+        }
+    }
+
+    /**
+     * Opaque URL-safe token, so clients store it as is.
+     */
+    public String encode() {
+        var raw = "s" + changeSeq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token a token from {@link #encode()}, or null or blank for a first sync
+     */
+    public static SyncCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith("s")) {
+                throw new InvalidSyncCursorException("Malformed sync cursor");
+            }
+            return new SyncCursor(Long.parseLong(raw.substring(1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSyncCursorException("Malformed sync cursor");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Kinds of project material an offline client keeps in sync.
+ */
+public enum SyncEntityType {
+    PROJECT,
+    CHAPTER,
+    STORY,
+    CHARACTER,
+    IDEA
+}
@@ -0,0 +1,14 @@
+package com.othertales.modules.writing.domain;
+
+import java.util.UUID;
+
+/**
+ * Something a client should drop: a soft-deleted row, or the trace a hard-deleted
+ * chapter leaves in {@code sync_tombstones}.
+ */
+public record SyncTombstone(
+        SyncEntityType type,
+        UUID id,
+        UUID projectId
+) {
+}
@@ -0,0 +1,12 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Splice operation on chapter content: removes {@code deleteCount} UTF-16 code units
+ * starting at {@code offset} and inserts {@code insert} in their place.
+ */
+public record TextEdit(int offset, int deleteCount, String insert) {
+
+    public TextEdit {
+        insert = insert != null ? insert : "";
+    }
+}
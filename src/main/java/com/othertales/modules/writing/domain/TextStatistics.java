@@ -0,0 +1,13 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Counts produced by {@link WordCounter} for a piece of text.
+ *
+ * @param words      number of words, with CJK ideographs and kana counted one per character
+ * @param characters number of Unicode code points, whitespace included
+ * @param paragraphs number of lines holding at least one visible character
+ */
+public record TextStatistics(int words, int characters, int paragraphs) {
+
+    public static final TextStatistics EMPTY = new TextStatistics(0, 0, 0);
+}
@@ -0,0 +1,11 @@
+package com.othertales.modules.writing.domain;
+
+import com.othertales.common.domain.ErrorCodes;
+import com.othertales.common.domain.ValidationException;
+
+public class UnsupportedExportFormatException extends ValidationException {
+
+    public UnsupportedExportFormatException(String format) {
+        super("Unsupported export format: " + format, ErrorCodes.EXPORT_UNSUPPORTED_FORMAT);
+    }
+}
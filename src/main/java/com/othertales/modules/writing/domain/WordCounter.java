@@ -0,0 +1,124 @@
+package com.othertales.modules.writing.domain;
+
+/**
+ * Single-pass word, character and paragraph counter.
+ *
+ * <p>Walks the text code point by code point without allocating per word. Segmentation rules:
+ * <ul>
+ *   <li>letters, digits and combining marks form words;</li>
+ *   <li>Han ideographs, Hiragana and Katakana count as one word per character, as CJK text is
+ *       written without spaces;</li>
+ *   <li>hyphens join the words around them ({@code well-known} is one word), while em and en
+ *       dashes separate them;</li>
+ *   <li>{@code .} and {@code ,} inside numbers keep the number whole ({@code 3.14}, {@code 1,000});</li>
+ *   <li>apostrophes join the words around them ({@code don't}, {@code d'Artagnan}).</li>
+ * </ul>
+ *
+ * <p>{@code java.lang.Character} is spelled out because this package has its own {@link Character}.
+ */
+public final class WordCounter {
+
+    private static final WordCounter INSTANCE = new WordCounter();
+
+    private WordCounter() {
+    }
+
+    public static WordCounter defaultCounter() {
+        return INSTANCE;
+    }
+
+    public int countWords(CharSequence text) {
+        return analyze(text).words();
+    }
+
+    public TextStatistics analyze(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return TextStatistics.EMPTY;
+        }
+
+        int words = 0;
+        int characters = 0;
+        int paragraphs = 0;
+        boolean inWord = false;
+        boolean pendingJoin = false;
+        boolean lastWasDigit = false;
+        boolean lineHasContent = false;
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int cp = java.lang.Character.codePointAt(text, i);
+            i += java.lang.Character.charCount(cp);
+            characters++;
+
+            if (isLineBreak(cp)) {
+                lineHasContent = false;
+                inWord = false;
+                pendingJoin = false;
+                continue;
+            }
+            if (!lineHasContent && !isBlank(cp)) {
+                lineHasContent = true;
+                paragraphs++;
+            }
+
+            if (isCjk(cp)) {
+                words++;
+                inWord = false;
+                pendingJoin = false;
+                continue;
+            }
+            if (isWordPart(cp)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                }
+                pendingJoin = false;
+                lastWasDigit = java.lang.Character.isDigit(cp);
+                continue;
+            }
+            if (inWord && !pendingJoin && isJoiner(cp, lastWasDigit)) {
+                pendingJoin = true;
+                continue;
+            }
+            inWord = false;
+            pendingJoin = false;
+        }
+
+        return new TextStatistics(words, characters, paragraphs);
+    }
+
+    private static boolean isJoiner(int cp, boolean afterDigit) {
+        return switch (cp) {
+            case '-', 0x2010, 0x2011 -> true;              // hyphen-minus, hyphen, non-breaking hyphen
+            case '\'', 0x2019 -> true;                      // apostrophe, right single quotation mark
+            case '.', ',' -> afterDigit;
+            default -> false;
+        };
+    }
+
+    private static boolean isWordPart(int cp) {
+        if (java.lang.Character.isLetterOrDigit(cp)) {
+            return true;
+        }
+        int type = java.lang.Character.getType(cp);
+        return type == java.lang.Character.NON_SPACING_MARK
+                || type == java.lang.Character.COMBINING_SPACING_MARK
+                || type == java.lang.Character.ENCLOSING_MARK;
+    }
+
+    private static boolean isCjk(int cp) {
+        return java.lang.Character.isIdeographic(cp)
+                || (cp >= 0x3040 && cp <= 0x30FF)   // Hiragana, Katakana
+                || (cp >= 0x31F0 && cp <= 0x31FF)   // Katakana phonetic extensions
+                || (cp >= 0xFF66 && cp <= 0xFF9D);  // Halfwidth Katakana
+    }
+
+    private static boolean isLineBreak(int cp) {
+        return cp == '\n' || cp == '\r' || cp == 0x2028 || cp == 0x2029;
+    }
+
+    private static boolean isBlank(int cp) {
+        return java.lang.Character.isWhitespace(cp) || java.lang.Character.isSpaceChar(cp);
+    }
+}
@@ -0,0 +1,13 @@
+package com.othertales.modules.writing.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Words added and removed by chapter saves during one period of a rollup.
+ */
+public record WritingActivity(LocalDate periodStart, long wordsAdded, long wordsRemoved) {
+
+    public long netWords() {
+        return wordsAdded - wordsRemoved;
+    }
+}
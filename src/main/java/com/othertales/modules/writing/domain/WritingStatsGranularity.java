@@ -0,0 +1,35 @@
+package com.othertales.modules.writing.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Period of a writing statistics rollup. Weeks start on Monday (ISO), like
+ * PostgreSQL's {@code date_trunc('week', ...)}.
+ */
+public enum WritingStatsGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public LocalDate periodStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    public static WritingStatsGranularity parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidWritingStatsQueryException("Unknown granularity: " + value);
+        }
+    }
+}
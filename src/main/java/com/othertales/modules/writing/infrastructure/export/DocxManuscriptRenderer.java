@@ -0,0 +1,200 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import com.othertales.modules.writing.application.port.ManuscriptRenderer;
+import com.othertales.modules.writing.application.port.ManuscriptWriter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.ExportFormat;
+import com.othertales.modules.writing.domain.Story;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A minimal WordprocessingML package. The fixed parts are written up front; the whole book
+ * then goes into {@code word/document.xml}, which is compressed as it is written. Stories,
+ * chapters and the characters section each start on a new page through the heading style.
+ */
+@Component
+public class DocxManuscriptRenderer implements ManuscriptRenderer {
+
+    private static final String CONTENT_TYPES_XML = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+              <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+              <Default Extension="xml" ContentType="application/xml"/>
+              <Override PartName="/word/document.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"/>
+              <Override PartName="/word/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.styles+xml"/>
+              <Override PartName="/docProps/core.xml" ContentType="application/vnd.openxmlformats-package.core-properties+xml"/>
+            </Types>
+            """;
+
+    private static final String PACKAGE_RELS_XML = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+              <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="word/document.xml"/>
+              <Relationship Id="rId2" Type="http://schemas.openxmlformats.org/package/2006/relationships/metadata/core-properties" Target="docProps/core.xml"/>
+            </Relationships>
+            """;
+
+    private static final String DOCUMENT_RELS_XML = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+              <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles" Target="styles.xml"/>
+            </Relationships>
+            """;
+
+    private static final String STYLES_XML = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <w:styles xmlns:w="http://schemas.openxmlformats.org/wordprocessingml/2006/main">
+              <w:style w:type="paragraph" w:default="1" w:styleId="Normal">
+                <w:name w:val="Normal"/>
+                <w:pPr><w:spacing w:after="160" w:line="360" w:lineRule="auto"/></w:pPr>
+              </w:style>
+              <w:style w:type="paragraph" w:styleId="Title">
+                <w:name w:val="Title"/>
+                <w:basedOn w:val="Normal"/>
+                <w:pPr><w:jc w:val="center"/><w:spacing w:before="2400" w:after="480"/></w:pPr>
+                <w:rPr><w:sz w:val="56"/></w:rPr>
+              </w:style>
+              <w:style w:type="paragraph" w:styleId="Heading1">
+                <w:name w:val="heading 1"/>
+                <w:basedOn w:val="Normal"/>
+                <w:next w:val="Normal"/>
+                <w:pPr><w:keepNext/><w:pageBreakBefore/><w:spacing w:after="480"/><w:outlineLvl w:val="0"/></w:pPr>
+                <w:rPr><w:b/><w:sz w:val="36"/></w:rPr>
+              </w:style>
+              <w:style w:type="paragraph" w:styleId="Heading2">
+                <w:name w:val="heading 2"/>
+                <w:basedOn w:val="Normal"/>
+                <w:next w:val="Normal"/>
+                <w:pPr><w:keepNext/><w:spacing w:before="240"/><w:outlineLvl w:val="1"/></w:pPr>
+                <w:rPr><w:b/><w:sz w:val="28"/></w:rPr>
+              </w:style>
+            </w:styles>
+            """;
+
+    private final ManuscriptLabels labels;
+
+    public DocxManuscriptRenderer(ManuscriptLabels labels) {
+        this.labels = labels;
+    }
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.DOCX;
+    }
+
+    @Override
+    public ManuscriptWriter open(OutputStream output, ManuscriptMetadata metadata) throws IOException {
+        var zip = new ZipTextWriter(output);
+        zip.entry("[Content_Types].xml", CONTENT_TYPES_XML);
+        zip.entry("_rels/.rels", PACKAGE_RELS_XML);
+        zip.entry("word/_rels/document.xml.rels", DOCUMENT_RELS_XML);
+        zip.entry("word/styles.xml", STYLES_XML);
+        writeCoreProperties(zip, metadata);
+
+        zip.beginEntry("word/document.xml");
+        zip.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        zip.write("<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>\n");
+        var session = new Session(zip, metadata.language());
+        session.styledParagraph("Title", metadata.title());
+        session.writeParagraphs(metadata.synopsis());
+        return session;
+    }
+
+    private static void writeCoreProperties(ZipTextWriter zip, ManuscriptMetadata metadata) throws IOException {
+        var modified = Objects.requireNonNullElseGet(metadata.modifiedAt(), Instant::now).truncatedTo(ChronoUnit.SECONDS);
+
+        zip.beginEntry("docProps/core.xml");
+        zip.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        zip.write("<cp:coreProperties xmlns:cp=\"http://schemas.openxmlformats.org/package/2006/metadata/core-properties\""
+                + " xmlns:dc=\"http://purl.org/dc/elements/1.1/\" xmlns:dcterms=\"http://purl.org/dc/terms/\""
+                + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">\n<dc:title>");
+        zip.writeEscaped(metadata.title());
+        zip.write("</dc:title>\n<dc:language>");
+        zip.writeEscaped(metadata.language());
+        zip.write("</dc:language>\n<dcterms:modified xsi:type=\"dcterms:W3CDTF\">"
+                + DateTimeFormatter.ISO_INSTANT.format(modified) + "</dcterms:modified>\n");
+        zip.write("</cp:coreProperties>\n");
+        zip.endEntry();
+    }
+
+    private final class Session implements ManuscriptWriter {
+
+        private final ZipTextWriter zip;
+        private final String language;
+        private boolean inBackMatter;
+
+        private Session(ZipTextWriter zip, String language) {
+            this.zip = zip;
+            this.language = language;
+        }
+
+        @Override
+        public void writeStory(Story story) throws IOException {
+            styledParagraph("Heading1", story.getTitle());
+            writeFields(labels.storyFields(story, language));
+        }
+
+        @Override
+        public void writeChapter(String title, String content) throws IOException {
+            styledParagraph("Heading1", title);
+            writeParagraphs(content);
+        }
+
+        @Override
+        public void writeCharacter(Character character) throws IOException {
+            if (!inBackMatter) {
+                styledParagraph("Heading1", labels.get("characters", language));
+                inBackMatter = true;
+            }
+            styledParagraph("Heading2", character.getName());
+            writeFields(labels.characterFields(character, language));
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.write("<w:sectPr/></w:body></w:document>\n");
+            zip.endEntry();
+            zip.finish();
+        }
+
+        void styledParagraph(String style, String text) throws IOException {
+            zip.write("<w:p><w:pPr><w:pStyle w:val=\"" + style + "\"/></w:pPr>");
+            run(text, false);
+            zip.write("</w:p>\n");
+        }
+
+        void writeParagraphs(String text) throws IOException {
+            for (var paragraph : ManuscriptText.paragraphs(text)) {
+                zip.write("<w:p>");
+                run(paragraph, false);
+                zip.write("</w:p>\n");
+            }
+        }
+
+        private void writeFields(List<ManuscriptLabels.Field> fields) throws IOException {
+            for (var field : fields) {
+                if (field.label() != null) {
+                    zip.write("<w:p><w:pPr><w:keepNext/></w:pPr>");
+                    run(field.label(), true);
+                    zip.write("</w:p>\n");
+                }
+                writeParagraphs(field.text());
+            }
+        }
+
+        private void run(String text, boolean bold) throws IOException {
+            zip.write(bold ? "<w:r><w:rPr><w:b/></w:rPr><w:t xml:space=\"preserve\">" : "<w:r><w:t xml:space=\"preserve\">");
+            zip.writeEscaped(text);
+            zip.write("</w:t></w:r>");
+        }
+    }
+}
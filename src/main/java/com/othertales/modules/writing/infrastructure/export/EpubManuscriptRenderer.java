@@ -0,0 +1,210 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import com.othertales.modules.writing.application.port.ManuscriptRenderer;
+import com.othertales.modules.writing.application.port.ManuscriptWriter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.ExportFormat;
+import com.othertales.modules.writing.domain.Story;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * EPUB 3 with one XHTML page per story and chapter and a single page for all characters.
+ * Each page is written into the zip as it arrives; the package document and navigation,
+ * which list every page, are written last from the titles collected on the way.
+ */
+@Component
+public class EpubManuscriptRenderer implements ManuscriptRenderer {
+
+    private static final String CONTAINER_XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <container version="1.0" xmlns="urn:oasis:names:tc:opendocument:xmlns:container">
+              <rootfiles>
+                <rootfile full-path="OEBPS/content.opf" media-type="application/oebps-package+xml"/>
+              </rootfiles>
+            </container>
+            """;
+
+    private final ManuscriptLabels labels;
+
+    public EpubManuscriptRenderer(ManuscriptLabels labels) {
+        this.labels = labels;
+    }
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.EPUB;
+    }
+
+    @Override
+    public ManuscriptWriter open(OutputStream output, ManuscriptMetadata metadata) throws IOException {
+        var zip = new ZipTextWriter(output);
+        zip.storedEntry("mimetype", ExportFormat.EPUB.mediaType());
+        zip.entry("META-INF/container.xml", CONTAINER_XML);
+
+        var session = new Session(zip, metadata);
+        session.beginPage("title", metadata.title(), "titlepage");
+        session.writeParagraphs(metadata.synopsis());
+        session.endPage();
+        return session;
+    }
+
+    private record Page(String id, String title) {
+
+        String href() {
+            return id + ".xhtml";
+        }
+    }
+
+    private final class Session implements ManuscriptWriter {
+
+        private final ZipTextWriter zip;
+        private final ManuscriptMetadata metadata;
+        private final List<Page> pages = new ArrayList<>();
+        private int stories;
+        private int chapters;
+        private boolean inBackMatter;
+
+        private Session(ZipTextWriter zip, ManuscriptMetadata metadata) {
+            this.zip = zip;
+            this.metadata = metadata;
+        }
+
+        @Override
+        public void writeStory(Story story) throws IOException {
+            beginPage("story-%04d".formatted(++stories), story.getTitle(), "frontmatter");
+            writeFields(labels.storyFields(story, metadata.language()));
+            endPage();
+        }
+
+        @Override
+        public void writeChapter(String title, String content) throws IOException {
+            beginPage("chapter-%04d".formatted(++chapters), title, "chapter");
+            writeParagraphs(content);
+            endPage();
+        }
+
+        @Override
+        public void writeCharacter(Character character) throws IOException {
+            if (!inBackMatter) {
+                beginPage("characters", labels.get("characters", metadata.language()), "backmatter");
+                inBackMatter = true;
+            }
+            zip.write("<h2>");
+            zip.writeEscaped(character.getName());
+            zip.write("</h2>\n");
+            writeFields(labels.characterFields(character, metadata.language()));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (inBackMatter) {
+                endPage();
+            }
+            writeNavigation();
+            writePackageDocument();
+            zip.finish();
+        }
+
+        void beginPage(String id, String title, String type) throws IOException {
+            pages.add(new Page(id, title));
+            zip.beginEntry("OEBPS/" + id + ".xhtml");
+            zip.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!DOCTYPE html>\n");
+            writeHtmlStart(title);
+            zip.write("<section epub:type=\"" + type + "\">\n<h1>");
+            zip.writeEscaped(title);
+            zip.write("</h1>\n");
+        }
+
+        void endPage() throws IOException {
+            zip.write("</section>\n</body>\n</html>\n");
+            zip.endEntry();
+        }
+
+        void writeParagraphs(String text) throws IOException {
+            for (var paragraph : ManuscriptText.paragraphs(text)) {
+                zip.write("<p>");
+                zip.writeEscaped(paragraph);
+                zip.write("</p>\n");
+            }
+        }
+
+        private void writeFields(List<ManuscriptLabels.Field> fields) throws IOException {
+            for (var field : fields) {
+                if (field.label() != null) {
+                    zip.write("<h3>");
+                    zip.writeEscaped(field.label());
+                    zip.write("</h3>\n");
+                }
+                writeParagraphs(field.text());
+            }
+        }
+
+        private void writeHtmlStart(String title) throws IOException {
+            zip.write("<html xmlns=\"http://www.w3.org/1999/xhtml\" xmlns:epub=\"http://www.idpf.org/2007/ops\" lang=\"");
+            zip.writeEscaped(metadata.language());
+            zip.write("\" xml:lang=\"");
+            zip.writeEscaped(metadata.language());
+            zip.write("\">\n<head>\n<title>");
+            zip.writeEscaped(title);
+            zip.write("</title>\n</head>\n<body>\n");
+        }
+
+        private void writeNavigation() throws IOException {
+            var contents = labels.get("contents", metadata.language());
+            zip.beginEntry("OEBPS/nav.xhtml");
+            zip.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!DOCTYPE html>\n");
+            writeHtmlStart(contents);
+            zip.write("<nav epub:type=\"toc\" id=\"toc\">\n<h1>");
+            zip.writeEscaped(contents);
+            zip.write("</h1>\n<ol>\n");
+            for (var page : pages) {
+                zip.write("<li><a href=\"" + page.href() + "\">");
+                zip.writeEscaped(page.title());
+                zip.write("</a></li>\n");
+            }
+            zip.write("</ol>\n</nav>\n</body>\n</html>\n");
+            zip.endEntry();
+        }
+
+        private void writePackageDocument() throws IOException {
+            var modified = Objects.requireNonNullElseGet(metadata.modifiedAt(), Instant::now).truncatedTo(ChronoUnit.SECONDS);
+
+            zip.beginEntry("OEBPS/content.opf");
+            zip.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            zip.write("<package xmlns=\"http://www.idpf.org/2007/opf\" version=\"3.0\" unique-identifier=\"book-id\">\n");
+            zip.write("<metadata xmlns:dc=\"http://purl.org/dc/elements/1.1/\">\n");
+            zip.write("<dc:identifier id=\"book-id\">urn:uuid:" + metadata.projectId() + "</dc:identifier>\n<dc:title>");
+            zip.writeEscaped(metadata.title());
+            zip.write("</dc:title>\n<dc:language>");
+            zip.writeEscaped(metadata.language());
+            zip.write("</dc:language>\n");
+            if (metadata.synopsis() != null && !metadata.synopsis().isBlank()) {
+                zip.write("<dc:description>");
+                zip.writeEscaped(metadata.synopsis());
+                zip.write("</dc:description>\n");
+            }
+            zip.write("<meta property=\"dcterms:modified\">" + DateTimeFormatter.ISO_INSTANT.format(modified) + "</meta>\n");
+            zip.write("</metadata>\n<manifest>\n");
+            zip.write("<item id=\"nav\" href=\"nav.xhtml\" media-type=\"application/xhtml+xml\" properties=\"nav\"/>\n");
+            for (var page : pages) {
+                zip.write("<item id=\"" + page.id() + "\" href=\"" + page.href() + "\" media-type=\"application/xhtml+xml\"/>\n");
+            }
+            zip.write("</manifest>\n<spine>\n");
+            for (var page : pages) {
+                zip.write("<itemref idref=\"" + page.id() + "\"/>\n");
+            }
+            zip.write("</spine>\n</package>\n");
+            zip.endEntry();
+        }
+    }
+}
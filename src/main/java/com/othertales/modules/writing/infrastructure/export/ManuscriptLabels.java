@@ -0,0 +1,60 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Story;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Localized headings and the labelled fields shown for each story and character, shared by
+ * all renderers so every format prints the same front and back matter.
+ */
+@Component
+public class ManuscriptLabels {
+
+    private final MessageSource messageSource;
+
+    public ManuscriptLabels(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    public String get(String key, String languageTag) {
+        return messageSource.getMessage("export." + key, null, Locale.forLanguageTag(languageTag));
+    }
+
+    /**
+     * The synopsis comes first and unlabelled; blank fields are left out.
+     */
+    public List<Field> storyFields(Story story, String languageTag) {
+        var fields = new ArrayList<Field>(4);
+        add(fields, null, story.getSynopsis());
+        add(fields, get("story.theme", languageTag), story.getTheme());
+        add(fields, get("story.secondaryPlots", languageTag), story.getSecondaryPlots());
+        add(fields, get("story.notes", languageTag), story.getOthers());
+        return fields;
+    }
+
+    public List<Field> characterFields(Character character, String languageTag) {
+        var fields = new ArrayList<Field>(3);
+        add(fields, get("character.role", languageTag), character.getRole());
+        add(fields, get("character.description", languageTag), character.getDescription());
+        add(fields, get("character.physicalDescription", languageTag), character.getPhysicalDescription());
+        return fields;
+    }
+
+    private static void add(List<Field> fields, String label, String text) {
+        if (text != null && !text.isBlank()) {
+            fields.add(new Field(label, text));
+        }
+    }
+
+    /**
+     * @param label heading printed before the text, or {@code null} for none
+     */
+    public record Field(String label, String text) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Plain-text helpers shared by the renderers.
+ */
+final class ManuscriptText {
+
+    private ManuscriptText() {
+    }
+
+    /**
+     * Each non-blank line of the text is one paragraph.
+     */
+    static List<String> paragraphs(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return text.lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Writes {@code text} escaped for XML character data and attribute values, dropping
+     * the control characters XML 1.0 does not allow.
+     */
+    static void writeEscaped(Writer writer, String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                default -> c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == 0xFFFE || c == 0xFFFF ? "" : null;
+            };
+            if (replacement != null) {
+                writer.write(text, start, i - start);
+                writer.write(replacement);
+                start = i + 1;
+            }
+        }
+        writer.write(text, start, text.length() - start);
+    }
+}
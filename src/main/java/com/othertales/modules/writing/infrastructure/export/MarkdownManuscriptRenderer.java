@@ -0,0 +1,115 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import com.othertales.modules.writing.application.port.ManuscriptRenderer;
+import com.othertales.modules.writing.application.port.ManuscriptWriter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.ExportFormat;
+import com.othertales.modules.writing.domain.Story;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A single Markdown document: the book title as {@code #}, each story, chapter and the
+ * characters heading as {@code ##}, and each character as {@code ###}.
+ */
+@Component
+public class MarkdownManuscriptRenderer implements ManuscriptRenderer {
+
+    private final ManuscriptLabels labels;
+
+    public MarkdownManuscriptRenderer(ManuscriptLabels labels) {
+        this.labels = labels;
+    }
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.MARKDOWN;
+    }
+
+    @Override
+    public ManuscriptWriter open(OutputStream output, ManuscriptMetadata metadata) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        heading(writer, "#", metadata.title());
+        var synopsis = ManuscriptText.paragraphs(metadata.synopsis());
+        if (!synopsis.isEmpty()) {
+            writer.write("> ");
+            writer.write(String.join("\n>\n> ", synopsis));
+            writer.write("\n\n");
+        }
+        return new Session(writer, metadata.language());
+    }
+
+    private final class Session implements ManuscriptWriter {
+
+        private final Writer writer;
+        private final String language;
+        private boolean inBackMatter;
+
+        private Session(Writer writer, String language) {
+            this.writer = writer;
+            this.language = language;
+        }
+
+        @Override
+        public void writeStory(Story story) throws IOException {
+            heading(writer, "##", story.getTitle());
+            writeFields(labels.storyFields(story, language));
+        }
+
+        @Override
+        public void writeChapter(String title, String content) throws IOException {
+            heading(writer, "##", title);
+            for (var paragraph : ManuscriptText.paragraphs(content)) {
+                writer.write(paragraph);
+                writer.write("\n\n");
+            }
+        }
+
+        @Override
+        public void writeCharacter(Character character) throws IOException {
+            if (!inBackMatter) {
+                heading(writer, "##", labels.get("characters", language));
+                inBackMatter = true;
+            }
+            heading(writer, "###", character.getName());
+            writeFields(labels.characterFields(character, language));
+        }
+
+        /**
+         * Flushes but does not close, leaving the response stream to its owner.
+         */
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private void writeFields(List<ManuscriptLabels.Field> fields) throws IOException {
+            for (var field : fields) {
+                if (field.label() != null) {
+                    writer.write("**");
+                    writer.write(field.label());
+                    writer.write("**\n\n");
+                }
+                for (var paragraph : ManuscriptText.paragraphs(field.text())) {
+                    writer.write(paragraph);
+                    writer.write("\n\n");
+                }
+            }
+        }
+    }
+
+    private static void heading(Writer writer, String level, String text) throws IOException {
+        writer.write(level);
+        writer.write(' ');
+        writer.write(text.replace('\n', ' '));
+        writer.write("\n\n");
+    }
+}
@@ -0,0 +1,74 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes UTF-8 text entries into a zip container, one entry open at a time. Entries are
+ * compressed as they are written, so an entry of any size costs only the buffer.
+ */
+final class ZipTextWriter {
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+
+    ZipTextWriter(OutputStream output) {
+        this.zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds an uncompressed entry, as EPUB requires for its {@code mimetype} file.
+     */
+    void storedEntry(String name, String content) throws IOException {
+        var bytes = content.getBytes(StandardCharsets.US_ASCII);
+        var crc = new CRC32();
+        crc.update(bytes);
+        var entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCompressedSize(bytes.length);
+        entry.setCrc(crc.getValue());
+        zip.putNextEntry(entry);
+        zip.write(bytes);
+        zip.closeEntry();
+    }
+
+    void entry(String name, String content) throws IOException {
+        beginEntry(name);
+        writer.write(content);
+        endEntry();
+    }
+
+    void beginEntry(String name) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+    }
+
+    void write(String text) throws IOException {
+        writer.write(text);
+    }
+
+    void writeEscaped(String text) throws IOException {
+        ManuscriptText.writeEscaped(writer, text);
+    }
+
+    void endEntry() throws IOException {
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * Writes the central directory without closing the underlying stream.
+     */
+    void finish() throws IOException {
+        writer.flush();
+        zip.finish();
+    }
+}
@@ -0,0 +1,53 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import com.othertales.modules.writing.application.port.ManuscriptParser;
+import com.othertales.modules.writing.domain.InvalidManuscriptImportException;
+
+/**
+ * Accumulates the text of the current chapter and hands it over when the next heading
+ * starts, so only one chapter is held in memory at a time. Caps the total text so a
+ * compressed upload cannot expand without bound.
+ */
+final class ChapterSplitter {
+
+    static final long MAX_MANUSCRIPT_LENGTH = 20_000_000;
+
+    private final ManuscriptParser.ChapterHandler handler;
+    private final StringBuilder content = new StringBuilder();
+    private String title;
+    private boolean inChapter;
+    private long totalLength;
+
+    ChapterSplitter(ManuscriptParser.ChapterHandler handler) {
+        this.handler = handler;
+    }
+
+    void startChapter(String title) {
+        emit();
+        this.title = title;
+        this.inChapter = true;
+    }
+
+    void appendLine(CharSequence line) {
+        totalLength += line.length() + 1;
+        checkLength(totalLength);
+        content.append(line).append('\n');
+    }
+
+    static void checkLength(long length) {
+        if (length > MAX_MANUSCRIPT_LENGTH) {
+            throw new InvalidManuscriptImportException("Manuscript longer than " + MAX_MANUSCRIPT_LENGTH + " characters");
+        }
+    }
+
+    void finish() {
+        emit();
+    }
+
+    private void emit() {
+        if (inChapter || !content.isEmpty()) {
+            handler.accept(title, content.toString().strip());
+        }
+        content.setLength(0);
+    }
+}
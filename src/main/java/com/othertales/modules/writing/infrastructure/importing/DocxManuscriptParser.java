@@ -0,0 +1,128 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import com.othertales.modules.writing.application.port.ManuscriptParser;
+import com.othertales.modules.writing.domain.ImportFormat;
+import com.othertales.modules.writing.domain.InvalidManuscriptImportException;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads {@code word/document.xml} straight out of the zip stream with StAX. Paragraphs
+ * styled as heading 1 or 2 (including Word's localized style ids such as {@code Ttulo1}) or
+ * with outline level 0 or 1 start a chapter; the {@code Title} style is the book title and
+ * is skipped.
+ */
+@Component
+public class DocxManuscriptParser implements ManuscriptParser {
+
+    private static final String DOCUMENT_PART = "word/document.xml";
+    private static final String WORDPROCESSING_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final Pattern HEADING_STYLE = Pattern.compile("(?i)(?:heading|t[ií]?tulo)\\s*[12]");
+    private static final Pattern TITLE_STYLE = Pattern.compile("(?i)title|t[ií]?tulo");
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public DocxManuscriptParser() {
+        xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public ImportFormat format() {
+        return ImportFormat.DOCX;
+    }
+
+    @Override
+    public void parse(InputStream input, ChapterHandler handler) throws IOException {
+        var zip = new ZipInputStream(input);
+        for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            if (DOCUMENT_PART.equals(entry.getName())) {
+                try {
+                    parseDocument(new NonClosingInputStream(zip), handler);
+                } catch (XMLStreamException e) {
+                    throw new InvalidManuscriptImportException("Malformed " + DOCUMENT_PART, e);
+                }
+                return;
+            }
+        }
+        throw new InvalidManuscriptImportException("Not a DOCX file: " + DOCUMENT_PART + " is missing");
+    }
+
+    private void parseDocument(InputStream document, ChapterHandler handler) throws XMLStreamException {
+        var splitter = new ChapterSplitter(handler);
+        var xml = xmlInputFactory.createXMLStreamReader(document);
+        try {
+            var text = new StringBuilder();
+            String style = null;
+            int outlineLevel = -1;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && WORDPROCESSING_NS.equals(xml.getNamespaceURI())) {
+                    switch (xml.getLocalName()) {
+                        case "p" -> {
+                            text.setLength(0);
+                            style = null;
+                            outlineLevel = -1;
+                        }
+                        case "pStyle" -> style = attribute(xml, "val");
+                        case "outlineLvl" -> outlineLevel = parseLevel(attribute(xml, "val"));
+                        case "t" -> {
+                            text.append(xml.getElementText());
+                            ChapterSplitter.checkLength(text.length());
+                        }
+                        case "tab" -> text.append('\t');
+                        case "br", "cr" -> text.append('\n');
+                        default -> { }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && WORDPROCESSING_NS.equals(xml.getNamespaceURI())
+                        && "p".equals(xml.getLocalName())) {
+                    if (style != null && HEADING_STYLE.matcher(style).matches() || outlineLevel == 0 || outlineLevel == 1) {
+                        splitter.startChapter(text.toString().strip());
+                    } else if (style == null || !TITLE_STYLE.matcher(style).matches()) {
+                        splitter.appendLine(text);
+                        splitter.appendLine("");
+                    }
+                }
+            }
+        } finally {
+            xml.close();
+        }
+        splitter.finish();
+    }
+
+    private static String attribute(XMLStreamReader xml, String localName) {
+        return xml.getAttributeValue(WORDPROCESSING_NS, localName);
+    }
+
+    private static int parseLevel(String value) {
+        try {
+            return value != null ? Integer.parseInt(value) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Keeps the XML parser from closing the zip stream it reads from.
+     */
+    private static final class NonClosingInputStream extends FilterInputStream {
+
+        private NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
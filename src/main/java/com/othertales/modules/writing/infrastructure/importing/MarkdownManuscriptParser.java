@@ -0,0 +1,49 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import com.othertales.modules.writing.application.port.ManuscriptParser;
+import com.othertales.modules.writing.domain.ImportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * Starts a chapter at every level 1 or 2 ATX heading ({@code #} or {@code ##}) outside
+ * fenced code blocks. Deeper headings and all other Markdown stay in the chapter text.
+ */
+@Component
+public class MarkdownManuscriptParser implements ManuscriptParser {
+
+    private static final Pattern HEADING = Pattern.compile("^ {0,3}#{1,2}(?:[ \\t]+(.*?))?(?:[ \\t]+#+)?[ \\t]*$");
+    private static final Pattern FENCE = Pattern.compile("^ {0,3}(```|~~~)");
+
+    @Override
+    public ImportFormat format() {
+        return ImportFormat.MARKDOWN;
+    }
+
+    @Override
+    public void parse(InputStream input, ChapterHandler handler) throws IOException {
+        var splitter = new ChapterSplitter(handler);
+        var reader = TextLines.reader(input);
+        String fence = null;
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            var fenceMatch = FENCE.matcher(line);
+            if (fenceMatch.find()) {
+                if (fence == null) {
+                    fence = fenceMatch.group(1);
+                } else if (fence.equals(fenceMatch.group(1))) {
+                    fence = null;
+                }
+            }
+            var heading = fence == null ? HEADING.matcher(line) : null;
+            if (heading != null && heading.matches()) {
+                splitter.startChapter(heading.group(1) != null ? heading.group(1) : "");
+            } else {
+                splitter.appendLine(line);
+            }
+        }
+        splitter.finish();
+    }
+}
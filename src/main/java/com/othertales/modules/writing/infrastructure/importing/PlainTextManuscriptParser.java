@@ -0,0 +1,47 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import com.othertales.modules.writing.application.port.ManuscriptParser;
+import com.othertales.modules.writing.domain.ImportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * Plain text has no markup, so chapters start at lines that read as chapter headings in
+ * English or Spanish: {@code Chapter 12}, {@code CAPÍTULO IV: El viaje}, {@code Part One},
+ * {@code Prologue}. The whole line becomes the title.
+ */
+@Component
+public class PlainTextManuscriptParser implements ManuscriptParser {
+
+    private static final String NUMBER = "(?:\\d+|[ivxlcdm]+|one|two|three|four|five|six|seven|eight|nine|ten|eleven"
+            + "|twelve|thirteen|fourteen|fifteen|sixteen|seventeen|eighteen|nineteen|twenty|uno|dos|tres|cuatro"
+            + "|cinco|seis|siete|ocho|nueve|diez|once|doce|trece|catorce|quince|diecis[eé]is|diecisiete|dieciocho"
+            + "|diecinueve|veinte|primera|segunda|tercera|cuarta|quinta)";
+    private static final Pattern HEADING = Pattern.compile(
+            "^\\s*(?:(?:chapter|cap[ií]tulo|part|parte|book|libro)\\s+" + NUMBER + "(?:\\s*[.:\\-–—]\\s*\\S.*)?"
+                    + "|pr[oó]log(?:ue|o)|ep[ií]log(?:ue|o)|interlude|interludio)\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    private static final int MAX_HEADING_LENGTH = 120;
+
+    @Override
+    public ImportFormat format() {
+        return ImportFormat.PLAIN_TEXT;
+    }
+
+    @Override
+    public void parse(InputStream input, ChapterHandler handler) throws IOException {
+        var splitter = new ChapterSplitter(handler);
+        var reader = TextLines.reader(input);
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.length() <= MAX_HEADING_LENGTH && HEADING.matcher(line).matches()) {
+                splitter.startChapter(line.strip());
+            } else {
+                splitter.appendLine(line);
+            }
+        }
+        splitter.finish();
+    }
+}
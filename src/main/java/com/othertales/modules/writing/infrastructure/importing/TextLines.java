@@ -0,0 +1,29 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class TextLines {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private TextLines() {
+    }
+
+    /**
+     * A UTF-8 line reader over {@code input} that skips a leading byte order mark.
+     */
+    static BufferedReader reader(InputStream input) throws IOException {
+        var pushback = new PushbackInputStream(input, UTF8_BOM.length);
+        var head = pushback.readNBytes(UTF8_BOM.length);
+        if (!Arrays.equals(head, UTF8_BOM)) {
+            pushback.unread(head);
+        }
+        return new BufferedReader(new InputStreamReader(pushback, StandardCharsets.UTF_8));
+    }
+}
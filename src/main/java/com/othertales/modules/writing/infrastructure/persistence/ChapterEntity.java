@@ -27,6 +27,8 @@ import java.util.UUID;
 /**
  * AUDIT FIX #13 (FASE 3.4): Converted status from raw String to ChapterStatusEntity enum.
  * AUDIT FIX #19 (FASE 4.3): Added @Version for optimistic locking.
+ * Text statistics are computed by the domain on write so listings never read {@code content}.
+ * Order is kept as a fractional {@code orderKey}; the 0-based position is derived by the queries.
  */
 @Entity
 @Table(name = "chapters", schema = "public")
@@ -51,8 +53,19 @@ public class ChapterEntity implements Persistable<UUID> {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "order_index", nullable = false)
-    private int orderIndex;
+    @Column(name = "word_count", nullable = false)
+    private int wordCount;
+
+    @Column(name = "character_count", nullable = false)
+    private int characterCount;
+
+    @Column(name = "paragraph_count", nullable = false)
+    private int paragraphCount;
+
+    // Written on insert only; moves go through ChapterJpaRepository.updateOrderKeys, so a
+    // content save holding an older key never moves the chapter back
+    @Column(name = "order_key", nullable = false, updatable = false)
+    private String orderKey;
 
     @Enumerated(EnumType.STRING)
     @Column(length = 20, nullable = false)
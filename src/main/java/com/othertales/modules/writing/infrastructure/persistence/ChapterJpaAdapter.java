@@ -2,11 +2,16 @@ package com.othertales.modules.writing.infrastructure.persistence;
 
 import com.othertales.modules.writing.application.port.ChapterRepository;
 import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ManuscriptStatistics;
+import com.othertales.modules.writing.domain.OrderSlot;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @Repository
 public class ChapterJpaAdapter implements ChapterRepository {
@@ -28,35 +33,107 @@ public class ChapterJpaAdapter implements ChapterRepository {
     @Override
     public Chapter save(Chapter chapter) {
         var project = projectJpaRepository.getReferenceById(chapter.getProjectId());
-        var existingEntity = jpaRepository.findById(chapter.getId()).orElse(null);
-        var entity = existingEntity != null
-                ? mapper.toEntity(chapter, project, existingEntity)
-                : mapper.toEntity(chapter, project);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        var entity = mapper.toEntity(chapter, project);
+        // Flushed so the returned chapter carries the version bumped by @Version,
+        // which clients echo back on their next incremental update.
+        var saved = jpaRepository.saveAndFlush(entity);
+        return mapper.toDomain(saved, chapter.getOrderIndex());
+    }
+
+    @Override
+    public List<Chapter> saveAll(List<Chapter> chapters) {
+        var entities = chapters.stream()
+                .map(chapter -> mapper.toEntity(chapter, projectJpaRepository.getReferenceById(chapter.getProjectId())))
+                .toList();
+        // Sent in JDBC batches of hibernate.jdbc.batch_size
+        var saved = jpaRepository.saveAllAndFlush(entities);
+        return IntStream.range(0, saved.size())
+                .mapToObj(i -> mapper.toDomain(saved.get(i), chapters.get(i).getOrderIndex()))
+                .toList();
     }
 
     @Override
     public Optional<Chapter> findById(UUID id) {
-        return jpaRepository.findById(id).map(mapper::toDomain);
+        return jpaRepository.findPositionedById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Chapter> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(entity -> mapper.toDomain(entity, 0))
+                .toList();
     }
 
     @Override
     public Optional<Chapter> findByIdAndProjectId(UUID id, UUID projectId) {
-        return jpaRepository.findByIdAndProjectId(id, projectId).map(mapper::toDomain);
+        return jpaRepository.findPositionedByIdAndProjectId(id, projectId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<ChapterOutline> findOutlineById(UUID id) {
+        return jpaRepository.findOutlineById(id).map(mapper::toOutline);
+    }
+
+    @Override
+    public Optional<String> findContentSlice(UUID id, long version, int offset, int length) {
+        // SQL SUBSTRING is 1-based
+        return jpaRepository.findContentSlice(id, version, offset + 1, length);
     }
 
     @Override
     public List<Chapter> findByProjectIdOrderByOrderIndex(UUID projectId) {
-        return jpaRepository.findByProjectIdOrderByOrderIndex(projectId)
+        return jpaRepository.findByProjectIdOrderByOrderKey(projectId)
                 .stream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
     @Override
-    public int findNextOrderIndex(UUID projectId) {
-        return jpaRepository.findNextOrderIndex(projectId);
+    public List<ChapterOutline> findOutlineByProjectId(UUID projectId) {
+        return jpaRepository.findOutlineByProjectId(projectId)
+                .stream()
+                .map(mapper::toOutline)
+                .toList();
+    }
+
+    @Override
+    public OrderSlot findOrderSlot(UUID projectId, Integer position, UUID movingChapterId) {
+        if (position != null) {
+            // Never a negative OFFSET, which PostgreSQL rejects
+            if (position <= 0) {
+                var first = jpaRepository.findOrderKeys(projectId, movingChapterId, 0, 1);
+                return new OrderSlot(null, first.isEmpty() ? null : first.getFirst(), 0);
+            }
+            var neighbours = jpaRepository.findOrderKeys(projectId, movingChapterId, position - 1, 2);
+            if (neighbours.size() == 2) {
+                return new OrderSlot(neighbours.get(0), neighbours.get(1), position);
+            }
+        }
+        var tail = jpaRepository.findOrderTail(projectId, movingChapterId);
+        return new OrderSlot(tail.lastKey(), null, Math.toIntExact(tail.chapterCount()));
+    }
+
+    @Override
+    public void lockOrder(UUID projectId) {
+        jpaRepository.lockOrder(projectId);
+    }
+
+    @Override
+    public int updateOrderKeys(UUID projectId, List<UUID> chapterIds, List<String> orderKeys) {
+        return jpaRepository.updateOrderKeys(
+                projectId,
+                chapterIds.toArray(UUID[]::new),
+                orderKeys.toArray(String[]::new));
+    }
+
+    @Override
+    public List<UUID> findProjectIdsWithLongOrderKeys(int limit) {
+        return jpaRepository.findProjectIdsWithLongOrderKeys(limit);
+    }
+
+    @Override
+    public int refreshStaleSearchVectors(int limit) {
+        return jpaRepository.refreshStaleSearchVectors(limit);
     }
 
     @Override
@@ -64,8 +141,25 @@ public class ChapterJpaAdapter implements ChapterRepository {
         return jpaRepository.countByProjectId(projectId);
     }
 
+    @Override
+    public ManuscriptStatistics sumStatisticsByProjectId(UUID projectId) {
+        var view = jpaRepository.sumStatisticsByProjectId(projectId);
+        return new ManuscriptStatistics(
+                view.chapterCount(),
+                view.wordCount(),
+                view.characterCount(),
+                view.paragraphCount());
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        // Entities already loaded in the transaction are removed without another SELECT
+        jpaRepository.deleteAllById(ids);
+        jpaRepository.flush();
+    }
 }
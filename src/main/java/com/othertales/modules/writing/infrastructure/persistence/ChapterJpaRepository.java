@@ -1,6 +1,8 @@
 package com.othertales.modules.writing.infrastructure.persistence;
 
+import com.othertales.modules.writing.domain.OrderKeys;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -8,17 +10,162 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Chapter order is the byte order of {@code order_key} (collation "C"), with the id as a
+ * tie-breaker. Positions are never stored: list queries number the rows, single-row
+ * queries count the keys before the chapter on the {@code (project_id, order_key)} index.
+ */
 public interface ChapterJpaRepository extends JpaRepository<ChapterEntity, UUID> {
 
-    @Query("SELECT c FROM ChapterEntity c WHERE c.project.id = :projectId ORDER BY c.orderIndex ASC")
-    List<ChapterEntity> findByProjectIdOrderByOrderIndex(@Param("projectId") UUID projectId);
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.PositionedChapterEntity(
+                c, row_number() OVER (ORDER BY c.orderKey, c.id) - 1)
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId
+            ORDER BY c.orderKey, c.id
+            """)
+    List<PositionedChapterEntity> findByProjectIdOrderByOrderKey(@Param("projectId") UUID projectId);
 
-    @Query("SELECT c FROM ChapterEntity c WHERE c.id = :id AND c.project.id = :projectId")
-    Optional<ChapterEntity> findByIdAndProjectId(@Param("id") UUID id, @Param("projectId") UUID projectId);
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.PositionedChapterEntity(
+                c, (SELECT COUNT(o) FROM ChapterEntity o WHERE o.project = c.project
+                    AND (o.orderKey < c.orderKey OR (o.orderKey = c.orderKey AND o.id < c.id))))
+            FROM ChapterEntity c
+            WHERE c.id = :id
+            """)
+    Optional<PositionedChapterEntity> findPositionedById(@Param("id") UUID id);
 
-    @Query("SELECT COALESCE(MAX(c.orderIndex), -1) + 1 FROM ChapterEntity c WHERE c.project.id = :projectId")
-    int findNextOrderIndex(@Param("projectId") UUID projectId);
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.ChapterOutlineView(
+                c.id, c.project.id, c.title, c.orderKey, row_number() OVER (ORDER BY c.orderKey, c.id) - 1,
+                c.status, c.wordCount, c.version, c.updatedAt)
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId
+            ORDER BY c.orderKey, c.id
+            """)
+    List<ChapterOutlineView> findOutlineByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.ChapterOutlineView(
+                c.id, c.project.id, c.title, c.orderKey,
+                (SELECT COUNT(o) FROM ChapterEntity o WHERE o.project = c.project
+                    AND (o.orderKey < c.orderKey OR (o.orderKey = c.orderKey AND o.id < c.id))),
+                c.status, c.wordCount, c.version, c.updatedAt)
+            FROM ChapterEntity c
+            WHERE c.id = :id
+            """)
+    Optional<ChapterOutlineView> findOutlineById(@Param("id") UUID id);
+
+    @Query("""
+            SELECT COALESCE(SUBSTRING(c.content, :start, :length), '')
+            FROM ChapterEntity c
+            WHERE c.id = :id AND c.version = :version
+            """)
+    Optional<String> findContentSlice(
+            @Param("id") UUID id,
+            @Param("version") long version,
+            @Param("start") int start,
+            @Param("length") int length);
+
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.PositionedChapterEntity(
+                c, (SELECT COUNT(o) FROM ChapterEntity o WHERE o.project = c.project
+                    AND (o.orderKey < c.orderKey OR (o.orderKey = c.orderKey AND o.id < c.id))))
+            FROM ChapterEntity c
+            WHERE c.id = :id AND c.project.id = :projectId
+            """)
+    Optional<PositionedChapterEntity> findPositionedByIdAndProjectId(
+            @Param("id") UUID id,
+            @Param("projectId") UUID projectId);
+
+    /**
+     * Up to {@code limit} keys starting at position {@code offset}, leaving out the chapter
+     * being moved (null when placing a new one).
+     */
+    @Query("""
+            SELECT c.orderKey
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId AND (:excludedId IS NULL OR c.id <> :excludedId)
+            ORDER BY c.orderKey, c.id
+            OFFSET :offset ROWS FETCH FIRST :limit ROWS ONLY
+            """)
+    List<String> findOrderKeys(
+            @Param("projectId") UUID projectId,
+            @Param("excludedId") UUID excludedId,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.ChapterOrderTailView(
+                MAX(c.orderKey), COUNT(c))
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId AND (:excludedId IS NULL OR c.id <> :excludedId)
+            """)
+    ChapterOrderTailView findOrderTail(@Param("projectId") UUID projectId, @Param("excludedId") UUID excludedId);
+
+    /**
+     * Native because JPQL has no {@code UPDATE ... FROM}. Rows already holding their key
+     * are skipped, and {@code version} is left alone: a move must not invalidate the
+     * version an editor holds for a content PATCH.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chapters c
+            SET order_key = o.order_key
+            FROM unnest(CAST(:ids AS uuid[]), CAST(:keys AS text[])) AS o(id, order_key)
+            WHERE c.id = o.id
+              AND c.project_id = :projectId
+              AND c.order_key IS DISTINCT FROM o.order_key
+            """, nativeQuery = true)
+    int updateOrderKeys(@Param("projectId") UUID projectId, @Param("ids") UUID[] ids, @Param("keys") String[] keys);
+
+    /**
+     * Transaction-scoped advisory lock serializing order key allocation per project, so
+     * two writers never derive a key from the same neighbours. Content saves do not take it.
+     */
+    @Query(value = """
+            SELECT 1 FROM pg_advisory_xact_lock(hashtextextended('chapter_order:' || CAST(:projectId AS text), 0))
+            """, nativeQuery = true)
+    int lockOrder(@Param("projectId") UUID projectId);
+
+    /**
+     * Answered from the partial index of V19, whose predicate this must imply.
+     */
+    @Query(value = "SELECT DISTINCT project_id FROM chapters WHERE length(order_key) > " + OrderKeys.MAX_LENGTH
+            + " LIMIT :limit", nativeQuery = true)
+    List<UUID> findProjectIdsWithLongOrderKeys(@Param("limit") int limit);
+
+    /**
+     * Rows are claimed with SKIP LOCKED, so instances refreshing at once split the work, and a
+     * save racing with the refresh waits on the row and flags it stale again afterwards.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE public.chapter_search s
+            SET search_vector_en = public.chapter_search_vector('english', c.title, c.content),
+                search_vector_es = public.chapter_search_vector('spanish', c.title, c.content),
+                stale = false
+            FROM public.chapters c
+            WHERE c.id = s.chapter_id
+              AND s.chapter_id IN (
+                  SELECT chapter_id FROM public.chapter_search
+                  WHERE stale
+                  LIMIT :limit
+                  FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int refreshStaleSearchVectors(@Param("limit") int limit);
 
     @Query("SELECT COUNT(c) FROM ChapterEntity c WHERE c.project.id = :projectId")
     long countByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("""
+            SELECT new com.othertales.modules.writing.infrastructure.persistence.ChapterStatisticsView(
+                COUNT(c),
+                COALESCE(SUM(c.wordCount), 0L),
+                COALESCE(SUM(c.characterCount), 0L),
+                COALESCE(SUM(c.paragraphCount), 0L))
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId
+            """)
+    ChapterStatisticsView sumStatisticsByProjectId(@Param("projectId") UUID projectId);
 }
@@ -1,41 +1,54 @@
 package com.othertales.modules.writing.infrastructure.persistence;
 
 import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterOutline;
 import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.TextStatistics;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ChapterMapper {
 
+    /**
+     * Builds a detached entity. For objects loaded from storage it carries the loaded
+     * version and {@code isNew=false}, so saving it merges into the row instead of inserting.
+     */
     public ChapterEntity toEntity(Chapter chapter, ProjectEntity project) {
         var entity = new ChapterEntity();
         applyToEntity(entity, chapter, project);
+        if (chapter.isPersisted()) {
+            entity.setVersion(chapter.getVersion());
+            entity.markNotNew();
+        }
         return entity;
     }
 
-    public ChapterEntity toEntity(Chapter chapter, ProjectEntity project, ChapterEntity existingEntity) {
-        applyToEntity(existingEntity, chapter, project);
-        return existingEntity;
-    }
-
     private void applyToEntity(ChapterEntity entity, Chapter chapter, ProjectEntity project) {
         entity.setId(chapter.getId());
         entity.setProject(project);
         entity.setTitle(chapter.getTitle());
         entity.setContent(chapter.getContent());
-        entity.setOrderIndex(chapter.getOrderIndex());
+        entity.setWordCount(chapter.getWordCount());
+        entity.setCharacterCount(chapter.getCharacterCount());
+        entity.setParagraphCount(chapter.getParagraphCount());
+        entity.setOrderKey(chapter.getOrderKey());
         entity.setStatus(toEntityStatus(chapter.getStatus()));
         entity.setCreatedAt(chapter.getCreatedAt());
         entity.setUpdatedAt(chapter.getUpdatedAt());
     }
 
-    public Chapter toDomain(ChapterEntity entity) {
+    /**
+     * @param orderIndex the chapter's position, which the entity does not carry
+     */
+    public Chapter toDomain(ChapterEntity entity, int orderIndex) {
         return Chapter.reconstitute(
                 entity.getId(),
                 entity.getProjectId(),
                 entity.getTitle(),
                 entity.getContent(),
-                entity.getOrderIndex(),
+                new TextStatistics(entity.getWordCount(), entity.getCharacterCount(), entity.getParagraphCount()),
+                entity.getOrderKey(),
+                orderIndex,
                 toDomainStatus(entity.getStatus()),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
@@ -43,6 +56,23 @@ public class ChapterMapper {
                 entity.getVersion());
     }
 
+    public Chapter toDomain(PositionedChapterEntity positioned) {
+        return toDomain(positioned.chapter(), Math.toIntExact(positioned.position()));
+    }
+
+    public ChapterOutline toOutline(ChapterOutlineView view) {
+        return new ChapterOutline(
+                view.id(),
+                view.projectId(),
+                view.title(),
+                view.orderKey(),
+                Math.toIntExact(view.position()),
+                toDomainStatus(view.status()),
+                view.wordCount(),
+                view.version(),
+                view.updatedAt());
+    }
+
     private ChapterEntity.ChapterStatusEntity toEntityStatus(ChapterStatus status) {
         return switch (status) {
             case DRAFT -> ChapterEntity.ChapterStatusEntity.DRAFT;
@@ -0,0 +1,8 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+/**
+ * JPQL constructor projection: the highest order key of a project's chapters (null when
+ * there are none) and how many there are.
+ */
+public record ChapterOrderTailView(String lastKey, Long chapterCount) {
+}
@@ -0,0 +1,21 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPQL constructor projection of a chapter row that never selects the {@code content} column.
+ * {@code position} is computed by the query from the order keys.
+ */
+public record ChapterOutlineView(
+        UUID id,
+        UUID projectId,
+        String title,
+        String orderKey,
+        Long position,
+        ChapterEntity.ChapterStatusEntity status,
+        int wordCount,
+        Long version,
+        Instant updatedAt
+) {
+}
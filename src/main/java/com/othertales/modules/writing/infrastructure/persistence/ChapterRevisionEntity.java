@@ -0,0 +1,66 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revision metadata. The content is the ordered concatenation of the
+ * {@code content_chunks} rows referenced by {@code chunk_hashes}.
+ */
+@Entity
+@Table(name = "chapter_revisions", schema = "public")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChapterRevisionEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "chapter_id", nullable = false)
+    private UUID chapterId;
+
+    @Column(name = "chapter_version")
+    private Long chapterVersion;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "word_count", nullable = false)
+    private int wordCount;
+
+    @Column(name = "character_count", nullable = false)
+    private int characterCount;
+
+    @Column(name = "chunk_hashes", nullable = false)
+    private String[] chunkHashes;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import com.othertales.modules.writing.domain.ContentChunk;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class ChapterRevisionJpaAdapter implements ChapterRevisionRepository {
+
+    private final ChapterRevisionJpaRepository revisionJpaRepository;
+    private final ContentChunkJpaRepository chunkJpaRepository;
+    private final ChapterRevisionMapper mapper;
+
+    public ChapterRevisionJpaAdapter(
+            ChapterRevisionJpaRepository revisionJpaRepository,
+            ContentChunkJpaRepository chunkJpaRepository,
+            ChapterRevisionMapper mapper
+    ) {
+        this.revisionJpaRepository = revisionJpaRepository;
+        this.chunkJpaRepository = chunkJpaRepository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Writes only the chunks the store does not have yet; after the first save of a
+     * chapter an autosave usually adds one or two.
+     */
+    @Override
+    public void save(ChapterRevision revision, List<ContentChunk> chunks) {
+        if (!chunks.isEmpty()) {
+            var unique = new LinkedHashMap<String, String>();
+            chunks.forEach(chunk -> unique.putIfAbsent(chunk.hash(), chunk.text()));
+            var existing = chunkJpaRepository.findExistingHashes(unique.keySet());
+            unique.forEach((hash, text) -> {
+                if (!existing.contains(hash)) {
+                    chunkJpaRepository.insertIfAbsent(hash, text);
+                }
+            });
+        }
+        revisionJpaRepository.save(mapper.toEntity(revision));
+    }
+
+    @Override
+    public List<ChapterRevision> findByChapterId(UUID chapterId, int limit) {
+        return revisionJpaRepository.findByChapterIdOrderByCreatedAtDesc(chapterId, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<ChapterRevision> findByIdAndChapterId(UUID id, UUID chapterId) {
+        return revisionJpaRepository.findByIdAndChapterId(id, chapterId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Map<String, String> findChunkContents(Collection<String> hashes) {
+        var contents = new HashMap<String, String>();
+        chunkJpaRepository.findAllById(hashes)
+                .forEach(chunk -> contents.put(chunk.getHash(), chunk.getContent()));
+        return contents;
+    }
+}
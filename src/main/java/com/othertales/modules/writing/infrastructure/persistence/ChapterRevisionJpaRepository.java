@@ -0,0 +1,15 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ChapterRevisionJpaRepository extends JpaRepository<ChapterRevisionEntity, UUID> {
+
+    List<ChapterRevisionEntity> findByChapterIdOrderByCreatedAtDesc(UUID chapterId, Pageable pageable);
+
+    Optional<ChapterRevisionEntity> findByIdAndChapterId(UUID id, UUID chapterId);
+}
@@ -0,0 +1,35 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.domain.ChapterRevision;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ChapterRevisionMapper {
+
+    public ChapterRevisionEntity toEntity(ChapterRevision revision) {
+        var entity = new ChapterRevisionEntity();
+        entity.setId(revision.id());
+        entity.setChapterId(revision.chapterId());
+        entity.setChapterVersion(revision.chapterVersion());
+        entity.setTitle(revision.title());
+        entity.setWordCount(revision.wordCount());
+        entity.setCharacterCount(revision.characterCount());
+        entity.setChunkHashes(revision.chunkHashes().toArray(String[]::new));
+        entity.setCreatedAt(revision.createdAt());
+        return entity;
+    }
+
+    public ChapterRevision toDomain(ChapterRevisionEntity entity) {
+        return new ChapterRevision(
+                entity.getId(),
+                entity.getChapterId(),
+                entity.getChapterVersion(),
+                entity.getTitle(),
+                entity.getWordCount(),
+                entity.getCharacterCount(),
+                List.of(entity.getChunkHashes()),
+                entity.getCreatedAt());
+    }
+}
@@ -0,0 +1,7 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+/**
+ * JPQL constructor projection for the per-project {@code SUM} over the stored chapter statistics.
+ */
+public record ChapterStatisticsView(Long chapterCount, Long wordCount, Long characterCount, Long paragraphCount) {
+}
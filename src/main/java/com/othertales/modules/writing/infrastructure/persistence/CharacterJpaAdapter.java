@@ -6,6 +6,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,14 +31,24 @@ public class CharacterJpaAdapter implements CharacterRepository {
     @Override
     public Character save(Character character) {
         var project = projectJpaRepository.getReferenceById(character.getProjectId());
-        var existingEntity = jpaRepository.findById(character.getId()).orElse(null);
-        var entity = existingEntity != null
-                ? mapper.toEntity(character, project, existingEntity)
-                : mapper.toEntity(character, project);
-        var saved = jpaRepository.save(entity);
+        var entity = mapper.toEntity(character, project);
+        // Flushed so the returned object carries the version bumped by @Version
+        var saved = jpaRepository.saveAndFlush(entity);
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Character> saveAll(List<Character> characters) {
+        var entities = characters.stream()
+                .map(character -> mapper.toEntity(character,
+                        projectJpaRepository.getReferenceById(character.getProjectId())))
+                .toList();
+        // Sent in JDBC batches of hibernate.jdbc.batch_size
+        return jpaRepository.saveAllAndFlush(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Character> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -43,12 +56,25 @@ public class CharacterJpaAdapter implements CharacterRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Character> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .filter(e -> !e.isDeleted())
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Character> findByIdAndProjectId(UUID id, UUID projectId) {
         return jpaRepository.findByIdAndProjectId(id, projectId)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public boolean markDeleted(UUID id, UUID projectId, Long expectedVersion) {
+        return jpaRepository.markDeleted(id, projectId, expectedVersion, Instant.now()) > 0;
+    }
+
     @Override
     public Page<Character> findAllByProjectId(UUID projectId, Pageable pageable) {
         return jpaRepository.findByProjectId(projectId, pageable)
@@ -3,9 +3,11 @@ package com.othertales.modules.writing.infrastructure.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +18,17 @@ public interface CharacterJpaRepository extends JpaRepository<CharacterEntity, U
 
     @Query("SELECT c FROM CharacterEntity c WHERE c.id = :id AND c.project.id = :projectId AND c.deleted = false")
     Optional<CharacterEntity> findByIdAndProjectId(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("""
+            UPDATE CharacterEntity c
+            SET c.deleted = true, c.updatedAt = :updatedAt, c.version = c.version + 1
+            WHERE c.id = :id AND c.project.id = :projectId AND c.deleted = false
+              AND (:version IS NULL OR c.version = :version)
+            """)
+    int markDeleted(
+            @Param("id") UUID id,
+            @Param("projectId") UUID projectId,
+            @Param("version") Long version,
+            @Param("updatedAt") Instant updatedAt);
 }
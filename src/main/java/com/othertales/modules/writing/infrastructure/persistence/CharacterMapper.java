@@ -9,14 +9,13 @@ public class CharacterMapper {
     public CharacterEntity toEntity(Character character, ProjectEntity project) {
         var entity = new CharacterEntity();
         applyToEntity(entity, character, project);
+        if (character.isPersisted()) {
+            entity.setVersion(character.getVersion());
+            entity.markNotNew();
+        }
         return entity;
     }
 
-    public CharacterEntity toEntity(Character character, ProjectEntity project, CharacterEntity existingEntity) {
-        applyToEntity(existingEntity, character, project);
-        return existingEntity;
-    }
-
     private void applyToEntity(CharacterEntity entity, Character character, ProjectEntity project) {
         entity.setId(character.getId());
         entity.setProject(project);
@@ -41,6 +40,7 @@ public class CharacterMapper {
                 entity.getImageUrl(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
-                entity.isDeleted());
+                entity.isDeleted(),
+                entity.getVersion());
     }
 }
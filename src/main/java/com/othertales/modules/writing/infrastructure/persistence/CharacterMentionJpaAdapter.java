@@ -0,0 +1,189 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.application.port.CharacterMentionRepository;
+import com.othertales.modules.writing.domain.CharacterAppearance;
+import com.othertales.modules.writing.domain.CharacterCoOccurrence;
+import com.othertales.modules.writing.domain.CharacterMention;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Native statements over the {@code character_mentions} table and the index versions on
+ * {@code projects} added by V22, none of which is mapped: rows are only ever replaced per
+ * chapter or read through joins.
+ */
+@Repository
+public class CharacterMentionJpaAdapter implements CharacterMentionRepository {
+
+    private static final String NAMES_SQL = """
+            SELECT c.id, c.name
+            FROM public.characters c
+            WHERE c.project_id = :projectId AND c.deleted = false
+            ORDER BY c.created_at, c.id
+            """;
+
+    private static final String DELETE_OTHERS_SQL = """
+            DELETE FROM public.character_mentions
+            WHERE chapter_id = :chapterId AND NOT (character_id = ANY(CAST(:characterIds AS uuid[])))
+            """;
+
+    /**
+     * One statement for all the chapter's rows. An upsert rather than a plain insert, so
+     * that two transactions indexing the same chapter do not fail on the primary key.
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO public.character_mentions (chapter_id, character_id, project_id, mentions, first_offset)
+            SELECT :chapterId, m.character_id, :projectId, m.mentions, m.first_offset
+            FROM unnest(CAST(:characterIds AS uuid[]), CAST(:mentions AS int[]), CAST(:firstOffsets AS int[]))
+                 AS m(character_id, mentions, first_offset)
+            ON CONFLICT (chapter_id, character_id) DO UPDATE
+            SET mentions = EXCLUDED.mentions, first_offset = EXCLUDED.first_offset
+            """;
+
+    private static final String MARK_CHANGED_SQL = """
+            UPDATE public.projects SET characters_version = characters_version + 1 WHERE id = :projectId
+            """;
+
+    private static final String OUTDATED_VERSION_SQL = """
+            SELECT characters_version
+            FROM public.projects
+            WHERE id = :projectId AND mentions_indexed_version < characters_version
+            """;
+
+    private static final String MARK_INDEXED_SQL = """
+            UPDATE public.projects SET mentions_indexed_version = :version
+            WHERE id = :projectId AND mentions_indexed_version < :version
+            """;
+
+    private static final String APPEARANCES_SQL = """
+            SELECT ch.id, ch.title, ch.position, m.mentions, m.first_offset
+            FROM (
+                SELECT c.id, c.title, c.order_key, row_number() OVER (ORDER BY c.order_key, c.id) - 1 AS position
+                FROM public.chapters c
+                WHERE c.project_id = :projectId
+            ) ch
+            JOIN public.character_mentions m ON m.chapter_id = ch.id AND m.character_id = :characterId
+            ORDER BY ch.order_key, ch.id
+            """;
+
+    /**
+     * Self-join of the project's rows on the chapter; each pair once, smaller id first.
+     */
+    private static final String CO_OCCURRENCES_SQL = """
+            SELECT a.character_id, ca.name, b.character_id, cb.name, COUNT(*) AS shared
+            FROM public.character_mentions a
+            JOIN public.character_mentions b ON b.chapter_id = a.chapter_id AND b.character_id > a.character_id
+            JOIN public.characters ca ON ca.id = a.character_id AND ca.deleted = false
+            JOIN public.characters cb ON cb.id = b.character_id AND cb.deleted = false
+            WHERE a.project_id = :projectId
+            GROUP BY a.character_id, ca.name, b.character_id, cb.name
+            ORDER BY shared DESC, ca.name, cb.name
+            LIMIT :limit
+            """;
+
+    private final EntityManager entityManager;
+
+    public CharacterMentionJpaAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Map<UUID, String> findCharacterNames(UUID projectId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(NAMES_SQL)
+                .setParameter("projectId", projectId)
+                .getResultList();
+        var names = new LinkedHashMap<UUID, String>(rows.size() * 2);
+        for (var row : rows) {
+            names.put((UUID) row[0], (String) row[1]);
+        }
+        return names;
+    }
+
+    @Override
+    public void replaceForChapter(UUID projectId, UUID chapterId, List<CharacterMention> mentions) {
+        var characterIds = mentions.stream().map(CharacterMention::characterId).toArray(UUID[]::new);
+        entityManager.createNativeQuery(DELETE_OTHERS_SQL)
+                .setParameter("chapterId", chapterId)
+                .setParameter("characterIds", characterIds)
+                .executeUpdate();
+        if (mentions.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery(UPSERT_SQL)
+                .setParameter("chapterId", chapterId)
+                .setParameter("projectId", projectId)
+                .setParameter("characterIds", characterIds)
+                .setParameter("mentions", mentions.stream().map(CharacterMention::mentions).toArray(Integer[]::new))
+                .setParameter("firstOffsets", mentions.stream().map(CharacterMention::firstOffset).toArray(Integer[]::new))
+                .executeUpdate();
+    }
+
+    @Override
+    public void markCharactersChanged(UUID projectId) {
+        entityManager.createNativeQuery(MARK_CHANGED_SQL)
+                .setParameter("projectId", projectId)
+                .executeUpdate();
+    }
+
+    @Override
+    public OptionalLong findOutdatedCharactersVersion(UUID projectId) {
+        @SuppressWarnings("unchecked")
+        List<Number> rows = entityManager.createNativeQuery(OUTDATED_VERSION_SQL)
+                .setParameter("projectId", projectId)
+                .getResultList();
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.getFirst().longValue());
+    }
+
+    @Override
+    public void markIndexed(UUID projectId, long charactersVersion) {
+        entityManager.createNativeQuery(MARK_INDEXED_SQL)
+                .setParameter("projectId", projectId)
+                .setParameter("version", charactersVersion)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<CharacterAppearance> findAppearances(UUID projectId, UUID characterId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(APPEARANCES_SQL)
+                .setParameter("projectId", projectId)
+                .setParameter("characterId", characterId)
+                .getResultList();
+        return rows.stream().map(CharacterMentionJpaAdapter::toAppearance).toList();
+    }
+
+    @Override
+    public List<CharacterCoOccurrence> findCoOccurrences(UUID projectId, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(CO_OCCURRENCES_SQL)
+                .setParameter("projectId", projectId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream().map(CharacterMentionJpaAdapter::toCoOccurrence).toList();
+    }
+
+    private static CharacterAppearance toAppearance(Object[] row) {
+        return new CharacterAppearance(
+                (UUID) row[0],
+                (String) row[1],
+                ((Number) row[2]).intValue(),
+                ((Number) row[3]).intValue(),
+                ((Number) row[4]).intValue());
+    }
+
+    private static CharacterCoOccurrence toCoOccurrence(Object[] row) {
+        return new CharacterCoOccurrence(
+                (UUID) row[0],
+                (String) row[1],
+                (UUID) row[2],
+                (String) row[3],
+                ((Number) row[4]).intValue());
+    }
+}
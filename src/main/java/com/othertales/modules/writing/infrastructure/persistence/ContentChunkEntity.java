@@ -0,0 +1,34 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Content-addressed piece of chapter text shared by every revision that contains it.
+ * Rows are immutable and only ever inserted through
+ * {@link ContentChunkJpaRepository#insertIfAbsent}.
+ */
+@Entity
+@Table(name = "content_chunks", schema = "public")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentChunkEntity {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,26 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ContentChunkJpaRepository extends JpaRepository<ContentChunkEntity, String> {
+
+    @Query("SELECT c.hash FROM ContentChunkEntity c WHERE c.hash IN :hashes")
+    Set<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Chunks are content-addressed, so a concurrent insert of the same hash is the same row.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.content_chunks (hash, content, created_at)
+            VALUES (:hash, :content, CURRENT_TIMESTAMP)
+            ON CONFLICT (hash) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("content") String content);
+}
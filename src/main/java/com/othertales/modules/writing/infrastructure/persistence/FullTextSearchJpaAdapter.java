@@ -0,0 +1,146 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.application.port.SearchRepository;
+import com.othertales.modules.writing.domain.SearchCursor;
+import com.othertales.modules.writing.domain.SearchDocumentType;
+import com.othertales.modules.writing.domain.SearchHit;
+import com.othertales.modules.writing.domain.SearchLanguage;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native query over the {@code search_vector_*} columns added in V16; the chapter ones
+ * live in {@code chapter_search} and trail saves by the refresh job. The column is
+ * picked per language, and the optional project and cursor filters are only added
+ * when present, so every bound parameter is non-null and each variant gets its own
+ * plan that can use the GIN indexes.
+ */
+@Repository
+public class FullTextSearchJpaAdapter implements SearchRepository {
+
+    /**
+     * {@code 32} normalizes each rank to {@code rank / (rank + 1)}, keeping short ideas
+     * and long chapters on a comparable 0-1 scale.
+     */
+    private static final String HITS_SQL = """
+            SELECT 'CHAPTER' AS type, c.id, c.project_id, c.title, ts_rank_cd(cs.search_vector_{lang}, q.query, 32) AS rank
+            FROM public.chapter_search cs
+            JOIN public.chapters c ON c.id = cs.chapter_id
+            JOIN public.projects p ON p.id = c.project_id
+            CROSS JOIN q
+            WHERE cs.search_vector_{lang} @@ q.query
+              AND p.user_id = :userId AND p.deleted = false{projectFilter:c}
+            UNION ALL
+            SELECT 'IDEA', i.id, i.project_id, i.title, ts_rank_cd(i.search_vector_{lang}, q.query, 32)
+            FROM public.ideas i
+            JOIN public.projects p ON p.id = i.project_id
+            CROSS JOIN q
+            WHERE i.search_vector_{lang} @@ q.query AND i.deleted = false
+              AND p.user_id = :userId AND p.deleted = false{projectFilter:i}
+            UNION ALL
+            SELECT 'CHARACTER', ch.id, ch.project_id, ch.name, ts_rank_cd(ch.search_vector_{lang}, q.query, 32)
+            FROM public.characters ch
+            JOIN public.projects p ON p.id = ch.project_id
+            CROSS JOIN q
+            WHERE ch.search_vector_{lang} @@ q.query AND ch.deleted = false
+              AND p.user_id = :userId AND p.deleted = false{projectFilter:ch}
+            UNION ALL
+            SELECT 'STORY', s.id, s.project_id, s.title, ts_rank_cd(s.search_vector_{lang}, q.query, 32)
+            FROM public.stories s
+            JOIN public.projects p ON p.id = s.project_id
+            CROSS JOIN q
+            WHERE s.search_vector_{lang} @@ q.query AND s.deleted = false
+              AND p.user_id = :userId AND p.deleted = false{projectFilter:s}
+            """;
+
+    /**
+     * Snippets are built only for the rows of the page, re-reading the text by id;
+     * ts_headline parses the whole text, so running it before the LIMIT would cost
+     * one parse per match.
+     */
+    private static final String SEARCH_SQL = """
+            WITH q AS (
+                SELECT websearch_to_tsquery(CAST(:config AS regconfig), :query) AS query
+            ),
+            hits AS (
+            {hits}),
+            page AS (
+                SELECT * FROM hits{cursorFilter}
+                ORDER BY rank DESC, type DESC, id DESC
+                LIMIT :limit
+            )
+            SELECT page.type, page.id, page.project_id, page.title,
+                   ts_headline(CAST(:config AS regconfig), COALESCE(CASE page.type
+                       WHEN 'CHAPTER' THEN (SELECT LEFT(c.content, 500000) FROM public.chapters c WHERE c.id = page.id)
+                       WHEN 'IDEA' THEN (SELECT i.content FROM public.ideas i WHERE i.id = page.id)
+                       WHEN 'CHARACTER' THEN (SELECT concat_ws(E'\\n', ch.role, ch.description, ch.physical_description)
+                                              FROM public.characters ch WHERE ch.id = page.id)
+                       ELSE (SELECT concat_ws(E'\\n', s.synopsis, s.theme, s.secondary_plots, s.others)
+                             FROM public.stories s WHERE s.id = page.id)
+                   END, ''), q.query, :headlineOptions) AS snippet,
+                   page.rank
+            FROM page CROSS JOIN q
+            ORDER BY page.rank DESC, page.type DESC, page.id DESC
+            """;
+
+    private static final String CURSOR_FILTER = """
+
+                WHERE (rank, type, id) < (CAST(:afterRank AS real), CAST(:afterType AS text), CAST(:afterId AS uuid))""";
+
+    private static final String HEADLINE_OPTIONS = "StartSel=" + SearchHit.HIGHLIGHT_START
+            + ", StopSel=" + SearchHit.HIGHLIGHT_END
+            + ", MaxFragments=2, MaxWords=25, MinWords=10, FragmentDelimiter=\" ... \"";
+
+    private final EntityManager entityManager;
+
+    public FullTextSearchJpaAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<SearchHit> search(UUID userId, UUID projectId, String query, SearchLanguage language,
+                                  SearchCursor after, int limit) {
+        var nativeQuery = entityManager.createNativeQuery(buildSql(language, projectId != null, after != null))
+                .setParameter("config", language.configuration())
+                .setParameter("query", query)
+                .setParameter("userId", userId)
+                .setParameter("limit", limit)
+                .setParameter("headlineOptions", HEADLINE_OPTIONS);
+        if (projectId != null) {
+            nativeQuery.setParameter("projectId", projectId);
+        }
+        if (after != null) {
+            nativeQuery.setParameter("afterRank", after.rank())
+                    .setParameter("afterType", after.type().name())
+                    .setParameter("afterId", after.id());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = nativeQuery.getResultList();
+        return rows.stream().map(FullTextSearchJpaAdapter::toHit).toList();
+    }
+
+    static String buildSql(SearchLanguage language, boolean byProject, boolean afterCursor) {
+        var hits = HITS_SQL.replace("{lang}", language.columnSuffix());
+        for (var alias : List.of("c", "i", "ch", "s")) {
+            hits = hits.replace("{projectFilter:" + alias + "}",
+                    byProject ? " AND " + alias + ".project_id = :projectId" : "");
+        }
+        return SEARCH_SQL
+                .replace("{hits}", hits.indent(4))
+                .replace("{cursorFilter}", afterCursor ? CURSOR_FILTER : "");
+    }
+
+    private static SearchHit toHit(Object[] row) {
+        return new SearchHit(
+                SearchDocumentType.valueOf((String) row[0]),
+                (UUID) row[1],
+                (UUID) row[2],
+                (String) row[3],
+                (String) row[4],
+                ((Number) row[5]).floatValue());
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.PostLoad;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -51,6 +52,9 @@ public class IdeaEntity implements Persistable<UUID> {
     @Column(nullable = false)
     private boolean deleted;
 
+    @Version
+    private Long version;
+
     @Transient
     private boolean isNew = true;
 
@@ -6,6 +6,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,14 +31,23 @@ public class IdeaJpaAdapter implements IdeaRepository {
     @Override
     public Idea save(Idea idea) {
         var project = projectJpaRepository.getReferenceById(idea.getProjectId());
-        var existingEntity = jpaRepository.findById(idea.getId()).orElse(null);
-        var entity = existingEntity != null
-                ? mapper.toEntity(idea, project, existingEntity)
-                : mapper.toEntity(idea, project);
-        var saved = jpaRepository.save(entity);
+        var entity = mapper.toEntity(idea, project);
+        // Flushed so the returned object carries the version bumped by @Version
+        var saved = jpaRepository.saveAndFlush(entity);
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Idea> saveAll(List<Idea> ideas) {
+        var entities = ideas.stream()
+                .map(idea -> mapper.toEntity(idea, projectJpaRepository.getReferenceById(idea.getProjectId())))
+                .toList();
+        // Sent in JDBC batches of hibernate.jdbc.batch_size
+        return jpaRepository.saveAllAndFlush(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Idea> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -43,12 +55,25 @@ public class IdeaJpaAdapter implements IdeaRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Idea> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .filter(e -> !e.isDeleted())
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Idea> findByIdAndProjectId(UUID id, UUID projectId) {
         return jpaRepository.findByIdAndProjectId(id, projectId)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public boolean markDeleted(UUID id, UUID projectId, Long expectedVersion) {
+        return jpaRepository.markDeleted(id, projectId, expectedVersion, Instant.now()) > 0;
+    }
+
     @Override
     public Page<Idea> findAllByProjectId(UUID projectId, Pageable pageable) {
         return jpaRepository.findByProjectId(projectId, pageable)
@@ -3,9 +3,11 @@ package com.othertales.modules.writing.infrastructure.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +18,17 @@ public interface IdeaJpaRepository extends JpaRepository<IdeaEntity, UUID> {
 
     @Query("SELECT i FROM IdeaEntity i WHERE i.id = :id AND i.project.id = :projectId AND i.deleted = false")
     Optional<IdeaEntity> findByIdAndProjectId(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("""
+            UPDATE IdeaEntity i
+            SET i.deleted = true, i.updatedAt = :updatedAt, i.version = i.version + 1
+            WHERE i.id = :id AND i.project.id = :projectId AND i.deleted = false
+              AND (:version IS NULL OR i.version = :version)
+            """)
+    int markDeleted(
+            @Param("id") UUID id,
+            @Param("projectId") UUID projectId,
+            @Param("version") Long version,
+            @Param("updatedAt") Instant updatedAt);
 }
@@ -9,14 +9,13 @@ public class IdeaMapper {
     public IdeaEntity toEntity(Idea idea, ProjectEntity project) {
         var entity = new IdeaEntity();
         applyToEntity(entity, idea, project);
+        if (idea.isPersisted()) {
+            entity.setVersion(idea.getVersion());
+            entity.markNotNew();
+        }
         return entity;
     }
 
-    public IdeaEntity toEntity(Idea idea, ProjectEntity project, IdeaEntity existingEntity) {
-        applyToEntity(existingEntity, idea, project);
-        return existingEntity;
-    }
-
     private void applyToEntity(IdeaEntity entity, Idea idea, ProjectEntity project) {
         entity.setId(idea.getId());
         entity.setProject(project);
@@ -35,6 +34,7 @@ public class IdeaMapper {
                 entity.getContent(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
-                entity.isDeleted());
+                entity.isDeleted(),
+                entity.getVersion());
     }
 }
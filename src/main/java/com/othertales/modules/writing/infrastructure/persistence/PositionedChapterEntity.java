@@ -0,0 +1,8 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+/**
+ * JPQL constructor projection of a chapter with its 0-based position in the project,
+ * which is not stored but counted from the order keys.
+ */
+public record PositionedChapterEntity(ChapterEntity chapter, Long position) {
+}
@@ -55,8 +55,12 @@ public class ProjectEntity implements Persistable<UUID> {
     @Column(length = 100)
     private String genre;
 
+    /**
+     * Written only by {@link ProjectJpaRepository#recordChapterChange}: saving a project
+     * loaded before a chapter save must not put back the count it read.
+     */
     @Min(0)
-    @Column(name = "current_word_count", nullable = false)
+    @Column(name = "current_word_count", nullable = false, updatable = false)
     private int currentWordCount;
 
     @Min(1)
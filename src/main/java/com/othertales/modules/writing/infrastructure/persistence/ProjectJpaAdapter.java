@@ -6,13 +6,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * AUDIT FIX #3 (FASE 1.3): save() now checks if entity exists and
- * reuses it to preserve isNew=false for updates.
+ * AUDIT FIX #3 (FASE 1.3): save() relies on the domain object's persisted flag to choose
+ * between insert and versioned update, without reading the row first.
  */
 @Repository
 public class ProjectJpaAdapter implements ProjectRepository {
@@ -27,11 +30,9 @@ public class ProjectJpaAdapter implements ProjectRepository {
 
     @Override
     public Project save(Project project) {
-        var existingEntity = jpaRepository.findById(project.getId()).orElse(null);
-        var entity = existingEntity != null
-                ? mapper.toEntity(project, existingEntity)
-                : mapper.toEntity(project);
-        var savedEntity = jpaRepository.save(entity);
+        var entity = mapper.toEntity(project);
+        // Flushed so the returned project carries the version bumped by @Version
+        var savedEntity = jpaRepository.saveAndFlush(entity);
         return mapper.toDomain(savedEntity);
     }
 
@@ -64,6 +65,29 @@ public class ProjectJpaAdapter implements ProjectRepository {
         return jpaRepository.existsByIdAndUserIdAndDeletedFalse(id, userId);
     }
 
+    @Override
+    public boolean markDeleted(UUID id, UUID userId, Long expectedVersion) {
+        return jpaRepository.markDeleted(id, userId, expectedVersion, Instant.now()) > 0;
+    }
+
+    @Override
+    public Set<UUID> findOwnedIds(Collection<UUID> ids, UUID userId) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(jpaRepository.findOwnedIds(ids, userId));
+    }
+
+    @Override
+    public void recordChapterChange(UUID id, int wordCountDelta) {
+        jpaRepository.recordChapterChange(id, wordCountDelta, Instant.now());
+    }
+
+    @Override
+    public Optional<Long> findChaptersVersion(UUID id, UUID userId) {
+        return jpaRepository.findChaptersVersion(id, userId);
+    }
+
     private Sort buildSort(String sortBy) {
         if (sortBy == null || sortBy.isBlank()) {
             return Sort.by(Sort.Direction.DESC, "updatedAt");
@@ -3,7 +3,13 @@ package com.othertales.modules.writing.infrastructure.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +24,49 @@ public interface ProjectJpaRepository extends JpaRepository<ProjectEntity, UUID>
     long countByUserIdAndDeletedFalse(UUID userId);
 
     boolean existsByIdAndUserIdAndDeletedFalse(UUID id, UUID userId);
+
+    @Query("SELECT p.id FROM ProjectEntity p WHERE p.id IN :ids AND p.userId = :userId AND p.deleted = false")
+    List<UUID> findOwnedIds(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    /**
+     * Bumps {@code version} like a versioned save would, so a client holding the old ETag
+     * gets 412 rather than a 404 it cannot tell from a missing project.
+     */
+    @Modifying
+    @Query("""
+            UPDATE ProjectEntity p
+            SET p.deleted = true, p.updatedAt = :updatedAt, p.version = p.version + 1
+            WHERE p.id = :id AND p.userId = :userId AND p.deleted = false
+              AND (:version IS NULL OR p.version = :version)
+            """)
+    int markDeleted(
+            @Param("id") UUID id,
+            @Param("userId") UUID userId,
+            @Param("version") Long version,
+            @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Unversioned on purpose: bumping {@code version} here would make every chapter
+     * save conflict with concurrent edits of the project metadata. Native because
+     * {@code chapters_version} is not mapped and {@code current_word_count} is not
+     * updatable, so saving a project never overwrites either.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE public.projects
+            SET current_word_count = GREATEST(current_word_count + :delta, 0),
+                chapters_version = chapters_version + 1,
+                updated_at = :updatedAt
+            WHERE id = :id
+            """, nativeQuery = true)
+    int recordChapterChange(
+            @Param("id") UUID id,
+            @Param("delta") int delta,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Query(value = """
+            SELECT chapters_version FROM public.projects
+            WHERE id = :id AND user_id = :userId AND deleted = false
+            """, nativeQuery = true)
+    Optional<Long> findChaptersVersion(@Param("id") UUID id, @Param("userId") UUID userId);
 }
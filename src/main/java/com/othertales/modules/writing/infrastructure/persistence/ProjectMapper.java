@@ -5,8 +5,7 @@ import com.othertales.modules.writing.domain.ProjectStatus;
 import org.springframework.stereotype.Component;
 
 /**
- * AUDIT FIX #3 (FASE 1.3): toEntity now accepts existingEntity parameter
- * to preserve isNew=false state for updates.
+ * AUDIT FIX #3 (FASE 1.3): toEntity marks loaded objects isNew=false so saving them updates, not inserts.
  */
 @Component
 public class ProjectMapper {
@@ -14,14 +13,13 @@ public class ProjectMapper {
     public ProjectEntity toEntity(Project project) {
         var entity = new ProjectEntity();
         applyToEntity(entity, project);
+        if (project.isPersisted()) {
+            entity.setVersion(project.getVersion());
+            entity.markNotNew();
+        }
         return entity;
     }
 
-    public ProjectEntity toEntity(Project project, ProjectEntity existingEntity) {
-        applyToEntity(existingEntity, project);
-        return existingEntity;
-    }
-
     private void applyToEntity(ProjectEntity entity, Project project) {
         entity.setId(project.getId());
         entity.setUserId(project.getUserId());
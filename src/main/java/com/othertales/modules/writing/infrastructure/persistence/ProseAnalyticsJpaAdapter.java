@@ -0,0 +1,91 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.application.port.ProseAnalyticsRepository;
+import com.othertales.modules.writing.domain.ChapterFingerprint;
+import com.othertales.modules.writing.domain.ChapterText;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Native queries over the {@code content_hash} column of V21 (trigger-maintained), which is not
+ * mapped on {@link ChapterEntity}: it is only ever read, and mapping it would need a
+ * re-select after every chapter save to keep the entity current.
+ */
+@Repository
+public class ProseAnalyticsJpaAdapter implements ProseAnalyticsRepository {
+
+    private static final String FINGERPRINTS_SQL = """
+            SELECT c.id, c.project_id, c.title, row_number() OVER (ORDER BY c.order_key, c.id) - 1, c.content_hash
+            FROM public.chapters c
+            WHERE c.project_id = :projectId
+            ORDER BY c.order_key, c.id
+            """;
+
+    private static final String FINGERPRINT_SQL = """
+            SELECT c.id, c.project_id, c.title,
+                   (SELECT COUNT(*) FROM public.chapters o WHERE o.project_id = c.project_id
+                        AND (o.order_key < c.order_key OR (o.order_key = c.order_key AND o.id < c.id))),
+                   c.content_hash
+            FROM public.chapters c
+            WHERE c.id = :id
+            """;
+
+    private static final String TEXTS_SQL = """
+            SELECT c.id, c.content_hash, c.content
+            FROM public.chapters c
+            WHERE c.project_id = :projectId AND c.id = ANY(CAST(:ids AS uuid[]))
+            """;
+
+    private final EntityManager entityManager;
+
+    public ProseAnalyticsJpaAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ChapterFingerprint> findFingerprintsByProjectId(UUID projectId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(FINGERPRINTS_SQL)
+                .setParameter("projectId", projectId)
+                .getResultList();
+        return rows.stream().map(ProseAnalyticsJpaAdapter::toFingerprint).toList();
+    }
+
+    @Override
+    public Optional<ChapterFingerprint> findFingerprintById(UUID chapterId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(FINGERPRINT_SQL)
+                .setParameter("id", chapterId)
+                .getResultList();
+        return rows.stream().findFirst().map(ProseAnalyticsJpaAdapter::toFingerprint);
+    }
+
+    @Override
+    public List<ChapterText> findTexts(UUID projectId, Collection<UUID> chapterIds) {
+        if (chapterIds.isEmpty()) {
+            return List.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(TEXTS_SQL)
+                .setParameter("projectId", projectId)
+                .setParameter("ids", chapterIds.toArray(UUID[]::new))
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ChapterText((UUID) row[0], (String) row[1], (String) row[2]))
+                .toList();
+    }
+
+    private static ChapterFingerprint toFingerprint(Object[] row) {
+        return new ChapterFingerprint(
+                (UUID) row[0],
+                (UUID) row[1],
+                (String) row[2],
+                ((Number) row[3]).intValue(),
+                (String) row[4]);
+    }
+}
@@ -6,6 +6,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,14 +31,23 @@ public class StoryJpaAdapter implements StoryRepository {
     @Override
     public Story save(Story story) {
         var project = projectJpaRepository.getReferenceById(story.getProjectId());
-        var existingEntity = jpaRepository.findById(story.getId()).orElse(null);
-        var entity = existingEntity != null
-                ? mapper.toEntity(story, project, existingEntity)
-                : mapper.toEntity(story, project);
-        var saved = jpaRepository.save(entity);
+        var entity = mapper.toEntity(story, project);
+        // Flushed so the returned object carries the version bumped by @Version
+        var saved = jpaRepository.saveAndFlush(entity);
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Story> saveAll(List<Story> stories) {
+        var entities = stories.stream()
+                .map(story -> mapper.toEntity(story, projectJpaRepository.getReferenceById(story.getProjectId())))
+                .toList();
+        // Sent in JDBC batches of hibernate.jdbc.batch_size
+        return jpaRepository.saveAllAndFlush(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Story> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -43,12 +55,25 @@ public class StoryJpaAdapter implements StoryRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Story> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .filter(e -> !e.isDeleted())
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Story> findByIdAndProjectId(UUID id, UUID projectId) {
         return jpaRepository.findByIdAndProjectId(id, projectId)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public boolean markDeleted(UUID id, UUID projectId, Long expectedVersion) {
+        return jpaRepository.markDeleted(id, projectId, expectedVersion, Instant.now()) > 0;
+    }
+
     @Override
     public Page<Story> findAllByProjectId(UUID projectId, Pageable pageable) {
         return jpaRepository.findByProjectId(projectId, pageable)
@@ -3,9 +3,11 @@ package com.othertales.modules.writing.infrastructure.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +18,17 @@ public interface StoryJpaRepository extends JpaRepository<StoryEntity, UUID> {
 
     @Query("SELECT s FROM StoryEntity s WHERE s.id = :id AND s.project.id = :projectId AND s.deleted = false")
     Optional<StoryEntity> findByIdAndProjectId(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("""
+            UPDATE StoryEntity s
+            SET s.deleted = true, s.updatedAt = :updatedAt, s.version = s.version + 1
+            WHERE s.id = :id AND s.project.id = :projectId AND s.deleted = false
+              AND (:version IS NULL OR s.version = :version)
+            """)
+    int markDeleted(
+            @Param("id") UUID id,
+            @Param("projectId") UUID projectId,
+            @Param("version") Long version,
+            @Param("updatedAt") Instant updatedAt);
 }
@@ -9,14 +9,13 @@ public class StoryMapper {
     public StoryEntity toEntity(Story story, ProjectEntity project) {
         var entity = new StoryEntity();
         applyToEntity(entity, story, project);
+        if (story.isPersisted()) {
+            entity.setVersion(story.getVersion());
+            entity.markNotNew();
+        }
         return entity;
     }
 
-    public StoryEntity toEntity(Story story, ProjectEntity project, StoryEntity existingEntity) {
-        applyToEntity(existingEntity, story, project);
-        return existingEntity;
-    }
-
     private void applyToEntity(StoryEntity entity, Story story, ProjectEntity project) {
         entity.setId(story.getId());
         entity.setProject(project);
@@ -43,6 +42,7 @@ public class StoryMapper {
                 entity.getImageUrl(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
-                entity.isDeleted());
+                entity.isDeleted(),
+                entity.getVersion());
     }
 }
@@ -0,0 +1,183 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.application.port.SyncRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import com.othertales.modules.writing.domain.SyncTombstone;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native queries over the {@code change_seq} columns of V23, which are written by
+ * triggers and not mapped on the entities, so saves never carry a stale value. Rows
+ * are read into the entities and converted with the usual mappers.
+ */
+@Repository
+public class SyncJpaAdapter implements SyncRepository {
+
+    private static final String HORIZON_SQL = """
+            SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint
+            """;
+
+    private static final String CHANGE_SEQS_SQL = """
+            SELECT change_seq FROM (
+                SELECT p.change_seq FROM public.projects p
+                WHERE p.user_id = :userId AND p.change_seq > :after AND p.change_seq < :horizon
+                UNION ALL
+                SELECT c.change_seq FROM public.chapters c
+                JOIN public.projects p ON p.id = c.project_id AND p.user_id = :userId AND p.deleted = false
+                WHERE c.change_seq > :after AND c.change_seq < :horizon
+                UNION ALL
+                SELECT s.change_seq FROM public.stories s
+                JOIN public.projects p ON p.id = s.project_id AND p.user_id = :userId AND p.deleted = false
+                WHERE s.change_seq > :after AND s.change_seq < :horizon
+                UNION ALL
+                SELECT ch.change_seq FROM public.characters ch
+                JOIN public.projects p ON p.id = ch.project_id AND p.user_id = :userId AND p.deleted = false
+                WHERE ch.change_seq > :after AND ch.change_seq < :horizon
+                UNION ALL
+                SELECT i.change_seq FROM public.ideas i
+                JOIN public.projects p ON p.id = i.project_id AND p.user_id = :userId AND p.deleted = false
+                WHERE i.change_seq > :after AND i.change_seq < :horizon
+                UNION ALL
+                SELECT t.change_seq FROM public.sync_tombstones t
+                WHERE t.user_id = :userId AND t.change_seq > :after AND t.change_seq < :horizon
+            ) changes
+            ORDER BY change_seq
+            LIMIT :limit
+            """;
+
+    private static final String PROJECTS_SQL = """
+            SELECT p.* FROM public.projects p
+            WHERE p.user_id = :userId AND p.change_seq > :after AND p.change_seq <= :upTo
+            ORDER BY p.change_seq, p.id
+            """;
+
+    // {table} and {alias} are constants of this class, never input
+    private static final String PROJECT_CHILDREN_SQL = """
+            SELECT {alias}.* FROM public.{table} {alias}
+            JOIN public.projects p ON p.id = {alias}.project_id AND p.user_id = :userId AND p.deleted = false
+            WHERE {alias}.change_seq > :after AND {alias}.change_seq <= :upTo
+            ORDER BY {alias}.change_seq, {alias}.id
+            """;
+
+    private static final String TOMBSTONES_SQL = """
+            SELECT t.entity_type, t.entity_id, t.project_id FROM public.sync_tombstones t
+            WHERE t.user_id = :userId AND t.change_seq > :after AND t.change_seq <= :upTo
+            ORDER BY t.change_seq, t.entity_id
+            """;
+
+    private final EntityManager entityManager;
+    private final ProjectMapper projectMapper;
+    private final ChapterMapper chapterMapper;
+    private final StoryMapper storyMapper;
+    private final CharacterMapper characterMapper;
+    private final IdeaMapper ideaMapper;
+
+    public SyncJpaAdapter(
+            EntityManager entityManager,
+            ProjectMapper projectMapper,
+            ChapterMapper chapterMapper,
+            StoryMapper storyMapper,
+            CharacterMapper characterMapper,
+            IdeaMapper ideaMapper
+    ) {
+        this.entityManager = entityManager;
+        this.projectMapper = projectMapper;
+        this.chapterMapper = chapterMapper;
+        this.storyMapper = storyMapper;
+        this.characterMapper = characterMapper;
+        this.ideaMapper = ideaMapper;
+    }
+
+    @Override
+    public long findHorizon() {
+        return ((Number) entityManager.createNativeQuery(HORIZON_SQL).getSingleResult()).longValue();
+    }
+
+    @Override
+    public List<Long> findChangeSeqs(UUID userId, long after, long horizon, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Number> rows = entityManager.createNativeQuery(CHANGE_SEQS_SQL)
+                .setParameter("userId", userId)
+                .setParameter("after", after)
+                .setParameter("horizon", horizon)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream().map(Number::longValue).toList();
+    }
+
+    @Override
+    public List<Project> findProjects(UUID userId, long after, long upTo) {
+        @SuppressWarnings("unchecked")
+        List<ProjectEntity> rows = entityManager.createNativeQuery(PROJECTS_SQL, ProjectEntity.class)
+                .setParameter("userId", userId)
+                .setParameter("after", after)
+                .setParameter("upTo", upTo)
+                .getResultList();
+        return rows.stream().map(projectMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Chapter> findChapters(UUID userId, long after, long upTo) {
+        return findProjectChildren("chapters", "c", ChapterEntity.class, userId, after, upTo).stream()
+                .map(entity -> chapterMapper.toDomain(entity, 0))
+                .toList();
+    }
+
+    @Override
+    public List<Story> findStories(UUID userId, long after, long upTo) {
+        return findProjectChildren("stories", "s", StoryEntity.class, userId, after, upTo).stream()
+                .map(storyMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Character> findCharacters(UUID userId, long after, long upTo) {
+        return findProjectChildren("characters", "ch", CharacterEntity.class, userId, after, upTo).stream()
+                .map(characterMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Idea> findIdeas(UUID userId, long after, long upTo) {
+        return findProjectChildren("ideas", "i", IdeaEntity.class, userId, after, upTo).stream()
+                .map(ideaMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<SyncTombstone> findTombstones(UUID userId, long after, long upTo) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(TOMBSTONES_SQL)
+                .setParameter("userId", userId)
+                .setParameter("after", after)
+                .setParameter("upTo", upTo)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new SyncTombstone(
+                        SyncEntityType.valueOf((String) row[0]),
+                        (UUID) row[1],
+                        (UUID) row[2]))
+                .toList();
+    }
+
+    private <E> List<E> findProjectChildren(String table, String alias, Class<E> entityClass, UUID userId,
+                                            long after, long upTo) {
+        var sql = PROJECT_CHILDREN_SQL.replace("{table}", table).replace("{alias}", alias);
+        @SuppressWarnings("unchecked")
+        List<E> rows = entityManager.createNativeQuery(sql, entityClass)
+                .setParameter("userId", userId)
+                .setParameter("after", after)
+                .setParameter("upTo", upTo)
+                .getResultList();
+        return rows;
+    }
+}
@@ -0,0 +1,102 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.application.port.WritingStatsRepository;
+import com.othertales.modules.writing.domain.WritingActivity;
+import com.othertales.modules.writing.domain.WritingStatsGranularity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native statements over the rollup tables of V20, which have no entities: rows are only
+ * ever incremented in place or read as ranges of their primary key.
+ */
+@Repository
+public class WritingStatsJpaAdapter implements WritingStatsRepository {
+
+    /**
+     * One statement for the three rollups; data-modifying CTEs all run even though
+     * nothing reads them.
+     */
+    private static final String RECORD_SQL = """
+            WITH daily AS (
+                INSERT INTO public.writing_stats_daily AS s (user_id, project_id, period_start, words_added, words_removed)
+                VALUES (:userId, :projectId, :day, :added, :removed)
+                ON CONFLICT (user_id, project_id, period_start) DO UPDATE
+                SET words_added = s.words_added + EXCLUDED.words_added,
+                    words_removed = s.words_removed + EXCLUDED.words_removed
+            ),
+            weekly AS (
+                INSERT INTO public.writing_stats_weekly AS s (user_id, project_id, period_start, words_added, words_removed)
+                VALUES (:userId, :projectId, :week, :added, :removed)
+                ON CONFLICT (user_id, project_id, period_start) DO UPDATE
+                SET words_added = s.words_added + EXCLUDED.words_added,
+                    words_removed = s.words_removed + EXCLUDED.words_removed
+            )
+            INSERT INTO public.writing_stats_monthly AS s (user_id, project_id, period_start, words_added, words_removed)
+            VALUES (:userId, :projectId, :month, :added, :removed)
+            ON CONFLICT (user_id, project_id, period_start) DO UPDATE
+            SET words_added = s.words_added + EXCLUDED.words_added,
+                words_removed = s.words_removed + EXCLUDED.words_removed
+            """;
+
+    /**
+     * A range of the primary key {@code (user_id, project_id, period_start)}.
+     */
+    private static final String FIND_SQL = """
+            SELECT period_start, words_added, words_removed
+            FROM public.{table}
+            WHERE user_id = :userId AND project_id = :projectId
+              AND period_start BETWEEN :from AND :to
+            ORDER BY period_start
+            """;
+
+    private final EntityManager entityManager;
+
+    public WritingStatsJpaAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void record(UUID userId, UUID projectId, LocalDate day, int wordsAdded, int wordsRemoved) {
+        entityManager.createNativeQuery(RECORD_SQL)
+                .setParameter("userId", userId)
+                .setParameter("projectId", projectId)
+                .setParameter("day", day)
+                .setParameter("week", WritingStatsGranularity.WEEK.periodStart(day))
+                .setParameter("month", WritingStatsGranularity.MONTH.periodStart(day))
+                .setParameter("added", wordsAdded)
+                .setParameter("removed", wordsRemoved)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<WritingActivity> findByProject(UUID userId, UUID projectId, WritingStatsGranularity granularity,
+                                               LocalDate from, LocalDate to) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(FIND_SQL.replace("{table}", table(granularity)))
+                .setParameter("userId", userId)
+                .setParameter("projectId", projectId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+        return rows.stream().map(WritingStatsJpaAdapter::toActivity).toList();
+    }
+
+    static String table(WritingStatsGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> "writing_stats_daily";
+            case WEEK -> "writing_stats_weekly";
+            case MONTH -> "writing_stats_monthly";
+        };
+    }
+
+    private static WritingActivity toActivity(Object[] row) {
+        var periodStart = row[0] instanceof Date date ? date.toLocalDate() : (LocalDate) row[0];
+        return new WritingActivity(periodStart, ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+    }
+}
@@ -0,0 +1,55 @@
+package com.othertales.modules.writing.infrastructure.scheduling;
+
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drives {@link ChapterAutosaveCoalescer}: flushes due saves periodically and
+ * everything left on shutdown.
+ *
+ * <p>The phase puts {@link #stop()} after the graceful web server shutdown, so saves
+ * accepted by in-flight requests are written before the datasource closes.
+ */
+@Component
+public class ChapterAutosaveFlusher implements SmartLifecycle {
+
+    private final ChapterAutosaveCoalescer coalescer;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ChapterAutosaveFlusher(ChapterAutosaveCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Scheduled(fixedDelayString = "${app.autosave.flush-interval:PT0.5S}")
+    public void flushDue() {
+        coalescer.flushDue(Instant.now());
+    }
+
+    @Override
+    public void start() {
+        running.set(true);
+    }
+
+    @Override
+    public void stop() {
+        if (running.compareAndSet(true, false)) {
+            coalescer.flushAll();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public int getPhase() {
+        // Below the web server's graceful shutdown (DEFAULT_PHASE - 1024) and stop (- 2048) phases.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
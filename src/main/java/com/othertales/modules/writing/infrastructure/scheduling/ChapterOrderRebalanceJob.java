@@ -0,0 +1,35 @@
+package com.othertales.modules.writing.infrastructure.scheduling;
+
+import com.othertales.modules.writing.application.usecase.ChapterOrderRebalancer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically shortens chapter order keys that grew too long, one project per
+ * transaction, so a failure in one project does not hold back the others.
+ */
+@Component
+public class ChapterOrderRebalanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ChapterOrderRebalanceJob.class);
+
+    private final ChapterOrderRebalancer rebalancer;
+
+    public ChapterOrderRebalanceJob(ChapterOrderRebalancer rebalancer) {
+        this.rebalancer = rebalancer;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chapter-order.rebalance-interval:PT10M}")
+    public void rebalance() {
+        for (var projectId : rebalancer.findProjectsToRebalance()) {
+            try {
+                var changed = rebalancer.rebalance(projectId);
+                log.debug("Rebalanced chapter order keys of project {}: {} chapters", projectId, changed);
+            } catch (RuntimeException e) {
+                log.warn("Could not rebalance chapter order keys of project {}", projectId, e);
+            }
+        }
+    }
+}
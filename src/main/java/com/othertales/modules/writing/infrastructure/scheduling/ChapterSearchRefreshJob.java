@@ -0,0 +1,36 @@
+package com.othertales.modules.writing.infrastructure.scheduling;
+
+import com.othertales.modules.writing.application.usecase.ChapterSearchRefresher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically rebuilds stale chapter search vectors, one small batch per transaction,
+ * so no single run holds row locks or a connection for long.
+ */
+@Component
+public class ChapterSearchRefreshJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ChapterSearchRefreshJob.class);
+
+    static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final ChapterSearchRefresher refresher;
+
+    public ChapterSearchRefreshJob(ChapterSearchRefresher refresher) {
+        this.refresher = refresher;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chapter-search.refresh-interval:PT5S}")
+    public void refresh() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN && refresher.refreshBatch(); batch++) {
+                log.debug("Refreshed a full batch of chapter search vectors; continuing");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh chapter search vectors", e);
+        }
+    }
+}
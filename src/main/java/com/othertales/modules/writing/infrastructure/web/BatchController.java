@@ -0,0 +1,66 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.BatchMutationRequest;
+import com.othertales.modules.writing.application.dto.BatchMutationResponse;
+import com.othertales.modules.writing.application.usecase.BatchMutationService;
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
+import com.othertales.modules.writing.domain.BatchAction;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/batch")
+public class BatchController {
+
+    private final BatchMutationService batchMutationService;
+    private final ChapterAutosaveCoalescer autosaveCoalescer;
+
+    public BatchController(BatchMutationService batchMutationService, ChapterAutosaveCoalescer autosaveCoalescer) {
+        this.batchMutationService = batchMutationService;
+        this.autosaveCoalescer = autosaveCoalescer;
+    }
+
+    /**
+     * Applies the queued changes of an offline client in order. Answers 200 even when some
+     * operations failed: each one has its own result.
+     *
+     * <p>As for single chapter saves, the caller's buffered autosaves are written first for
+     * chapters the batch changes, outside the batch's transaction, so none lands on top of the
+     * batch afterwards. Those of chapters it deletes are dropped only once the batch has
+     * committed and the delete applied, as for single deletes: a failed delete keeps them.
+     */
+    @PostMapping
+    public ResponseEntity<BatchMutationResponse> apply(
+            @Valid @RequestBody BatchMutationRequest request,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        for (var operation : request.operations()) {
+            if (operation.type() == SyncEntityType.CHAPTER && operation.op() == BatchAction.UPDATE
+                    && operation.id() != null) {
+                autosaveCoalescer.flush(operation.id(), userId);
+            }
+        }
+        var response = batchMutationService.apply(request, userId);
+        for (var result : response.results()) {
+            if (SyncEntityType.CHAPTER.name().equals(result.type()) && BatchAction.DELETE.name().equals(result.op())
+                    && BatchMutationService.APPLIED.equals(result.status())) {
+                autosaveCoalescer.discard(result.id(), userId);
+            }
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -1,12 +1,23 @@
 package com.othertales.modules.writing.infrastructure.web;
 
+import com.othertales.modules.writing.application.dto.AutosaveAcceptedResponse;
+import com.othertales.modules.writing.application.dto.ChapterIndexResponse;
 import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterStatisticsResponse;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
 import com.othertales.modules.writing.application.dto.CreateChapterRequest;
+import com.othertales.modules.writing.application.dto.MoveChapterRequest;
+import com.othertales.modules.writing.application.dto.PatchChapterContentRequest;
 import com.othertales.modules.writing.application.dto.ReorderChaptersRequest;
 import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
 import com.othertales.modules.writing.application.usecase.ChapterService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -17,9 +28,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,20 +47,59 @@ import java.util.UUID;
 @RequestMapping("/api/v1")
 public class ChapterController {
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
     private final ChapterService chapterService;
+    private final ChapterAutosaveCoalescer autosaveCoalescer;
 
-    public ChapterController(ChapterService chapterService) {
+    public ChapterController(ChapterService chapterService, ChapterAutosaveCoalescer autosaveCoalescer) {
         this.chapterService = chapterService;
+        this.autosaveCoalescer = autosaveCoalescer;
     }
 
+    /**
+     * Conditional on the project's chapters version: a matching If-None-Match is answered
+     * 304 from the project row alone. The validator is read before the list, so a body is
+     * never older than its ETag.
+     */
     @GetMapping("/projects/{projectId}/chapters")
     public ResponseEntity<List<ChapterResponse>> getChaptersByProject(
             @PathVariable UUID projectId,
-            @AuthenticationPrincipal Jwt jwt
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request
     ) {
         var userId = extractUserId(jwt);
+        var etag = ConditionalRequests.etag(chapterService.getChaptersVersion(projectId, userId));
+        if (ConditionalRequests.ifNoneMatch(request, etag)) {
+            return notModified(etag);
+        }
         var chapters = chapterService.getChaptersByProjectId(projectId, userId);
-        return ResponseEntity.ok(chapters);
+        return ok(etag).body(chapters);
+    }
+
+    @GetMapping("/projects/{projectId}/chapters/outline")
+    public ResponseEntity<ChapterIndexResponse> getChapterOutline(
+            @PathVariable UUID projectId,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request
+    ) {
+        var userId = extractUserId(jwt);
+        var etag = ConditionalRequests.etag(chapterService.getChaptersVersion(projectId, userId));
+        if (ConditionalRequests.ifNoneMatch(request, etag)) {
+            return notModified(etag);
+        }
+        var outline = chapterService.getChapterOutline(projectId, userId);
+        return ok(etag).body(outline);
+    }
+
+    @GetMapping("/projects/{projectId}/chapters/statistics")
+    public ResponseEntity<ChapterStatisticsResponse> getChapterStatistics(
+            @PathVariable UUID projectId,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var statistics = chapterService.getChapterStatistics(projectId, userId);
+        return ResponseEntity.ok(statistics);
     }
 
     @PostMapping("/projects/{projectId}/chapters")
@@ -58,49 +113,158 @@ public class ChapterController {
         return ResponseEntity.status(HttpStatus.CREATED).body(chapter);
     }
 
+    /**
+     * Conditional on the chapter's version and position (a reorder leaves the version
+     * alone), checked against a content-free lookup before the chapter is loaded.
+     */
     @GetMapping("/chapters/{chapterId}")
     public ResponseEntity<ChapterResponse> getChapter(
             @PathVariable UUID chapterId,
-            @AuthenticationPrincipal Jwt jwt
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request
     ) {
         var userId = extractUserId(jwt);
+        autosaveCoalescer.flush(chapterId, userId);
+        var summary = chapterService.getChapterSummary(chapterId, userId);
+        var etag = ConditionalRequests.etag(summary.version(), summary.sortOrder());
+        if (ConditionalRequests.ifNoneMatch(request, etag)) {
+            return notModified(etag);
+        }
         var chapter = chapterService.getChapterById(chapterId, userId);
-        return ResponseEntity.ok(chapter);
+        return ok(ConditionalRequests.etag(chapter.version(), chapter.sortOrder())).body(chapter);
     }
 
+    /**
+     * Raw chapter text, streamed with chunked transfer encoding as it is read.
+     * Conditional on the chapter version, so an unchanged chapter is never streamed again.
+     */
+    @GetMapping("/chapters/{chapterId}/content")
+    public ResponseEntity<StreamingResponseBody> getChapterContent(
+            @PathVariable UUID chapterId,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request
+    ) {
+        var userId = extractUserId(jwt);
+        autosaveCoalescer.flush(chapterId, userId);
+        var etag = ConditionalRequests.etag(chapterService.getChapterSummary(chapterId, userId).version());
+        if (ConditionalRequests.ifNoneMatch(request, etag)) {
+            return notModified(etag);
+        }
+        var content = chapterService.streamChapterContent(chapterId, userId);
+        StreamingResponseBody body = output ->
+                content.writeTo(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        return ok(etag).contentType(TEXT_PLAIN_UTF8).body(body);
+    }
+
+    /**
+     * With If-Match ({@code "<version>"}, or the chapter's ETag as is) a stale save is
+     * refused with 412 instead of overwriting the newer text. Same for PATCH and DELETE.
+     */
     @PutMapping("/chapters/{chapterId}")
     public ResponseEntity<ChapterResponse> updateChapter(
             @PathVariable UUID chapterId,
             @Valid @RequestBody UpdateChapterRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt
     ) {
         var userId = extractUserId(jwt);
-        var chapter = chapterService.updateChapter(chapterId, request, userId);
+        autosaveCoalescer.flush(chapterId, userId);
+        var chapter = chapterService.updateChapter(chapterId, request, ConditionalRequests.expectedVersion(ifMatch),
+                userId);
         return ResponseEntity.ok(chapter);
     }
 
+    /**
+     * Coalescing autosave: the update is buffered and merged with other saves to the
+     * same chapter, then written once. Answers 202 before anything is written.
+     */
+    @PutMapping(value = "/chapters/{chapterId}", params = "coalesce=true")
+    public ResponseEntity<AutosaveAcceptedResponse> autosaveChapter(
+            @PathVariable UUID chapterId,
+            @Valid @RequestBody UpdateChapterRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var accepted = autosaveCoalescer.submit(chapterId, request, ConditionalRequests.expectedVersion(ifMatch),
+                userId);
+        return ResponseEntity.accepted().body(accepted);
+    }
+
+    @PatchMapping("/chapters/{chapterId}")
+    public ResponseEntity<ChapterSummaryResponse> patchChapterContent(
+            @PathVariable UUID chapterId,
+            @Valid @RequestBody PatchChapterContentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        autosaveCoalescer.flush(chapterId, userId);
+        var chapter = chapterService.patchChapterContent(chapterId, request,
+                ConditionalRequests.expectedVersion(ifMatch), userId);
+        return ResponseEntity.ok(chapter);
+    }
+
+    /**
+     * If-Match here takes the chapter list ETag, so a reorder computed from a stale list
+     * is refused.
+     */
     @PatchMapping("/projects/{projectId}/chapters/reorder")
-    public ResponseEntity<List<ChapterResponse>> reorderChapters(
+    public ResponseEntity<ChapterIndexResponse> reorderChapters(
             @PathVariable UUID projectId,
             @Valid @RequestBody ReorderChaptersRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt
     ) {
         var userId = extractUserId(jwt);
-        var chapters = chapterService.reorderChapters(projectId, request, userId);
-        return ResponseEntity.ok(chapters);
+        var outline = chapterService.reorderChapters(projectId, request, ConditionalRequests.expectedVersion(ifMatch),
+                userId);
+        return ResponseEntity.ok(outline);
+    }
+
+    /**
+     * Moves one chapter; only its own order key is written. Like reorder, If-Match takes
+     * the chapter list ETag.
+     */
+    @PatchMapping("/chapters/{chapterId}/position")
+    public ResponseEntity<ChapterSummaryResponse> moveChapter(
+            @PathVariable UUID chapterId,
+            @Valid @RequestBody MoveChapterRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var chapter = chapterService.moveChapter(chapterId, request, ConditionalRequests.expectedVersion(ifMatch),
+                userId);
+        return ResponseEntity.ok(chapter);
     }
 
     @DeleteMapping("/chapters/{chapterId}")
     public ResponseEntity<Void> deleteChapter(
             @PathVariable UUID chapterId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt
     ) {
         var userId = extractUserId(jwt);
-        chapterService.deleteChapter(chapterId, userId);
+        chapterService.deleteChapter(chapterId, ConditionalRequests.expectedVersion(ifMatch), userId);
+        autosaveCoalescer.discard(chapterId);
         return ResponseEntity.noContent().build();
     }
 
     private UUID extractUserId(Jwt jwt) {
         return UUID.fromString(jwt.getSubject());
     }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .build();
+    }
+
+    private static ResponseEntity.BodyBuilder ok(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag);
+    }
 }
@@ -0,0 +1,49 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterImportResponse;
+import com.othertales.modules.writing.application.usecase.ChapterImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/chapters/import")
+public class ChapterImportController {
+
+    private final ChapterImportService importService;
+
+    public ChapterImportController(ChapterImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * The upload is spooled to disk by the servlet container and parsed from there as a stream.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ChapterImportResponse> importChapters(
+            @PathVariable UUID projectId,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal Jwt jwt
+    ) throws IOException {
+        var userId = extractUserId(jwt);
+        try (var content = file.getInputStream()) {
+            var response = importService.importChapters(projectId, file.getOriginalFilename(), content, userId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
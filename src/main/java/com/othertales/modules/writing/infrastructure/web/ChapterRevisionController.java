@@ -0,0 +1,95 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterRevisionResponse;
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
+import com.othertales.modules.writing.application.usecase.ChapterRevisionService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/chapters/{chapterId}/revisions")
+public class ChapterRevisionController {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final ChapterRevisionService revisionService;
+    private final ChapterAutosaveCoalescer autosaveCoalescer;
+
+    public ChapterRevisionController(
+            ChapterRevisionService revisionService,
+            ChapterAutosaveCoalescer autosaveCoalescer
+    ) {
+        this.revisionService = revisionService;
+        this.autosaveCoalescer = autosaveCoalescer;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ChapterRevisionResponse>> listRevisions(
+            @PathVariable UUID chapterId,
+            @RequestParam(defaultValue = "50") int limit,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var revisions = revisionService.listRevisions(chapterId, limit, userId);
+        return ResponseEntity.ok(revisions);
+    }
+
+    @GetMapping("/{revisionId}")
+    public ResponseEntity<ChapterRevisionResponse> getRevision(
+            @PathVariable UUID chapterId,
+            @PathVariable UUID revisionId,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var revision = revisionService.getRevision(chapterId, revisionId, userId);
+        return ResponseEntity.ok(revision);
+    }
+
+    /**
+     * Streams the revision text as it is assembled from its chunks.
+     */
+    @GetMapping("/{revisionId}/content")
+    public ResponseEntity<StreamingResponseBody> getRevisionContent(
+            @PathVariable UUID chapterId,
+            @PathVariable UUID revisionId,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var content = revisionService.streamRevisionContent(chapterId, revisionId, userId);
+        StreamingResponseBody body = output ->
+                content.writeTo(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        return ResponseEntity.ok().contentType(TEXT_PLAIN_UTF8).body(body);
+    }
+
+    @PostMapping("/{revisionId}/restore")
+    public ResponseEntity<ChapterResponse> restoreRevision(
+            @PathVariable UUID chapterId,
+            @PathVariable UUID revisionId,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        autosaveCoalescer.flush(chapterId, userId);
+        var chapter = revisionService.restoreRevision(chapterId, revisionId, userId);
+        return ResponseEntity.ok(chapter);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -7,6 +7,7 @@ import com.othertales.modules.writing.application.usecase.CharacterService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -59,7 +60,7 @@ public class CharacterController {
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
         var response = characterService.getCharacterById(characterId, userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(response.version())).body(response);
     }
 
     @PutMapping(value = "/{characterId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -68,12 +69,14 @@ public class CharacterController {
             @PathVariable UUID characterId,
             @RequestPart("data") @Valid UpdateCharacterRequest request,
             @RequestPart(value = "image", required = false) MultipartFile image,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt) throws IOException {
         var userId = extractUserId(jwt);
         byte[] imageBytes = image != null ? image.getBytes() : null;
         String contentType = image != null ? image.getContentType() : null;
 
-        var response = characterService.updateCharacter(characterId, request, imageBytes, contentType, userId);
+        var response = characterService.updateCharacter(characterId, request, imageBytes, contentType,
+                ConditionalRequests.expectedVersion(ifMatch), userId);
         return ResponseEntity.ok(response);
     }
 
@@ -81,9 +84,10 @@ public class CharacterController {
     public ResponseEntity<Void> delete(
             @PathVariable UUID projectId,
             @PathVariable UUID characterId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
-        characterService.deleteCharacter(characterId, userId);
+        characterService.deleteCharacter(projectId, characterId, ConditionalRequests.expectedVersion(ifMatch), userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,59 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.CharacterAppearancesResponse;
+import com.othertales.modules.writing.application.dto.CharacterCoOccurrenceResponse;
+import com.othertales.modules.writing.application.usecase.CharacterMentionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/characters")
+public class CharacterMentionController {
+
+    private final CharacterMentionService characterMentionService;
+
+    public CharacterMentionController(CharacterMentionService characterMentionService) {
+        this.characterMentionService = characterMentionService;
+    }
+
+    /**
+     * Chapters in which the character is mentioned, in chapter order, with counts.
+     */
+    @GetMapping("/{characterId}/chapters")
+    public ResponseEntity<CharacterAppearancesResponse> findAppearances(
+            @PathVariable UUID projectId,
+            @PathVariable UUID characterId,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = characterMentionService.findAppearances(projectId, characterId, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Pairs of characters that appear in the same chapters, most shared chapters first.
+     */
+    @GetMapping("/co-occurrences")
+    public ResponseEntity<List<CharacterCoOccurrenceResponse>> findCoOccurrences(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = characterMentionService.findCoOccurrences(projectId, limit, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
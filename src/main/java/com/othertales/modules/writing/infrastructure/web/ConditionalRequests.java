@@ -0,0 +1,72 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * ETag validators shared by the writing controllers. Tags are {@code "<version>"}, or
+ * {@code "<version>.<qualifier>"} when the representation also depends on something the
+ * version does not cover (a chapter's position, a project's word count).
+ */
+final class ConditionalRequests {
+
+    /** Expected version for an If-Match that cannot match any current version. */
+    static final long NO_VERSION = -1;
+
+    private ConditionalRequests() {
+    }
+
+    static String etag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String etag(Long version, Object qualifier) {
+        return "\"" + version + "." + qualifier + "\"";
+    }
+
+    /**
+     * Weak comparison against every tag of If-None-Match, as RFC 9110 asks for GET, so
+     * tags weakened by a compressing proxy still match.
+     */
+    static boolean ifNoneMatch(HttpServletRequest request, String etag) {
+        var headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (headers.hasMoreElements()) {
+            for (var tag : headers.nextElement().split(",")) {
+                tag = tag.strip();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an If-Match header requires, or null when there is no header or it is
+     * {@code *}. Only the version part of the first tag counts, so a chapter or project
+     * ETag can be sent back as is. Weak and malformed tags give {@link #NO_VERSION}: If-Match
+     * uses strong comparison, so they must fail with 412 rather than be ignored.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        var tag = ifMatch.split(",")[0].strip();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return NO_VERSION;
+        }
+        var value = tag.substring(1, tag.length() - 1);
+        var dot = value.indexOf('.');
+        try {
+            return Long.parseLong(dot < 0 ? value : value.substring(0, dot));
+        } catch (NumberFormatException e) {
+            return NO_VERSION;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.othertales.modules.writing.application.usecase.IdeaService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -52,7 +53,7 @@ public class IdeaController {
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
         var response = ideaService.getIdeaById(ideaId, userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(response.version())).body(response);
     }
 
     @PutMapping("/{ideaId}")
@@ -60,9 +61,10 @@ public class IdeaController {
             @PathVariable UUID projectId,
             @PathVariable UUID ideaId,
             @Valid @RequestBody UpdateIdeaRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
-        var response = ideaService.updateIdea(ideaId, request, userId);
+        var response = ideaService.updateIdea(ideaId, request, ConditionalRequests.expectedVersion(ifMatch), userId);
         return ResponseEntity.ok(response);
     }
 
@@ -70,9 +72,10 @@ public class IdeaController {
     public ResponseEntity<Void> delete(
             @PathVariable UUID projectId,
             @PathVariable UUID ideaId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
-        ideaService.deleteIdea(ideaId, userId);
+        ideaService.deleteIdea(projectId, ideaId, ConditionalRequests.expectedVersion(ifMatch), userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,55 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.usecase.ManuscriptExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/export")
+public class ManuscriptExportController {
+
+    private final ManuscriptExportService exportService;
+
+    public ManuscriptExportController(ManuscriptExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Streams the whole project as a file download, written chapter by chapter.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "markdown") String format,
+            Locale locale,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var export = exportService.exportProject(projectId, format, locale, userId);
+        var disposition = ContentDisposition.attachment()
+                .filename(export.fileName())
+                .build();
+        StreamingResponseBody body = export::writeTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(export.format().mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -8,6 +8,7 @@ import com.othertales.modules.writing.application.usecase.ProjectService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -84,8 +86,9 @@ public class ProjectController {
         var userId = extractUserId(jwt);
         var response = projectService.getById(projectId, userId);
 
-        // ETag basado en updatedAt del proyecto
-        String etag = "\"" + response.updatedAt().toEpochMilli() + "\"";
+        // ETag basado en version (reutilizable en If-Match) y updatedAt, que tambien
+        // cambia con el recuento de palabras al guardar capitulos
+        String etag = ConditionalRequests.etag(response.version(), response.updatedAt().toEpochMilli());
         String ifNoneMatch = request.getHeader("If-None-Match");
         if (etag.equals(ifNoneMatch)) {
             return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
@@ -100,22 +103,28 @@ public class ProjectController {
                 .body(response);
     }
 
+    /**
+     * If-Match acepta la version o el ETag del proyecto tal cual; si no es la vigente
+     * responde 412 en lugar de sobrescribir. Guardar capitulos no cambia esta version.
+     */
     @PutMapping("/{projectId}")
     public ResponseEntity<ProjectResponse> updateProject(
             @PathVariable UUID projectId,
             @Valid @RequestBody UpdateProjectRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
-        var response = projectService.update(projectId, userId, request);
+        var response = projectService.update(projectId, userId, request, ConditionalRequests.expectedVersion(ifMatch));
         return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(
             @PathVariable UUID projectId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal Jwt jwt) {
         var userId = extractUserId(jwt);
-        projectService.delete(projectId, userId);
+        projectService.delete(projectId, userId, ConditionalRequests.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,56 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterProseReportResponse;
+import com.othertales.modules.writing.application.dto.ProjectProseReportResponse;
+import com.othertales.modules.writing.application.usecase.ProseAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+public class ProseAnalyticsController {
+
+    private final ProseAnalyticsService proseAnalyticsService;
+
+    public ProseAnalyticsController(ProseAnalyticsService proseAnalyticsService) {
+        this.proseAnalyticsService = proseAnalyticsService;
+    }
+
+    /**
+     * Readability report of the whole manuscript and of each chapter. Adverb and stop word
+     * rules follow the request locale.
+     */
+    @GetMapping("/projects/{projectId}/prose-analytics")
+    public ResponseEntity<ProjectProseReportResponse> analyzeProject(
+            @PathVariable UUID projectId,
+            Locale locale,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = proseAnalyticsService.analyzeProject(projectId, locale, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/chapters/{chapterId}/prose-analytics")
+    public ResponseEntity<ChapterProseReportResponse> analyzeChapter(
+            @PathVariable UUID chapterId,
+            Locale locale,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = proseAnalyticsService.analyzeChapter(chapterId, locale, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
@@ -0,0 +1,45 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.QuickSearchHitResponse;
+import com.othertales.modules.writing.application.usecase.QuickSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/quick-search")
+public class QuickSearchController {
+
+    private final QuickSearchService quickSearchService;
+
+    public QuickSearchController(QuickSearchService quickSearchService) {
+        this.quickSearchService = quickSearchService;
+    }
+
+    /**
+     * Prefix lookup for the editor's "jump to" box; meant to be called on every keystroke.
+     */
+    @GetMapping
+    public ResponseEntity<List<QuickSearchHitResponse>> search(
+            @PathVariable UUID projectId,
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = quickSearchService.search(projectId, query, limit, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
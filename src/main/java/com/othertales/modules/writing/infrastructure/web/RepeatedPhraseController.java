@@ -0,0 +1,47 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.RepeatedPhrasesResponse;
+import com.othertales.modules.writing.application.usecase.RepeatedPhraseService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/repeated-phrases")
+public class RepeatedPhraseController {
+
+    private final RepeatedPhraseService repeatedPhraseService;
+
+    public RepeatedPhraseController(RepeatedPhraseService repeatedPhraseService) {
+        this.repeatedPhraseService = repeatedPhraseService;
+    }
+
+    /**
+     * Phrases of three to six words used over and over across the manuscript, most
+     * repeated first. Stop words follow the request locale.
+     */
+    @GetMapping
+    public ResponseEntity<RepeatedPhrasesResponse> findRepeatedPhrases(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) Integer minOccurrences,
+            @RequestParam(required = false) Integer limit,
+            Locale locale,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = repeatedPhraseService.findRepeatedPhrases(projectId, minOccurrences, limit, locale, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
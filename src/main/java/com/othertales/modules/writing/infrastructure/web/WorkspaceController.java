@@ -0,0 +1,41 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.WorkspaceResponse;
+import com.othertales.modules.writing.application.usecase.WorkspaceService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/workspace")
+public class WorkspaceController {
+
+    private final WorkspaceService workspaceService;
+
+    public WorkspaceController(WorkspaceService workspaceService) {
+        this.workspaceService = workspaceService;
+    }
+
+    /**
+     * The project with its chapter outline, stories, characters and ideas, in place of
+     * the five requests the app otherwise makes to open a project.
+     */
+    @GetMapping
+    public ResponseEntity<WorkspaceResponse> getWorkspace(
+            @PathVariable UUID projectId,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        return ResponseEntity.ok(workspaceService.getWorkspace(projectId, userId));
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
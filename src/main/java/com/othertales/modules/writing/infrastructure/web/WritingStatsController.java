@@ -0,0 +1,47 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.WritingStatsResponse;
+import com.othertales.modules.writing.application.usecase.WritingStatsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/writing-stats")
+public class WritingStatsController {
+
+    private final WritingStatsService writingStatsService;
+
+    public WritingStatsController(WritingStatsService writingStatsService) {
+        this.writingStatsService = writingStatsService;
+    }
+
+    /**
+     * Words added and removed per day, week or month; defaults to the last 365 days by day.
+     */
+    @GetMapping
+    public ResponseEntity<WritingStatsResponse> getStats(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        var userId = extractUserId(jwt);
+        var response = writingStatsService.getStats(projectId, granularity, from, to, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    private UUID extractUserId(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+}
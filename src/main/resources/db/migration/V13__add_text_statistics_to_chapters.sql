@@ -0,0 +1,67 @@
+-- V13__add_text_statistics_to_chapters.sql
+-- Writing Module: per-chapter text statistics computed on write, so listings,
+-- totals and dashboards no longer need to read chapters.content.
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = 'public'
+          AND table_name = 'chapters'
+          AND column_name = 'word_count'
+    ) THEN
+        ALTER TABLE public.chapters ADD COLUMN word_count INTEGER NOT NULL DEFAULT 0;
+        RAISE NOTICE 'Added column: word_count to chapters';
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = 'public'
+          AND table_name = 'chapters'
+          AND column_name = 'character_count'
+    ) THEN
+        ALTER TABLE public.chapters ADD COLUMN character_count INTEGER NOT NULL DEFAULT 0;
+        RAISE NOTICE 'Added column: character_count to chapters';
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = 'public'
+          AND table_name = 'chapters'
+          AND column_name = 'paragraph_count'
+    ) THEN
+        ALTER TABLE public.chapters ADD COLUMN paragraph_count INTEGER NOT NULL DEFAULT 0;
+        RAISE NOTICE 'Added column: paragraph_count to chapters';
+    END IF;
+END $$;
+
+-- Backfill existing rows. Words are approximated with a regex close to the
+-- application's WordCounter (CJK text is recounted exactly on its next save).
+-- The updated_at trigger is disabled so the backfill does not touch timestamps.
+ALTER TABLE public.chapters DISABLE TRIGGER handle_chapters_updated_at;
+
+UPDATE public.chapters c
+SET word_count = (
+        SELECT COUNT(*)
+        FROM regexp_matches(COALESCE(c.content, ''), '[[:alnum:]]+([-''’][[:alnum:]]+)*', 'g')
+    ),
+    character_count = char_length(COALESCE(c.content, '')),
+    paragraph_count = (
+        SELECT COUNT(*)
+        FROM regexp_split_to_table(COALESCE(c.content, ''), E'\r\n|\n|\r') AS line
+        WHERE line ~ '\S'
+    )
+WHERE c.content IS NOT NULL AND c.content <> '';
+
+ALTER TABLE public.chapters ENABLE TRIGGER handle_chapters_updated_at;
+
+-- Realign project totals with the stored per-chapter counts.
+UPDATE public.projects p
+SET current_word_count = totals.words
+FROM (
+    SELECT project_id, SUM(word_count)::INTEGER AS words
+    FROM public.chapters
+    GROUP BY project_id
+) totals
+WHERE totals.project_id = p.id
+  AND p.current_word_count IS DISTINCT FROM totals.words;
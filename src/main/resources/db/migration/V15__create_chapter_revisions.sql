@@ -0,0 +1,24 @@
+-- V15__create_chapter_revisions.sql
+-- Writing Module: deduplicated chapter revision history.
+-- Content is split into content-defined chunks stored once by SHA-256; each
+-- revision lists its chunk hashes in order.
+
+CREATE TABLE IF NOT EXISTS public.content_chunks (
+    hash VARCHAR(64) PRIMARY KEY,
+    content TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE IF NOT EXISTS public.chapter_revisions (
+    id UUID PRIMARY KEY,
+    chapter_id UUID NOT NULL REFERENCES public.chapters(id) ON DELETE CASCADE,
+    chapter_version BIGINT,
+    title TEXT NOT NULL,
+    word_count INTEGER NOT NULL DEFAULT 0,
+    character_count INTEGER NOT NULL DEFAULT 0,
+    chunk_hashes TEXT[] NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_chapter_revisions_chapter_created
+    ON public.chapter_revisions(chapter_id, created_at DESC);
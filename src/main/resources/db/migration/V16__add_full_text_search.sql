@@ -0,0 +1,115 @@
+-- V16__add_full_text_search.sql
+-- Writing Module: project-wide full-text search.
+-- Every searchable table gets one tsvector per supported locale (english / spanish,
+-- matching I18nConfig) and a GIN index on each. Titles and names weigh 'A', the
+-- main text 'B' and secondary fields 'C'.
+-- Ideas, characters and stories hold short text, so their vectors are STORED
+-- generated columns; adding one rewrites each table once.
+-- Chapters are the exception. A generated column is recomputed on every UPDATE of
+-- the row, whatever it changes, so each autosave flush, reorder or status change
+-- would parse up to 500k characters twice. Their vectors live in chapter_search
+-- instead: a trigger flags the row stale when the title or content changes, and
+-- ChapterSearchRefreshJob rebuilds stale rows in small batches outside the request.
+-- Full-text results for a chapter lag its last save by up to
+-- app.chapter-search.refresh-interval.
+
+-- 1. chapters
+-- Content is capped at 500k characters: a tsvector cannot exceed 1MB and positions
+-- past 16383 are clamped anyway, so longer text adds nothing to the ranking and
+-- could make the refresh fail. One definition for the backfill and the refresh job.
+CREATE OR REPLACE FUNCTION public.chapter_search_vector(config REGCONFIG, title TEXT, content TEXT)
+RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector(config, COALESCE(title, '')), 'A') ||
+           setweight(to_tsvector(config, LEFT(COALESCE(content, ''), 500000)), 'B');
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE TABLE IF NOT EXISTS public.chapter_search (
+    chapter_id UUID PRIMARY KEY REFERENCES public.chapters(id) ON DELETE CASCADE,
+    search_vector_en TSVECTOR,
+    search_vector_es TSVECTOR,
+    stale BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- The existing text is indexed here once, like the column rewrite of the other tables
+INSERT INTO public.chapter_search (chapter_id, search_vector_en, search_vector_es, stale)
+SELECT c.id,
+       public.chapter_search_vector('english', c.title, c.content),
+       public.chapter_search_vector('spanish', c.title, c.content),
+       false
+FROM public.chapters c
+ON CONFLICT (chapter_id) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_chapter_search_en ON public.chapter_search USING GIN (search_vector_en);
+CREATE INDEX IF NOT EXISTS idx_chapter_search_es ON public.chapter_search USING GIN (search_vector_es);
+CREATE INDEX IF NOT EXISTS idx_chapter_search_stale ON public.chapter_search(chapter_id) WHERE stale;
+
+-- AFTER, so the chapter row exists for the foreign key. JPA saves list every mapped
+-- column, so UPDATE OF alone does not tell whether the text changed; the comparisons do.
+CREATE OR REPLACE FUNCTION public.handle_chapter_search_stale()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.title IS DISTINCT FROM OLD.title OR NEW.content IS DISTINCT FROM OLD.content THEN
+        INSERT INTO public.chapter_search (chapter_id) VALUES (NEW.id)
+        ON CONFLICT (chapter_id) DO UPDATE SET stale = true;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS handle_chapters_search_stale ON public.chapters;
+CREATE TRIGGER handle_chapters_search_stale
+    AFTER INSERT OR UPDATE OF title, content ON public.chapters
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_chapter_search_stale();
+
+-- 2. ideas
+ALTER TABLE public.ideas
+    ADD COLUMN IF NOT EXISTS search_vector_en TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(content, '')), 'B')
+    ) STORED;
+
+ALTER TABLE public.ideas
+    ADD COLUMN IF NOT EXISTS search_vector_es TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('spanish', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('spanish', COALESCE(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_ideas_search_en ON public.ideas USING GIN (search_vector_en);
+CREATE INDEX IF NOT EXISTS idx_ideas_search_es ON public.ideas USING GIN (search_vector_es);
+
+-- 3. characters
+ALTER TABLE public.characters
+    ADD COLUMN IF NOT EXISTS search_vector_en TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(role, '') || ' ' || COALESCE(description, '')), 'B') ||
+        setweight(to_tsvector('english', COALESCE(physical_description, '')), 'C')
+    ) STORED;
+
+ALTER TABLE public.characters
+    ADD COLUMN IF NOT EXISTS search_vector_es TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('spanish', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('spanish', COALESCE(role, '') || ' ' || COALESCE(description, '')), 'B') ||
+        setweight(to_tsvector('spanish', COALESCE(physical_description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_characters_search_en ON public.characters USING GIN (search_vector_en);
+CREATE INDEX IF NOT EXISTS idx_characters_search_es ON public.characters USING GIN (search_vector_es);
+
+-- 4. stories
+ALTER TABLE public.stories
+    ADD COLUMN IF NOT EXISTS search_vector_en TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(synopsis, '')), 'B') ||
+        setweight(to_tsvector('english', COALESCE(theme, '') || ' ' || COALESCE(secondary_plots, '') || ' ' || COALESCE(others, '')), 'C')
+    ) STORED;
+
+ALTER TABLE public.stories
+    ADD COLUMN IF NOT EXISTS search_vector_es TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('spanish', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('spanish', COALESCE(synopsis, '')), 'B') ||
+        setweight(to_tsvector('spanish', COALESCE(theme, '') || ' ' || COALESCE(secondary_plots, '') || ' ' || COALESCE(others, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_stories_search_en ON public.stories USING GIN (search_vector_en);
+CREATE INDEX IF NOT EXISTS idx_stories_search_es ON public.stories USING GIN (search_vector_es);
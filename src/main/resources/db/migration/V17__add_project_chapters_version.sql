@@ -0,0 +1,8 @@
+-- V17__add_project_chapters_version.sql
+-- Writing Module: project-level validator for the chapter list endpoints.
+-- Bumped in the same UPDATE that maintains current_word_count on every chapter
+-- create, edit, reorder, delete or import, so a conditional GET of a chapter
+-- list is answered from this single row without reading any chapter.
+
+ALTER TABLE public.projects
+    ADD COLUMN IF NOT EXISTS chapters_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- V18__add_version_to_ideas_characters_stories.sql
+-- Writing Module: optimistic locking for the remaining editable resources.
+-- Chapters and projects already carry a JPA @Version; ideas, characters and
+-- stories get the same column so If-Match preconditions can be checked in the
+-- UPDATE's WHERE clause. Existing rows start at version 0.
+
+ALTER TABLE public.ideas
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE public.characters
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE public.stories
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,82 @@
+-- V19__add_chapter_order_keys.sql
+-- Writing Module: fractional ordering keys for chapters.
+-- order_index was a dense 0..n-1 position, so inserting or moving a chapter
+-- renumbered every chapter after it. order_key is a base-62 string compared
+-- byte by byte (collation "C"); a chapter is placed between two others by
+-- giving it a key between theirs, which writes that one row only. Positions
+-- are derived by the queries, and order_index is dropped.
+
+ALTER TABLE public.chapters
+    ADD COLUMN IF NOT EXISTS order_key TEXT COLLATE "C";
+
+-- Moves rewrite order_key without bumping version and are not edits of the
+-- chapter, so they keep updated_at. This also covers the backfill below.
+CREATE OR REPLACE FUNCTION public.handle_chapters_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.version IS DISTINCT FROM OLD.version OR NEW.order_key IS NOT DISTINCT FROM OLD.order_key THEN
+        NEW.updated_at = NOW();
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS handle_chapters_updated_at ON public.chapters;
+
+CREATE TRIGGER handle_chapters_updated_at
+    BEFORE UPDATE ON public.chapters
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_chapters_updated_at();
+
+-- Key of the n-th of total evenly spaced chapters: n * 62^width / (total + 1)
+-- written in width base-62 digits, trailing zeros removed. Mirrors
+-- OrderKeys.spread in the application.
+CREATE OR REPLACE FUNCTION public.spread_order_key(n BIGINT, total BIGINT)
+RETURNS TEXT AS $$
+DECLARE
+    digits CONSTANT TEXT := '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz';
+    width INTEGER := 1;
+    span NUMERIC := 62;
+    value NUMERIC;
+    key TEXT := '';
+BEGIN
+    WHILE span <= total LOOP
+        width := width + 1;
+        span := span * 62;
+    END LOOP;
+    value := div(n * span, total + 1);
+    FOR i IN 1..width LOOP
+        key := substr(digits, mod(value, 62)::INTEGER + 1, 1) || key;
+        value := div(value, 62);
+    END LOOP;
+    RETURN rtrim(key, '0');
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Existing order is kept; ties in order_index fall back to creation order.
+UPDATE public.chapters c
+SET order_key = public.spread_order_key(ranked.position, ranked.total)
+FROM (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY project_id ORDER BY order_index, created_at, id) AS position,
+           COUNT(*) OVER (PARTITION BY project_id) AS total
+    FROM public.chapters
+) ranked
+WHERE c.id = ranked.id;
+
+DROP FUNCTION public.spread_order_key(BIGINT, BIGINT);
+
+ALTER TABLE public.chapters
+    ALTER COLUMN order_key SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_chapters_project_order_key
+    ON public.chapters(project_id, order_key);
+
+-- Finds projects due for rebalancing (ChapterOrderRebalancer). The length
+-- must match OrderKeys.MAX_LENGTH.
+CREATE INDEX IF NOT EXISTS idx_chapters_long_order_key
+    ON public.chapters(project_id)
+    WHERE length(order_key) > 32;
+
+ALTER TABLE public.chapters
+    DROP COLUMN IF EXISTS order_index;
@@ -0,0 +1,41 @@
+-- V20__create_writing_stats.sql
+-- Writing Module: per-user, per-project writing activity time series.
+-- Every chapter save adds its word-count delta to the row of the current UTC day
+-- and to the rows of the week (starting Monday) and month containing it, so each
+-- granularity is read back as one range scan of its primary key instead of
+-- aggregating raw saves. Rows exist only for periods with activity.
+
+CREATE TABLE IF NOT EXISTS public.writing_stats_daily (
+    user_id UUID NOT NULL,
+    project_id UUID NOT NULL REFERENCES public.projects(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    words_added INTEGER NOT NULL DEFAULT 0,
+    words_removed INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, project_id, period_start)
+);
+
+CREATE TABLE IF NOT EXISTS public.writing_stats_weekly (
+    user_id UUID NOT NULL,
+    project_id UUID NOT NULL REFERENCES public.projects(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    words_added INTEGER NOT NULL DEFAULT 0,
+    words_removed INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, project_id, period_start),
+    CONSTRAINT writing_stats_weekly_monday CHECK (EXTRACT(ISODOW FROM period_start) = 1)
+);
+
+CREATE TABLE IF NOT EXISTS public.writing_stats_monthly (
+    user_id UUID NOT NULL,
+    project_id UUID NOT NULL REFERENCES public.projects(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    words_added INTEGER NOT NULL DEFAULT 0,
+    words_removed INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, project_id, period_start),
+    CONSTRAINT writing_stats_monthly_first_day CHECK (EXTRACT(DAY FROM period_start) = 1)
+);
+
+-- The foreign key is only checked through project_id; index it so project
+-- deletes do not scan the tables.
+CREATE INDEX IF NOT EXISTS idx_writing_stats_daily_project ON public.writing_stats_daily(project_id);
+CREATE INDEX IF NOT EXISTS idx_writing_stats_weekly_project ON public.writing_stats_weekly(project_id);
+CREATE INDEX IF NOT EXISTS idx_writing_stats_monthly_project ON public.writing_stats_monthly(project_id);
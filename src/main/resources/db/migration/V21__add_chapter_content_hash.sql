@@ -0,0 +1,38 @@
+-- V21__add_chapter_content_hash.sql
+-- Writing Module: fingerprint of each chapter's text for the prose analytics cache.
+-- Analytics results are cached by content hash, so a report first reads only the
+-- hashes and loads the text of chapters whose hash it has not seen. A trigger keeps
+-- the column current on every write path without application code, and recomputes
+-- it only when the content changes: a generated column would hash the whole text on
+-- every UPDATE of the row. MD5 runs at several hundred MB/s, so it stays on the write
+-- path, and is enough here: it is a cache key, not a security check.
+
+ALTER TABLE public.chapters ADD COLUMN IF NOT EXISTS content_hash TEXT;
+
+-- The backfill is not an edit of the chapters, so the updated_at trigger is
+-- disabled around it.
+ALTER TABLE public.chapters DISABLE TRIGGER handle_chapters_updated_at;
+
+UPDATE public.chapters SET content_hash = md5(COALESCE(content, ''));
+
+ALTER TABLE public.chapters ENABLE TRIGGER handle_chapters_updated_at;
+
+ALTER TABLE public.chapters ALTER COLUMN content_hash SET NOT NULL;
+
+-- Same comparison as the search stale trigger of V16; it costs a length check when
+-- the text did change.
+CREATE OR REPLACE FUNCTION public.handle_chapter_content_hash()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.content IS DISTINCT FROM OLD.content THEN
+        NEW.content_hash = md5(COALESCE(NEW.content, ''));
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS handle_chapters_content_hash ON public.chapters;
+CREATE TRIGGER handle_chapters_content_hash
+    BEFORE INSERT OR UPDATE OF content ON public.chapters
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_chapter_content_hash();
@@ -0,0 +1,28 @@
+-- V22__create_character_mentions.sql
+-- Writing Module: index of which characters each chapter mentions, and how often.
+-- Rows for a chapter are rewritten whenever its text is saved, by matching all the
+-- project's character names over the new text at once, so "chapters featuring X"
+-- and co-occurrence queries never read chapter content.
+--
+-- Renaming, adding or deleting a character changes what every chapter matches: it
+-- only bumps characters_version, and the next query of the index rescans the project
+-- and records the version it indexed. Existing projects start out of date (1 > 0) and
+-- are indexed on their first query.
+
+CREATE TABLE IF NOT EXISTS public.character_mentions (
+    chapter_id UUID NOT NULL REFERENCES public.chapters(id) ON DELETE CASCADE,
+    character_id UUID NOT NULL REFERENCES public.characters(id) ON DELETE CASCADE,
+    project_id UUID NOT NULL REFERENCES public.projects(id) ON DELETE CASCADE,
+    mentions INTEGER NOT NULL CHECK (mentions > 0),
+    first_offset INTEGER NOT NULL CHECK (first_offset >= 0),
+    PRIMARY KEY (chapter_id, character_id)
+);
+
+-- "Chapters featuring X", and the character side of the cascade
+CREATE INDEX IF NOT EXISTS idx_character_mentions_character ON public.character_mentions(character_id);
+-- Co-occurrences scan a project's rows, and project deletes cascade through it
+CREATE INDEX IF NOT EXISTS idx_character_mentions_project ON public.character_mentions(project_id);
+
+ALTER TABLE public.projects
+    ADD COLUMN IF NOT EXISTS characters_version BIGINT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS mentions_indexed_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,98 @@
+-- V23__add_sync_change_seq.sql
+-- Writing Module: change cursors for delta sync of offline clients.
+-- Every write to a project, chapter, story, character or idea stamps the row with
+-- change_seq, the 64-bit id of the writing transaction, from a trigger, so all write
+-- paths (JPA saves, native autosaves, reorders, imports) are covered. Transaction ids
+-- only grow, and a sync reads only rows of transactions older than the oldest one
+-- still running (pg_snapshot_xmin): a cursor therefore never moves past a change that
+-- commits later with a lower number, which a plain sequence cannot guarantee.
+--
+-- Soft deletes are ordinary updates. Chapters are hard-deleted, so their deletes leave
+-- a row in sync_tombstones. Existing rows start at 1, below any cursor a client holds
+-- except the initial 0, so a first sync downloads them.
+
+CREATE OR REPLACE FUNCTION public.handle_change_seq()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq = pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE public.projects ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE public.chapters ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE public.stories ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE public.characters ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE public.ideas ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 1;
+
+-- Only columns clients see: the bookkeeping counters of V17 and V22 (chapters_version,
+-- characters_version, mentions_indexed_version) are bumped on their own and must not
+-- make every device download the project again
+DROP TRIGGER IF EXISTS handle_projects_change_seq ON public.projects;
+CREATE TRIGGER handle_projects_change_seq
+    BEFORE INSERT OR UPDATE OF title, synopsis, genre, current_word_count, target_word_count, cover_url, status,
+        deleted
+    ON public.projects
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_change_seq();
+
+DROP TRIGGER IF EXISTS handle_chapters_change_seq ON public.chapters;
+CREATE TRIGGER handle_chapters_change_seq
+    BEFORE INSERT OR UPDATE ON public.chapters
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_change_seq();
+
+DROP TRIGGER IF EXISTS handle_stories_change_seq ON public.stories;
+CREATE TRIGGER handle_stories_change_seq
+    BEFORE INSERT OR UPDATE ON public.stories
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_change_seq();
+
+DROP TRIGGER IF EXISTS handle_characters_change_seq ON public.characters;
+CREATE TRIGGER handle_characters_change_seq
+    BEFORE INSERT OR UPDATE ON public.characters
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_change_seq();
+
+DROP TRIGGER IF EXISTS handle_ideas_change_seq ON public.ideas;
+CREATE TRIGGER handle_ideas_change_seq
+    BEFORE INSERT OR UPDATE ON public.ideas
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_change_seq();
+
+-- A sync walks the user's projects, then each project's changes in order
+CREATE INDEX IF NOT EXISTS idx_projects_user_change_seq ON public.projects(user_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_chapters_project_change_seq ON public.chapters(project_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_stories_project_change_seq ON public.stories(project_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_characters_project_change_seq ON public.characters(project_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_ideas_project_change_seq ON public.ideas(project_id, change_seq);
+
+CREATE TABLE IF NOT EXISTS public.sync_tombstones (
+    entity_id UUID PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    project_id UUID NOT NULL,
+    user_id UUID NOT NULL REFERENCES public.profiles(id) ON DELETE CASCADE,
+    change_seq BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_user_change_seq ON public.sync_tombstones(user_id, change_seq);
+
+-- Chapters removed by the cascade of a profile delete find no project and leave no
+-- tombstone, since there is no one left to sync them
+CREATE OR REPLACE FUNCTION public.handle_chapter_tombstone()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO public.sync_tombstones (entity_id, entity_type, project_id, user_id, change_seq)
+    SELECT OLD.id, 'CHAPTER', p.id, p.user_id, pg_current_xact_id()::text::bigint
+    FROM public.projects p
+    WHERE p.id = OLD.project_id
+    ON CONFLICT (entity_id) DO UPDATE SET change_seq = EXCLUDED.change_seq;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS handle_chapters_tombstone ON public.chapters;
+CREATE TRIGGER handle_chapters_tombstone
+    AFTER DELETE ON public.chapters
+    FOR EACH ROW
+    EXECUTE FUNCTION public.handle_chapter_tombstone();
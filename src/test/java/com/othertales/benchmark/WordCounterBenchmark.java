@@ -0,0 +1,86 @@
+package com.othertales.benchmark;
+
+import com.othertales.modules.writing.domain.WordCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link WordCounter} with the regex split previously used by {@code Chapter.getWordCount()}
+ * on chapter-sized inputs.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp target/test-classes:<test classpath> com.othertales.benchmark.WordCounterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class WordCounterBenchmark {
+
+    private static final String[] LATIN_WORDS = {
+            "the", "night", "was", "cold", "and", "she", "didn't", "know", "well-known", "road",
+            "noche", "fría", "camino", "señora", "corazón", "—", "said", "1,000", "ahora", "quiet"
+    };
+    private static final String CJK_SYLLABLES = "夜は寒くて彼女は道を知らなかった静かな町の物語";
+
+    @Param({"LATIN", "CJK"})
+    public String script;
+
+    @Param({"5000"})
+    public int words;
+
+    private String chapter;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var text = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if ("CJK".equals(script)) {
+                text.append(CJK_SYLLABLES.charAt(random.nextInt(CJK_SYLLABLES.length())));
+            } else {
+                text.append(LATIN_WORDS[random.nextInt(LATIN_WORDS.length)]).append(' ');
+            }
+            if (i % 120 == 119) {
+                text.append("\n\n");
+            }
+        }
+        chapter = text.toString();
+    }
+
+    @Benchmark
+    public int regexSplit() {
+        if (chapter.isBlank()) {
+            return 0;
+        }
+        return chapter.trim().split("\\s+").length;
+    }
+
+    @Benchmark
+    public int wordCounter() {
+        return WordCounter.defaultCounter().countWords(chapter);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WordCounterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
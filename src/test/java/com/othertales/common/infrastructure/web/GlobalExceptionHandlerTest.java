@@ -1,5 +1,7 @@
 package com.othertales.common.infrastructure.web;
 
+import com.othertales.common.domain.ConflictException;
+import com.othertales.common.domain.PreconditionFailedException;
 import com.othertales.common.domain.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,8 +86,53 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.detail").value("PROFILE_EMAIL_EXISTS"));
     }
 
+    @Test
+    void should_handle_conflict() throws Exception {
+        mockMvc.perform(get("/test/conflict"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Conflict"))
+                .andExpect(jsonPath("$.detail").value("TEST_CONFLICT"));
+    }
+
+    @Test
+    void should_handle_optimistic_locking_failure() throws Exception {
+        mockMvc.perform(get("/test/optimistic-lock"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("DATA_CONFLICT"));
+    }
+
+    @Test
+    void should_handle_optimistic_locking_failure_as_412_when_if_match_sent() throws Exception {
+        mockMvc.perform(get("/test/optimistic-lock").header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.detail").value("VERSION_PRECONDITION_FAILED"));
+    }
+
+    @Test
+    void should_handle_precondition_failed() throws Exception {
+        mockMvc.perform(get("/test/precondition"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.title").value("Precondition Failed"))
+                .andExpect(jsonPath("$.detail").value("TEST_PRECONDITION"));
+    }
+
     @RestController
     static class DummyController {
+        @GetMapping("/test/conflict")
+        void throwConflict() {
+            throw new TestConflictException("Stale version");
+        }
+
+        @GetMapping("/test/precondition")
+        void throwPreconditionFailed() {
+            throw new TestPreconditionFailedException("Stale If-Match");
+        }
+
+        @GetMapping("/test/optimistic-lock")
+        void throwOptimisticLock() {
+            throw new org.springframework.dao.OptimisticLockingFailureException("Row was updated by another transaction");
+        }
+
         @GetMapping("/test/not-found")
         void throwNotFound() {
             throw new TestResourceNotFoundException("Test resource not found");
@@ -128,4 +175,16 @@ class GlobalExceptionHandlerTest {
             super(message, "TEST_NOT_FOUND");
         }
     }
+
+    static class TestConflictException extends ConflictException {
+        public TestConflictException(String message) {
+            super(message, "TEST_CONFLICT");
+        }
+    }
+
+    static class TestPreconditionFailedException extends PreconditionFailedException {
+        public TestPreconditionFailedException(String message) {
+            super(message, "TEST_PRECONDITION");
+        }
+    }
 }
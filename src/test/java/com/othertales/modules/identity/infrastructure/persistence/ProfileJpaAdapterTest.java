@@ -39,9 +39,6 @@ class ProfileJpaAdapterTest {
         Profile domainProfile = Profile.create(id, "test@example.com", "Test User");
         domainProfile.updateAvatarUrl("http://avatar.url");
 
-        // Mock finding existing entity as empty (new profile)
-        when(jpaRepository.findById(id)).thenReturn(Optional.empty());
-
         // Use ArgumentCaptor to verify mapping
         org.mockito.ArgumentCaptor<ProfileEntity> entityCaptor = org.mockito.ArgumentCaptor
                 .forClass(ProfileEntity.class);
@@ -61,6 +58,7 @@ class ProfileJpaAdapterTest {
         assertThat(capturedEntity.getFullName()).isEqualTo("Test User");
         assertThat(capturedEntity.getAvatarUrl()).isEqualTo("http://avatar.url");
         assertThat(capturedEntity.getPlanType()).isEqualTo(ProfileEntity.PlanTypeEntity.FREE);
+        assertThat(capturedEntity.isNew()).isTrue();
 
         assertThat(savedProfile).isNotNull();
         assertThat(savedProfile.getId()).isEqualTo(id);
@@ -16,7 +16,7 @@ class ProjectResponseTest {
 
         ProjectResponse response = new ProjectResponse(
                 id, "Title", "Synopsis", "Genre", 100, 50000,
-                "Url", "DRAFT", now, now);
+                "Url", "DRAFT", now, now, 2L);
 
         assertThat(response.id()).isEqualTo(id);
         assertThat(response.title()).isEqualTo("Title");
@@ -28,12 +28,13 @@ class ProjectResponseTest {
         assertThat(response.status()).isEqualTo("DRAFT");
         assertThat(response.createdAt()).isEqualTo(now);
         assertThat(response.updatedAt()).isEqualTo(now);
+        assertThat(response.version()).isEqualTo(2L);
 
         assertThat(response.toString()).contains("Title", "Synopsis");
 
         ProjectResponse same = new ProjectResponse(
                 id, "Title", "Synopsis", "Genre", 100, 50000,
-                "Url", "DRAFT", now, now);
+                "Url", "DRAFT", now, now, 2L);
         assertThat(response).isEqualTo(same);
         assertThat(response.hashCode()).isEqualTo(same.hashCode());
     }
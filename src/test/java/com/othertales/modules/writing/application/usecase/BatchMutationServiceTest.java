@@ -0,0 +1,206 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.BatchMutationRequest;
+import com.othertales.modules.writing.application.dto.BatchMutationResponse;
+import com.othertales.modules.writing.application.dto.BatchOperationRequest;
+import com.othertales.modules.writing.application.dto.BatchOperationResultResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.IdeaRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.StoryRepository;
+import com.othertales.modules.writing.domain.BatchAction;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.OrderSlot;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchMutationServiceTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private CharacterRepository characterRepository;
+    @Mock
+    private StoryRepository storyRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterRevisionRepository revisionRepository;
+    @Mock
+    private QuickSearchService quickSearch;
+    @Mock
+    private WritingStatsService writingStats;
+    @Mock
+    private CharacterMentionService characterMentions;
+
+    @Captor
+    private ArgumentCaptor<List<Chapter>> savedChapters;
+
+    private BatchMutationService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new BatchMutationService(chapterRepository, ideaRepository, characterRepository, storyRepository,
+                projectRepository, revisionRepository, quickSearch, writingStats, characterMentions);
+    }
+
+    @Test
+    void apply_should_load_each_type_once_and_update_each_project_once() {
+        Chapter chapter = chapter(projectId, "one two three", 4L);
+        Idea idea = Idea.reconstitute(UUID.randomUUID(), projectId, "Idea", null, Instant.now(), Instant.now(),
+                false, 1L);
+        when(chapterRepository.findAllById(Set.of(chapter.getId()))).thenReturn(List.of(chapter));
+        when(ideaRepository.findAllById(Set.of(idea.getId()))).thenReturn(List.of(idea));
+        when(projectRepository.findOwnedIds(Set.of(projectId), userId)).thenReturn(Set.of(projectId));
+        when(chapterRepository.findOrderSlot(projectId, null, null)).thenReturn(new OrderSlot("V", null, 1));
+        when(chapterRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(ideaRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(characterRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchMutationResponse response = service.apply(new BatchMutationRequest(List.of(
+                operation(BatchAction.UPDATE, SyncEntityType.CHAPTER, chapter.getId(), null, 4L, null,
+                        "one two three four five", null),
+                operation(BatchAction.CREATE, SyncEntityType.CHAPTER, null, projectId, null, "New", "six seven",
+                        null),
+                // Same precondition as the first change: versions are those stored before the batch
+                operation(BatchAction.UPDATE, SyncEntityType.CHAPTER, chapter.getId(), null, 4L, "Renamed", null,
+                        null),
+                operation(BatchAction.DELETE, SyncEntityType.IDEA, idea.getId(), null, 1L, null, null, null),
+                operation(BatchAction.CREATE, SyncEntityType.CHARACTER, null, projectId, null, null, null,
+                        "Ana"))), userId);
+
+        assertThat(response.applied()).isEqualTo(5);
+        assertThat(response.failed()).isZero();
+        assertThat(response.results()).extracting(BatchOperationResultResponse::status).containsOnly("APPLIED");
+        assertThat(response.results().get(1).id()).isNotNull();
+        assertThat(response.results().get(3).version()).isNull();
+
+        verify(chapterRepository).saveAll(savedChapters.capture());
+        assertThat(savedChapters.getValue()).hasSize(2);
+        assertThat(savedChapters.getValue().getFirst().getTitle()).isEqualTo("Renamed");
+        assertThat(savedChapters.getValue().get(1).getOrderKey()).isGreaterThan("V");
+        assertThat(idea.isDeleted()).isTrue();
+        verify(projectRepository, times(1)).findOwnedIds(any(), eq(userId));
+        verify(chapterRepository, times(1)).lockOrder(projectId);
+        verify(projectRepository, times(1)).recordChapterChange(projectId, 4);
+        verify(writingStats).recordWords(userId, projectId, 4, 0);
+        verify(revisionRepository, times(2)).save(any(), anyList());
+        verify(characterMentions).chaptersSaved(eq(projectId), anyList());
+        verify(characterMentions).charactersChanged(projectId);
+        verify(quickSearch, times(1)).evict(projectId);
+        verifyNoInteractions(storyRepository);
+    }
+
+    @Test
+    void apply_should_report_failed_operations_and_leave_their_entities_untouched() {
+        UUID otherProjectId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        Chapter chapter = chapter(projectId, "one two", 2L);
+        Chapter foreign = chapter(otherProjectId, "three", 1L);
+        when(chapterRepository.findAllById(Set.of(chapter.getId(), foreign.getId(), unknownId)))
+                .thenReturn(List.of(chapter, foreign));
+        when(projectRepository.findOwnedIds(Set.of(projectId, otherProjectId), userId)).thenReturn(Set.of(projectId));
+        when(chapterRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchMutationResponse response = service.apply(new BatchMutationRequest(List.of(
+                operation(BatchAction.UPDATE, SyncEntityType.CHAPTER, chapter.getId(), null, 1L, "Stale", null, null),
+                operation(BatchAction.UPDATE, SyncEntityType.CHAPTER, foreign.getId(), null, null, "Theirs", null,
+                        null),
+                operation(BatchAction.DELETE, SyncEntityType.CHAPTER, unknownId, null, null, null, null, null),
+                operation(BatchAction.CREATE, SyncEntityType.IDEA, null, otherProjectId, null, "Idea", null, null),
+                operation(BatchAction.CREATE, SyncEntityType.IDEA, null, projectId, null, " ", null, null),
+                operation(BatchAction.UPDATE, SyncEntityType.PROJECT, projectId, null, null, "Title", null, null),
+                new BatchOperationRequest(BatchAction.UPDATE, SyncEntityType.CHAPTER, chapter.getId(), null, null,
+                        "Published", null, "BOGUS", null, null, null, null, null, null, null, null, null),
+                operation(BatchAction.UPDATE, SyncEntityType.CHAPTER, chapter.getId(), null, 2L, "Kept", null,
+                        null))), userId);
+
+        assertThat(response.applied()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(7);
+        assertThat(response.results()).extracting(BatchOperationResultResponse::code).containsExactly(
+                "VERSION_PRECONDITION_FAILED",
+                "CHAPTER_NOT_FOUND",
+                "CHAPTER_NOT_FOUND",
+                "PROJECT_NOT_FOUND",
+                "BATCH_INVALID_OPERATION",
+                "BATCH_INVALID_OPERATION",
+                "VALIDATION_FAILED",
+                null);
+        assertThat(chapter.getTitle()).isEqualTo("Kept");
+        assertThat(chapter.getStatus()).isEqualTo(ChapterStatus.DRAFT);
+        assertThat(foreign.getTitle()).isEqualTo("Chapter");
+
+        verify(chapterRepository).saveAll(savedChapters.capture());
+        assertThat(savedChapters.getValue()).containsExactly(chapter);
+        verify(chapterRepository, never()).deleteAllById(any());
+        verify(ideaRepository, never()).saveAll(anyList());
+        verify(projectRepository).recordChapterChange(projectId, 0);
+        verify(projectRepository, never()).recordChapterChange(eq(otherProjectId), anyInt());
+        verify(revisionRepository, never()).save(any(), anyList());
+    }
+
+    @Test
+    void apply_should_delete_chapters_in_one_call_and_subtract_their_words() {
+        Chapter first = chapter(projectId, "one two", 3L);
+        Chapter second = chapter(projectId, "three four five", 5L);
+        when(chapterRepository.findAllById(Set.of(first.getId(), second.getId()))).thenReturn(List.of(first, second));
+        when(projectRepository.findOwnedIds(Set.of(projectId), userId)).thenReturn(Set.of(projectId));
+
+        BatchMutationResponse response = service.apply(new BatchMutationRequest(List.of(
+                operation(BatchAction.DELETE, SyncEntityType.CHAPTER, first.getId(), null, 3L, null, null, null),
+                operation(BatchAction.DELETE, SyncEntityType.CHAPTER, second.getId(), null, null, null, null, null),
+                operation(BatchAction.UPDATE, SyncEntityType.CHAPTER, second.getId(), null, null, "Gone", null,
+                        null))), userId);
+
+        assertThat(response.results()).extracting(BatchOperationResultResponse::code)
+                .containsExactly(null, null, "CHAPTER_NOT_FOUND");
+        verify(chapterRepository).deleteAllById(Set.of(first.getId(), second.getId()));
+        verify(chapterRepository, never()).saveAll(anyList());
+        verify(projectRepository).recordChapterChange(projectId, -5);
+        verify(writingStats).recordWords(userId, projectId, 0, 0);
+        verify(quickSearch).evict(projectId);
+    }
+
+    private static Chapter chapter(UUID projectId, String content, Long version) {
+        return Chapter.reconstitute(UUID.randomUUID(), projectId, "Chapter", content, null, "V", 0,
+                ChapterStatus.DRAFT, Instant.now(), Instant.now(), null, version);
+    }
+
+    private static BatchOperationRequest operation(BatchAction action, SyncEntityType type, UUID id, UUID projectId,
+                                                   Long version, String title, String content, String name) {
+        return new BatchOperationRequest(action, type, id, projectId, version, title, content, null, name, null, null,
+                null, null, null, null, null, null);
+    }
+}
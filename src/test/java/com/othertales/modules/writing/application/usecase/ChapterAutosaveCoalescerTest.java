@@ -0,0 +1,240 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.AutosaveAcceptedResponse;
+import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.AutosaveLostException;
+import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.StaleVersionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterAutosaveCoalescerTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterService chapterService;
+
+    private ChapterAutosaveCoalescer coalescer;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID chapterId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new ChapterAutosaveCoalescer(chapterRepository, projectRepository, chapterService,
+                Duration.ofSeconds(2), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void submit_should_merge_saves_into_one_write() {
+        givenOwnedChapter();
+
+        coalescer.submit(chapterId, new UpdateChapterRequest("New title", "First draft", null), null, userId);
+        AutosaveAcceptedResponse ack = coalescer.submit(chapterId,
+                new UpdateChapterRequest(null, "Second draft", null), null, userId);
+
+        assertThat(ack.pendingVersion()).isEqualTo(5L);
+        assertThat(ack.coalescedSaves()).isEqualTo(2);
+        verify(chapterService, never()).updateChapter(any(), any(), any(), any());
+
+        coalescer.flushDue(Instant.now().plusSeconds(3));
+
+        ArgumentCaptor<UpdateChapterRequest> captor = ArgumentCaptor.forClass(UpdateChapterRequest.class);
+        verify(chapterService).updateChapter(eq(chapterId), captor.capture(), eq(4L), eq(userId));
+        assertThat(captor.getValue()).isEqualTo(new UpdateChapterRequest("New title", "Second draft", null));
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    void flushDue_should_wait_for_quiet_period() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+
+        coalescer.flushDue(Instant.now());
+
+        verify(chapterService, never()).updateChapter(any(), any(), any(), any());
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_should_write_pending_save_immediately() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+
+        coalescer.flush(chapterId);
+        coalescer.flushAll();
+
+        verify(chapterService, times(1)).updateChapter(eq(chapterId), any(), eq(4L), eq(userId));
+    }
+
+    @Test
+    void flush_should_not_write_for_another_user() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+
+        coalescer.flush(chapterId, UUID.randomUUID());
+
+        verify(chapterService, never()).updateChapter(any(), any(), any(), any());
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+
+        coalescer.flush(chapterId, userId);
+
+        verify(chapterService).updateChapter(eq(chapterId), any(), eq(4L), eq(userId));
+    }
+
+    @Test
+    void write_conflict_should_drop_save_and_report_it_on_next_submit() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+        when(chapterService.updateChapter(eq(chapterId), any(), eq(4L), eq(userId)))
+                .thenThrow(new StaleVersionException("Chapter", chapterId, 4L, 5L));
+
+        coalescer.flushAll();
+
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(coalescer.lostCount()).isEqualTo(1);
+        assertThatThrownBy(() -> coalescer.submit(chapterId, new UpdateChapterRequest(null, "Newer", null), null,
+                userId)).isInstanceOf(AutosaveLostException.class);
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(coalescer.lostCount()).isZero();
+    }
+
+    @Test
+    void concurrent_version_bump_should_drop_save_as_a_conflict() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+        when(chapterService.updateChapter(eq(chapterId), any(), eq(4L), eq(userId)))
+                .thenThrow(new OptimisticLockingFailureException("stale"));
+
+        coalescer.flushAll();
+
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(coalescer.lostCount()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_should_drop_buffer_written_over_elsewhere() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Old draft", null), null, userId);
+        // Another instance, or a batch upload, saved the chapter in the meantime
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(outline(5L)));
+
+        assertThatThrownBy(() -> coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null,
+                userId)).isInstanceOf(AutosaveLostException.class);
+
+        coalescer.flushAll();
+        verify(chapterService, never()).updateChapter(any(), any(), any(), any());
+    }
+
+    @Test
+    void transient_failure_should_keep_save_and_retry_with_backoff() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+        when(chapterService.updateChapter(eq(chapterId), any(), eq(4L), eq(userId)))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(null);
+        var now = Instant.now();
+
+        coalescer.flushDue(now.plusSeconds(3));
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+
+        // The retry waits a quiet period
+        coalescer.flushDue(now.plusSeconds(3));
+        verify(chapterService, times(1)).updateChapter(any(), any(), any(), any());
+
+        coalescer.flushDue(now.plusSeconds(60));
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(coalescer.lostCount()).isZero();
+        verify(chapterService, times(2)).updateChapter(eq(chapterId), any(), eq(4L), eq(userId));
+    }
+
+    @Test
+    void transient_failures_should_be_reported_once_attempts_run_out() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+        when(chapterService.updateChapter(eq(chapterId), any(), eq(4L), eq(userId)))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+
+        for (int i = 0; i < ChapterAutosaveCoalescer.MAX_WRITE_ATTEMPTS; i++) {
+            coalescer.flushAll();
+        }
+
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(coalescer.lostCount()).isEqualTo(1);
+        verify(chapterService, times(ChapterAutosaveCoalescer.MAX_WRITE_ATTEMPTS))
+                .updateChapter(eq(chapterId), any(), eq(4L), eq(userId));
+    }
+
+    @Test
+    void discard_should_drop_pending_save() {
+        givenOwnedChapter();
+        coalescer.submit(chapterId, new UpdateChapterRequest(null, "Draft", null), null, userId);
+
+        coalescer.discard(chapterId);
+        coalescer.flushAll();
+
+        verify(chapterService, never()).updateChapter(any(), any(), any(), any());
+    }
+
+    @Test
+    void submit_should_check_ownership_eagerly() {
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(outline()));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> coalescer.submit(chapterId, new UpdateChapterRequest(null, "x", null), null, userId))
+                .isInstanceOf(ChapterAccessDeniedException.class);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    void submit_should_reject_stale_if_match_version() {
+        givenOwnedChapter();
+
+        assertThatThrownBy(() -> coalescer.submit(chapterId, new UpdateChapterRequest(null, "x", null), 3L, userId))
+                .isInstanceOf(StaleVersionException.class);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    private void givenOwnedChapter() {
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(outline()));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+    }
+
+    private ChapterOutline outline() {
+        return outline(4L);
+    }
+
+    private ChapterOutline outline(Long version) {
+        return new ChapterOutline(chapterId, projectId, "Title", "1", 0, ChapterStatus.DRAFT, 2, version,
+                Instant.now());
+    }
+}
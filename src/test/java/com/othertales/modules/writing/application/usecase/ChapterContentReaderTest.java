@@ -0,0 +1,87 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterContentReaderTest {
+
+    private static final int SLICE = ChapterContentReader.CONTENT_SLICE_LENGTH;
+
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private ChapterRevisionRepository revisionRepository;
+
+    private ChapterContentReader reader;
+
+    private final UUID chapterId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        reader = new ChapterContentReader(chapterRepository, revisionRepository);
+    }
+
+    @Test
+    void read_should_use_the_chunks_of_the_revision_saved_at_that_version() {
+        when(revisionRepository.findByChapterId(chapterId, 1)).thenReturn(List.of(revision(4L, List.of("a", "b"))));
+        when(revisionRepository.findChunkContents(List.of("a", "b"))).thenReturn(Map.of("a", "Once ", "b", "upon"));
+        List<String> pieces = new ArrayList<>();
+
+        boolean complete = reader.read(chapterId, 4L, pieces::add);
+
+        assertThat(complete).isTrue();
+        assertThat(pieces).containsExactly("Once ", "upon");
+        verify(chapterRepository, never()).findContentSlice(eq(chapterId), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void read_should_fall_back_to_slices_when_the_latest_revision_is_of_another_version() {
+        when(revisionRepository.findByChapterId(chapterId, 1)).thenReturn(List.of(revision(3L, List.of("a"))));
+        when(chapterRepository.findContentSlice(chapterId, 4L, 0, SLICE)).thenReturn(Optional.of("x".repeat(SLICE)));
+        when(chapterRepository.findContentSlice(chapterId, 4L, SLICE, SLICE)).thenReturn(Optional.of(""));
+        List<String> pieces = new ArrayList<>();
+
+        boolean complete = reader.read(chapterId, 4L, pieces::add);
+
+        assertThat(complete).isTrue();
+        assertThat(pieces).containsExactly("x".repeat(SLICE));
+    }
+
+    @Test
+    void read_should_stop_when_the_chapter_changed() {
+        when(chapterRepository.findContentSlice(chapterId, 4L, 0, SLICE)).thenReturn(Optional.of("x".repeat(SLICE)));
+        when(chapterRepository.findContentSlice(chapterId, 4L, SLICE, SLICE)).thenReturn(Optional.empty());
+        List<String> pieces = new ArrayList<>();
+
+        boolean complete = reader.read(chapterId, 4L, pieces::add);
+
+        assertThat(complete).isFalse();
+        assertThat(pieces).hasSize(1);
+    }
+
+    private ChapterRevision revision(long chapterVersion, List<String> hashes) {
+        return new ChapterRevision(UUID.randomUUID(), chapterId, chapterVersion, "Title", 2, 9, hashes, Instant.now());
+    }
+}
@@ -0,0 +1,126 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterImportResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ManuscriptParser;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ImportFormat;
+import com.othertales.modules.writing.domain.InvalidManuscriptImportException;
+import com.othertales.modules.writing.domain.OrderSlot;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterImportServiceTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private QuickSearchService quickSearch;
+    @Mock
+    private CharacterMentionService characterMentions;
+    @Mock
+    private ManuscriptParser parser;
+
+    private ChapterImportService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final InputStream upload = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        when(parser.format()).thenReturn(ImportFormat.MARKDOWN);
+        service = new ChapterImportService(chapterRepository, projectRepository, quickSearch, characterMentions,
+                List.of(parser));
+    }
+
+    @Test
+    void importChapters_should_insert_in_batches_and_update_word_count_once() throws Exception {
+        int chapterCount = ChapterImportService.INSERT_BATCH_SIZE + 1;
+        List<Integer> batchSizes = new ArrayList<>();
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOrderSlot(projectId, null, null)).thenReturn(new OrderSlot("V", null, 3));
+        when(chapterRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Chapter> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return List.copyOf(batch);
+        });
+        doAnswer(invocation -> {
+            ManuscriptParser.ChapterHandler handler = invocation.getArgument(1);
+            handler.accept(null, "Text before the first heading");
+            for (int i = 1; i < chapterCount; i++) {
+                handler.accept("Chapter " + i, "two words");
+            }
+            return null;
+        }).when(parser).parse(any(), any());
+
+        ChapterImportResponse response = service.importChapters(projectId, "novel.md", upload, userId);
+
+        assertThat(batchSizes).containsExactly(ChapterImportService.INSERT_BATCH_SIZE, 1);
+        assertThat(response.importedChapters()).isEqualTo(chapterCount);
+        assertThat(response.chapters().get(0).title()).isEqualTo("novel");
+        assertThat(response.chapters().get(0).sortOrder()).isEqualTo(3);
+        assertThat(response.chapters().get(chapterCount - 1).sortOrder()).isEqualTo(3 + chapterCount - 1);
+        verify(chapterRepository, times(1)).lockOrder(projectId);
+        verify(chapterRepository, times(1)).findOrderSlot(projectId, null, null);
+        verify(projectRepository, times(1)).recordChapterChange(projectId, 5 + 2 * (chapterCount - 1));
+        verify(quickSearch).evict(projectId);
+        verify(characterMentions, times(2)).chaptersSaved(eq(projectId), anyList());
+    }
+
+    @Test
+    void importChapters_should_reject_unsupported_file_type() {
+        assertThatThrownBy(() -> service.importChapters(projectId, "novel.pdf", upload, userId))
+                .isInstanceOf(InvalidManuscriptImportException.class);
+        verify(chapterRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importChapters_should_fail_for_other_users_project() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.importChapters(projectId, "novel.md", upload, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+    }
+
+    @Test
+    void importChapters_should_reject_file_without_text() throws Exception {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOrderSlot(projectId, null, null)).thenReturn(new OrderSlot(null, null, 0));
+        doAnswer(invocation -> {
+            ManuscriptParser.ChapterHandler handler = invocation.getArgument(1);
+            handler.accept(null, "   ");
+            return null;
+        }).when(parser).parse(any(), any());
+
+        assertThatThrownBy(() -> service.importChapters(projectId, "empty.md", upload, userId))
+                .isInstanceOf(InvalidManuscriptImportException.class);
+        verify(projectRepository, never()).recordChapterChange(any(), anyInt());
+    }
+}
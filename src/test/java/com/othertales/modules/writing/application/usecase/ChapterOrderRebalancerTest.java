@@ -0,0 +1,76 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterOrderRebalancerTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    private ChapterOrderRebalancer rebalancer;
+
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        rebalancer = new ChapterOrderRebalancer(chapterRepository);
+    }
+
+    @Test
+    void rebalance_should_spread_keys_and_write_only_changed_rows() {
+        ChapterOutline first = outline("1" + "V".repeat(40), 0);
+        ChapterOutline second = outline("V", 1);
+        ChapterOutline third = outline("W" + "1".repeat(40), 2);
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(first, second, third));
+        when(chapterRepository.updateOrderKeys(projectId, List.of(first.id(), third.id()), List.of("F", "k")))
+                .thenReturn(2);
+
+        int changed = rebalancer.rebalance(projectId);
+
+        assertThat(changed).isEqualTo(2);
+        InOrder order = inOrder(chapterRepository);
+        order.verify(chapterRepository).lockOrder(projectId);
+        order.verify(chapterRepository).findOutlineByProjectId(projectId);
+    }
+
+    @Test
+    void rebalance_should_not_write_when_keys_are_already_spread() {
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(outline("V", 0)));
+
+        assertThat(rebalancer.rebalance(projectId)).isZero();
+        verify(chapterRepository, never()).updateOrderKeys(any(), any(), any());
+    }
+
+    @Test
+    void findProjectsToRebalance_should_cap_projects_per_run() {
+        when(chapterRepository.findProjectIdsWithLongOrderKeys(ChapterOrderRebalancer.PROJECTS_PER_RUN))
+                .thenReturn(List.of(projectId));
+
+        assertThat(rebalancer.findProjectsToRebalance()).containsExactly(projectId);
+    }
+
+    private ChapterOutline outline(String orderKey, int orderIndex) {
+        return new ChapterOutline(UUID.randomUUID(), projectId, "Chapter " + orderIndex, orderKey, orderIndex,
+                ChapterStatus.DRAFT, 10, 1L, Instant.now());
+    }
+}
@@ -0,0 +1,141 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterRevisionResponse;
+import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import com.othertales.modules.writing.domain.ChapterRevisionNotFoundException;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterRevisionServiceTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private ChapterRevisionRepository revisionRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterService chapterService;
+
+    private ChapterRevisionService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID chapterId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new ChapterRevisionService(chapterRepository, revisionRepository, projectRepository, chapterService,
+                new ChapterContentReader(chapterRepository, revisionRepository));
+    }
+
+    @Test
+    void listRevisions_should_cap_limit() {
+        givenOwnedChapter();
+        when(revisionRepository.findByChapterId(chapterId, ChapterRevisionService.MAX_LISTED_REVISIONS))
+                .thenReturn(List.of(revision(List.of("a"))));
+
+        List<ChapterRevisionResponse> revisions = service.listRevisions(chapterId, 10_000, userId);
+
+        assertThat(revisions).hasSize(1);
+    }
+
+    @Test
+    void streamRevisionContent_should_assemble_chunks_in_batches() throws Exception {
+        givenOwnedChapter();
+        List<String> hashes = IntStream.range(0, ChapterContentReader.CHUNK_FETCH_BATCH + 1)
+                .mapToObj(i -> "h" + i)
+                .toList();
+        ChapterRevision revision = revision(hashes);
+        when(revisionRepository.findByIdAndChapterId(revision.id(), chapterId)).thenReturn(Optional.of(revision));
+        when(revisionRepository.findChunkContents(any())).thenAnswer(invocation -> {
+            List<String> batch = invocation.getArgument(0);
+            return batch.stream().collect(java.util.stream.Collectors.toMap(h -> h, h -> "[" + h + "]"));
+        });
+
+        var writer = new StringWriter();
+        service.streamRevisionContent(chapterId, revision.id(), userId).writeTo(writer);
+
+        assertThat(writer.toString()).startsWith("[h0][h1]").endsWith("[h32]");
+        verify(revisionRepository, times(2)).findChunkContents(any());
+    }
+
+    @Test
+    void restoreRevision_should_update_chapter_with_assembled_content() {
+        givenOwnedChapter();
+        ChapterRevision revision = revision(List.of("a", "b"));
+        ChapterResponse restored = new ChapterResponse(chapterId, projectId, "Title", "Old text", 0, 2, "DRAFT",
+                Instant.now(), Instant.now(), 9L);
+        when(revisionRepository.findByIdAndChapterId(revision.id(), chapterId)).thenReturn(Optional.of(revision));
+        when(revisionRepository.findChunkContents(List.of("a", "b"))).thenReturn(Map.of("a", "Old ", "b", "text"));
+        when(chapterService.updateChapter(eq(chapterId), any(), eq(userId))).thenReturn(restored);
+
+        ChapterResponse response = service.restoreRevision(chapterId, revision.id(), userId);
+
+        ArgumentCaptor<UpdateChapterRequest> captor = ArgumentCaptor.forClass(UpdateChapterRequest.class);
+        verify(chapterService).updateChapter(eq(chapterId), captor.capture(), eq(userId));
+        assertThat(captor.getValue().content()).isEqualTo("Old text");
+        assertThat(response).isEqualTo(restored);
+    }
+
+    @Test
+    void getRevision_should_fail_for_unknown_revision() {
+        givenOwnedChapter();
+        UUID revisionId = UUID.randomUUID();
+        when(revisionRepository.findByIdAndChapterId(revisionId, chapterId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getRevision(chapterId, revisionId, userId))
+                .isInstanceOf(ChapterRevisionNotFoundException.class);
+    }
+
+    @Test
+    void listRevisions_should_deny_foreign_chapter() {
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(outline()));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.listRevisions(chapterId, 10, userId))
+                .isInstanceOf(ChapterAccessDeniedException.class);
+    }
+
+    private void givenOwnedChapter() {
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(outline()));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+    }
+
+    private ChapterOutline outline() {
+        return new ChapterOutline(chapterId, projectId, "Title", "1", 0, ChapterStatus.DRAFT, 2, 3L, Instant.now());
+    }
+
+    private ChapterRevision revision(List<String> hashes) {
+        return new ChapterRevision(UUID.randomUUID(), chapterId, 3L, "Title", 2, 8, hashes, Instant.now());
+    }
+}
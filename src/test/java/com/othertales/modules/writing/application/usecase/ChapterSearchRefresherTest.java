@@ -0,0 +1,40 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterSearchRefresherTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    private ChapterSearchRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new ChapterSearchRefresher(chapterRepository);
+    }
+
+    @Test
+    void refreshBatch_should_report_more_work_when_the_batch_was_full() {
+        when(chapterRepository.refreshStaleSearchVectors(ChapterSearchRefresher.CHAPTERS_PER_BATCH))
+                .thenReturn(ChapterSearchRefresher.CHAPTERS_PER_BATCH);
+
+        assertThat(refresher.refreshBatch()).isTrue();
+    }
+
+    @Test
+    void refreshBatch_should_stop_once_fewer_chapters_were_stale() {
+        when(chapterRepository.refreshStaleSearchVectors(ChapterSearchRefresher.CHAPTERS_PER_BATCH)).thenReturn(3);
+
+        assertThat(refresher.refreshBatch()).isFalse();
+    }
+}
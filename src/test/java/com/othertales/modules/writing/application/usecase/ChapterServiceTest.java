@@ -1,30 +1,58 @@
 package com.othertales.modules.writing.application.usecase;
 
+import com.othertales.modules.writing.application.dto.ChapterIndexResponse;
 import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterStatisticsResponse;
+import com.othertales.modules.writing.application.dto.ChapterEditRequest;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
 import com.othertales.modules.writing.application.dto.CreateChapterRequest;
+import com.othertales.modules.writing.application.dto.MoveChapterRequest;
+import com.othertales.modules.writing.application.dto.PatchChapterContentRequest;
+import com.othertales.modules.writing.application.dto.ReorderChaptersRequest;
 import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
 import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
 import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.domain.Chapter;
 import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterRevision;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.ChapterVersionConflictException;
+import com.othertales.modules.writing.domain.InvalidChapterOrderException;
+import com.othertales.modules.writing.domain.TextStatistics;
+import com.othertales.modules.writing.domain.ManuscriptStatistics;
+import com.othertales.modules.writing.domain.OrderKeys;
+import com.othertales.modules.writing.domain.OrderSlot;
 import com.othertales.modules.writing.domain.Project;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +62,21 @@ class ChapterServiceTest {
     private ChapterRepository chapterRepository;
     @Mock
     private ProjectRepository projectRepository;
+    @Mock
+    private ChapterRevisionRepository revisionRepository;
+    @Mock
+    private QuickSearchService quickSearch;
+    @Mock
+    private WritingStatsService writingStats;
+    @Mock
+    private CharacterMentionService characterMentions;
 
     private ChapterService service;
 
     @BeforeEach
     void setUp() {
-        service = new ChapterService(chapterRepository, projectRepository);
+        service = new ChapterService(chapterRepository, projectRepository, revisionRepository, quickSearch,
+                writingStats, characterMentions, new ChapterContentReader(chapterRepository, revisionRepository));
     }
 
     @Test
@@ -50,14 +87,9 @@ class ChapterServiceTest {
         CreateChapterRequest request = new CreateChapterRequest("New Chapter", "Content", null);
 
         when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
-        when(chapterRepository.findNextOrderIndex(projectId)).thenReturn(1);
+        when(chapterRepository.findOrderSlot(projectId, null, null)).thenReturn(new OrderSlot("V", null, 1));
         when(chapterRepository.save(any(Chapter.class))).thenAnswer(i -> i.getArguments()[0]);
 
-        // Mock word count sync
-        Project project = Project.create(userId, "Project", "Syn", "FANTASY", 50000);
-        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
-        when(chapterRepository.findByProjectIdOrderByOrderIndex(projectId)).thenReturn(Collections.emptyList());
-
         // When
         ChapterResponse response = service.createChapter(projectId, request, userId);
 
@@ -65,8 +97,14 @@ class ChapterServiceTest {
         ArgumentCaptor<Chapter> captor = ArgumentCaptor.forClass(Chapter.class);
         verify(chapterRepository).save(captor.capture());
         assertThat(captor.getValue().getTitle()).isEqualTo("New Chapter");
+        assertThat(captor.getValue().getOrderKey()).isEqualTo("W");
+        assertThat(response.sortOrder()).isEqualTo(1);
+        verify(chapterRepository).lockOrder(projectId);
 
-        verify(projectRepository).save(any(Project.class)); // Verifies word count sync
+        verify(projectRepository).recordChapterChange(projectId, 1);
+        verify(writingStats).recordWordDelta(userId, projectId, 1);
+        verify(chapterRepository, never()).findByProjectIdOrderByOrderIndex(any());
+        verify(revisionRepository).save(any(ChapterRevision.class), any());
     }
 
     @Test
@@ -76,51 +114,442 @@ class ChapterServiceTest {
         UUID projectId = UUID.randomUUID();
         UUID chapterId = UUID.randomUUID();
 
-        Chapter chapter = Chapter.create(projectId, "Old Title", "Old Content", 1);
-        UpdateChapterRequest request = new UpdateChapterRequest("New Title", "New Content", "PUBLISHED");
+        Chapter chapter = Chapter.create(projectId, "Old Title", "Old Content", "2", 1);
+        UpdateChapterRequest request = new UpdateChapterRequest("New Title", "New and longer Content", "PUBLISHED");
 
         when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
         when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
         when(chapterRepository.save(any(Chapter.class))).thenAnswer(i -> i.getArguments()[0]);
 
-        // Mock word count sync
-        Project project = Project.create(userId, "Project", "Syn", "FANTASY", 50000);
-        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
-        when(chapterRepository.findByProjectIdOrderByOrderIndex(projectId))
-                .thenReturn(Collections.singletonList(chapter));
-
         // When
         service.updateChapter(chapterId, request, userId);
 
         // Then
         assertThat(chapter.getTitle()).isEqualTo("New Title");
-        assertThat(chapter.getContent()).isEqualTo("New Content");
+        assertThat(chapter.getContent()).isEqualTo("New and longer Content");
         assertThat(chapter.getStatus().name()).isEqualTo("PUBLISHED");
 
-        verify(projectRepository).save(project);
+        verify(projectRepository).recordChapterChange(projectId, 2);
+        verify(writingStats).recordWordDelta(userId, projectId, 2);
+        verify(projectRepository, never()).save(any(Project.class));
+        verify(revisionRepository).save(any(ChapterRevision.class), any());
+        verify(quickSearch).chapterSaved(chapter);
+        verify(characterMentions).chapterSaved(chapter);
     }
 
     @Test
-    void deleteChapter_should_remove_and_sync() {
+    void updateChapter_should_bump_chapters_version_without_word_delta_when_renamed() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        Chapter chapter = Chapter.create(projectId, "Title", "Same words", "2", 1);
+
+        when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.save(any(Chapter.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        service.updateChapter(chapterId, new UpdateChapterRequest("Renamed", null, null), userId);
+
+        verify(projectRepository).recordChapterChange(projectId, 0);
+        verify(revisionRepository, never()).save(any(), any());
+        verifyNoInteractions(characterMentions);
+    }
+
+    @Test
+    void getChaptersVersion_should_read_validator_from_project_row() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.of(42L));
+
+        assertThat(service.getChaptersVersion(projectId, userId)).isEqualTo(42L);
+        verify(chapterRepository, never()).findOutlineByProjectId(any());
+    }
+
+    @Test
+    void getChaptersVersion_should_deny_access_to_foreign_project() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getChaptersVersion(projectId, userId))
+                .isInstanceOf(ChapterAccessDeniedException.class);
+    }
+
+    @Test
+    void getChapterSummary_should_not_load_content() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(
+                new ChapterOutline(chapterId, projectId, "Title", "4", 3, ChapterStatus.DRAFT, 10, 7L, Instant.now())));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+
+        ChapterSummaryResponse summary = service.getChapterSummary(chapterId, userId);
+
+        assertThat(summary.version()).isEqualTo(7L);
+        assertThat(summary.sortOrder()).isEqualTo(3);
+        verify(chapterRepository, never()).findById(any());
+    }
+
+    @Test
+    void patchChapterContent_should_splice_stored_content() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        Chapter chapter = Chapter.reconstitute(chapterId, projectId, "Title", "It was a dark night.",
+                null, "1", 0, ChapterStatus.DRAFT, Instant.now(), Instant.now(), null, 5L);
+        PatchChapterContentRequest request = new PatchChapterContentRequest(5L,
+                List.of(new ChapterEditRequest(9, 4, "dark and stormy")));
+
+        when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.save(any(Chapter.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        ChapterSummaryResponse response = service.patchChapterContent(chapterId, request, null, userId);
+
+        assertThat(chapter.getContent()).isEqualTo("It was a dark and stormy night.");
+        assertThat(response.wordCount()).isEqualTo(7);
+        verify(projectRepository).recordChapterChange(projectId, 2);
+        verify(writingStats).recordWordDelta(userId, projectId, 2);
+        verify(revisionRepository).save(any(ChapterRevision.class), any());
+    }
+
+    @Test
+    void patchChapterContent_should_reject_stale_version() {
         UUID userId = UUID.randomUUID();
         UUID projectId = UUID.randomUUID();
         UUID chapterId = UUID.randomUUID();
-        Chapter chapter = Chapter.create(projectId, "Title", "Content", 1);
+        Chapter chapter = Chapter.reconstitute(chapterId, projectId, "Title", "Text",
+                new TextStatistics(1, 4, 1), "1", 0, ChapterStatus.DRAFT, Instant.now(), Instant.now(), null, 6L);
+        PatchChapterContentRequest request = new PatchChapterContentRequest(5L,
+                List.of(new ChapterEditRequest(0, 0, "More ")));
 
         when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
         when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
 
-        // Mock word count sync
-        Project project = Project.create(userId, "Project", "Syn", "FANTASY", 50000);
-        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
-        when(chapterRepository.findByProjectIdOrderByOrderIndex(projectId)).thenReturn(Collections.emptyList());
+        assertThatThrownBy(() -> service.patchChapterContent(chapterId, request, null, userId))
+                .isInstanceOf(ChapterVersionConflictException.class);
+        verify(chapterRepository, never()).save(any(Chapter.class));
+    }
+
+    @Test
+    void streamChapterContent_should_write_slices_of_loaded_version() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        String first = "a".repeat(ChapterContentReader.CONTENT_SLICE_LENGTH);
+
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(new ChapterOutline(chapterId,
+                projectId, "Title", "1", 0, ChapterStatus.DRAFT, 1, 4L, Instant.now())));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findContentSlice(chapterId, 4L, 0, ChapterContentReader.CONTENT_SLICE_LENGTH))
+                .thenReturn(Optional.of(first));
+        when(chapterRepository.findContentSlice(chapterId, 4L, ChapterContentReader.CONTENT_SLICE_LENGTH,
+                ChapterContentReader.CONTENT_SLICE_LENGTH)).thenReturn(Optional.of("end"));
+
+        StringWriter writer = new StringWriter();
+        service.streamChapterContent(chapterId, userId).writeTo(writer);
+
+        assertThat(writer.toString()).isEqualTo(first + "end");
+        verify(chapterRepository, never()).findById(any());
+    }
+
+    @Test
+    void streamChapterContent_should_serve_newer_version_when_saved_before_the_first_slice() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+
+        when(chapterRepository.findOutlineById(chapterId))
+                .thenReturn(Optional.of(new ChapterOutline(chapterId, projectId, "Title", "1", 0,
+                        ChapterStatus.DRAFT, 1, 4L, Instant.now())))
+                .thenReturn(Optional.of(new ChapterOutline(chapterId, projectId, "Title", "1", 0,
+                        ChapterStatus.DRAFT, 1, 5L, Instant.now())));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findContentSlice(chapterId, 4L, 0, ChapterContentReader.CONTENT_SLICE_LENGTH))
+                .thenReturn(Optional.empty());
+        when(chapterRepository.findContentSlice(chapterId, 5L, 0, ChapterContentReader.CONTENT_SLICE_LENGTH))
+                .thenReturn(Optional.of("Newer text"));
+
+        StringWriter writer = new StringWriter();
+        service.streamChapterContent(chapterId, userId).writeTo(writer);
+
+        assertThat(writer.toString()).isEqualTo("Newer text");
+    }
+
+    @Test
+    void streamChapterContent_should_fail_when_chapter_changes_mid_stream() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+
+        when(chapterRepository.findOutlineById(chapterId))
+                .thenReturn(Optional.of(new ChapterOutline(chapterId, projectId, "Title", "1", 0,
+                        ChapterStatus.DRAFT, 1, 4L, Instant.now())))
+                .thenReturn(Optional.of(new ChapterOutline(chapterId, projectId, "Title", "1", 0,
+                        ChapterStatus.DRAFT, 1, 5L, Instant.now())));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findContentSlice(chapterId, 4L, 0, ChapterContentReader.CONTENT_SLICE_LENGTH))
+                .thenReturn(Optional.of("a".repeat(ChapterContentReader.CONTENT_SLICE_LENGTH)));
+        when(chapterRepository.findContentSlice(chapterId, 4L, ChapterContentReader.CONTENT_SLICE_LENGTH,
+                ChapterContentReader.CONTENT_SLICE_LENGTH)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.streamChapterContent(chapterId, userId).writeTo(new StringWriter()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 10, 120})
+    void reorderChapters_should_use_constant_number_of_queries(int chapterCount) {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        List<String> keys = OrderKeys.spread(chapterCount);
+        List<ChapterOutline> outline = IntStream.range(0, chapterCount)
+                .mapToObj(i -> new ChapterOutline(UUID.randomUUID(), projectId, "Chapter " + i, keys.get(i), i,
+                        ChapterStatus.DRAFT, 10, 1L, Instant.now()))
+                .toList();
+        List<UUID> reversed = outline.stream().map(ChapterOutline::id).toList().reversed();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(outline);
+        when(chapterRepository.updateOrderKeys(eq(projectId), any(), any())).thenReturn(chapterCount - 1);
+
+        ChapterIndexResponse response = service.reorderChapters(projectId, new ReorderChaptersRequest(reversed), null, userId);
+
+        assertThat(response.totalChapters()).isEqualTo(chapterCount);
+        assertThat(response.chapters()).extracting(ChapterSummaryResponse::id).isEqualTo(reversed);
+        assertThat(response.chapters()).extracting(ChapterSummaryResponse::sortOrder)
+                .isEqualTo(IntStream.range(0, chapterCount).boxed().toList());
+        verify(projectRepository).recordChapterChange(projectId, 0);
+        verify(chapterRepository, times(1)).findOutlineByProjectId(projectId);
+        verify(chapterRepository, never()).findById(any());
+        verify(chapterRepository, never()).findByProjectIdOrderByOrderIndex(any());
+        verify(chapterRepository, never()).save(any());
+    }
+
+    @Test
+    void reorderChapters_should_rewrite_only_the_moved_chapter() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        List<ChapterOutline> outline = List.of(outline(projectId, "2", 0), outline(projectId, "4", 1),
+                outline(projectId, "6", 2), outline(projectId, "8", 3));
+        UUID last = outline.get(3).id();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(outline);
+        when(chapterRepository.updateOrderKeys(projectId, List.of(last), List.of("1"))).thenReturn(1);
+
+        // Only the chapter moved to the front is listed; the rest keep their relative order
+        ChapterIndexResponse response = service.reorderChapters(projectId,
+                new ReorderChaptersRequest(List.of(last)), null, userId);
+
+        assertThat(response.chapters()).extracting(ChapterSummaryResponse::id).containsExactly(
+                last, outline.get(0).id(), outline.get(1).id(), outline.get(2).id());
+        verify(chapterRepository).lockOrder(projectId);
+        verify(projectRepository).recordChapterChange(projectId, 0);
+    }
+
+    @Test
+    void reorderChapters_should_not_write_when_order_is_unchanged() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        List<ChapterOutline> outline = List.of(outline(projectId, "2", 0), outline(projectId, "4", 1));
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(outline);
+
+        service.reorderChapters(projectId, new ReorderChaptersRequest(List.of(outline.get(0).id())), null, userId);
+
+        verify(chapterRepository, never()).updateOrderKeys(any(), any(), any());
+        verify(projectRepository, never()).recordChapterChange(any(), eq(0));
+    }
+
+    @Test
+    void moveChapter_should_write_one_key_between_new_neighbours() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        ChapterOutline chapter = outline(projectId, "8", 3);
+
+        when(chapterRepository.findOutlineById(chapter.id())).thenReturn(Optional.of(chapter));
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.of(5L));
+        when(chapterRepository.findOrderSlot(projectId, 1, chapter.id())).thenReturn(new OrderSlot("2", "4", 1));
+        when(chapterRepository.updateOrderKeys(projectId, List.of(chapter.id()), List.of("3"))).thenReturn(1);
+
+        ChapterSummaryResponse response = service.moveChapter(chapter.id(), new MoveChapterRequest(1), 5L, userId);
+
+        assertThat(response.sortOrder()).isEqualTo(1);
+        verify(chapterRepository).lockOrder(projectId);
+        verify(projectRepository).recordChapterChange(projectId, 0);
+        verify(chapterRepository, never()).findOutlineByProjectId(any());
+    }
+
+    @Test
+    void moveChapter_should_not_write_when_position_is_unchanged() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        ChapterOutline chapter = outline(projectId, "8", 3);
+
+        when(chapterRepository.findOutlineById(chapter.id())).thenReturn(Optional.of(chapter));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        // Past the end is clamped to the last position, where the chapter already is
+        when(chapterRepository.findOrderSlot(projectId, 10, chapter.id())).thenReturn(new OrderSlot("6", null, 3));
+
+        ChapterSummaryResponse response = service.moveChapter(chapter.id(), new MoveChapterRequest(10), null, userId);
+
+        assertThat(response.sortOrder()).isEqualTo(3);
+        verify(chapterRepository, never()).updateOrderKeys(any(), any(), any());
+        verify(projectRepository, never()).recordChapterChange(any(), eq(0));
+    }
+
+    @Test
+    void moveChapter_should_reject_stale_list_version() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        ChapterOutline chapter = outline(projectId, "8", 3);
+
+        when(chapterRepository.findOutlineById(chapter.id())).thenReturn(Optional.of(chapter));
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.of(9L));
+
+        assertThatThrownBy(() -> service.moveChapter(chapter.id(), new MoveChapterRequest(0), 8L, userId))
+                .isInstanceOf(StaleVersionException.class);
+        verify(chapterRepository, never()).lockOrder(any());
+        verify(chapterRepository, never()).updateOrderKeys(any(), any(), any());
+    }
+
+    @Test
+    void reorderChapters_should_reject_foreign_and_duplicate_ids() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        ChapterOutline chapter = new ChapterOutline(chapterId, projectId, "Chapter", "1", 0, ChapterStatus.DRAFT, 10,
+                1L, Instant.now());
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(chapter));
+
+        assertThatThrownBy(() -> service.reorderChapters(projectId,
+                new ReorderChaptersRequest(List.of(UUID.randomUUID())), null, userId))
+                .isInstanceOf(ChapterNotFoundException.class);
+        assertThatThrownBy(() -> service.reorderChapters(projectId,
+                new ReorderChaptersRequest(List.of(chapterId, chapterId)), null, userId))
+                .isInstanceOf(InvalidChapterOrderException.class);
+        verify(chapterRepository, never()).updateOrderKeys(any(), any(), any());
+    }
+
+    @Test
+    void reorderChapters_should_reject_stale_list_version() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.of(9L));
+
+        assertThatThrownBy(() -> service.reorderChapters(projectId,
+                new ReorderChaptersRequest(List.of(UUID.randomUUID())), 8L, userId))
+                .isInstanceOf(StaleVersionException.class);
+        verify(chapterRepository, never()).findOutlineByProjectId(any());
+        verify(chapterRepository, never()).updateOrderKeys(any(), any(), any());
+    }
+
+    @Test
+    void deleteChapter_should_remove_and_sync() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        Chapter chapter = Chapter.create(projectId, "Title", "Content", "2", 1);
+
+        when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
 
         // When
-        service.deleteChapter(chapterId, userId);
+        service.deleteChapter(chapterId, null, userId);
 
         // Then
         verify(chapterRepository).deleteById(chapterId);
-        verify(projectRepository).save(project);
+        verify(projectRepository).recordChapterChange(projectId, -1);
+        verify(quickSearch).chapterDeleted(projectId, chapterId);
+        verifyNoInteractions(writingStats);
+    }
+
+    @Test
+    void updateChapter_should_reject_stale_if_match_without_loading_content() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(new ChapterOutline(chapterId,
+                projectId, "Title", "1", 0, ChapterStatus.DRAFT, 1, 4L, Instant.now())));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.updateChapter(chapterId,
+                new UpdateChapterRequest("Renamed", null, null), 3L, userId))
+                .isInstanceOf(StaleVersionException.class);
+        verify(chapterRepository, never()).findById(any());
+        verify(chapterRepository, never()).save(any(Chapter.class));
+    }
+
+    @Test
+    void deleteChapter_should_delete_when_if_match_is_current() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        Chapter chapter = Chapter.reconstitute(chapterId, projectId, "Title", "Some text",
+                null, "1", 0, ChapterStatus.DRAFT, Instant.now(), Instant.now(), null, 4L);
+
+        when(chapterRepository.findOutlineById(chapterId)).thenReturn(Optional.of(new ChapterOutline(chapterId,
+                projectId, "Title", "1", 0, ChapterStatus.DRAFT, 2, 4L, Instant.now())));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
+
+        service.deleteChapter(chapterId, 4L, userId);
+
+        verify(chapterRepository).deleteById(chapterId);
+        verify(projectRepository).recordChapterChange(projectId, -2);
+    }
+
+    @Test
+    void getChapterOutline_should_use_projection_without_content() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(
+                new ChapterOutline(UUID.randomUUID(), projectId, "One", "1", 0, ChapterStatus.DRAFT, 1200, 3L, now),
+                new ChapterOutline(UUID.randomUUID(), projectId, "Two", "2", 1, ChapterStatus.PUBLISHED, 800, 1L, now)));
+
+        ChapterIndexResponse response = service.getChapterOutline(projectId, userId);
+
+        assertThat(response.totalChapters()).isEqualTo(2);
+        assertThat(response.totalWordCount()).isEqualTo(2000);
+        assertThat(response.chapters().get(1).title()).isEqualTo("Two");
+        assertThat(response.chapters().get(1).status()).isEqualTo("PUBLISHED");
+        verify(chapterRepository, never()).findByProjectIdOrderByOrderIndex(any());
+    }
+
+    @Test
+    void getChapterStatistics_should_return_stored_totals() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(chapterRepository.sumStatisticsByProjectId(projectId))
+                .thenReturn(new ManuscriptStatistics(2, 800, 4200, 30));
+
+        ChapterStatisticsResponse response = service.getChapterStatistics(projectId, userId);
+
+        assertThat(response).isEqualTo(new ChapterStatisticsResponse(projectId, 2, 800, 4200, 30));
+        verify(chapterRepository, never()).findByProjectIdOrderByOrderIndex(any());
+    }
+
+    @Test
+    void getChapterStatistics_should_deny_foreign_project() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.getChapterStatistics(projectId, userId))
+                .isInstanceOf(ChapterAccessDeniedException.class);
     }
 
     @Test
@@ -134,4 +563,9 @@ class ChapterServiceTest {
         assertThatThrownBy(() -> service.createChapter(projectId, request, userId))
                 .isInstanceOf(ProjectNotFoundException.class);
     }
+
+    private static ChapterOutline outline(UUID projectId, String orderKey, int orderIndex) {
+        return new ChapterOutline(UUID.randomUUID(), projectId, "Chapter " + orderIndex, orderKey, orderIndex,
+                ChapterStatus.DRAFT, 10, 1L, Instant.now());
+    }
 }
@@ -0,0 +1,125 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.CharacterAppearancesResponse;
+import com.othertales.modules.writing.application.port.CharacterMentionRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.ProseAnalyticsRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterFingerprint;
+import com.othertales.modules.writing.domain.ChapterText;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.CharacterAppearance;
+import com.othertales.modules.writing.domain.CharacterMention;
+import com.othertales.modules.writing.domain.CharacterNotFoundException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CharacterMentionServiceTest {
+
+    @Mock
+    private CharacterMentionRepository mentionRepository;
+    @Mock
+    private CharacterRepository characterRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProseAnalyticsRepository proseAnalyticsRepository;
+
+    private CharacterMentionService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new CharacterMentionService(mentionRepository, characterRepository, projectRepository,
+                proseAnalyticsRepository);
+    }
+
+    @Test
+    void chapterSaved_should_replace_the_chapter_rows_with_its_mentions() {
+        Character keeper = Character.create(projectId, "Tomás Vidal", null, null, null, null);
+        Chapter chapter = Chapter.create(projectId, "Uno", "Tomás subió al faro. Vidal no bajó.", "V", 0);
+
+        when(mentionRepository.findCharacterNames(projectId)).thenReturn(Map.of(keeper.getId(), keeper.getName()));
+
+        service.chapterSaved(chapter);
+
+        verify(mentionRepository).replaceForChapter(projectId, chapter.getId(),
+                List.of(new CharacterMention(keeper.getId(), chapter.getId(), 2, 0)));
+    }
+
+    @Test
+    void findAppearances_should_rescan_project_when_characters_changed() {
+        Character keeper = Character.create(projectId, "Tomás", null, null, null, null);
+        UUID chapterId = UUID.randomUUID();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(characterRepository.findByIdAndProjectId(keeper.getId(), projectId)).thenReturn(Optional.of(keeper));
+        when(mentionRepository.findOutdatedCharactersVersion(projectId)).thenReturn(OptionalLong.of(7L));
+        when(mentionRepository.findCharacterNames(projectId)).thenReturn(Map.of(keeper.getId(), "Tomás"));
+        when(proseAnalyticsRepository.findFingerprintsByProjectId(projectId))
+                .thenReturn(List.of(new ChapterFingerprint(chapterId, projectId, "Uno", 0, "h1")));
+        when(proseAnalyticsRepository.findTexts(projectId, List.of(chapterId)))
+                .thenReturn(List.of(new ChapterText(chapterId, "h1", "Tomás, Tomás.")));
+        when(mentionRepository.findAppearances(projectId, keeper.getId()))
+                .thenReturn(List.of(new CharacterAppearance(chapterId, "Uno", 0, 2, 0)));
+
+        CharacterAppearancesResponse response = service.findAppearances(projectId, keeper.getId(), userId);
+
+        verify(mentionRepository).replaceForChapter(projectId, chapterId,
+                List.of(new CharacterMention(keeper.getId(), chapterId, 2, 0)));
+        verify(mentionRepository).markIndexed(projectId, 7L);
+        assertThat(response.name()).isEqualTo("Tomás");
+        assertThat(response.totalMentions()).isEqualTo(2);
+        assertThat(response.chapters()).hasSize(1);
+    }
+
+    @Test
+    void findCoOccurrences_should_answer_from_an_up_to_date_index() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(mentionRepository.findOutdatedCharactersVersion(projectId)).thenReturn(OptionalLong.empty());
+        when(mentionRepository.findCoOccurrences(projectId, CharacterMentionService.MAX_LIMIT)).thenReturn(List.of());
+
+        assertThat(service.findCoOccurrences(projectId, 1_000, userId)).isEmpty();
+        verify(proseAnalyticsRepository, never()).findFingerprintsByProjectId(any());
+    }
+
+    @Test
+    void findAppearances_should_fail_for_unknown_character() {
+        UUID characterId = UUID.randomUUID();
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(characterRepository.findByIdAndProjectId(characterId, projectId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.findAppearances(projectId, characterId, userId))
+                .isInstanceOf(CharacterNotFoundException.class);
+    }
+
+    @Test
+    void findCoOccurrences_should_deny_foreign_project() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.findCoOccurrences(projectId, null, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verify(mentionRepository, never()).findOutdatedCharactersVersion(any());
+    }
+}
@@ -0,0 +1,138 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ManuscriptExport;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.ManuscriptRenderer;
+import com.othertales.modules.writing.application.port.ManuscriptWriter;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.StoryRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.ExportFormat;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.UnsupportedExportFormatException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ManuscriptExportServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private StoryRepository storyRepository;
+    @Mock
+    private CharacterRepository characterRepository;
+    @Mock
+    private ChapterAutosaveCoalescer autosaveCoalescer;
+    @Mock
+    private ManuscriptRenderer renderer;
+    @Mock
+    private ManuscriptWriter writer;
+
+    private ManuscriptExportService service;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(renderer.format()).thenReturn(ExportFormat.EPUB);
+        service = new ManuscriptExportService(projectRepository, chapterRepository, storyRepository,
+                characterRepository, autosaveCoalescer, List.of(renderer));
+    }
+
+    @Test
+    void exportProject_should_write_chapters_one_at_a_time_between_front_and_back_matter() throws Exception {
+        Project project = Project.create(userId, "La Sombra del Viento", "Barcelona, 1945", "Mystery", 80_000);
+        UUID projectId = project.getId();
+        Story story = Story.create(projectId, "Main plot", "A boy finds a book", null, null, null, null);
+        Character character = Character.create(projectId, "Daniel", "Protagonist", null, null, null);
+        Chapter first = Chapter.create(projectId, "One", "First chapter", "1", 0);
+        Chapter second = Chapter.create(projectId, "Two", "Second chapter", "2", 1);
+
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(
+                outline(first.getId(), projectId, 0), outline(second.getId(), projectId, 1)));
+        when(storyRepository.findAllByProjectId(any(), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(story)));
+        when(characterRepository.findAllByProjectId(any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(character)));
+
+        ManuscriptExport export = service.exportProject(projectId, "epub", Locale.ENGLISH, userId);
+
+        assertThat(export.fileName()).isEqualTo("la-sombra-del-viento.epub");
+        verify(chapterRepository, never()).findById(any());
+
+        when(renderer.open(any(), any())).thenReturn(writer);
+        when(chapterRepository.findById(first.getId())).thenReturn(Optional.of(first));
+        when(chapterRepository.findById(second.getId())).thenReturn(Optional.of(second));
+
+        export.writeTo(new ByteArrayOutputStream());
+
+        InOrder order = inOrder(writer, chapterRepository, autosaveCoalescer);
+        order.verify(writer).writeStory(story);
+        order.verify(autosaveCoalescer).flush(first.getId());
+        order.verify(chapterRepository).findById(first.getId());
+        order.verify(writer).writeChapter("One", "First chapter");
+        order.verify(autosaveCoalescer).flush(second.getId());
+        order.verify(chapterRepository).findById(second.getId());
+        order.verify(writer).writeChapter("Two", "Second chapter");
+        order.verify(writer).writeCharacter(character);
+        order.verify(writer).close();
+    }
+
+    @Test
+    void exportProject_should_reject_unknown_format() {
+        UUID projectId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> service.exportProject(projectId, "pdf", Locale.ENGLISH, userId))
+                .isInstanceOf(UnsupportedExportFormatException.class);
+        verify(projectRepository, never()).findByIdAndUserId(any(), any());
+    }
+
+    @Test
+    void exportProject_should_fail_for_other_users_project() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.exportProject(projectId, "EPUB", Locale.ENGLISH, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+    }
+
+    @Test
+    void fileName_should_fall_back_when_title_has_no_latin_characters() {
+        assertThat(ManuscriptExportService.fileName("Cañón: ¿Capítulo?", ExportFormat.MARKDOWN)).isEqualTo("canon-capitulo.md");
+        assertThat(ManuscriptExportService.fileName("我的书", ExportFormat.DOCX)).isEqualTo("manuscript.docx");
+    }
+
+    private static ChapterOutline outline(UUID chapterId, UUID projectId, int orderIndex) {
+        return new ChapterOutline(chapterId, projectId, "Title", "V", orderIndex, ChapterStatus.DRAFT, 2, 0L, Instant.now());
+    }
+}
@@ -7,6 +7,7 @@ import com.othertales.modules.writing.application.dto.UpdateProjectRequest;
 import com.othertales.modules.writing.application.port.ProjectRepository;
 import com.othertales.modules.writing.domain.Project;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,6 +21,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +30,8 @@ class ProjectServiceTest {
 
     @Mock
     private ProjectRepository projectRepository;
+    @Mock
+    private QuickSearchService quickSearch;
 
     @InjectMocks
     private ProjectService projectService;
@@ -92,7 +96,7 @@ class ProjectServiceTest {
         when(projectRepository.save(any(Project.class))).thenReturn(project);
 
         // When
-        ProjectResponse response = projectService.update(projectId, userId, request);
+        ProjectResponse response = projectService.update(projectId, userId, request, null);
 
         // Then
         assertThat(response.title()).isEqualTo("New Title");
@@ -109,25 +113,71 @@ class ProjectServiceTest {
         when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.empty());
 
         // When / Then
-        assertThatThrownBy(() -> projectService.update(projectId, userId, request))
+        assertThatThrownBy(() -> projectService.update(projectId, userId, request, null))
                 .isInstanceOf(ProjectNotFoundException.class);
     }
 
     @Test
-    void delete_should_mark_as_deleted() {
+    void update_should_reject_stale_expected_version() {
         // Given
-        UUID projectId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        Project project = Project.create(userId, "Title", "Syn", "Gen", 1000);
+        Project project = Project.create(userId, "Old Title", "Syn", "Gen", 1000);
+        UUID projectId = project.getId();
+        UpdateProjectRequest request = new UpdateProjectRequest("New Title", null, null, null, null, null);
 
         when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+
+        // When / Then
+        assertThatThrownBy(() -> projectService.update(projectId, userId, request, 1L))
+                .isInstanceOf(StaleVersionException.class);
+        assertThat(project.getTitle()).isEqualTo("Old Title");
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void delete_should_mark_as_deleted_without_loading_the_project() {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(projectRepository.markDeleted(projectId, userId, 0L)).thenReturn(true);
 
         // When
-        projectService.delete(projectId, userId);
+        projectService.delete(projectId, userId, 0L);
 
         // Then
-        assertThat(project.isDeleted()).isTrue();
-        verify(projectRepository).save(project);
+        verify(projectRepository, never()).findByIdAndUserId(any(), any());
+        verify(projectRepository, never()).save(any());
+        verify(quickSearch).evict(projectId);
+    }
+
+    @Test
+    void delete_should_throw_stale_version_when_the_conditional_update_misses_an_existing_project() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Project project = Project.create(userId, "Title", "Syn", "Gen", 1000);
+        UUID projectId = project.getId();
+
+        when(projectRepository.markDeleted(projectId, userId, 1L)).thenReturn(false);
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
+
+        // When / Then
+        assertThatThrownBy(() -> projectService.delete(projectId, userId, 1L))
+                .isInstanceOf(StaleVersionException.class);
+        verify(quickSearch, never()).evict(any());
+    }
+
+    @Test
+    void delete_should_throw_not_found_when_the_conditional_update_misses_a_missing_project() {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(projectRepository.markDeleted(projectId, userId, null)).thenReturn(false);
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> projectService.delete(projectId, userId, null))
+                .isInstanceOf(ProjectNotFoundException.class);
     }
 }
@@ -0,0 +1,174 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ChapterProseReportResponse;
+import com.othertales.modules.writing.application.dto.ProjectProseReportResponse;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.ProseAnalyticsRepository;
+import com.othertales.modules.writing.domain.ChapterAccessDeniedException;
+import com.othertales.modules.writing.domain.ChapterFingerprint;
+import com.othertales.modules.writing.domain.ChapterText;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.ProseAnalyzer;
+import com.othertales.modules.writing.domain.ProseMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProseAnalyticsServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProseAnalyticsRepository proseAnalyticsRepository;
+
+    private ProseAnalyticsService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new ProseAnalyticsService(projectRepository, proseAnalyticsRepository, 2, DataSize.ofMegabytes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void analyzeProject_should_analyze_each_chapter_once_and_merge_totals() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        List<ChapterFingerprint> chapters = List.of(
+                new ChapterFingerprint(firstId, projectId, "One", 0, "h1"),
+                new ChapterFingerprint(secondId, projectId, "Two", 1, "h2"));
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(proseAnalyticsRepository.findFingerprintsByProjectId(projectId)).thenReturn(chapters);
+        when(proseAnalyticsRepository.findTexts(projectId, List.of(firstId, secondId))).thenReturn(List.of(
+                new ChapterText(secondId, "h2", "\"Run quickly,\" she said. The storm came."),
+                new ChapterText(firstId, "h1", "The storm broke on the rocks.")));
+
+        ProjectProseReportResponse first = service.analyzeProject(projectId, Locale.ENGLISH, userId);
+        ProjectProseReportResponse second = service.analyzeProject(projectId, Locale.ENGLISH, userId);
+
+        assertThat(first.language()).isEqualTo("en");
+        assertThat(first.chapters()).extracting(ChapterProseReportResponse::title).containsExactly("One", "Two");
+        assertThat(first.totals().wordCount()).isEqualTo(13);
+        assertThat(first.totals().sentenceCount()).isEqualTo(3);
+        assertThat(first.totals().adverbCount()).isEqualTo(1);
+        assertThat(first.totals().overusedWords().getFirst().word()).isEqualTo("storm");
+        assertThat(first.totals().overusedWords().getFirst().count()).isEqualTo(2);
+        assertThat(first.chapters().get(1).report().dialogueRatio()).isEqualTo(0.29);
+        assertThat(second).isEqualTo(first);
+        verify(proseAnalyticsRepository, times(1)).findTexts(any(), any());
+    }
+
+    @Test
+    void analyzeProject_should_reanalyze_only_chapters_whose_hash_changed() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(proseAnalyticsRepository.findFingerprintsByProjectId(projectId))
+                .thenReturn(List.of(
+                        new ChapterFingerprint(firstId, projectId, "One", 0, "h1"),
+                        new ChapterFingerprint(secondId, projectId, "Two", 1, "h2")))
+                .thenReturn(List.of(
+                        new ChapterFingerprint(firstId, projectId, "One", 0, "h1"),
+                        new ChapterFingerprint(secondId, projectId, "Two", 1, "h3")));
+        when(proseAnalyticsRepository.findTexts(projectId, List.of(firstId, secondId))).thenReturn(List.of(
+                new ChapterText(firstId, "h1", "Waves."),
+                new ChapterText(secondId, "h2", "Rocks.")));
+        when(proseAnalyticsRepository.findTexts(projectId, List.of(secondId))).thenReturn(List.of(
+                new ChapterText(secondId, "h3", "Rocks and more rocks.")));
+
+        service.analyzeProject(projectId, Locale.ENGLISH, userId);
+        ProjectProseReportResponse updated = service.analyzeProject(projectId, Locale.ENGLISH, userId);
+
+        assertThat(updated.totals().wordCount()).isEqualTo(5);
+        verify(proseAnalyticsRepository).findTexts(projectId, List.of(secondId));
+    }
+
+    @Test
+    void analyzeProject_should_cache_per_language() {
+        UUID chapterId = UUID.randomUUID();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(proseAnalyticsRepository.findFingerprintsByProjectId(projectId))
+                .thenReturn(List.of(new ChapterFingerprint(chapterId, projectId, "Uno", 0, "h1")));
+        when(proseAnalyticsRepository.findTexts(projectId, List.of(chapterId)))
+                .thenReturn(List.of(new ChapterText(chapterId, "h1", "Vino rápidamente. Nunca volvió.")));
+
+        ProjectProseReportResponse english = service.analyzeProject(projectId, Locale.ENGLISH, userId);
+        ProjectProseReportResponse spanish = service.analyzeProject(projectId, Locale.forLanguageTag("es"), userId);
+
+        assertThat(english.totals().adverbCount()).isZero();
+        assertThat(spanish.language()).isEqualTo("es");
+        assertThat(spanish.totals().adverbCount()).isEqualTo(1);
+        verify(proseAnalyticsRepository, times(2)).findTexts(projectId, List.of(chapterId));
+    }
+
+    @Test
+    void analyzeProject_should_deny_foreign_project() {
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.analyzeProject(projectId, Locale.ENGLISH, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verify(proseAnalyticsRepository, never()).findFingerprintsByProjectId(any());
+    }
+
+    @Test
+    void analyzeChapter_should_deny_chapter_of_foreign_project() {
+        UUID chapterId = UUID.randomUUID();
+
+        when(proseAnalyticsRepository.findFingerprintById(chapterId))
+                .thenReturn(Optional.of(new ChapterFingerprint(chapterId, projectId, "One", 0, "h1")));
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.analyzeChapter(chapterId, Locale.ENGLISH, userId))
+                .isInstanceOf(ChapterAccessDeniedException.class);
+        verify(proseAnalyticsRepository, never()).findTexts(any(), any());
+    }
+
+    @Test
+    void analysisTask_should_split_long_chapters_without_changing_results() {
+        ProseAnalyzer analyzer = ProseAnalyzer.forLocale(Locale.ENGLISH);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < ProseAnalysisTask.SPLIT_THRESHOLD * 4; i++) {
+            text.append(i % 3 == 0 ? "\"Quickly now,\" she said. " : "The storm broke slowly on the rocks. ");
+            if (i % 7 == 0) {
+                text.append('\n');
+            }
+        }
+
+        ProseMetrics whole = analyzer.analyze(text);
+        ProseMetrics split = new ForkJoinPool(4).invoke(new ProseAnalysisTask(analyzer, text.toString()));
+
+        assertThat(split.words()).isEqualTo(whole.words());
+        assertThat(split.sentences()).isEqualTo(whole.sentences());
+        assertThat(split.adverbs()).isEqualTo(whole.adverbs());
+        assertThat(split.dialogueWords()).isEqualTo(whole.dialogueWords());
+        assertThat(split.topWords(10)).isEqualTo(whole.topWords(10));
+    }
+}
@@ -0,0 +1,174 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.QuickSearchHitResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.IdeaRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuickSearchServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private CharacterRepository characterRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void search_should_build_index_once_and_answer_from_memory() {
+        var service = service(DataSize.ofMegabytes(64));
+        var project = project();
+        var chapter = Chapter.create(project.getId(), "The lighthouse", "Waves broke on the rocks.", "1", 0);
+        var character = Character.create(project.getId(), "Marta", "Keeper", "Lives in the lighthouse", null, null);
+        var deletedIdea = Idea.create(project.getId(), "Lighthouse ghost", null);
+        deletedIdea.markAsDeleted();
+        stubProject(project, List.of(chapter), List.of(character), List.of(deletedIdea));
+
+        var first = service.search(project.getId(), "light", null, userId);
+        var second = service.search(project.getId(), "wav", null, userId);
+
+        assertThat(first).extracting(QuickSearchHitResponse::title).containsExactly("The lighthouse", "Marta");
+        assertThat(second).containsExactly(new QuickSearchHitResponse("CHAPTER", chapter.getId(), "The lighthouse"));
+        verify(chapterRepository, times(1)).findByProjectIdOrderByOrderIndex(project.getId());
+    }
+
+    @Test
+    void saves_should_update_cached_index_in_place() {
+        var service = service(DataSize.ofMegabytes(64));
+        var project = project();
+        var chapter = Chapter.create(project.getId(), "Draft", "Storm at sea", "1", 0);
+        stubProject(project, List.of(chapter), List.of(), List.of());
+        service.search(project.getId(), "storm", null, userId);
+
+        chapter.updateContent("Calm at sea");
+        service.chapterSaved(chapter);
+        var idea = Idea.create(project.getId(), "Storm scene", "Move the storm to chapter two");
+        service.ideaSaved(idea);
+
+        assertThat(service.search(project.getId(), "storm", null, userId))
+                .extracting(QuickSearchHitResponse::id).containsExactly(idea.getId());
+        assertThat(service.search(project.getId(), "calm", null, userId))
+                .extracting(QuickSearchHitResponse::id).containsExactly(chapter.getId());
+
+        service.chapterDeleted(project.getId(), chapter.getId());
+        assertThat(service.search(project.getId(), "calm", null, userId)).isEmpty();
+        verify(chapterRepository, times(1)).findByProjectIdOrderByOrderIndex(project.getId());
+    }
+
+    @Test
+    void saves_reported_out_of_order_should_keep_the_newest_version() {
+        var service = service(DataSize.ofMegabytes(64));
+        var project = project();
+        var chapterId = UUID.randomUUID();
+        stubProject(project, List.of(chapter(project, chapterId, "anchor", 1L)), List.of(), List.of());
+        service.search(project.getId(), "anchor", null, userId);
+
+        // Version 3 commits after version 2 but its after-commit hook runs first
+        service.chapterSaved(chapter(project, chapterId, "harbour", 3L));
+        service.chapterSaved(chapter(project, chapterId, "lantern", 2L));
+
+        assertThat(service.search(project.getId(), "harbour", null, userId))
+                .extracting(QuickSearchHitResponse::id).containsExactly(chapterId);
+        assertThat(service.search(project.getId(), "lantern", null, userId)).isEmpty();
+    }
+
+    @Test
+    void save_reported_after_delete_should_not_bring_the_document_back() {
+        var service = service(DataSize.ofMegabytes(64));
+        var project = project();
+        var chapterId = UUID.randomUUID();
+        stubProject(project, List.of(chapter(project, chapterId, "anchor", 1L)), List.of(), List.of());
+        service.search(project.getId(), "anchor", null, userId);
+
+        service.chapterDeleted(project.getId(), chapterId);
+        service.chapterSaved(chapter(project, chapterId, "anchor", 2L));
+
+        assertThat(service.search(project.getId(), "anchor", null, userId)).isEmpty();
+    }
+
+    @Test
+    void search_should_evict_least_recently_used_index_when_over_weight() {
+        var service = service(DataSize.ofBytes(1_000));
+        var first = project();
+        var second = project();
+        stubProject(first, List.of(Chapter.create(first.getId(), "One", "alpha beta gamma", "1", 0)), List.of(), List.of());
+        stubProject(second, List.of(Chapter.create(second.getId(), "Two", "delta epsilon zeta", "1", 0)), List.of(), List.of());
+
+        service.search(first.getId(), "alpha", null, userId);
+        service.search(second.getId(), "delta", null, userId);
+        service.search(first.getId(), "alpha", null, userId);
+
+        verify(chapterRepository, times(2)).findByProjectIdOrderByOrderIndex(first.getId());
+        verify(chapterRepository, times(1)).findByProjectIdOrderByOrderIndex(second.getId());
+    }
+
+    @Test
+    void search_should_reject_other_users_even_when_cached() {
+        var service = service(DataSize.ofMegabytes(64));
+        var project = project();
+        stubProject(project, List.of(), List.of(), List.of());
+        service.search(project.getId(), "x", null, userId);
+
+        var intruder = UUID.randomUUID();
+        assertThatThrownBy(() -> service.search(project.getId(), "x", null, intruder))
+                .isInstanceOf(ProjectNotFoundException.class);
+    }
+
+    private QuickSearchService service(DataSize maxWeight) {
+        return new QuickSearchService(projectRepository, chapterRepository, characterRepository, ideaRepository, maxWeight);
+    }
+
+    private static Chapter chapter(Project project, UUID id, String content, long version) {
+        return Chapter.reconstitute(id, project.getId(), "Chapter", content, null, "1", 0, ChapterStatus.DRAFT,
+                Instant.now(), Instant.now(), null, version);
+    }
+
+    private Project project() {
+        return Project.create(userId, "Novel", null, null, 50_000);
+    }
+
+    private void stubProject(Project project, List<Chapter> chapters, List<Character> characters, List<Idea> ideas) {
+        when(projectRepository.findByIdAndUserId(project.getId(), userId)).thenReturn(Optional.of(project));
+        when(chapterRepository.findByProjectIdOrderByOrderIndex(project.getId())).thenReturn(chapters);
+        when(characterRepository.findAllByProjectId(eq(project.getId()), any(Pageable.class))).thenReturn(page(characters));
+        when(ideaRepository.findAllByProjectId(eq(project.getId()), any(Pageable.class))).thenReturn(page(ideas));
+    }
+
+    private static <T> Page<T> page(List<T> content) {
+        return new PageImpl<>(content);
+    }
+}
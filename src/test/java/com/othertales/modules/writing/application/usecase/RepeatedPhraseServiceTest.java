@@ -0,0 +1,124 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.RepeatedPhraseResponse;
+import com.othertales.modules.writing.application.dto.RepeatedPhrasesResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.ChapterRevisionRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RepeatedPhraseServiceTest {
+
+    private static final int SLICE = ChapterContentReader.CONTENT_SLICE_LENGTH;
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private ChapterRevisionRepository revisionRepository;
+
+    private RepeatedPhraseService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID firstId = UUID.randomUUID();
+    private final UUID secondId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new RepeatedPhraseService(projectRepository, chapterRepository,
+                new ChapterContentReader(chapterRepository, revisionRepository), DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void findRepeatedPhrases_should_count_across_chapters_and_serve_cache_while_unchanged() {
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.of(3L));
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(outline(firstId, 0), outline(secondId, 1)));
+        when(chapterRepository.findContentSlice(firstId, 1L, 0, SLICE))
+                .thenReturn(Optional.of("The lighthouse keeper sighed. The lighthouse keeper slept."));
+        when(chapterRepository.findContentSlice(secondId, 1L, 0, SLICE))
+                .thenReturn(Optional.of("At dawn the lighthouse keeper woke."));
+
+        RepeatedPhrasesResponse first = service.findRepeatedPhrases(projectId, null, null, Locale.ENGLISH, userId);
+        RepeatedPhrasesResponse second = service.findRepeatedPhrases(projectId, 3, 1, Locale.ENGLISH, userId);
+
+        assertThat(first.language()).isEqualTo("en");
+        assertThat(first.phrases()).containsExactly(new RepeatedPhraseResponse("the lighthouse keeper", 3, 3));
+        assertThat(second.phrases()).isEqualTo(first.phrases());
+        verify(chapterRepository, times(1)).findOutlineByProjectId(projectId);
+    }
+
+    @Test
+    void findRepeatedPhrases_should_rescan_when_chapters_version_changes() {
+        when(projectRepository.findChaptersVersion(projectId, userId))
+                .thenReturn(Optional.of(3L))
+                .thenReturn(Optional.of(4L));
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(outline(firstId, 0)));
+        when(chapterRepository.findContentSlice(firstId, 1L, 0, SLICE))
+                .thenReturn(Optional.of("Salt on the wind. Salt on the wind."))
+                .thenReturn(Optional.of("Salt on the wind. Rain on the sea."));
+
+        service.findRepeatedPhrases(projectId, null, null, Locale.ENGLISH, userId);
+        RepeatedPhrasesResponse updated = service.findRepeatedPhrases(projectId, null, null, Locale.ENGLISH, userId);
+
+        assertThat(updated.phrases()).isEmpty();
+        verify(chapterRepository, times(2)).findOutlineByProjectId(projectId);
+    }
+
+    @Test
+    void findRepeatedPhrases_should_stream_long_chapters_in_slices_and_skip_changed_ones() {
+        String slice = "x".repeat(SLICE - 20) + " the grey tide.\n";
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.of(3L));
+        when(chapterRepository.findOutlineByProjectId(projectId))
+                .thenReturn(List.of(outline(firstId, 0), outline(secondId, 1)));
+        when(chapterRepository.findContentSlice(firstId, 1L, 0, SLICE))
+                .thenReturn(Optional.of(slice + " ".repeat(SLICE - slice.length())));
+        when(chapterRepository.findContentSlice(firstId, 1L, SLICE, SLICE))
+                .thenReturn(Optional.of("Then the grey tide came."));
+        // Saved since the outline was read
+        when(chapterRepository.findContentSlice(secondId, 1L, 0, SLICE)).thenReturn(Optional.empty());
+
+        RepeatedPhrasesResponse response = service.findRepeatedPhrases(projectId, null, null, Locale.ENGLISH, userId);
+
+        assertThat(response.phrases()).containsExactly(new RepeatedPhraseResponse("the grey tide", 3, 2));
+        verify(chapterRepository, never()).findContentSlice(secondId, 1L, SLICE, SLICE);
+    }
+
+    @Test
+    void findRepeatedPhrases_should_deny_foreign_project() {
+        when(projectRepository.findChaptersVersion(projectId, userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.findRepeatedPhrases(projectId, null, null, Locale.ENGLISH, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verify(chapterRepository, never()).findOutlineByProjectId(any());
+    }
+
+    private ChapterOutline outline(UUID chapterId, int orderIndex) {
+        return new ChapterOutline(chapterId, projectId, "Title", "V", orderIndex, ChapterStatus.DRAFT, 10, 1L,
+                Instant.now());
+    }
+}
@@ -0,0 +1,105 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.SearchRepository;
+import com.othertales.modules.writing.domain.InvalidSearchQueryException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.SearchCursor;
+import com.othertales.modules.writing.domain.SearchDocumentType;
+import com.othertales.modules.writing.domain.SearchHit;
+import com.othertales.modules.writing.domain.SearchLanguage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SearchService service;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchService(searchRepository, projectRepository);
+    }
+
+    @Test
+    void search_should_fetch_one_extra_hit_and_return_cursor_of_last_hit_on_page() {
+        var first = hit(0.9f, "A \u0002lighthouse\u0003 on the <cliff>");
+        var second = hit(0.5f, "Another \u0002lighthouse\u0003");
+        var extra = hit(0.1f, "More");
+        when(searchRepository.search(eq(userId), isNull(), eq("lighthouse"), eq(SearchLanguage.SPANISH), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        var response = service.search("  lighthouse ", null, null, 2, Locale.forLanguageTag("es"), userId);
+
+        assertThat(response.hits()).hasSize(2);
+        assertThat(response.hits().getFirst().snippet())
+                .isEqualTo("A <mark>lighthouse</mark> on the &lt;cliff&gt;");
+        assertThat(SearchCursor.decode(response.nextCursor())).isEqualTo(second.cursor());
+    }
+
+    @Test
+    void search_should_resume_after_cursor_and_end_without_next_cursor() {
+        var after = new SearchCursor(0.5f, SearchDocumentType.IDEA, UUID.randomUUID());
+        when(searchRepository.search(eq(userId), isNull(), eq("lighthouse"), eq(SearchLanguage.ENGLISH), eq(after), eq(21)))
+                .thenReturn(List.of(hit(0.4f, "Last")));
+
+        var response = service.search("lighthouse", null, after.encode(), null, Locale.ENGLISH, userId);
+
+        assertThat(response.hits()).hasSize(1);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    void search_should_cap_page_size() {
+        when(searchRepository.search(any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        service.search("lighthouse", null, null, 1_000, Locale.ENGLISH, userId);
+
+        verify(searchRepository).search(userId, null, "lighthouse", SearchLanguage.ENGLISH, null, SearchService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void search_should_reject_blank_query() {
+        assertThatThrownBy(() -> service.search("   ", null, null, null, Locale.ENGLISH, userId))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        verify(searchRepository, never()).search(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void search_should_fail_for_other_users_project() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.search("lighthouse", projectId, null, null, Locale.ENGLISH, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verify(searchRepository, never()).search(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    private static SearchHit hit(float rank, String snippet) {
+        return new SearchHit(SearchDocumentType.CHAPTER, UUID.randomUUID(), UUID.randomUUID(), "Title", snippet, rank);
+    }
+}
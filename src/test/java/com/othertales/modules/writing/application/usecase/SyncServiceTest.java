@@ -0,0 +1,133 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.ProjectResponse;
+import com.othertales.modules.writing.application.dto.SyncDeletionResponse;
+import com.othertales.modules.writing.application.dto.SyncResponse;
+import com.othertales.modules.writing.application.port.SyncRepository;
+import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.InvalidSyncCursorException;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.Story;
+import com.othertales.modules.writing.domain.SyncCursor;
+import com.othertales.modules.writing.domain.SyncEntityType;
+import com.othertales.modules.writing.domain.SyncTombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private SyncRepository syncRepository;
+
+    private SyncService service;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncService(syncRepository);
+    }
+
+    @Test
+    void changesSince_should_return_everything_below_the_horizon_on_first_sync() {
+        Project project = Project.create(userId, "El faro", null, null, 50000);
+        Chapter chapter = Chapter.create(project.getId(), "Uno", "Texto", "V", 0);
+        Story story = Story.create(project.getId(), "Trama", null, null, null, null, null);
+        story.markAsDeleted();
+        UUID removedChapter = UUID.randomUUID();
+
+        when(syncRepository.findHorizon()).thenReturn(100L);
+        when(syncRepository.findChangeSeqs(userId, 0L, 100L, SyncService.DEFAULT_LIMIT + 1))
+                .thenReturn(List.of(40L, 40L, 41L, 57L));
+        when(syncRepository.findProjects(userId, 0L, 99L)).thenReturn(List.of(project));
+        when(syncRepository.findChapters(userId, 0L, 99L)).thenReturn(List.of(chapter));
+        when(syncRepository.findStories(userId, 0L, 99L)).thenReturn(List.of(story));
+        when(syncRepository.findCharacters(userId, 0L, 99L)).thenReturn(List.of());
+        when(syncRepository.findIdeas(userId, 0L, 99L)).thenReturn(List.of());
+        when(syncRepository.findTombstones(userId, 0L, 99L))
+                .thenReturn(List.of(new SyncTombstone(SyncEntityType.CHAPTER, removedChapter, project.getId())));
+
+        SyncResponse response = service.changesSince(null, null, userId);
+
+        assertThat(SyncCursor.decode(response.cursor()).changeSeq()).isEqualTo(99L);
+        assertThat(response.hasMore()).isFalse();
+        assertThat(response.projects()).extracting(ProjectResponse::id).containsExactly(project.getId());
+        assertThat(response.chapters()).singleElement()
+                .satisfies(synced -> assertThat(synced.orderKey()).isEqualTo("V"));
+        assertThat(response.stories()).isEmpty();
+        assertThat(response.deleted()).containsExactly(
+                new SyncDeletionResponse("STORY", story.getId(), project.getId()),
+                new SyncDeletionResponse("CHAPTER", removedChapter, project.getId()));
+    }
+
+    @Test
+    void changesSince_should_end_a_full_page_before_the_transaction_it_cuts() {
+        var cursor = new SyncCursor(30L).encode();
+        when(syncRepository.findHorizon()).thenReturn(100L);
+        when(syncRepository.findChangeSeqs(userId, 30L, 100L, 3)).thenReturn(List.of(40L, 41L, 57L));
+
+        SyncResponse response = service.changesSince(cursor, 2, userId);
+
+        assertThat(SyncCursor.decode(response.cursor()).changeSeq()).isEqualTo(56L);
+        assertThat(response.hasMore()).isTrue();
+        verify(syncRepository).findProjects(userId, 30L, 56L);
+    }
+
+    @Test
+    void changesSince_should_not_split_a_transaction_larger_than_a_page() {
+        when(syncRepository.findHorizon()).thenReturn(100L);
+        when(syncRepository.findChangeSeqs(userId, 0L, 100L, 3)).thenReturn(List.of(40L, 40L, 40L));
+
+        SyncResponse response = service.changesSince(null, 2, userId);
+
+        assertThat(SyncCursor.decode(response.cursor()).changeSeq()).isEqualTo(40L);
+        assertThat(response.hasMore()).isTrue();
+        verify(syncRepository).findChapters(userId, 0L, 40L);
+    }
+
+    @Test
+    void changesSince_should_move_cursor_to_the_horizon_when_nothing_changed() {
+        var cursor = new SyncCursor(30L).encode();
+        when(syncRepository.findHorizon()).thenReturn(100L);
+        when(syncRepository.findChangeSeqs(userId, 30L, 100L, SyncService.DEFAULT_LIMIT + 1)).thenReturn(List.of());
+
+        SyncResponse response = service.changesSince(cursor, null, userId);
+
+        assertThat(SyncCursor.decode(response.cursor()).changeSeq()).isEqualTo(99L);
+        assertThat(response.hasMore()).isFalse();
+        verify(syncRepository, never()).findProjects(userId, 30L, 99L);
+    }
+
+    @Test
+    void changesSince_should_reject_malformed_cursor() {
+        assertThatThrownBy(() -> service.changesSince("not a cursor", null, userId))
+                .isInstanceOf(InvalidSyncCursorException.class);
+        verifyNoInteractions(syncRepository);
+    }
+
+    @Test
+    void changesSince_should_clamp_limit() {
+        when(syncRepository.findHorizon()).thenReturn(100L);
+        when(syncRepository.findChangeSeqs(userId, 0L, 100L, SyncService.MAX_LIMIT + 1)).thenReturn(List.of());
+
+        service.changesSince(null, 1_000_000, userId);
+
+        verify(syncRepository, never()).findTombstones(any(), anyLong(), anyLong());
+    }
+}
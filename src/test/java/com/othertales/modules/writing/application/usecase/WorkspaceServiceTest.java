@@ -0,0 +1,151 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.WorkspaceResponse;
+import com.othertales.modules.writing.application.port.ChapterRepository;
+import com.othertales.modules.writing.application.port.CharacterRepository;
+import com.othertales.modules.writing.application.port.IdeaRepository;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.StoryRepository;
+import com.othertales.modules.writing.domain.ChapterOutline;
+import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Idea;
+import com.othertales.modules.writing.domain.Project;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.Story;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkspaceServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ChapterRepository chapterRepository;
+    @Mock
+    private StoryRepository storyRepository;
+    @Mock
+    private CharacterRepository characterRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    private WorkspaceService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final Project project = Project.create(userId, "El faro", null, null, 50000);
+    private final UUID projectId = project.getId();
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void getWorkspace_should_check_ownership_once_and_return_every_list() {
+        service = newService(3);
+        var outline = new ChapterOutline(UUID.randomUUID(), projectId, "Uno", "V", 0, ChapterStatus.DRAFT, 1200, 2L,
+                Instant.now());
+        var story = Story.create(projectId, "Trama", null, null, null, null, null);
+        var character = Character.create(projectId, "Ana", null, null, null, null);
+        var idea = Idea.create(projectId, "Un faro sin farero", null);
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(outline));
+        when(storyRepository.findAllByProjectId(eq(projectId), any())).thenReturn(new PageImpl<>(List.of(story)));
+        when(characterRepository.findAllByProjectId(eq(projectId), any()))
+                .thenReturn(new PageImpl<>(List.of(character)));
+        when(ideaRepository.findAllByProjectId(eq(projectId), any())).thenReturn(new PageImpl<>(List.of(idea)));
+
+        WorkspaceResponse response = service.getWorkspace(projectId, userId);
+
+        assertThat(response.project().title()).isEqualTo("El faro");
+        assertThat(response.chapters().totalChapters()).isEqualTo(1);
+        assertThat(response.chapters().totalWordCount()).isEqualTo(1200);
+        assertThat(response.stories()).singleElement().satisfies(s -> assertThat(s.title()).isEqualTo("Trama"));
+        assertThat(response.characters()).singleElement().satisfies(c -> assertThat(c.name()).isEqualTo("Ana"));
+        assertThat(response.ideas()).singleElement().satisfies(i -> assertThat(i.id()).isEqualTo(idea.getId()));
+        verify(projectRepository, times(1)).findByIdAndUserId(projectId, userId);
+        verify(projectRepository, times(0)).existsByIdAndUserId(any(), any());
+    }
+
+    @Test
+    void getWorkspace_should_not_read_lists_of_another_users_project() {
+        service = newService(3);
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getWorkspace(projectId, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verifyNoInteractions(chapterRepository, storyRepository, characterRepository, ideaRepository);
+    }
+
+    @Test
+    void getWorkspace_should_run_the_list_queries_concurrently() {
+        service = newService(4);
+        // Each query waits for all four: run one after another, the first would time out
+        var started = new CountDownLatch(4);
+        Answer<Object> awaitAll = invocation -> {
+            started.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            return invocation.getMethod().getReturnType() == List.class ? List.of() : new PageImpl<>(List.of());
+        };
+        stubLists(awaitAll);
+
+        WorkspaceResponse response = service.getWorkspace(projectId, userId);
+
+        assertThat(response.chapters().totalChapters()).isZero();
+        assertThat(started.getCount()).isZero();
+    }
+
+    @Test
+    void getWorkspace_should_bound_the_queries_running_at_once() {
+        service = newService(2);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        Answer<Object> slowQuery = invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return invocation.getMethod().getReturnType() == List.class ? List.of() : new PageImpl<>(List.of());
+        };
+        stubLists(slowQuery);
+
+        service.getWorkspace(projectId, userId);
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    private void stubLists(Answer<Object> answer) {
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
+        when(chapterRepository.findOutlineByProjectId(projectId)).thenAnswer(answer);
+        when(storyRepository.findAllByProjectId(eq(projectId), any())).thenAnswer(answer);
+        when(characterRepository.findAllByProjectId(eq(projectId), any())).thenAnswer(answer);
+        when(ideaRepository.findAllByProjectId(eq(projectId), any())).thenAnswer(answer);
+    }
+
+    private WorkspaceService newService(int maxConcurrentQueries) {
+        return new WorkspaceService(projectRepository, chapterRepository, storyRepository, characterRepository,
+                ideaRepository, maxConcurrentQueries);
+    }
+}
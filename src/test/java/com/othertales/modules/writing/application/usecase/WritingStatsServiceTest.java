@@ -0,0 +1,129 @@
+package com.othertales.modules.writing.application.usecase;
+
+import com.othertales.modules.writing.application.dto.WritingStatsResponse;
+import com.othertales.modules.writing.application.port.ProjectRepository;
+import com.othertales.modules.writing.application.port.WritingStatsRepository;
+import com.othertales.modules.writing.domain.InvalidWritingStatsQueryException;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.WritingActivity;
+import com.othertales.modules.writing.domain.WritingStatsGranularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WritingStatsServiceTest {
+
+    @Mock
+    private WritingStatsRepository writingStatsRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private WritingStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WritingStatsService(writingStatsRepository, projectRepository);
+    }
+
+    @Test
+    void recordWordDelta_should_split_delta_into_added_and_removed() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        service.recordWordDelta(userId, projectId, 120);
+        service.recordWordDelta(userId, projectId, -30);
+
+        verify(writingStatsRepository).record(userId, projectId, today, 120, 0);
+        verify(writingStatsRepository).record(userId, projectId, today, 0, 30);
+    }
+
+    @Test
+    void recordWordDelta_should_ignore_saves_without_word_change() {
+        service.recordWordDelta(UUID.randomUUID(), UUID.randomUUID(), 0);
+
+        verifyNoInteractions(writingStatsRepository);
+    }
+
+    @Test
+    void getStats_should_default_to_last_year_by_day() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate from = today.minusDays(364);
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(writingStatsRepository.findByProject(userId, projectId, WritingStatsGranularity.DAY, from, today))
+                .thenReturn(List.of(
+                        new WritingActivity(today.minusDays(3), 500, 20),
+                        new WritingActivity(today, 100, 250)));
+
+        WritingStatsResponse response = service.getStats(projectId, null, null, null, userId);
+
+        assertThat(response.granularity()).isEqualTo("DAY");
+        assertThat(response.from()).isEqualTo(from);
+        assertThat(response.to()).isEqualTo(today);
+        assertThat(response.points()).hasSize(2);
+        assertThat(response.points().get(1).netWords()).isEqualTo(-150);
+        assertThat(response.totalWordsAdded()).isEqualTo(600);
+        assertThat(response.totalWordsRemoved()).isEqualTo(270);
+    }
+
+    @Test
+    void getStats_should_include_period_containing_from() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 3, 18);
+        LocalDate to = LocalDate.of(2026, 6, 30);
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(true);
+        when(writingStatsRepository.findByProject(userId, projectId, WritingStatsGranularity.MONTH,
+                LocalDate.of(2026, 3, 1), to)).thenReturn(List.of());
+
+        WritingStatsResponse response = service.getStats(projectId, "month", from, to, userId);
+
+        assertThat(response.granularity()).isEqualTo("MONTH");
+        assertThat(response.points()).isEmpty();
+    }
+
+    @Test
+    void getStats_should_reject_inverted_or_oversized_range() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        LocalDate to = LocalDate.of(2026, 6, 30);
+
+        assertThatThrownBy(() -> service.getStats(projectId, null, to.plusDays(1), to, userId))
+                .isInstanceOf(InvalidWritingStatsQueryException.class);
+        assertThatThrownBy(() -> service.getStats(projectId, null, to.minusYears(6), to, userId))
+                .isInstanceOf(InvalidWritingStatsQueryException.class);
+        assertThatThrownBy(() -> service.getStats(projectId, "hour", null, to, userId))
+                .isInstanceOf(InvalidWritingStatsQueryException.class);
+        verifyNoInteractions(writingStatsRepository);
+    }
+
+    @Test
+    void getStats_should_deny_foreign_project() {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+
+        when(projectRepository.existsByIdAndUserId(projectId, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.getStats(projectId, "week", null, null, userId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verifyNoInteractions(writingStatsRepository);
+    }
+}
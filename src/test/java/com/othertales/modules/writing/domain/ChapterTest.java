@@ -2,26 +2,30 @@ package com.othertales.modules.writing.domain;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ChapterTest {
 
     @Test
     void should_create_draft() {
         UUID projectId = UUID.randomUUID();
-        Chapter chapter = Chapter.create(projectId, "Chapter 1", "", 1);
+        Chapter chapter = Chapter.create(projectId, "Chapter 1", "", "2", 1);
 
         assertThat(chapter.getStatus()).isEqualTo(ChapterStatus.DRAFT);
         assertThat(chapter.getContent()).isEmpty();
         assertThat(chapter.getWordCount()).isZero();
         assertThat(chapter.getTitle()).isEqualTo("Chapter 1");
+        assertThat(chapter.isPersisted()).isFalse();
     }
 
     @Test
     void should_update_content() {
-        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "Initial", 1);
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "Initial", "2", 1);
 
         chapter.updateContent("Hola mundo");
 
@@ -32,7 +36,7 @@ class ChapterTest {
 
     @Test
     void should_publish() {
-        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "Content", 1);
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "Content", "2", 1);
 
         chapter.publish();
 
@@ -42,7 +46,7 @@ class ChapterTest {
 
     @Test
     void should_calculate_word_count() {
-        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "", 1);
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "", "2", 1);
 
         chapter.updateContent("One\nTwo  Three");
         assertThat(chapter.getWordCount()).isEqualTo(3);
@@ -53,4 +57,68 @@ class ChapterTest {
         chapter.updateContent("SingleWord");
         assertThat(chapter.getWordCount()).isEqualTo(1);
     }
+
+    @Test
+    void should_compute_statistics_when_content_changes() {
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "First paragraph.\n\nSecond one.", "2", 1);
+
+        assertThat(chapter.getStatistics()).isEqualTo(new TextStatistics(4, 29, 2));
+
+        chapter.updateContent("Short");
+        assertThat(chapter.getWordCount()).isEqualTo(1);
+        assertThat(chapter.getCharacterCount()).isEqualTo(5);
+        assertThat(chapter.getParagraphCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_keep_stored_statistics_on_reconstitute() {
+        Chapter chapter = Chapter.reconstitute(UUID.randomUUID(), UUID.randomUUID(), "Title", "Two words",
+                new TextStatistics(7, 70, 3), "1", 0, ChapterStatus.DRAFT, Instant.now(), Instant.now(), null, 1L);
+
+        assertThat(chapter.getWordCount()).isEqualTo(7);
+        assertThat(chapter.getCharacterCount()).isEqualTo(70);
+        assertThat(chapter.getParagraphCount()).isEqualTo(3);
+        assertThat(chapter.isPersisted()).isTrue();
+    }
+
+    @Test
+    void should_apply_edits_sequentially() {
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "It was a dark night.", "2", 1);
+
+        chapter.applyEdits(List.of(
+                new TextEdit(9, 4, "stormy"),
+                new TextEdit(0, 0, "Well, "),
+                new TextEdit(27, 1, "!")));
+
+        assertThat(chapter.getContent()).isEqualTo("Well, It was a stormy night!");
+        assertThat(chapter.getWordCount()).isEqualTo(6);
+    }
+
+    @Test
+    void should_reject_edit_outside_content_without_changes() {
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "Short", "2", 1);
+
+        assertThatThrownBy(() -> chapter.applyEdits(List.of(
+                new TextEdit(0, 1, "s"),
+                new TextEdit(4, 5, ""))))
+                .isInstanceOf(InvalidChapterEditException.class);
+        assertThat(chapter.getContent()).isEqualTo("Short");
+    }
+
+    @Test
+    void should_reject_delete_count_that_overflows_the_end_offset() {
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "Short", "2", 1);
+
+        assertThatThrownBy(() -> chapter.applyEdits(List.of(new TextEdit(2, Integer.MAX_VALUE, ""))))
+                .isInstanceOf(InvalidChapterEditException.class);
+        assertThat(chapter.getContent()).isEqualTo("Short");
+    }
+
+    @Test
+    void should_reject_edit_splitting_surrogate_pair() {
+        Chapter chapter = Chapter.create(UUID.randomUUID(), "Title", "a\uD83D\uDE00b", "2", 1);
+
+        assertThatThrownBy(() -> chapter.applyEdits(List.of(new TextEdit(2, 0, "x"))))
+                .isInstanceOf(InvalidChapterEditException.class);
+    }
 }
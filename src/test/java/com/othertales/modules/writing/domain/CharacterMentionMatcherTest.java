@@ -0,0 +1,65 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CharacterMentionMatcherTest {
+
+    private final UUID chapterId = UUID.randomUUID();
+    private final UUID elizabeth = UUID.randomUUID();
+    private final UUID jane = UUID.randomUUID();
+    private final UUID darcy = UUID.randomUUID();
+    private final UUID rose = UUID.randomUUID();
+
+    @Test
+    void forNames_should_use_only_words_that_identify_one_character_as_aliases() {
+        CharacterMentionMatcher matcher = CharacterMentionMatcher.forNames(names());
+
+        assertThat(matcher.patterns()).containsExactlyInAnyOrder(
+                "Elizabeth Bennet", "Jane Bennet", "Mr. Darcy", "Rose", "Elizabeth", "Jane", "Darcy");
+    }
+
+    @Test
+    void scan_should_count_whole_word_case_sensitive_mentions_longest_first() {
+        CharacterMentionMatcher matcher = CharacterMentionMatcher.forNames(names());
+        String text = "Elizabeth Bennet met Mr. Darcy. Elizabeth's sister Jane smiled; Darcy did not. "
+                + "A rose for Rose. Bennet? Janet and Elizabethan.";
+
+        assertThat(matcher.scan(chapterId, text)).containsExactly(
+                new CharacterMention(elizabeth, chapterId, 2, 0),
+                new CharacterMention(jane, chapterId, 1, text.indexOf("Jane")),
+                new CharacterMention(darcy, chapterId, 2, text.indexOf("Mr. Darcy")),
+                new CharacterMention(rose, chapterId, 1, text.indexOf("Rose")));
+    }
+
+    @Test
+    void scan_should_not_count_a_word_twice_when_names_overlap() {
+        Map<UUID, String> names = new LinkedHashMap<>();
+        names.put(elizabeth, "Ana María");
+        names.put(jane, "María José");
+        CharacterMentionMatcher matcher = CharacterMentionMatcher.forNames(names);
+
+        assertThat(matcher.scan(chapterId, "Ana María José llegó. María José y Ana.")).containsExactly(
+                new CharacterMention(elizabeth, chapterId, 2, 0),
+                new CharacterMention(jane, chapterId, 2, 10));
+    }
+
+    @Test
+    void scan_should_find_nothing_without_characters() {
+        assertThat(CharacterMentionMatcher.forNames(Map.of()).scan(chapterId, "Elizabeth")).isEmpty();
+    }
+
+    private Map<UUID, String> names() {
+        Map<UUID, String> names = new LinkedHashMap<>();
+        names.put(elizabeth, "Elizabeth Bennet");
+        names.put(jane, "Jane Bennet");
+        names.put(darcy, "Mr. Darcy");
+        names.put(rose, "Rose");
+        return names;
+    }
+}
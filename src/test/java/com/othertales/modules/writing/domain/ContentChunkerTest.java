@@ -0,0 +1,78 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentChunkerTest {
+
+    @Test
+    void should_return_no_chunks_for_empty_content() {
+        assertThat(ContentChunker.split("")).isEmpty();
+        assertThat(ContentChunker.split(null)).isEmpty();
+    }
+
+    @Test
+    void should_keep_short_content_in_one_chunk() {
+        List<ContentChunk> chunks = ContentChunker.split("Once upon a time.");
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).text()).isEqualTo("Once upon a time.");
+        assertThat(chunks.get(0).hash()).hasSize(64);
+    }
+
+    @Test
+    void should_reassemble_to_original_within_size_bounds() {
+        String content = manuscript(20_000);
+
+        List<ContentChunk> chunks = ContentChunker.split(content);
+
+        assertThat(chunks.stream().map(ContentChunk::text).collect(Collectors.joining())).isEqualTo(content);
+        assertThat(chunks.subList(0, chunks.size() - 1))
+                .allSatisfy(chunk -> assertThat(chunk.text().length())
+                        .isBetween(ContentChunker.MIN_SIZE, ContentChunker.MAX_SIZE + 1));
+    }
+
+    @Test
+    void should_be_deterministic() {
+        String content = manuscript(5_000);
+
+        assertThat(ContentChunker.split(content)).isEqualTo(ContentChunker.split(content));
+    }
+
+    @Test
+    void should_only_change_chunks_around_an_edit() {
+        String original = manuscript(20_000);
+        String edited = original.substring(0, 50_000) + "A brand new sentence. " + original.substring(50_000);
+
+        var originalHashes = new HashSet<String>();
+        ContentChunker.split(original).forEach(chunk -> originalHashes.add(chunk.hash()));
+        List<ContentChunk> editedChunks = ContentChunker.split(edited);
+
+        long changed = editedChunks.stream().filter(chunk -> !originalHashes.contains(chunk.hash())).count();
+        assertThat(changed).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_not_split_surrogate_pairs() {
+        String content = "😀".repeat(10_000);
+
+        assertThat(ContentChunker.split(content))
+                .allSatisfy(chunk -> assertThat(java.lang.Character.isLowSurrogate(chunk.text().charAt(0))).isFalse());
+    }
+
+    private static String manuscript(int words) {
+        String[] vocabulary = {"the", "night", "was", "cold", "and", "she", "knew", "the", "road", "señora"};
+        var random = new Random(7);
+        var text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(i % 15 == 14 ? "\n\n" : " ");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntHashMapTest {
+
+    @Test
+    void increment_should_count_keys_and_refuse_new_ones_when_full() {
+        LongIntHashMap map = new LongIntHashMap(8);
+
+        for (long key = 1; key <= 6; key++) {
+            assertThat(map.increment(key)).isEqualTo(1);
+        }
+        assertThat(map.increment(3)).isEqualTo(2);
+        assertThat(map.isFull()).isTrue();
+        assertThat(map.increment(7)).isZero();
+        assertThat(map.get(7)).isZero();
+        assertThat(map.put(7, 1)).isFalse();
+        assertThat(map.size()).isEqualTo(6);
+    }
+
+    @Test
+    void removeValuesBelow_should_keep_every_other_entry_reachable() {
+        LongIntHashMap map = new LongIntHashMap(1024);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        // Small keys collide into long probe runs, exercising the backward shift
+        while (!map.isFull()) {
+            long key = 1 + random.nextInt(4000);
+            expected.put(key, map.increment(key));
+        }
+
+        map.removeValuesBelow(2);
+        expected.values().removeIf(count -> count < 2);
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, count) -> assertThat(map.get(key)).isEqualTo(count));
+        Map<Long, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @Test
+    void constructor_should_reject_capacities_that_are_not_powers_of_two() {
+        assertThatThrownBy(() -> new LongIntHashMap(12)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
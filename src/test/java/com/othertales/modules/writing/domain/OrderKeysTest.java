@@ -0,0 +1,130 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderKeysTest {
+
+    @Test
+    void between_should_step_at_the_ends_and_halve_in_the_middle() {
+        assertThat(OrderKeys.between(null, null)).isEqualTo("V");
+        assertThat(OrderKeys.between("V", null)).isEqualTo("W");
+        assertThat(OrderKeys.between(null, "V")).isEqualTo("U");
+        assertThat(OrderKeys.between("2", "8")).isEqualTo("5");
+        assertThat(OrderKeys.between("1", "2")).isEqualTo("1V");
+        assertThat(OrderKeys.between("1", "11")).isEqualTo("10V");
+        assertThat(OrderKeys.between("1z", "2")).isEqualTo("1zV");
+    }
+
+    @Test
+    void between_should_reject_unordered_neighbours() {
+        assertThatThrownBy(() -> OrderKeys.between("V", "V")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderKeys.between("W", "V")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void repeated_inserts_at_the_front_should_stay_ordered() {
+        String first = "V";
+        for (int i = 0; i < 1_000; i++) {
+            String key = OrderKeys.between(null, first);
+            assertThat(key).isLessThan(first).doesNotEndWith("0");
+            first = key;
+        }
+    }
+
+    @Test
+    void repeated_inserts_at_the_end_should_grow_slowly() {
+        String last = "V";
+        for (int i = 0; i < 1_000; i++) {
+            String key = OrderKeys.between(last, null);
+            assertThat(key).isGreaterThan(last);
+            last = key;
+        }
+        assertThat(last.length()).isLessThan(OrderKeys.MAX_LENGTH);
+    }
+
+    @Test
+    void repeated_inserts_at_the_same_spot_should_stay_between_neighbours() {
+        String before = "1";
+        String after = "2";
+        for (int i = 0; i < 200; i++) {
+            String key = OrderKeys.between(before, after);
+            assertThat(key).isGreaterThan(before).isLessThan(after).doesNotEndWith("0");
+            after = key;
+        }
+        assertThat(after.length()).isGreaterThan(OrderKeys.MAX_LENGTH);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 61, 62, 1_000, 5_000})
+    void spread_should_return_ascending_keys_of_minimal_width(int count) {
+        List<String> keys = OrderKeys.spread(count);
+
+        assertThat(keys).hasSize(count).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key).doesNotEndWith("0"));
+        int width = count < 62 ? 1 : count < 62 * 62 ? 2 : 3;
+        assertThat(keys).allSatisfy(key -> assertThat(key.length()).isLessThanOrEqualTo(width));
+    }
+
+    @Test
+    void between_with_count_should_fit_all_keys_inside_the_bounds() {
+        assertAscendingWithin(OrderKeys.between(null, null, 10), null, null, 10);
+        assertAscendingWithin(OrderKeys.between("V", null, 1_000), "V", null, 1_000);
+        assertAscendingWithin(OrderKeys.between(null, "1", 50), null, "1", 50);
+        assertAscendingWithin(OrderKeys.between("1", "2", 100), "1", "2", 100);
+        assertThat(OrderKeys.between("2", "8", 1)).containsExactly("5");
+    }
+
+    @Test
+    void reorder_should_only_rekey_chapters_outside_the_longest_ordered_run() {
+        // "8" moved to the front
+        List<String> keys = OrderKeys.reorder(List.of("8", "2", "4", "6"));
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys.subList(1, 4)).containsExactly("2", "4", "6");
+    }
+
+    @Test
+    void reorder_should_keep_keys_when_order_is_unchanged() {
+        assertThat(OrderKeys.reorder(List.of("2", "4", "6"))).containsExactly("2", "4", "6");
+        assertThat(OrderKeys.reorder(List.of())).isEmpty();
+    }
+
+    @Test
+    void random_moves_should_keep_keys_unique_and_ordered() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>(OrderKeys.spread(20));
+        for (int i = 0; i < 2_000; i++) {
+            keys.remove(random.nextInt(keys.size()));
+            int position = random.nextInt(keys.size() + 1);
+            String before = position > 0 ? keys.get(position - 1) : null;
+            String after = position < keys.size() ? keys.get(position) : null;
+            keys.add(position, OrderKeys.between(before, after));
+        }
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+
+        List<String> shuffled = new ArrayList<>(keys);
+        Collections.shuffle(shuffled, random);
+        assertThat(OrderKeys.reorder(shuffled)).isSorted().doesNotHaveDuplicates();
+    }
+
+    private static void assertAscendingWithin(List<String> keys, String before, String after, int count) {
+        assertThat(keys).hasSize(count).isSorted().doesNotHaveDuplicates();
+        if (before != null) {
+            assertThat(keys.getFirst()).isGreaterThan(before);
+        }
+        if (after != null) {
+            assertThat(keys.getLast()).isLessThan(after);
+        }
+        assertThat(keys).allSatisfy(key -> assertThat(key).doesNotEndWith("0"));
+    }
+}
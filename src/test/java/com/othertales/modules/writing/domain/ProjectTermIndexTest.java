@@ -0,0 +1,73 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectTermIndexTest {
+
+    private final ProjectTermIndex index = new ProjectTermIndex();
+
+    @Test
+    void search_should_match_every_word_by_prefix_ignoring_case_and_accents() {
+        var lighthouse = chapter("El faro");
+        var harbour = chapter("El puerto");
+        index.put(lighthouse, "La luz del faro giraba sobre el acantilado.");
+        index.put(harbour, "Los pescadores volvían al puerto al anochecer.");
+
+        assertThat(index.search("FAR", 10)).containsExactly(lighthouse);
+        assertThat(index.search("volvian pesc", 10)).containsExactly(harbour);
+        assertThat(index.search("el", 10)).containsExactly(lighthouse, harbour);
+        assertThat(index.search("faro puerto", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void search_should_rank_title_matches_first() {
+        var mention = chapter("Chapter one");
+        var character = new ProjectTermIndex.Document(SearchDocumentType.CHARACTER, UUID.randomUUID(), "Elena");
+        index.put(mention, "She finally met Elena at the station.");
+        index.put(character, "Protagonist");
+
+        assertThat(index.search("ele", 10)).containsExactly(character, mention);
+        assertThat(index.search("ele", 1)).containsExactly(character);
+    }
+
+    @Test
+    void put_should_replace_and_remove_should_forget_document() {
+        var document = chapter("Draft");
+        index.put(document, "storm at sea");
+        long weightWithStorm = index.weight();
+
+        index.put(document, "calm at sea");
+        assertThat(index.search("storm", 10)).isEmpty();
+        assertThat(index.search("calm", 10)).containsExactly(document);
+
+        index.remove(document.id());
+        assertThat(index.search("sea", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.weight()).isZero();
+        assertThat(weightWithStorm).isPositive();
+    }
+
+    @Test
+    void put_should_reuse_freed_slots_without_mixing_postings() {
+        var first = chapter("First");
+        var second = chapter("Second");
+        index.put(first, "apple banana");
+        index.put(second, "banana cherry");
+        index.remove(first.id());
+
+        var third = chapter("Third");
+        index.put(third, "apple");
+
+        assertThat(index.search("banana", 10)).containsExactly(second);
+        assertThat(index.search("apple", 10)).containsExactly(third);
+    }
+
+    private static ProjectTermIndex.Document chapter(String title) {
+        return new ProjectTermIndex.Document(SearchDocumentType.CHAPTER, UUID.randomUUID(), title);
+    }
+}
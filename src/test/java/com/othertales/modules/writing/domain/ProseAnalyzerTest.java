@@ -0,0 +1,72 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProseAnalyzerTest {
+
+    private final ProseAnalyzer english = ProseAnalyzer.forLocale(Locale.ENGLISH);
+    private final ProseAnalyzer spanish = ProseAnalyzer.forLocale(Locale.forLanguageTag("es"));
+
+    @Test
+    void analyze_should_measure_sentences_adverbs_and_quoted_dialogue() {
+        ProseMetrics metrics = english.analyze("""
+                Mr. Smith walked slowly home. "Are you really coming?" she asked quietly.
+                The family waited, the family slept.""");
+
+        assertThat(metrics.words()).isEqualTo(18);
+        assertThat(metrics.sentences()).isEqualTo(4);
+        assertThat(metrics.longestSentence()).isEqualTo(6);
+        assertThat(metrics.sentenceLengths()).containsExactly(3, 1, 0, 0, 0, 0, 0);
+        assertThat(metrics.adverbs()).isEqualTo(3);
+        assertThat(metrics.dialogueWords()).isEqualTo(4);
+        assertThat(metrics.topWords(1)).containsExactly(Map.entry("family", 2));
+    }
+
+    @Test
+    void analyze_should_follow_dialogue_dashes_in_spanish() {
+        ProseMetrics metrics = spanish.analyze("""
+                —Ven rápidamente —dijo ella—. Ya es tarde.
+                La casa estaba vacía. Claramente nadie volvería… Nunca.""");
+
+        assertThat(metrics.sentences()).isEqualTo(5);
+        assertThat(metrics.adverbs()).isEqualTo(2);
+        // "Ven rápidamente" and "Ya es tarde"; "dijo ella" is narration
+        assertThat(metrics.dialogueWords()).isEqualTo(5);
+    }
+
+    @Test
+    void analyze_should_not_carry_quotes_or_sentences_past_a_line_break() {
+        ProseMetrics metrics = english.analyze("\"Unclosed quote and no stop\nPlain narration here");
+
+        assertThat(metrics.sentences()).isEqualTo(2);
+        assertThat(metrics.dialogueWords()).isEqualTo(5);
+    }
+
+    @Test
+    void ranges_split_at_line_boundaries_should_add_up_to_the_whole() {
+        String text = "It was late. \"Go home,\" she said.\n—Where to —he asked—. Nowhere.\nThe end came slowly";
+        int split = ProseAnalyzer.lineBoundary(text, 20, text.length());
+
+        ProseMetrics whole = english.analyze(text);
+        ProseMetrics merged = english.analyze(text, 0, split).merge(english.analyze(text, split, text.length()));
+
+        assertThat(merged.words()).isEqualTo(whole.words());
+        assertThat(merged.sentences()).isEqualTo(whole.sentences());
+        assertThat(merged.dialogueWords()).isEqualTo(whole.dialogueWords());
+        assertThat(merged.sentenceLengths()).containsExactly(whole.sentenceLengths());
+        assertThat(merged.topWords(10)).isEqualTo(whole.topWords(10));
+    }
+
+    @Test
+    void withTopWords_should_keep_most_frequent_words() {
+        ProseMetrics metrics = english.analyze("storm storm storm rocks rocks light");
+
+        assertThat(metrics.withTopWords(2).topWords(10))
+                .containsExactly(Map.entry("storm", 3), Map.entry("rocks", 2));
+    }
+}
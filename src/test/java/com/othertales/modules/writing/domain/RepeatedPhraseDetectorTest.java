@@ -0,0 +1,70 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepeatedPhraseDetectorTest {
+
+    private final ProseAnalyzer english = ProseAnalyzer.forLocale(Locale.ENGLISH);
+
+    @Test
+    void result_should_report_the_longest_repeated_phrase_once() {
+        RepeatedPhraseDetector detector = new RepeatedPhraseDetector(english, 1024, 64);
+
+        detector.accept("She felt a cold shiver down her spine. Later, a cold shiver down her spine again.");
+        detector.endDocument();
+        detector.accept("Once more a cold shiver down her back.");
+        detector.endDocument();
+
+        assertThat(detector.result(2, 10)).containsExactly(
+                new RepeatedPhrase("a cold shiver down her", 5, 3),
+                new RepeatedPhrase("a cold shiver down her spine", 6, 2));
+    }
+
+    @Test
+    void accept_should_join_words_split_across_chunks() {
+        RepeatedPhraseDetector whole = new RepeatedPhraseDetector(english, 1024, 64);
+        RepeatedPhraseDetector chunked = new RepeatedPhraseDetector(english, 1024, 64);
+        String text = "The well-worn path's end glowed. The well-worn path's end glowed!";
+
+        whole.accept(text);
+        whole.endDocument();
+        for (int i = 0; i < text.length(); i += 3) {
+            chunked.accept(text.substring(i, Math.min(i + 3, text.length())));
+        }
+        chunked.endDocument();
+
+        assertThat(chunked.result(2, 10)).isEqualTo(whole.result(2, 10))
+                .containsExactly(new RepeatedPhrase("the well-worn path's end glowed", 5, 2));
+    }
+
+    @Test
+    void phrases_should_not_span_sentences_documents_or_be_only_stop_words() {
+        RepeatedPhraseDetector detector = new RepeatedPhraseDetector(english, 1024, 64);
+
+        detector.accept("Cold rain. Fell hard.\nAnd then there was, and then there was. Cold rain");
+        detector.endDocument();
+        detector.accept("fell hard. Cold rain fell hard.");
+        detector.endDocument();
+
+        assertThat(detector.result(2, 10)).isEmpty();
+    }
+
+    @Test
+    void result_should_stay_within_a_full_count_table() {
+        // Room for 48 n-grams: the noise forces several prunes, dropping the first occurrence
+        RepeatedPhraseDetector detector = new RepeatedPhraseDetector(english, 64, 4);
+        StringBuilder noise = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            noise.append("word").append(i).append(' ');
+        }
+
+        detector.accept("the silver moon rose. " + noise + ". the silver moon rose. the silver moon rose.");
+        detector.endDocument();
+
+        assertThat(detector.result(2, 10)).containsExactly(new RepeatedPhrase("the silver moon rose", 4, 2));
+    }
+}
@@ -0,0 +1,37 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void should_round_trip_rank_exactly() {
+        var cursor = new SearchCursor(0.123456789f, SearchDocumentType.CHARACTER, UUID.randomUUID());
+
+        var decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(cursor.rank()));
+    }
+
+    @Test
+    void should_reject_tampered_cursor() {
+        assertThatThrownBy(() -> SearchCursor.decode("not a cursor"))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> SearchCursor.decode("MC41fEJPT0t8eA"))
+                .isInstanceOf(InvalidSearchQueryException.class);
+    }
+
+    @Test
+    void language_should_follow_locale_and_default_to_english() {
+        assertThat(SearchLanguage.fromLocale(Locale.forLanguageTag("es-MX"))).isEqualTo(SearchLanguage.SPANISH);
+        assertThat(SearchLanguage.fromLocale(Locale.FRENCH)).isEqualTo(SearchLanguage.ENGLISH);
+        assertThat(SearchLanguage.fromLocale(null)).isEqualTo(SearchLanguage.ENGLISH);
+    }
+}
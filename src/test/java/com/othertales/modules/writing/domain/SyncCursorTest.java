@@ -0,0 +1,34 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncCursorTest {
+
+    @Test
+    void should_round_trip() {
+        var cursor = new SyncCursor(9_876_543_210L);
+
+        assertThat(SyncCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void should_start_from_the_beginning_without_cursor() {
+        assertThat(SyncCursor.decode(null)).isEqualTo(SyncCursor.START);
+        assertThat(SyncCursor.decode(" ")).isEqualTo(SyncCursor.START);
+    }
+
+    @Test
+    void should_reject_tampered_cursor() {
+        assertThatThrownBy(() -> SyncCursor.decode("not a cursor"))
+                .isInstanceOf(InvalidSyncCursorException.class);
+        // "12": missing prefix
+        assertThatThrownBy(() -> SyncCursor.decode("MTI"))
+                .isInstanceOf(InvalidSyncCursorException.class);
+        // "s-1": negative
+        assertThatThrownBy(() -> SyncCursor.decode("cy0x"))
+                .isInstanceOf(InvalidSyncCursorException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordCounterTest {
+
+    private final WordCounter counter = WordCounter.defaultCounter();
+
+    @Test
+    void should_count_whitespace_separated_words() {
+        assertThat(counter.countWords("One\nTwo  Three")).isEqualTo(3);
+        assertThat(counter.countWords("  leading and trailing  ")).isEqualTo(3);
+        assertThat(counter.countWords("   ")).isZero();
+        assertThat(counter.countWords("")).isZero();
+        assertThat(counter.countWords(null)).isZero();
+    }
+
+    @Test
+    void should_ignore_standalone_punctuation() {
+        assertThat(counter.countWords("Wait - what ?")).isEqualTo(2);
+        assertThat(counter.countWords("¿Qué pasa? ¡Nada!")).isEqualTo(3);
+    }
+
+    @Test
+    void should_split_on_dashes_but_join_on_hyphens() {
+        assertThat(counter.countWords("She ran—fast—away")).isEqualTo(4);
+        assertThat(counter.countWords("pages 10–20")).isEqualTo(3);
+        assertThat(counter.countWords("a well-known fact")).isEqualTo(3);
+        assertThat(counter.countWords("trailing- hyphen")).isEqualTo(2);
+    }
+
+    @Test
+    void should_keep_numbers_whole() {
+        assertThat(counter.countWords("pi is 3.14 and 1,000 more")).isEqualTo(6);
+        assertThat(counter.countWords("end.Next")).isEqualTo(2);
+    }
+
+    @Test
+    void should_join_words_on_apostrophes() {
+        assertThat(counter.countWords("don't won’t")).isEqualTo(2);
+        assertThat(counter.countWords("d'Artagnan")).isEqualTo(1);
+        assertThat(counter.countWords("the dogs' bowls")).isEqualTo(3);
+    }
+
+    @Test
+    void should_count_cjk_characters_as_words() {
+        assertThat(counter.countWords("我爱写作")).isEqualTo(4);
+        assertThat(counter.countWords("ひらがなカタカナ")).isEqualTo(8);
+        assertThat(counter.countWords("Hello世界")).isEqualTo(3);
+    }
+
+    @Test
+    void should_keep_combining_marks_inside_words() {
+        assertThat(counter.countWords("cafe\u0301 noir")).isEqualTo(2);
+    }
+
+    @Test
+    void should_compute_characters_and_paragraphs() {
+        TextStatistics stats = counter.analyze("First line.\n\n  Second 😀\r\nThird\n   \n");
+
+        assertThat(stats.words()).isEqualTo(4);
+        assertThat(stats.characters()).isEqualTo(35);
+        assertThat(stats.paragraphs()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,31 @@
+package com.othertales.modules.writing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WritingStatsGranularityTest {
+
+    @Test
+    void periodStart_should_truncate_to_monday_and_first_of_month() {
+        LocalDate sunday = LocalDate.of(2026, 3, 1);
+
+        assertThat(WritingStatsGranularity.DAY.periodStart(sunday)).isEqualTo(sunday);
+        assertThat(WritingStatsGranularity.WEEK.periodStart(sunday)).isEqualTo(LocalDate.of(2026, 2, 23));
+        assertThat(WritingStatsGranularity.WEEK.periodStart(LocalDate.of(2026, 2, 23)))
+                .isEqualTo(LocalDate.of(2026, 2, 23));
+        assertThat(WritingStatsGranularity.MONTH.periodStart(LocalDate.of(2026, 2, 28)))
+                .isEqualTo(LocalDate.of(2026, 2, 1));
+    }
+
+    @Test
+    void parse_should_default_to_day_and_reject_unknown_values() {
+        assertThat(WritingStatsGranularity.parse(null)).isEqualTo(WritingStatsGranularity.DAY);
+        assertThat(WritingStatsGranularity.parse(" Week ")).isEqualTo(WritingStatsGranularity.WEEK);
+        assertThatThrownBy(() -> WritingStatsGranularity.parse("year"))
+                .isInstanceOf(InvalidWritingStatsQueryException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocxManuscriptRendererTest {
+
+    private final DocxManuscriptRenderer renderer = new DocxManuscriptRenderer(new ManuscriptLabels(messages()));
+
+    @Test
+    void should_write_chapters_as_headed_sections_of_one_document() throws Exception {
+        var output = new ByteArrayOutputStream();
+
+        try (var writer = renderer.open(output, new ManuscriptMetadata(UUID.randomUUID(), "Book", null, "es", Instant.now()))) {
+            writer.writeChapter("One", "Tom & Jerry\u0007");
+            writer.writeChapter("Two", "Text");
+        }
+
+        Map<String, String> contents = new LinkedHashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                contents.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        assertThat(contents).containsKeys("[Content_Types].xml", "_rels/.rels", "word/_rels/document.xml.rels",
+                "word/styles.xml", "docProps/core.xml");
+        assertThat(contents.get("word/document.xml"))
+                .containsSubsequence("w:val=\"Title\"", "Book", "w:val=\"Heading1\"", "One",
+                        "Tom &amp; Jerry</w:t>", "w:val=\"Heading1\"", "Two")
+                .endsWith("</w:body></w:document>\n");
+    }
+
+    private static StaticMessageSource messages() {
+        var messages = new StaticMessageSource();
+        messages.setUseCodeAsDefaultMessage(true);
+        return messages;
+    }
+}
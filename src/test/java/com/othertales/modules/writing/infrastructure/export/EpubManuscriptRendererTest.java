@@ -0,0 +1,64 @@
+package com.othertales.modules.writing.infrastructure.export;
+
+import com.othertales.modules.writing.application.dto.ManuscriptMetadata;
+import com.othertales.modules.writing.domain.Character;
+import com.othertales.modules.writing.domain.Story;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpubManuscriptRendererTest {
+
+    private final EpubManuscriptRenderer renderer = new EpubManuscriptRenderer(new ManuscriptLabels(messages()));
+
+    @Test
+    void should_write_epub_container_with_one_page_per_chapter() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        var output = new ByteArrayOutputStream();
+
+        try (var writer = renderer.open(output, new ManuscriptMetadata(projectId, "Book & Co", null, "en", Instant.now()))) {
+            writer.writeStory(Story.create(projectId, "Plot", "Synopsis", null, null, null, null));
+            writer.writeChapter("One", "First <line>\n\nSecond line");
+            writer.writeChapter("Two", "Text");
+            writer.writeCharacter(Character.create(projectId, "Ana", "Lead", null, null, null));
+        }
+
+        Map<String, ZipEntry> entries = new LinkedHashMap<>();
+        Map<String, String> contents = new LinkedHashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), entry);
+                contents.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        assertThat(entries.keySet()).first().isEqualTo("mimetype");
+        assertThat(entries.get("mimetype").getMethod()).isEqualTo(ZipEntry.STORED);
+        assertThat(contents.get("mimetype")).isEqualTo("application/epub+zip");
+        assertThat(entries).containsKeys("META-INF/container.xml", "OEBPS/story-0001.xhtml",
+                "OEBPS/chapter-0001.xhtml", "OEBPS/chapter-0002.xhtml", "OEBPS/characters.xhtml", "OEBPS/nav.xhtml");
+        assertThat(contents.get("OEBPS/chapter-0001.xhtml"))
+                .contains("<p>First &lt;line&gt;</p>\n<p>Second line</p>");
+        assertThat(contents.get("OEBPS/content.opf"))
+                .contains("<dc:title>Book &amp; Co</dc:title>", "urn:uuid:" + projectId)
+                .containsSubsequence("idref=\"story-0001\"", "idref=\"chapter-0001\"", "idref=\"chapter-0002\"",
+                        "idref=\"characters\"");
+    }
+
+    private static StaticMessageSource messages() {
+        var messages = new StaticMessageSource();
+        messages.setUseCodeAsDefaultMessage(true);
+        return messages;
+    }
+}
@@ -0,0 +1,57 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import com.othertales.modules.writing.domain.InvalidManuscriptImportException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocxManuscriptParserTest {
+
+    private final DocxManuscriptParser parser = new DocxManuscriptParser();
+
+    @Test
+    void should_split_on_heading_styles_and_skip_title() throws Exception {
+        String body = paragraph("Title", "The Book")
+                + paragraph("Heading1", "One")
+                + "<w:p><w:r><w:t>Tom &amp; </w:t></w:r><w:r><w:t xml:space=\"preserve\">Jerry</w:t></w:r></w:p>"
+                + paragraph("Ttulo2", "Dos")
+                + paragraph(null, "Texto");
+        List<List<String>> chapters = new ArrayList<>();
+
+        parser.parse(new ByteArrayInputStream(docx(body)), (title, content) -> chapters.add(List.of(title, content)));
+
+        assertThat(chapters).containsExactly(List.of("One", "Tom & Jerry"), List.of("Dos", "Texto"));
+    }
+
+    @Test
+    void should_reject_file_without_document_part() {
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream("not a zip".getBytes()), (title, content) -> { }))
+                .isInstanceOf(InvalidManuscriptImportException.class);
+    }
+
+    private static String paragraph(String style, String text) {
+        String properties = style != null ? "<w:pPr><w:pStyle w:val=\"" + style + "\"/></w:pPr>" : "";
+        return "<w:p>" + properties + "<w:r><w:t>" + text + "</w:t></w:r></w:p>";
+    }
+
+    private static byte[] docx(String body) throws Exception {
+        var output = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>"
+                    + body + "</w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+}
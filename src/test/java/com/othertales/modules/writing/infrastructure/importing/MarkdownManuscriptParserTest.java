@@ -0,0 +1,39 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownManuscriptParserTest {
+
+    private final MarkdownManuscriptParser parser = new MarkdownManuscriptParser();
+
+    @Test
+    void should_split_on_level_one_and_two_headings_only() throws Exception {
+        String markdown = "\uFEFFForeword\n\n# One\nFirst line\n### Scene\nSecond line\n## Two ##\nLast line\n";
+
+        assertThat(parse(markdown)).containsExactly(
+                List.of("null", "Foreword"),
+                List.of("One", "First line\n### Scene\nSecond line"),
+                List.of("Two", "Last line"));
+    }
+
+    @Test
+    void should_ignore_headings_inside_fenced_code() throws Exception {
+        String markdown = "# One\n```\n# comment\n```\n#hashtag\n";
+
+        assertThat(parse(markdown)).containsExactly(List.of("One", "```\n# comment\n```\n#hashtag"));
+    }
+
+    private List<List<String>> parse(String markdown) throws Exception {
+        List<List<String>> chapters = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(markdown.getBytes(StandardCharsets.UTF_8)),
+                (title, content) -> chapters.add(List.of(String.valueOf(title), content)));
+        return chapters;
+    }
+}
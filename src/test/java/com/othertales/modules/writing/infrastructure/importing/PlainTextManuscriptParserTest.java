@@ -0,0 +1,39 @@
+package com.othertales.modules.writing.infrastructure.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlainTextManuscriptParserTest {
+
+    private final PlainTextManuscriptParser parser = new PlainTextManuscriptParser();
+
+    @Test
+    void should_split_on_chapter_heading_lines() throws Exception {
+        String text = """
+                Prologue
+                It was late.
+
+                Chapter 1: The Station
+                Part of me wanted to stay.
+
+                CAPÍTULO IV
+                Fin.
+                """;
+        List<String> titles = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+
+        parser.parse(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), (title, content) -> {
+            titles.add(title);
+            contents.add(content);
+        });
+
+        assertThat(titles).containsExactly("Prologue", "Chapter 1: The Station", "CAPÍTULO IV");
+        assertThat(contents).containsExactly("It was late.", "Part of me wanted to stay.", "Fin.");
+    }
+}
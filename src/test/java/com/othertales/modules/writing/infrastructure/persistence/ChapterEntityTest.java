@@ -24,7 +24,10 @@ class ChapterEntityTest {
 
         entity.setTitle("Chapter 1");
         entity.setContent("Content");
-        entity.setOrderIndex(1); // was chapterOrder
+        entity.setWordCount(1);
+        entity.setCharacterCount(7);
+        entity.setParagraphCount(1);
+        entity.setOrderKey("V");
         entity.setStatus(ChapterStatusEntity.DRAFT);
         // publishedAt does not exist in entity
         entity.setCreatedAt(now);
@@ -35,7 +38,10 @@ class ChapterEntityTest {
         assertThat(entity.getProjectId()).isEqualTo(projectId); // Uses helper method
         assertThat(entity.getTitle()).isEqualTo("Chapter 1");
         assertThat(entity.getContent()).isEqualTo("Content");
-        assertThat(entity.getOrderIndex()).isEqualTo(1);
+        assertThat(entity.getWordCount()).isEqualTo(1);
+        assertThat(entity.getCharacterCount()).isEqualTo(7);
+        assertThat(entity.getParagraphCount()).isEqualTo(1);
+        assertThat(entity.getOrderKey()).isEqualTo("V");
         assertThat(entity.getStatus()).isEqualTo(ChapterStatusEntity.DRAFT);
 
         assertThat(entity.getCreatedAt()).isEqualTo(now);
@@ -1,7 +1,10 @@
 package com.othertales.modules.writing.infrastructure.persistence;
 
 import com.othertales.modules.writing.domain.Chapter;
+import com.othertales.modules.writing.domain.ChapterOutline;
 import com.othertales.modules.writing.domain.ChapterStatus;
+import com.othertales.modules.writing.domain.ManuscriptStatistics;
+import com.othertales.modules.writing.domain.OrderSlot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,12 +12,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,7 +45,7 @@ class ChapterJpaAdapterTest {
     void save_should_map_domain_to_entity_and_save() {
         // Given
         UUID projectId = UUID.randomUUID();
-        Chapter chapter = Chapter.create(projectId, "Chapter 1", "", 1);
+        Chapter chapter = Chapter.create(projectId, "Chapter 1", "", "2", 1);
         chapter.updateContent("Some content");
 
         // Mock Project reference
@@ -47,32 +53,77 @@ class ChapterJpaAdapterTest {
         projectEntity.setId(projectId);
         when(projectJpaRepository.getReferenceById(projectId)).thenReturn(projectEntity);
 
-        // Mock finding existing entity as empty (new)
-        when(jpaRepository.findById(chapter.getId())).thenReturn(Optional.empty());
-
         // Mock save
-        when(jpaRepository.save(any(ChapterEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jpaRepository.saveAndFlush(any(ChapterEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Chapter savedChapter = adapter.save(chapter);
 
         // Then
         ArgumentCaptor<ChapterEntity> captor = ArgumentCaptor.forClass(ChapterEntity.class);
-        verify(jpaRepository).save(captor.capture());
+        verify(jpaRepository).saveAndFlush(captor.capture());
 
         ChapterEntity captured = captor.getValue();
         assertThat(captured.getId()).isEqualTo(chapter.getId());
         assertThat(captured.getTitle()).isEqualTo("Chapter 1");
         assertThat(captured.getContent()).isEqualTo("Some content");
-        assertThat(captured.getOrderIndex()).isEqualTo(1);
+        assertThat(captured.getWordCount()).isEqualTo(2);
+        assertThat(captured.getCharacterCount()).isEqualTo(12);
+        assertThat(captured.getParagraphCount()).isEqualTo(1);
+        assertThat(captured.getOrderKey()).isEqualTo("2");
         assertThat(captured.getStatus()).isEqualTo(ChapterEntity.ChapterStatusEntity.DRAFT);
         assertThat(captured.getProject().getId()).isEqualTo(projectId);
+        assertThat(captured.isNew()).isTrue();
+
+        assertThat(savedChapter.getOrderIndex()).isEqualTo(1);
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    void save_should_update_loaded_chapter_without_reading_it_again() {
+        UUID projectId = UUID.randomUUID();
+        Chapter chapter = Chapter.reconstitute(UUID.randomUUID(), projectId, "Chapter 1", "Old text", null, "1", 0,
+                ChapterStatus.DRAFT, Instant.now(), Instant.now(), null, 7L);
+        chapter.updateContent("New text");
+
+        ProjectEntity projectEntity = new ProjectEntity();
+        projectEntity.setId(projectId);
+        when(projectJpaRepository.getReferenceById(projectId)).thenReturn(projectEntity);
+        when(jpaRepository.saveAndFlush(any(ChapterEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        adapter.save(chapter);
+
+        ArgumentCaptor<ChapterEntity> captor = ArgumentCaptor.forClass(ChapterEntity.class);
+        verify(jpaRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().isNew()).isFalse();
+        assertThat(captor.getValue().getVersion()).isEqualTo(7L);
+        assertThat(captor.getValue().getContent()).isEqualTo("New text");
+        verify(jpaRepository, never()).findById(any());
+    }
 
-        assertThat(savedChapter).isNotNull();
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAll_should_insert_new_chapters_with_one_flush() {
+        UUID projectId = UUID.randomUUID();
+        ProjectEntity projectEntity = new ProjectEntity();
+        projectEntity.setId(projectId);
+        when(projectJpaRepository.getReferenceById(projectId)).thenReturn(projectEntity);
+        when(jpaRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Chapter> saved = adapter.saveAll(List.of(
+                Chapter.create(projectId, "One", "First", "1", 0),
+                Chapter.create(projectId, "Two", "Second", "2", 1)));
+
+        ArgumentCaptor<List<ChapterEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jpaRepository).saveAllAndFlush(captor.capture());
+        assertThat(captor.getValue()).allMatch(ChapterEntity::isNew);
+        assertThat(saved).extracting(Chapter::getTitle).containsExactly("One", "Two");
+        assertThat(saved).extracting(Chapter::getOrderIndex).containsExactly(0, 1);
+        verify(jpaRepository, never()).saveAndFlush(any());
     }
 
     @Test
-    void findByProjectIdOrderByOrderIndex_should_return_sorted_chapters() {
+    void findByProjectIdOrderByOrderIndex_should_return_sorted_chapters_with_positions() {
         // Given
         UUID projectId = UUID.randomUUID();
         ProjectEntity project = new ProjectEntity();
@@ -82,17 +133,21 @@ class ChapterJpaAdapterTest {
         entity1.setId(UUID.randomUUID());
         entity1.setProject(project);
         entity1.setTitle("Ch 1");
-        entity1.setOrderIndex(1);
+        entity1.setOrderKey("G");
         entity1.setStatus(ChapterEntity.ChapterStatusEntity.PUBLISHED);
 
+        entity1.setWordCount(120);
+
         ChapterEntity entity2 = new ChapterEntity();
         entity2.setId(UUID.randomUUID());
         entity2.setProject(project);
         entity2.setTitle("Ch 2");
-        entity2.setOrderIndex(2);
+        entity2.setOrderKey("V");
         entity2.setStatus(ChapterEntity.ChapterStatusEntity.DRAFT);
 
-        when(jpaRepository.findByProjectIdOrderByOrderIndex(projectId)).thenReturn(List.of(entity1, entity2));
+        when(jpaRepository.findByProjectIdOrderByOrderKey(projectId)).thenReturn(List.of(
+                new PositionedChapterEntity(entity1, 0L),
+                new PositionedChapterEntity(entity2, 1L)));
 
         // When
         List<Chapter> chapters = adapter.findByProjectIdOrderByOrderIndex(projectId);
@@ -101,7 +156,96 @@ class ChapterJpaAdapterTest {
         assertThat(chapters).hasSize(2);
         assertThat(chapters.get(0).getTitle()).isEqualTo("Ch 1");
         assertThat(chapters.get(0).getStatus()).isEqualTo(ChapterStatus.PUBLISHED);
+        assertThat(chapters.get(0).getWordCount()).isEqualTo(120);
+        assertThat(chapters.get(0).getOrderKey()).isEqualTo("G");
         assertThat(chapters.get(1).getTitle()).isEqualTo("Ch 2");
+        assertThat(chapters.get(1).getOrderIndex()).isEqualTo(1);
         assertThat(chapters.get(1).getStatus()).isEqualTo(ChapterStatus.DRAFT);
     }
+
+    @Test
+    void sumStatisticsByProjectId_should_map_aggregate() {
+        UUID projectId = UUID.randomUUID();
+        when(jpaRepository.sumStatisticsByProjectId(projectId))
+                .thenReturn(new ChapterStatisticsView(3L, 1500L, 9000L, 42L));
+
+        ManuscriptStatistics statistics = adapter.sumStatisticsByProjectId(projectId);
+
+        assertThat(statistics).isEqualTo(new ManuscriptStatistics(3, 1500, 9000, 42));
+    }
+
+    @Test
+    void findOutlineByProjectId_should_map_projection() {
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        Instant updatedAt = Instant.now();
+        when(jpaRepository.findOutlineByProjectId(projectId)).thenReturn(List.of(
+                new ChapterOutlineView(chapterId, projectId, "Ch 1", "1", 0L,
+                        ChapterEntity.ChapterStatusEntity.PUBLISHED, 950, 4L, updatedAt)));
+
+        List<ChapterOutline> outline = adapter.findOutlineByProjectId(projectId);
+
+        assertThat(outline).containsExactly(new ChapterOutline(
+                chapterId, projectId, "Ch 1", "1", 0, ChapterStatus.PUBLISHED, 950, 4L, updatedAt));
+    }
+
+    @Test
+    void updateOrderKeys_should_issue_single_bulk_update() {
+        UUID projectId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(jpaRepository.updateOrderKeys(projectId, new UUID[]{first, second}, new String[]{"G", "V"}))
+                .thenReturn(2);
+
+        int moved = adapter.updateOrderKeys(projectId, List.of(first, second), List.of("G", "V"));
+
+        assertThat(moved).isEqualTo(2);
+    }
+
+    @Test
+    void findOrderSlot_should_read_neighbours_around_position() {
+        UUID projectId = UUID.randomUUID();
+        UUID movingId = UUID.randomUUID();
+        when(jpaRepository.findOrderKeys(projectId, movingId, 1, 2)).thenReturn(List.of("G", "V"));
+
+        OrderSlot slot = adapter.findOrderSlot(projectId, 2, movingId);
+
+        assertThat(slot).isEqualTo(new OrderSlot("G", "V", 2));
+        verify(jpaRepository, never()).findOrderTail(any(), any());
+    }
+
+    @Test
+    void findOrderSlot_should_place_first_before_first_key() {
+        UUID projectId = UUID.randomUUID();
+        when(jpaRepository.findOrderKeys(projectId, null, 0, 1)).thenReturn(List.of("G"));
+
+        assertThat(adapter.findOrderSlot(projectId, 0, null)).isEqualTo(new OrderSlot(null, "G", 0));
+    }
+
+    @Test
+    void findOrderSlot_should_place_negative_position_first() {
+        UUID projectId = UUID.randomUUID();
+        when(jpaRepository.findOrderKeys(projectId, null, 0, 1)).thenReturn(List.of("G"));
+
+        assertThat(adapter.findOrderSlot(projectId, -3, null)).isEqualTo(new OrderSlot(null, "G", 0));
+        verify(jpaRepository, never()).findOrderKeys(projectId, null, -4, 2);
+    }
+
+    @Test
+    void findOrderSlot_should_append_when_position_is_missing_or_past_the_end() {
+        UUID projectId = UUID.randomUUID();
+        when(jpaRepository.findOrderKeys(projectId, null, 8, 2)).thenReturn(List.of());
+        when(jpaRepository.findOrderTail(projectId, null)).thenReturn(new ChapterOrderTailView("V", 3L));
+
+        assertThat(adapter.findOrderSlot(projectId, 9, null)).isEqualTo(new OrderSlot("V", null, 3));
+        assertThat(adapter.findOrderSlot(projectId, null, null)).isEqualTo(new OrderSlot("V", null, 3));
+    }
+
+    @Test
+    void findContentSlice_should_translate_offset_to_one_based_substring() {
+        UUID chapterId = UUID.randomUUID();
+        when(jpaRepository.findContentSlice(chapterId, 3L, 101, 50)).thenReturn(Optional.of("slice"));
+
+        assertThat(adapter.findContentSlice(chapterId, 3L, 100, 50)).contains("slice");
+    }
 }
@@ -0,0 +1,69 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.domain.Project;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProjectJpaAdapter.class, ProjectMapper.class})
+class ChapterPositionPersistenceTest {
+
+    @Autowired
+    private ProjectJpaAdapter projectAdapter;
+
+    @Autowired
+    private ChapterJpaRepository chapterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void single_chapter_lookups_should_break_order_key_ties_by_id_like_the_project_listing() {
+        UUID userId = UUID.randomUUID();
+        var project = projectAdapter.save(Project.create(userId, "El faro", null, null, 50000));
+        var projectEntity = entityManager.getReference(ProjectEntity.class, project.getId());
+        // Concurrent inserts at the same slot can end up sharing a key
+        for (var key : List.of("V", "V", "V", "X")) {
+            entityManager.persist(chapter(projectEntity, key));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        var listing = chapterRepository.findOutlineByProjectId(project.getId());
+
+        assertThat(listing).extracting(ChapterOutlineView::position).containsExactly(0L, 1L, 2L, 3L);
+        for (var listed : listing) {
+            assertThat(chapterRepository.findOutlineById(listed.id()).orElseThrow().position())
+                    .isEqualTo(listed.position());
+            assertThat(chapterRepository.findPositionedById(listed.id()).orElseThrow().position())
+                    .isEqualTo(listed.position());
+            assertThat(chapterRepository.findPositionedByIdAndProjectId(listed.id(), project.getId())
+                    .orElseThrow().position()).isEqualTo(listed.position());
+        }
+    }
+
+    private static ChapterEntity chapter(ProjectEntity project, String orderKey) {
+        var now = Instant.now();
+        var entity = new ChapterEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setProject(project);
+        entity.setTitle("Chapter");
+        entity.setContent("");
+        entity.setOrderKey(orderKey);
+        entity.setStatus(ChapterEntity.ChapterStatusEntity.DRAFT);
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        return entity;
+    }
+}
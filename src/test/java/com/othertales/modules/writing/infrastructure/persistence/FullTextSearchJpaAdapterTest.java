@@ -0,0 +1,74 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.domain.SearchCursor;
+import com.othertales.modules.writing.domain.SearchDocumentType;
+import com.othertales.modules.writing.domain.SearchLanguage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextSearchJpaAdapterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    void buildSql_should_use_locale_vectors_and_only_requested_filters() {
+        var sql = FullTextSearchJpaAdapter.buildSql(SearchLanguage.SPANISH, false, false);
+
+        assertThat(sql).contains("cs.search_vector_es @@ q.query", "s.search_vector_es", "LIMIT :limit")
+                .doesNotContain("search_vector_en", ":projectId", ":afterRank", "{");
+    }
+
+    @Test
+    void buildSql_should_filter_every_table_by_project_and_cursor() {
+        var sql = FullTextSearchJpaAdapter.buildSql(SearchLanguage.ENGLISH, true, true);
+
+        assertThat(sql).contains(
+                "c.project_id = :projectId",
+                "i.project_id = :projectId",
+                "ch.project_id = :projectId",
+                "s.project_id = :projectId",
+                "(rank, type, id) < (CAST(:afterRank AS real)");
+    }
+
+    @Test
+    void search_should_bind_cursor_and_map_rows() {
+        var adapter = new FullTextSearchJpaAdapter(entityManager);
+        var query = mock(Query.class, RETURNS_SELF);
+        var userId = UUID.randomUUID();
+        var hitId = UUID.randomUUID();
+        var projectId = UUID.randomUUID();
+        var after = new SearchCursor(0.75f, SearchDocumentType.STORY, UUID.randomUUID());
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.<Object[]>of(
+                new Object[]{"IDEA", hitId, projectId, "Lighthouse", "\u0002light\u0003", 0.5f}));
+
+        var hits = adapter.search(userId, null, "light", SearchLanguage.ENGLISH, after, 11);
+
+        verify(query).setParameter("config", "english");
+        verify(query).setParameter("afterRank", 0.75f);
+        verify(query).setParameter("afterType", "STORY");
+        verify(query).setParameter("limit", 11);
+        assertThat(hits).singleElement().satisfies(hit -> {
+            assertThat(hit.type()).isEqualTo(SearchDocumentType.IDEA);
+            assertThat(hit.id()).isEqualTo(hitId);
+            assertThat(hit.projectId()).isEqualTo(projectId);
+            assertThat(hit.rank()).isEqualTo(0.5f);
+        });
+    }
+}
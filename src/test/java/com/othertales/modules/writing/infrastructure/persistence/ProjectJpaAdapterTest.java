@@ -36,27 +36,25 @@ class ProjectJpaAdapterTest {
         UUID userId = UUID.randomUUID();
         Project domainProject = Project.create(userId, "Title", "Synopsis", "Fantasy", 50000);
 
-        // Mock finding existing entity as empty (new project)
-        when(jpaRepository.findById(domainProject.getId())).thenReturn(Optional.empty());
-
         // Use ArgumentCaptor to verify mapping
         org.mockito.ArgumentCaptor<ProjectEntity> entityCaptor = org.mockito.ArgumentCaptor
                 .forClass(ProjectEntity.class);
 
         // Mock save to return what is passed (simulating DB save)
-        when(jpaRepository.save(any(ProjectEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jpaRepository.saveAndFlush(any(ProjectEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Project savedProject = adapter.save(domainProject);
 
         // Then
-        verify(jpaRepository).save(entityCaptor.capture());
+        verify(jpaRepository).saveAndFlush(entityCaptor.capture());
         ProjectEntity capturedEntity = entityCaptor.getValue();
 
         assertThat(capturedEntity.getId()).isEqualTo(domainProject.getId());
         assertThat(capturedEntity.getTitle()).isEqualTo("Title");
         assertThat(capturedEntity.getUserId()).isEqualTo(userId);
         assertThat(capturedEntity.getTargetWordCount()).isEqualTo(50000);
+        assertThat(capturedEntity.isNew()).isTrue();
 
         assertThat(savedProject).isNotNull();
         assertThat(savedProject.getId()).isEqualTo(domainProject.getId());
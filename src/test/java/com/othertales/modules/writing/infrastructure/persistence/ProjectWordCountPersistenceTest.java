@@ -0,0 +1,68 @@
+package com.othertales.modules.writing.infrastructure.persistence;
+
+import com.othertales.modules.writing.domain.Project;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProjectJpaAdapter.class, ProjectMapper.class})
+class ProjectWordCountPersistenceTest {
+
+    @Autowired
+    private ProjectJpaAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void save_should_keep_a_word_count_delta_committed_after_the_project_was_loaded() {
+        UUID userId = UUID.randomUUID();
+        var created = adapter.save(Project.create(userId, "El faro", null, null, 50000));
+        entityManager.clear();
+
+        var loaded = adapter.findByIdAndUserId(created.getId(), userId).orElseThrow();
+        // A chapter save lands between the load and the save, as recordChapterChange applies it
+        entityManager.createNativeQuery(
+                        "UPDATE public.projects SET current_word_count = current_word_count + 120 WHERE id = ?1")
+                .setParameter(1, created.getId())
+                .executeUpdate();
+        entityManager.clear();
+        loaded.updateTitle("El faro del norte");
+        adapter.save(loaded);
+        entityManager.clear();
+
+        var stored = adapter.findByIdAndUserId(created.getId(), userId).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("El faro del norte");
+        assertThat(stored.getCurrentWordCount()).isEqualTo(120);
+    }
+
+    @Test
+    void delete_should_keep_a_word_count_delta_committed_after_the_project_was_loaded() {
+        UUID userId = UUID.randomUUID();
+        var created = adapter.save(Project.create(userId, "El faro", null, null, 50000));
+        entityManager.clear();
+
+        var loaded = adapter.findByIdAndUserId(created.getId(), userId).orElseThrow();
+        entityManager.createNativeQuery(
+                        "UPDATE public.projects SET current_word_count = current_word_count + 75 WHERE id = ?1")
+                .setParameter(1, created.getId())
+                .executeUpdate();
+        entityManager.clear();
+        loaded.markAsDeleted();
+        adapter.save(loaded);
+        entityManager.clear();
+
+        var stored = entityManager.find(ProjectEntity.class, created.getId());
+        assertThat(stored.isDeleted()).isTrue();
+        assertThat(stored.getCurrentWordCount()).isEqualTo(75);
+    }
+}
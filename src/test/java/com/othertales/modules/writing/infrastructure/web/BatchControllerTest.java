@@ -0,0 +1,131 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.BatchMutationResponse;
+import com.othertales.modules.writing.application.dto.BatchOperationResultResponse;
+import com.othertales.modules.writing.application.usecase.BatchMutationService;
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BatchController.class)
+@AutoConfigureMockMvc
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BatchMutationService batchMutationService;
+
+    @MockitoBean
+    private ChapterAutosaveCoalescer autosaveCoalescer;
+
+    @Test
+    void apply_should_return_a_result_per_operation() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        UUID ideaId = UUID.randomUUID();
+
+        when(batchMutationService.apply(any(), eq(userId))).thenReturn(new BatchMutationResponse(1, 1, List.of(
+                new BatchOperationResultResponse(0, "UPDATE", "CHAPTER", chapterId, "APPLIED", 5L, null),
+                new BatchOperationResultResponse(1, "DELETE", "IDEA", ideaId, "FAILED", null, "IDEA_NOT_FOUND"))));
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [
+                                  {"op": "UPDATE", "type": "CHAPTER", "id": "%s", "version": 4, "content": "Texto"},
+                                  {"op": "DELETE", "type": "IDEA", "id": "%s"},
+                                  {"op": "CREATE", "type": "STORY", "projectId": "%s", "title": "Trama"}
+                                ]}
+                                """.formatted(chapterId, ideaId, projectId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(1))
+                .andExpect(jsonPath("$.results[0].version").value(5))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].code").value("IDEA_NOT_FOUND"));
+
+        var order = inOrder(autosaveCoalescer, batchMutationService);
+        order.verify(autosaveCoalescer).flush(chapterId, userId);
+        order.verify(batchMutationService).apply(any(), eq(userId));
+        verify(autosaveCoalescer, never()).discard(any(), any());
+    }
+
+    @Test
+    void apply_should_discard_buffered_autosaves_of_deleted_chapters_after_the_batch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+
+        when(batchMutationService.apply(any(), eq(userId))).thenReturn(new BatchMutationResponse(1, 0, List.of(
+                new BatchOperationResultResponse(0, "DELETE", "CHAPTER", chapterId, "APPLIED", null, null))));
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [{"op": "DELETE", "type": "CHAPTER", "id": "%s"}]}
+                                """.formatted(chapterId)))
+                .andExpect(status().isOk());
+
+        var order = inOrder(autosaveCoalescer, batchMutationService);
+        order.verify(batchMutationService).apply(any(), eq(userId));
+        order.verify(autosaveCoalescer).discard(chapterId, userId);
+        verify(autosaveCoalescer, never()).flush(any(), any());
+    }
+
+    @Test
+    void apply_should_keep_buffered_autosaves_when_the_chapter_delete_failed() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+
+        when(batchMutationService.apply(any(), eq(userId))).thenReturn(new BatchMutationResponse(0, 1, List.of(
+                new BatchOperationResultResponse(0, "DELETE", "CHAPTER", chapterId, "FAILED", null,
+                        "VERSION_PRECONDITION_FAILED"))));
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [{"op": "DELETE", "type": "CHAPTER", "id": "%s", "version": 3}]}
+                                """.formatted(chapterId)))
+                .andExpect(status().isOk());
+
+        verify(autosaveCoalescer, never()).discard(any(), any());
+    }
+
+    @Test
+    void apply_should_return_400_without_operations() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+
+        verifyNoInteractions(batchMutationService);
+    }
+}
@@ -1,11 +1,21 @@
 package com.othertales.modules.writing.infrastructure.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.othertales.modules.writing.application.dto.AutosaveAcceptedResponse;
+import com.othertales.modules.writing.application.dto.ChapterIndexResponse;
 import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterStatisticsResponse;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
+import com.othertales.modules.writing.application.dto.ChapterEditRequest;
+import com.othertales.modules.writing.application.dto.ContentStream;
 import com.othertales.modules.writing.application.dto.CreateChapterRequest;
+import com.othertales.modules.writing.application.dto.PatchChapterContentRequest;
+import com.othertales.modules.writing.application.dto.MoveChapterRequest;
 import com.othertales.modules.writing.application.dto.ReorderChaptersRequest;
 import com.othertales.modules.writing.application.dto.UpdateChapterRequest;
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
 import com.othertales.modules.writing.application.usecase.ChapterService;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,6 +24,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Instant;
 import java.util.List;
@@ -21,10 +32,15 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ChapterController.class)
@@ -40,6 +56,9 @@ class ChapterControllerTest {
     @MockitoBean
     private ChapterService chapterService;
 
+    @MockitoBean
+    private ChapterAutosaveCoalescer autosaveCoalescer;
+
     @Test
     void getChaptersByProject_should_return_list() throws Exception {
         UUID projectId = UUID.randomUUID();
@@ -55,6 +74,39 @@ class ChapterControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Test Chapter"));
     }
 
+    @Test
+    void getChapterOutline_should_return_index_without_content() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ChapterSummaryResponse summary = new ChapterSummaryResponse(UUID.randomUUID(), "Test Chapter", 0, 100,
+                "DRAFT", 2L, Instant.now());
+
+        when(chapterService.getChapterOutline(eq(projectId), eq(userId)))
+                .thenReturn(new ChapterIndexResponse(projectId, List.of(summary), 1, 100));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/chapters/outline", projectId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalChapters").value(1))
+                .andExpect(jsonPath("$.chapters[0].title").value("Test Chapter"))
+                .andExpect(jsonPath("$.chapters[0].content").doesNotExist());
+    }
+
+    @Test
+    void getChapterStatistics_should_return_totals() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(chapterService.getChapterStatistics(eq(projectId), eq(userId)))
+                .thenReturn(new ChapterStatisticsResponse(projectId, 2, 800, 4200, 30));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/chapters/statistics", projectId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalChapters").value(2))
+                .andExpect(jsonPath("$.totalWordCount").value(800));
+    }
+
     @Test
     void createChapter_should_return_201() throws Exception {
         UUID projectId = UUID.randomUUID();
@@ -72,20 +124,106 @@ class ChapterControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Chapter"));
     }
 
+    @Test
+    void createChapter_should_return_400_for_negative_sort_order() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        CreateChapterRequest request = new CreateChapterRequest("New Chapter", "Content", -1);
+
+        mockMvc.perform(post("/api/v1/projects/{projectId}/chapters", projectId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+
+        verify(chapterService, never()).createChapter(any(), any(), any());
+    }
+
     @Test
     void getChapter_should_return_chapter() throws Exception {
         UUID chapterId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
         ChapterResponse response = createChapterResponse();
 
+        when(chapterService.getChapterSummary(eq(chapterId), eq(userId))).thenReturn(createSummaryResponse());
         when(chapterService.getChapterById(eq(chapterId), eq(userId))).thenReturn(response);
 
         mockMvc.perform(get("/api/v1/chapters/{chapterId}", chapterId)
                 .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.1\""))
                 .andExpect(jsonPath("$.title").value("Test Chapter"));
     }
 
+    @Test
+    void getChapter_should_return_304_without_loading_when_etag_matches() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(chapterService.getChapterSummary(eq(chapterId), eq(userId))).thenReturn(createSummaryResponse());
+
+        mockMvc.perform(get("/api/v1/chapters/{chapterId}", chapterId)
+                .header("If-None-Match", "\"0.1\", W/\"1.1\"")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1.1\""))
+                .andExpect(content().string(""));
+        verify(autosaveCoalescer).flush(chapterId, userId);
+        verify(chapterService, never()).getChapterById(any(), any());
+    }
+
+    @Test
+    void getChapterContent_should_return_304_without_streaming_when_etag_matches() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(chapterService.getChapterSummary(eq(chapterId), eq(userId))).thenReturn(createSummaryResponse());
+
+        mockMvc.perform(get("/api/v1/chapters/{chapterId}/content", chapterId)
+                .header("If-None-Match", "\"1\"")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotModified());
+        verify(chapterService, never()).streamChapterContent(any(), any());
+    }
+
+    @Test
+    void getChaptersByProject_should_return_304_when_chapters_version_matches() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(chapterService.getChaptersVersion(eq(projectId), eq(userId))).thenReturn(7L);
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/chapters", projectId)
+                .header("If-None-Match", "\"7\"")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""));
+        verify(chapterService, never()).getChaptersByProjectId(any(), any());
+    }
+
+    @Test
+    void getChapterContent_should_stream_plain_text() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ContentStream stream = writer -> writer.write("Era una noche oscura");
+
+        when(chapterService.getChapterSummary(eq(chapterId), eq(userId))).thenReturn(createSummaryResponse());
+        when(chapterService.streamChapterContent(eq(chapterId), eq(userId))).thenReturn(stream);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/chapters/{chapterId}/content", chapterId)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(content().string("Era una noche oscura"));
+        verify(autosaveCoalescer).flush(chapterId, userId);
+    }
+
     @Test
     void updateChapter_should_return_updated() throws Exception {
         UUID chapterId = UUID.randomUUID();
@@ -93,13 +231,88 @@ class ChapterControllerTest {
         UpdateChapterRequest request = new UpdateChapterRequest("Updated", "Content", "PUBLISHED");
         ChapterResponse response = createChapterResponse();
 
-        when(chapterService.updateChapter(eq(chapterId), any(), eq(userId))).thenReturn(response);
+        when(chapterService.updateChapter(eq(chapterId), any(), isNull(), eq(userId))).thenReturn(response);
 
         mockMvc.perform(put("/api/v1/chapters/{chapterId}", chapterId)
                 .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk());
+
+        verify(autosaveCoalescer).flush(chapterId, userId);
+    }
+
+    @Test
+    void updateChapter_should_answer_412_for_stale_if_match() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UpdateChapterRequest request = new UpdateChapterRequest("Updated", null, null);
+
+        // The ETag of GET /chapters/{id} is "<version>.<sortOrder>"; only the version counts
+        when(chapterService.updateChapter(eq(chapterId), any(), eq(3L), eq(userId)))
+                .thenThrow(new StaleVersionException("Chapter", chapterId, 3L, 4L));
+
+        mockMvc.perform(put("/api/v1/chapters/{chapterId}", chapterId)
+                .header("If-Match", "\"3.1\"")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("VERSION_PRECONDITION_FAILED"));
+    }
+
+    @Test
+    void autosaveChapter_should_return_202_with_pending_version() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UpdateChapterRequest request = new UpdateChapterRequest(null, "Draft text", null);
+
+        when(autosaveCoalescer.submit(eq(chapterId), any(), isNull(), eq(userId)))
+                .thenReturn(new AutosaveAcceptedResponse(chapterId, 5L, 3, Instant.now()));
+
+        mockMvc.perform(put("/api/v1/chapters/{chapterId}", chapterId)
+                .param("coalesce", "true")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.pendingVersion").value(5))
+                .andExpect(jsonPath("$.coalescedSaves").value(3));
+
+        verify(chapterService, never()).updateChapter(any(), any(), any(), any());
+    }
+
+    @Test
+    void patchChapterContent_should_return_summary() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        PatchChapterContentRequest request = new PatchChapterContentRequest(3L,
+                List.of(new ChapterEditRequest(10, 4, "night")));
+
+        when(chapterService.patchChapterContent(eq(chapterId), any(), isNull(), eq(userId)))
+                .thenReturn(new ChapterSummaryResponse(chapterId, "Test Chapter", 0, 100, "DRAFT", 4L, Instant.now()));
+
+        mockMvc.perform(patch("/api/v1/chapters/{chapterId}", chapterId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(4))
+                .andExpect(jsonPath("$.content").doesNotExist());
+    }
+
+    @Test
+    void patchChapterContent_should_reject_missing_version() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        PatchChapterContentRequest request = new PatchChapterContentRequest(null,
+                List.of(new ChapterEditRequest(0, 0, "x")));
+
+        mockMvc.perform(patch("/api/v1/chapters/{chapterId}", chapterId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -108,14 +321,50 @@ class ChapterControllerTest {
         UUID userId = UUID.randomUUID();
         ReorderChaptersRequest request = new ReorderChaptersRequest(List.of(UUID.randomUUID()));
 
-        when(chapterService.reorderChapters(eq(projectId), any(), eq(userId)))
-                .thenReturn(List.of(createChapterResponse()));
+        when(chapterService.reorderChapters(eq(projectId), any(), eq(7L), eq(userId)))
+                .thenReturn(new ChapterIndexResponse(projectId, List.of(
+                        new ChapterSummaryResponse(request.orderedChapterIds().get(0), "Test Chapter", 0, 100,
+                                "DRAFT", 1L, Instant.now())), 1, 100));
 
         mockMvc.perform(patch("/api/v1/projects/{projectId}/chapters/reorder", projectId)
+                .header("If-Match", "\"7\"")
                 .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chapters[0].sortOrder").value(0))
+                .andExpect(jsonPath("$.chapters[0].content").doesNotExist());
+    }
+
+    @Test
+    void moveChapter_should_pass_list_version_and_return_summary() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(chapterService.moveChapter(eq(chapterId), eq(new MoveChapterRequest(2)), eq(7L), eq(userId)))
+                .thenReturn(new ChapterSummaryResponse(chapterId, "Test Chapter", 2, 100, "DRAFT", 1L, Instant.now()));
+
+        mockMvc.perform(patch("/api/v1/chapters/{chapterId}/position", chapterId)
+                .header("If-Match", "\"7\"")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sortOrder\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sortOrder").value(2));
+    }
+
+    @Test
+    void moveChapter_should_reject_negative_position() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        mockMvc.perform(patch("/api/v1/chapters/{chapterId}/position", chapterId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sortOrder\":-1}"))
+                .andExpect(status().isBadRequest());
+
+        verify(chapterService, never()).moveChapter(any(), any(), any(), any());
     }
 
     @Test
@@ -127,11 +376,16 @@ class ChapterControllerTest {
                 .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
                 .andExpect(status().isNoContent());
 
-        verify(chapterService).deleteChapter(eq(chapterId), eq(userId));
+        verify(chapterService).deleteChapter(eq(chapterId), isNull(), eq(userId));
+        verify(autosaveCoalescer).discard(chapterId);
     }
 
     private ChapterResponse createChapterResponse() {
         return new ChapterResponse(UUID.randomUUID(), UUID.randomUUID(), "Test Chapter", "Content", 1, 100, "DRAFT",
-                Instant.now(), Instant.now());
+                Instant.now(), Instant.now(), 1L);
+    }
+
+    private ChapterSummaryResponse createSummaryResponse() {
+        return new ChapterSummaryResponse(UUID.randomUUID(), "Test Chapter", 1, 100, "DRAFT", 1L, Instant.now());
     }
 }
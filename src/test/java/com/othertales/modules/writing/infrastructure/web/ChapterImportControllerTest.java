@@ -0,0 +1,72 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterImportResponse;
+import com.othertales.modules.writing.application.dto.ChapterSummaryResponse;
+import com.othertales.modules.writing.application.usecase.ChapterImportService;
+import com.othertales.modules.writing.domain.InvalidManuscriptImportException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ChapterImportController.class)
+@AutoConfigureMockMvc
+class ChapterImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ChapterImportService importService;
+
+    @Test
+    void importChapters_should_return_created() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        var file = new MockMultipartFile("file", "novel.md", "text/markdown",
+                "# One\nHello".getBytes(StandardCharsets.UTF_8));
+
+        when(importService.importChapters(eq(projectId), eq("novel.md"), any(), eq(userId)))
+                .thenReturn(new ChapterImportResponse(projectId, 1, 1, List.of(new ChapterSummaryResponse(
+                        UUID.randomUUID(), "One", 0, 1, "DRAFT", 0L, Instant.now()))));
+
+        mockMvc.perform(multipart("/api/v1/projects/{projectId}/chapters/import", projectId)
+                        .file(file)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedChapters").value(1))
+                .andExpect(jsonPath("$.chapters[0].title").value("One"));
+    }
+
+    @Test
+    void importChapters_should_return_400_for_unreadable_file() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        var file = new MockMultipartFile("file", "novel.pdf", "application/pdf", new byte[]{1, 2, 3});
+
+        when(importService.importChapters(eq(projectId), eq("novel.pdf"), any(), eq(userId)))
+                .thenThrow(new InvalidManuscriptImportException("Unsupported file type: novel.pdf"));
+
+        mockMvc.perform(multipart("/api/v1/projects/{projectId}/chapters/import", projectId)
+                        .file(file)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("IMPORT_INVALID_FILE"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterResponse;
+import com.othertales.modules.writing.application.dto.ChapterRevisionResponse;
+import com.othertales.modules.writing.application.dto.ContentStream;
+import com.othertales.modules.writing.application.usecase.ChapterAutosaveCoalescer;
+import com.othertales.modules.writing.application.usecase.ChapterRevisionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ChapterRevisionController.class)
+@AutoConfigureMockMvc
+class ChapterRevisionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ChapterRevisionService revisionService;
+
+    @MockitoBean
+    private ChapterAutosaveCoalescer autosaveCoalescer;
+
+    @Test
+    void listRevisions_should_return_list() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(revisionService.listRevisions(eq(chapterId), eq(20), eq(userId)))
+                .thenReturn(List.of(new ChapterRevisionResponse(UUID.randomUUID(), chapterId, 3L, "Title", 120, 700,
+                        Instant.now())));
+
+        mockMvc.perform(get("/api/v1/chapters/{chapterId}/revisions", chapterId)
+                .param("limit", "20")
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].wordCount").value(120));
+    }
+
+    @Test
+    void getRevisionContent_should_stream_plain_text() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID revisionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ContentStream stream = writer -> {
+            writer.write("Érase una vez ");
+            writer.write("una noche.");
+            writer.flush();
+        };
+
+        when(revisionService.streamRevisionContent(eq(chapterId), eq(revisionId), eq(userId))).thenReturn(stream);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/chapters/{chapterId}/revisions/{revisionId}/content",
+                        chapterId, revisionId)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/plain"))
+                .andExpect(content().encoding("UTF-8"))
+                .andExpect(content().string("Érase una vez una noche."));
+    }
+
+    @Test
+    void restoreRevision_should_return_chapter() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID revisionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(revisionService.restoreRevision(eq(chapterId), eq(revisionId), eq(userId)))
+                .thenReturn(new ChapterResponse(chapterId, UUID.randomUUID(), "Title", "Old text", 0, 2, "DRAFT",
+                        Instant.now(), Instant.now(), 8L));
+
+        mockMvc.perform(post("/api/v1/chapters/{chapterId}/revisions/{revisionId}/restore", chapterId, revisionId)
+                .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("Old text"));
+    }
+}
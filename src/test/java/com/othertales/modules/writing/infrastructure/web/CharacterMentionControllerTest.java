@@ -0,0 +1,86 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.CharacterAppearanceResponse;
+import com.othertales.modules.writing.application.dto.CharacterAppearancesResponse;
+import com.othertales.modules.writing.application.dto.CharacterCoOccurrenceResponse;
+import com.othertales.modules.writing.application.usecase.CharacterMentionService;
+import com.othertales.modules.writing.domain.CharacterNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CharacterMentionController.class)
+@AutoConfigureMockMvc
+class CharacterMentionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CharacterMentionService characterMentionService;
+
+    @Test
+    void findAppearances_should_return_chapters_in_order() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID characterId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(characterMentionService.findAppearances(projectId, characterId, userId))
+                .thenReturn(new CharacterAppearancesResponse(characterId, "Tomás", 12,
+                        List.of(new CharacterAppearanceResponse(chapterId, "El faro", 0, 12, 40))));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/characters/{characterId}/chapters", projectId, characterId)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMentions").value(12))
+                .andExpect(jsonPath("$.chapters[0].chapterId").value(chapterId.toString()))
+                .andExpect(jsonPath("$.chapters[0].firstOffset").value(40));
+    }
+
+    @Test
+    void findAppearances_should_return_404_for_unknown_character() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID characterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(characterMentionService.findAppearances(projectId, characterId, userId))
+                .thenThrow(new CharacterNotFoundException(characterId));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/characters/{characterId}/chapters", projectId, characterId)
+                        .header("Accept-Language", "es")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("CHARACTER_NOT_FOUND"));
+    }
+
+    @Test
+    void findCoOccurrences_should_return_pairs() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        when(characterMentionService.findCoOccurrences(projectId, 10, userId))
+                .thenReturn(List.of(new CharacterCoOccurrenceResponse(first, "Tomás", second, "Lucía", 7)));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/characters/co-occurrences", projectId)
+                        .param("limit", "10")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].otherCharacterName").value("Lucía"))
+                .andExpect(jsonPath("$[0].sharedChapters").value(7));
+    }
+}
@@ -0,0 +1,76 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ManuscriptExport;
+import com.othertales.modules.writing.application.usecase.ManuscriptExportService;
+import com.othertales.modules.writing.domain.ExportFormat;
+import com.othertales.modules.writing.domain.UnsupportedExportFormatException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ManuscriptExportController.class)
+@AutoConfigureMockMvc
+class ManuscriptExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ManuscriptExportService exportService;
+
+    @Test
+    void exportProject_should_stream_attachment() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        var export = new ManuscriptExport("my-book.md", ExportFormat.MARKDOWN,
+                output -> output.write("# My Book\n".getBytes(StandardCharsets.UTF_8)));
+
+        when(exportService.exportProject(eq(projectId), eq("md"), any(), eq(userId))).thenReturn(export);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/projects/{projectId}/export", projectId)
+                        .param("format", "md")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"my-book.md\""))
+                .andExpect(content().contentTypeCompatibleWith("text/markdown"))
+                .andExpect(content().string("# My Book\n"));
+    }
+
+    @Test
+    void exportProject_should_return_400_for_unknown_format() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(exportService.exportProject(eq(projectId), eq("pdf"), any(), eq(userId)))
+                .thenThrow(new UnsupportedExportFormatException("pdf"));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/export", projectId)
+                        .param("format", "pdf")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("EXPORT_UNSUPPORTED_FORMAT"));
+    }
+}
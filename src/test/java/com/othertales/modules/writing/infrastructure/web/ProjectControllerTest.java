@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.othertales.modules.writing.application.dto.CreateProjectRequest;
 import com.othertales.modules.writing.application.dto.ProjectListResponse;
 import com.othertales.modules.writing.application.dto.ProjectResponse;
+import com.othertales.modules.writing.application.dto.UpdateProjectRequest;
 import com.othertales.modules.writing.application.usecase.ProjectService;
 import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import com.othertales.modules.writing.domain.StaleVersionException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -21,10 +23,15 @@ import java.util.UUID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,7 +68,7 @@ class ProjectControllerTest {
                 CreateProjectRequest request = new CreateProjectRequest("My Project", "Syn", "Fantasy", 50000);
                 ProjectResponse response = new ProjectResponse(
                                 UUID.randomUUID(), "My Project", "Syn", "Fantasy", 0, 50000, null, "DRAFT",
-                                Instant.now(), Instant.now());
+                                Instant.now(), Instant.now(), 0L);
 
                 when(projectService.create(any(), any(CreateProjectRequest.class)))
                                 .thenReturn(response);
@@ -76,9 +83,10 @@ class ProjectControllerTest {
         @Test
         void get_should_return_200_if_found() throws Exception {
                 UUID projectId = UUID.randomUUID();
+                Instant updatedAt = Instant.now();
                 ProjectResponse response = new ProjectResponse(
                                 projectId, "Title", "Syn", "Gen", 0, 50000, null, "DRAFT", Instant.now(),
-                                Instant.now());
+                                updatedAt, 3L);
 
                 when(projectService.getById(eq(projectId), any()))
                                 .thenReturn(response);
@@ -86,7 +94,36 @@ class ProjectControllerTest {
                 mockMvc.perform(get("/api/v1/projects/{id}", projectId)
                                 .with(jwt().jwt(builder -> builder.subject(UUID.randomUUID().toString()))))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$.id").value(projectId.toString()));
+                                .andExpect(jsonPath("$.id").value(projectId.toString()))
+                                .andExpect(header().string("ETag", "\"3." + updatedAt.toEpochMilli() + "\""));
+        }
+
+        @Test
+        void update_should_pass_if_match_version_to_service() throws Exception {
+                UUID projectId = UUID.randomUUID();
+                UpdateProjectRequest request = new UpdateProjectRequest("Renamed", null, null, null, null, null);
+
+                when(projectService.update(eq(projectId), any(), any(UpdateProjectRequest.class), eq(3L)))
+                                .thenThrow(new StaleVersionException("Project", projectId, 3L, 4L));
+
+                mockMvc.perform(put("/api/v1/projects/{id}", projectId)
+                                .header("If-Match", "\"3.1700000000000\"")
+                                .with(jwt().jwt(builder -> builder.subject(UUID.randomUUID().toString())))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.code").value("VERSION_PRECONDITION_FAILED"));
+        }
+
+        @Test
+        void delete_should_be_unconditional_without_if_match() throws Exception {
+                UUID projectId = UUID.randomUUID();
+
+                mockMvc.perform(delete("/api/v1/projects/{id}", projectId)
+                                .with(jwt().jwt(builder -> builder.subject(UUID.randomUUID().toString()))))
+                                .andExpect(status().isNoContent());
+
+                verify(projectService).delete(eq(projectId), any(), isNull());
         }
 
         @Test
@@ -0,0 +1,74 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterProseReportResponse;
+import com.othertales.modules.writing.application.dto.ProjectProseReportResponse;
+import com.othertales.modules.writing.application.dto.ProseReportResponse;
+import com.othertales.modules.writing.application.dto.SentenceLengthBucketResponse;
+import com.othertales.modules.writing.application.dto.WordUsageResponse;
+import com.othertales.modules.writing.application.usecase.ProseAnalyticsService;
+import com.othertales.modules.writing.domain.ChapterNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ProseAnalyticsController.class)
+@AutoConfigureMockMvc
+class ProseAnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProseAnalyticsService proseAnalyticsService;
+
+    @Test
+    void analyzeProject_should_return_totals_and_chapters() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        ProseReportResponse report = new ProseReportResponse(1200, 80, 15.0, 42,
+                List.of(new SentenceLengthBucketResponse(1, 5, 10), new SentenceLengthBucketResponse(41, null, 2)),
+                30, 25.0, 0.35, List.of(new WordUsageResponse("faro", 24, 20.0)));
+
+        when(proseAnalyticsService.analyzeProject(projectId, Locale.forLanguageTag("es"), userId))
+                .thenReturn(new ProjectProseReportResponse(projectId, "es", report,
+                        List.of(new ChapterProseReportResponse(chapterId, "El faro", 0, report))));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/prose-analytics", projectId)
+                        .header("Accept-Language", "es")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.language").value("es"))
+                .andExpect(jsonPath("$.totals.sentenceLengths[1].maxWords").doesNotExist())
+                .andExpect(jsonPath("$.totals.overusedWords[0].word").value("faro"))
+                .andExpect(jsonPath("$.chapters[0].chapterId").value(chapterId.toString()));
+    }
+
+    @Test
+    void analyzeChapter_should_return_404_for_missing_chapter() throws Exception {
+        UUID chapterId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(proseAnalyticsService.analyzeChapter(chapterId, Locale.ENGLISH, userId))
+                .thenThrow(new ChapterNotFoundException(chapterId));
+
+        mockMvc.perform(get("/api/v1/chapters/{chapterId}/prose-analytics", chapterId)
+                        .header("Accept-Language", "en")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("CHAPTER_NOT_FOUND"));
+    }
+}
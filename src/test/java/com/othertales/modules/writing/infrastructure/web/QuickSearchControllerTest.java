@@ -0,0 +1,63 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.QuickSearchHitResponse;
+import com.othertales.modules.writing.application.usecase.QuickSearchService;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(QuickSearchController.class)
+@AutoConfigureMockMvc
+class QuickSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private QuickSearchService quickSearchService;
+
+    @Test
+    void search_should_return_matching_documents() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+
+        when(quickSearchService.search(projectId, "lig", null, userId))
+                .thenReturn(List.of(new QuickSearchHitResponse("CHAPTER", chapterId, "The lighthouse")));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/quick-search", projectId)
+                        .param("q", "lig")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("CHAPTER"))
+                .andExpect(jsonPath("$[0].id").value(chapterId.toString()))
+                .andExpect(jsonPath("$[0].title").value("The lighthouse"));
+    }
+
+    @Test
+    void search_should_return_404_for_other_users_project() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(quickSearchService.search(projectId, "", null, userId))
+                .thenThrow(new ProjectNotFoundException(projectId));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/quick-search", projectId)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("PROJECT_NOT_FOUND"));
+    }
+}
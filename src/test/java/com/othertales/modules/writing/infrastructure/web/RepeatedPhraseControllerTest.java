@@ -0,0 +1,68 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.RepeatedPhraseResponse;
+import com.othertales.modules.writing.application.dto.RepeatedPhrasesResponse;
+import com.othertales.modules.writing.application.usecase.RepeatedPhraseService;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RepeatedPhraseController.class)
+@AutoConfigureMockMvc
+class RepeatedPhraseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RepeatedPhraseService repeatedPhraseService;
+
+    @Test
+    void findRepeatedPhrases_should_return_phrases() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(repeatedPhraseService.findRepeatedPhrases(projectId, 3, 20, Locale.forLanguageTag("es"), userId))
+                .thenReturn(new RepeatedPhrasesResponse(projectId, "es",
+                        List.of(new RepeatedPhraseResponse("un escalofrío le recorrió", 4, 5))));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/repeated-phrases", projectId)
+                        .param("minOccurrences", "3")
+                        .param("limit", "20")
+                        .header("Accept-Language", "es")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.language").value("es"))
+                .andExpect(jsonPath("$.phrases[0].phrase").value("un escalofrío le recorrió"))
+                .andExpect(jsonPath("$.phrases[0].occurrences").value(5));
+    }
+
+    @Test
+    void findRepeatedPhrases_should_return_404_for_foreign_project() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(repeatedPhraseService.findRepeatedPhrases(projectId, null, null, Locale.ENGLISH, userId))
+                .thenThrow(new ProjectNotFoundException(projectId));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/repeated-phrases", projectId)
+                        .header("Accept-Language", "en")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("PROJECT_NOT_FOUND"));
+    }
+}
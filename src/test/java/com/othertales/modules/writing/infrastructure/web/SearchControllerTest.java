@@ -0,0 +1,72 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.SearchHitResponse;
+import com.othertales.modules.writing.application.dto.SearchResultsResponse;
+import com.othertales.modules.writing.application.usecase.SearchService;
+import com.othertales.modules.writing.domain.InvalidSearchQueryException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @Test
+    void search_should_return_hits_and_next_cursor() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        var hit = new SearchHitResponse("CHAPTER", UUID.randomUUID(), projectId, "El faro",
+                "el <mark>faro</mark> de la costa", 0.6f);
+
+        when(searchService.search(eq("faro"), eq(projectId), isNull(), eq(10), eq(Locale.forLanguageTag("es")), eq(userId)))
+                .thenReturn(new SearchResultsResponse(List.of(hit), "next"));
+
+        mockMvc.perform(get("/api/v1/search")
+                        .param("q", "faro")
+                        .param("projectId", projectId.toString())
+                        .param("size", "10")
+                        .header("Accept-Language", "es")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[0].type").value("CHAPTER"))
+                .andExpect(jsonPath("$.hits[0].snippet").value("el <mark>faro</mark> de la costa"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void search_should_return_400_for_invalid_query() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        when(searchService.search(eq(" "), isNull(), isNull(), isNull(), any(), eq(userId)))
+                .thenThrow(new InvalidSearchQueryException("Search query must be 1-256 characters"));
+
+        mockMvc.perform(get("/api/v1/search")
+                        .param("q", " ")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("SEARCH_INVALID_QUERY"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.SyncChapterResponse;
+import com.othertales.modules.writing.application.dto.SyncDeletionResponse;
+import com.othertales.modules.writing.application.dto.SyncResponse;
+import com.othertales.modules.writing.application.usecase.SyncService;
+import com.othertales.modules.writing.domain.InvalidSyncCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SyncController.class)
+@AutoConfigureMockMvc
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @Test
+    void sync_should_return_changes_and_next_cursor() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        UUID chapterId = UUID.randomUUID();
+        UUID ideaId = UUID.randomUUID();
+        var chapter = new SyncChapterResponse(chapterId, projectId, "El faro", "Texto", "V", 1, "DRAFT",
+                Instant.now(), Instant.now(), 3L);
+
+        when(syncService.changesSince("czQy", 50, userId)).thenReturn(new SyncResponse("czk5", true,
+                List.of(), List.of(chapter), List.of(), List.of(), List.of(),
+                List.of(new SyncDeletionResponse("IDEA", ideaId, projectId))));
+
+        mockMvc.perform(get("/api/v1/sync")
+                        .param("since", "czQy")
+                        .param("limit", "50")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").value("czk5"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.chapters[0].orderKey").value("V"))
+                .andExpect(jsonPath("$.deleted[0].type").value("IDEA"))
+                .andExpect(jsonPath("$.deleted[0].id").value(ideaId.toString()));
+    }
+
+    @Test
+    void sync_should_return_400_for_invalid_cursor() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        when(syncService.changesSince("bogus", null, userId))
+                .thenThrow(new InvalidSyncCursorException("Malformed sync cursor"));
+
+        mockMvc.perform(get("/api/v1/sync")
+                        .param("since", "bogus")
+                        .header("Accept-Language", "es")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("SYNC_INVALID_CURSOR"));
+    }
+}
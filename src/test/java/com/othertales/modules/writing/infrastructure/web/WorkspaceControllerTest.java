@@ -0,0 +1,70 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.ChapterIndexResponse;
+import com.othertales.modules.writing.application.dto.IdeaResponse;
+import com.othertales.modules.writing.application.dto.ProjectResponse;
+import com.othertales.modules.writing.application.dto.WorkspaceResponse;
+import com.othertales.modules.writing.application.usecase.WorkspaceService;
+import com.othertales.modules.writing.domain.ProjectNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WorkspaceController.class)
+@AutoConfigureMockMvc
+class WorkspaceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WorkspaceService workspaceService;
+
+    @Test
+    void getWorkspace_should_return_the_project_and_its_lists() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        when(workspaceService.getWorkspace(projectId, userId)).thenReturn(new WorkspaceResponse(
+                new ProjectResponse(projectId, "El faro", null, null, 1200, 50000, null, "DRAFT", now, now, 3L),
+                new ChapterIndexResponse(projectId, List.of(), 0, 0),
+                List.of(),
+                List.of(),
+                List.of(new IdeaResponse(UUID.randomUUID(), projectId, "Un faro", null, now, now, 0L))));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/workspace", projectId)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.project.title").value("El faro"))
+                .andExpect(jsonPath("$.chapters.totalChapters").value(0))
+                .andExpect(jsonPath("$.stories").isEmpty())
+                .andExpect(jsonPath("$.ideas[0].title").value("Un faro"));
+    }
+
+    @Test
+    void getWorkspace_should_return_404_for_another_users_project() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+
+        when(workspaceService.getWorkspace(projectId, userId)).thenThrow(new ProjectNotFoundException(projectId));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/workspace", projectId)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("PROJECT_NOT_FOUND"));
+    }
+}
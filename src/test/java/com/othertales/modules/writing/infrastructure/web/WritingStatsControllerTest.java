@@ -0,0 +1,72 @@
+package com.othertales.modules.writing.infrastructure.web;
+
+import com.othertales.modules.writing.application.dto.WritingStatsPointResponse;
+import com.othertales.modules.writing.application.dto.WritingStatsResponse;
+import com.othertales.modules.writing.application.usecase.WritingStatsService;
+import com.othertales.modules.writing.domain.InvalidWritingStatsQueryException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WritingStatsController.class)
+@AutoConfigureMockMvc
+class WritingStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WritingStatsService writingStatsService;
+
+    @Test
+    void getStats_should_return_points_for_range() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+
+        when(writingStatsService.getStats(projectId, "day", from, to, userId))
+                .thenReturn(new WritingStatsResponse(projectId, "DAY", from, to,
+                        List.of(new WritingStatsPointResponse(LocalDate.of(2026, 1, 5), 800, 50, 750)),
+                        800, 50));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/writing-stats", projectId)
+                        .param("granularity", "day")
+                        .param("from", "2026-01-01")
+                        .param("to", "2026-01-31")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("DAY"))
+                .andExpect(jsonPath("$.points[0].periodStart").value("2026-01-05"))
+                .andExpect(jsonPath("$.points[0].netWords").value(750))
+                .andExpect(jsonPath("$.totalWordsAdded").value(800));
+    }
+
+    @Test
+    void getStats_should_return_400_for_invalid_range() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(writingStatsService.getStats(projectId, "hour", null, null, userId))
+                .thenThrow(new InvalidWritingStatsQueryException("Unknown granularity: hour"));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/writing-stats", projectId)
+                        .param("granularity", "hour")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("STATS_INVALID_QUERY"));
+    }
+}